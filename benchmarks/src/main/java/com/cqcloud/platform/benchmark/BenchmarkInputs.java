@@ -0,0 +1,58 @@
+package com.cqcloud.platform.benchmark;
+
+/**
+ * 基准测试的输入数据，取自车场的实际推送和应答
+ * <p>
+ * 每组数据长度为2的幂，各基准按调用次数轮换取用，避免JIT把固定输入常量折叠。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class BenchmarkInputs {
+
+	/**
+	 * 车牌：普通蓝牌、新能源、挂车、教练车、警车、使馆、港澳入境
+	 */
+	public static final String[] PLATES = { "渝A12345", "川AD12345", "京N8P8F8", "粤BF88888", "渝B1234挂", "沪A0123学",
+			"苏E5678警", "使014578", "粤Z1234港", "浙A7X9K2", "湘AF01234", "贵A66666", "鄂A3B5C7", "陕AD98765", "云A00001",
+			"冀F12345" };
+
+	/**
+	 * 停车费（元）：免费、常见整数、封顶和大额
+	 */
+	public static final int[] AMOUNTS = { 0, 3, 5, 8, 10, 15, 20, 25, 30, 45, 60, 88, 120, 168, 999, 1280 };
+
+	/**
+	 * 剩余车位数
+	 */
+	public static final int[] SPACES = { 0, 1, 8, 15, 32, 56, 99, 128, 256, 300, 512, 999, 1024, 1500, 2048, 9999 };
+
+	/**
+	 * 出场缴费二维码链接，含车牌、金额、时间戳和签名等查询参数
+	 */
+	public static final String[] PAY_URLS = {
+			"https://pay.ylc-park.com/p/exit?parkId=50010023&laneId=E02&plate=渝A12345&amount=15.00&ts=1760745600&sign=9f8e7d6c5b4a",
+			"https://pay.ylc-park.com/p/exit?parkId=50010023&laneId=E01&plate=川AD12345&amount=8.00&ts=1760745612&sign=0a1b2c3d4e5f",
+			"https://pay.ylc-park.com/p/exit?parkId=11010518&laneId=E03&plate=京N8P8F8&amount=120.00&ts=1760745633&sign=7c6b5a493827",
+			"https://pay.ylc-park.com/p/exit?parkId=44030066&laneId=E01&plate=粤BF88888&amount=45.50&ts=1760745658&sign=fedcba987654",
+			"https://m.ylc-park.com/pay?order=YLC20261018093015000123&plate=渝B1234挂&fee=1280&channel=wx&redirect=/done",
+			"https://m.ylc-park.com/pay?order=YLC20261018093102000456&plate=沪A0123学&fee=3&channel=alipay&redirect=/done",
+			"https://m.ylc-park.com/pay?order=YLC20261018093147000789&plate=浙A7X9K2&fee=0&channel=wx&note=月卡 免费",
+			"https://m.ylc-park.com/pay?order=YLC20261018093220001024&plate=湘AF01234&fee=25&channel=union&note=临停 超时" };
+
+	/**
+	 * 屏幕显示行
+	 */
+	public static final String[] LINES = { "欢迎光临", "一路顺风", "请缴费", "月租车", "临时车", "剩余车位", "车位已满", "请减速慢行", "无牌车请扫码",
+			"缴费成功 一路平安", "ETC 扣费成功", "余额不足请联系管理员", "VIP 贵宾车辆", "请等待人工确认", "限高 2.2 米", "欢迎光临 渝A12345" };
+
+	private BenchmarkInputs() {
+	}
+
+	/**
+	 * 第 n 次调用取用的下标
+	 */
+	public static int index(int n, int length) {
+		return n & (length - 1);
+	}
+
+}
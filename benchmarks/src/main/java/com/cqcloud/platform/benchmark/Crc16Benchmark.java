@@ -0,0 +1,73 @@
+package com.cqcloud.platform.benchmark;
+
+import com.cqcloud.platform.crc.CRC16Util;
+import com.cqcloud.platform.rs485.Rs485Utils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CRC16：三个协议原有入口 {@link CRC16Util#getCRC3}、{@link Rs485Utils#usMBCRC16}、
+ * {@link DisplayVoiceUtils#calculateCRC16}，以及逐字节和 slicing-by-8 两种实现作为对照
+ * <p>
+ * 长度覆盖心跳类短帧（8）、单行临显（16~64）、四行小竖屏和二维码（256）以及批量下发（1024）。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Crc16Benchmark {
+
+	@Param({ "8", "16", "64", "256", "1024" })
+	private int size;
+
+	private byte[] data;
+
+	@Setup
+	public void setup() {
+		data = new byte[size];
+		new SplittableRandom(0x55AA).nextBytes(data);
+	}
+
+	@Benchmark
+	public int getCRC3() {
+		return CRC16Util.getCRC3(data, size);
+	}
+
+	@Benchmark
+	public int usMBCRC16() {
+		return Rs485Utils.usMBCRC16(data, size);
+	}
+
+	@Benchmark
+	public byte[] calculateCRC16() {
+		return DisplayVoiceUtils.calculateCRC16(data);
+	}
+
+	@Benchmark
+	public int bytewise() {
+		return CRC16Util.updateBytewise(CRC16Util.INITIAL, data, 0, size);
+	}
+
+	@Benchmark
+	public int slicing8() {
+		return CRC16Util.updateSlicing8(CRC16Util.INITIAL, data, 0, size);
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.cqcloud.platform.benchmark;
+
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.frame.Payloads;
+import com.cqcloud.platform.rs485.Rs485CPUtils;
+import com.cqcloud.platform.rs485.Rs485DisplayUtils;
+import com.cqcloud.platform.rs485.Rs485Utils;
+import com.cqcloud.platform.rs485.Rs485XSPUtils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils.ScreenEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单帧组帧：四种屏幕工具类的 buildFrame（十六进制字符串和二进制两种形式）和 {@link DisplayVoiceUtils#buildPacket}
+ * <p>
+ * 数据为一行临显内容（行号、时长、颜色 + GBK文字），文字取自车牌和常用提示语。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameBenchmark {
+
+	private static final int CMD_LOAD_TEMP_DISPLAY = 0x27;
+
+	private static final String CMD_LOAD_TEMP_DISPLAY_HEX = "27";
+
+	private static final int CMD_SMALL_SCREEN_DISPLAY = 0x29;
+
+	private static final String CMD_SMALL_SCREEN_DISPLAY_HEX = "29";
+
+	private static final int CMD_DISPLAY = 0x37;
+
+	private static final String CMD_DISPLAY_HEX = "37";
+
+	private byte[][] payloads;
+
+	private String[] payloadHex;
+
+	private DisplayVoiceUtils displayVoice;
+
+	private int n;
+
+	@Setup
+	public void setup() {
+		int count = BenchmarkInputs.PLATES.length + BenchmarkInputs.LINES.length;
+		payloads = new byte[count][];
+		payloadHex = new String[count];
+		for (int i = 0; i < count; i++) {
+			String text = i < BenchmarkInputs.PLATES.length ? BenchmarkInputs.PLATES[i]
+					: BenchmarkInputs.LINES[i - BenchmarkInputs.PLATES.length];
+			payloads[i] = Payloads.text(text, 1, 0x05, 0x01, 0x00);
+			payloadHex[i] = HexCodec.toHexString(payloads[i]);
+		}
+		displayVoice = new DisplayVoiceUtils(ScreenEnum.STANDARD_HORIZONTAL);
+	}
+
+	private int next() {
+		return BenchmarkInputs.index(n++, payloads.length);
+	}
+
+	@Benchmark
+	public String rs485Hex() {
+		return Rs485Utils.buildFrame(CMD_LOAD_TEMP_DISPLAY_HEX, payloadHex[next()]);
+	}
+
+	@Benchmark
+	public byte[] rs485Bytes() {
+		return Rs485Utils.buildFrame(CMD_LOAD_TEMP_DISPLAY, payloads[next()]);
+	}
+
+	@Benchmark
+	public String displayHex() {
+		return Rs485DisplayUtils.buildFrame(CMD_LOAD_TEMP_DISPLAY_HEX, payloadHex[next()]);
+	}
+
+	@Benchmark
+	public byte[] displayBytes() {
+		return Rs485DisplayUtils.buildFrame(CMD_LOAD_TEMP_DISPLAY, payloads[next()]);
+	}
+
+	@Benchmark
+	public String colorScreenHex() {
+		return Rs485CPUtils.buildFrame(CMD_DISPLAY_HEX, payloadHex[next()]);
+	}
+
+	@Benchmark
+	public byte[] colorScreenBytes() {
+		return Rs485CPUtils.buildFrame(CMD_DISPLAY, payloads[next()]);
+	}
+
+	@Benchmark
+	public String smallScreenHex() {
+		return Rs485XSPUtils.buildFrame(CMD_SMALL_SCREEN_DISPLAY_HEX, payloadHex[next()]);
+	}
+
+	@Benchmark
+	public byte[] smallScreenBytes() {
+		return Rs485XSPUtils.buildFrame(CMD_SMALL_SCREEN_DISPLAY, payloads[next()]);
+	}
+
+	@Benchmark
+	public byte[] displayVoicePacket() {
+		return displayVoice.buildPacket(DisplayVoiceUtils.CMD_LOAD_TEMP_DISPLAY, payloads[next()]);
+	}
+
+}
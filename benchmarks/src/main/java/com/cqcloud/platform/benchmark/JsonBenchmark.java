@@ -0,0 +1,91 @@
+package com.cqcloud.platform.benchmark;
+
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.json.EncodeType;
+import com.cqcloud.platform.rs485.Rs485CPUtils;
+import com.cqcloud.platform.rs485.Rs485XSPUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 应答JSON：buildRs485Json 系列，帧预先按出场场景构建好，只测JSON拼装；另测从场景到JSON的完整过程
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+
+	@Param({ "HEX2STRING", "BASE64" })
+	private EncodeType encodeType;
+
+	private FrameBatch[] colorScreenFrames;
+
+	private FrameBatch[] smallScreenFrames;
+
+	private String[][] smallScreenHex;
+
+	private int n;
+
+	@Setup
+	public void setup() {
+		int count = BenchmarkInputs.PLATES.length;
+		colorScreenFrames = new FrameBatch[count];
+		smallScreenFrames = new FrameBatch[count];
+		smallScreenHex = new String[count][];
+		for (int i = 0; i < count; i++) {
+			String plate = BenchmarkInputs.PLATES[i];
+			int amount = BenchmarkInputs.AMOUNTS[i];
+			colorScreenFrames[i] = Rs485CPUtils.buildExitSceneFrames(plate, amount);
+			smallScreenFrames[i] = Rs485XSPUtils.buildSmallScreenExitSceneFrames(plate, amount);
+			smallScreenHex[i] = smallScreenFrames[i].toHexArray();
+		}
+	}
+
+	private int next() {
+		return BenchmarkInputs.index(n++, BenchmarkInputs.PLATES.length);
+	}
+
+	@Benchmark
+	public String colorScreenHexCommands() {
+		return Rs485CPUtils.buildRs485Json(colorScreenFrames[next()].toHexArray(), "on", "io1");
+	}
+
+	@Benchmark
+	public String colorScreenFrames() {
+		return Rs485CPUtils.buildRs485Json(colorScreenFrames[next()], encodeType);
+	}
+
+	@Benchmark
+	public String smallScreenHexCommands() {
+		return Rs485XSPUtils.buildRs485Json(smallScreenHex[next()], encodeType);
+	}
+
+	@Benchmark
+	public String smallScreenFrames() {
+		return Rs485XSPUtils.buildRs485Json(smallScreenFrames[next()], encodeType);
+	}
+
+	@Benchmark
+	public String smallScreenExitScene() {
+		int i = next();
+		return Rs485XSPUtils.buildSmallScreenExitSceneJson(BenchmarkInputs.PLATES[i], BenchmarkInputs.AMOUNTS[i],
+				encodeType);
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.cqcloud.platform.benchmark;
+
+import com.cqcloud.platform.rs485.Rs485Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 二维码应答：{@link Rs485Utils} 的支付二维码（三行模式、绿色）和居左红色二维码指令，均含URL编码、GBK十六进制和组帧
+ * <p>
+ * 二维码内容为出场缴费链接。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LedQrcodeBenchmark {
+
+	private static final int SHOW_TIME = 30;
+
+	private int n;
+
+	private int next() {
+		return BenchmarkInputs.index(n++, BenchmarkInputs.PAY_URLS.length);
+	}
+
+	@Benchmark
+	public String paymentQrcode() {
+		return Rs485Utils.buildPaymentQrcode(BenchmarkInputs.PAY_URLS[next()], SHOW_TIME);
+	}
+
+	@Benchmark
+	public String leftQrcode() {
+		return Rs485Utils.buildQrcodeCommand(Rs485Utils.QRCODE_MODE_LEFT, SHOW_TIME, Rs485Utils.QRCODE_COLOR_RED,
+				BenchmarkInputs.PAY_URLS[next()]);
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.cqcloud.platform.benchmark;
+
+import com.cqcloud.platform.context.TextContext;
+import com.cqcloud.platform.utils.LED_ResponseUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LED 应答：{@link LED_ResponseUtils} 的单行显示、多行显示带语音、语音播报；二维码应答见 {@link LedQrcodeBenchmark}
+ * <p>
+ * 多行显示为出场时的四行内容（车牌、临时车、停车费、提示语），语音为"车牌 请缴费N元"。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LedResponseBenchmark {
+
+	private String[] voices;
+
+	private List<List<TextContext>> screens;
+
+	private int n;
+
+	@Setup
+	public void setup() {
+		int count = BenchmarkInputs.PLATES.length;
+		voices = new String[count];
+		screens = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String plate = BenchmarkInputs.PLATES[i];
+			int amount = BenchmarkInputs.AMOUNTS[i];
+			voices[i] = plate + " 请缴费" + amount + "元";
+			List<TextContext> lines = new ArrayList<>(4);
+			lines.add(line(0, plate, LED_ResponseUtils.LED_COLOR_RED));
+			lines.add(line(1, "临时车", LED_ResponseUtils.LED_COLOR_GREEN));
+			lines.add(line(2, "停车费" + amount + "元", LED_ResponseUtils.LED_COLOR_YEELOW));
+			lines.add(line(3, BenchmarkInputs.LINES[i], LED_ResponseUtils.LED_COLOR_GREEN));
+			screens.add(lines);
+		}
+	}
+
+	private static TextContext line(int lid, String text, int color) {
+		return new TextContext((byte) lid, (byte) 0x15, (byte) 0x05, (byte) 0x00, color, text);
+	}
+
+	private int next() {
+		return BenchmarkInputs.index(n++, BenchmarkInputs.PLATES.length);
+	}
+
+	@Benchmark
+	public byte[] disText() throws UnsupportedEncodingException {
+		return LED_ResponseUtils.LED_DisText((byte) 0x00, BenchmarkInputs.PLATES[next()], (byte) 0x15, (byte) 0x01,
+				(byte) 0x05, (byte) 0x00);
+	}
+
+	@Benchmark
+	public byte[] multiLineDisAndPlayVoice() throws UnsupportedEncodingException {
+		int i = next();
+		return LED_ResponseUtils.LED_MuiltLineDisAndPlayVoice(screens.get(i), voices[i]);
+	}
+
+	@Benchmark
+	public byte[] playVoice() throws UnsupportedEncodingException {
+		return LED_ResponseUtils.LED_PlayVoice(voices[next()]);
+	}
+
+}
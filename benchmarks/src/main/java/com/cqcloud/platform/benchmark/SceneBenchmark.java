@@ -0,0 +1,109 @@
+package com.cqcloud.platform.benchmark;
+
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.rs485.Rs485CPUtils;
+import com.cqcloud.platform.rs485.Rs485DisplayUtils;
+import com.cqcloud.platform.rs485.Rs485Utils;
+import com.cqcloud.platform.rs485.Rs485XSPUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 场景构建：各屏幕工具类的入场、出场场景，分别测连续存放的 {@link FrameBatch} 和十六进制字符串数组两种形式
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SceneBenchmark {
+
+	private String[] amountTexts;
+
+	private int n;
+
+	@Setup
+	public void setup() {
+		amountTexts = new String[BenchmarkInputs.AMOUNTS.length];
+		for (int i = 0; i < amountTexts.length; i++) {
+			amountTexts[i] = String.valueOf(BenchmarkInputs.AMOUNTS[i]);
+		}
+	}
+
+	private int next() {
+		return BenchmarkInputs.index(n++, BenchmarkInputs.PLATES.length);
+	}
+
+	@Benchmark
+	public FrameBatch rs485Entry() {
+		int i = next();
+		return Rs485Utils.buildEntrySceneFrames(BenchmarkInputs.PLATES[i], BenchmarkInputs.SPACES[i]);
+	}
+
+	@Benchmark
+	public FrameBatch rs485Exit() {
+		int i = next();
+		return Rs485Utils.buildExitSceneFrames(BenchmarkInputs.PLATES[i], amountTexts[i]);
+	}
+
+	@Benchmark
+	public String[] rs485ExitHex() {
+		int i = next();
+		return Rs485Utils.buildExitScene(BenchmarkInputs.PLATES[i], amountTexts[i]);
+	}
+
+	@Benchmark
+	public FrameBatch displayParking() {
+		return Rs485DisplayUtils.buildSmartParkingSceneFrames(BenchmarkInputs.SPACES[next()]);
+	}
+
+	@Benchmark
+	public String displayExitVoice() {
+		int i = next();
+		return Rs485DisplayUtils.buildExitVoiceScene(BenchmarkInputs.PLATES[i], BenchmarkInputs.AMOUNTS[i]);
+	}
+
+	@Benchmark
+	public FrameBatch colorScreenEntry() {
+		int i = next();
+		return Rs485CPUtils.buildEntrySceneFrames(BenchmarkInputs.PLATES[i], BenchmarkInputs.SPACES[i]);
+	}
+
+	@Benchmark
+	public FrameBatch colorScreenExit() {
+		int i = next();
+		return Rs485CPUtils.buildExitSceneFrames(BenchmarkInputs.PLATES[i], BenchmarkInputs.AMOUNTS[i]);
+	}
+
+	@Benchmark
+	public String[] colorScreenExitHex() {
+		int i = next();
+		return Rs485CPUtils.buildExitScene(BenchmarkInputs.PLATES[i], BenchmarkInputs.AMOUNTS[i]);
+	}
+
+	@Benchmark
+	public FrameBatch smallScreenEntry() {
+		int i = next();
+		return Rs485XSPUtils.buildSmallScreenEntrySceneFrames(BenchmarkInputs.PLATES[i], BenchmarkInputs.SPACES[i]);
+	}
+
+	@Benchmark
+	public FrameBatch smallScreenExit() {
+		int i = next();
+		return Rs485XSPUtils.buildSmallScreenExitSceneFrames(BenchmarkInputs.PLATES[i], BenchmarkInputs.AMOUNTS[i]);
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.cqcloud.platform.benchmark;
+
+import com.cqcloud.platform.rs485.Rs485CPUtils;
+import com.cqcloud.platform.rs485.Rs485DisplayUtils;
+import com.cqcloud.platform.rs485.Rs485Utils;
+import com.cqcloud.platform.rs485.Rs485XSPUtils;
+import com.cqcloud.platform.utils.UrlEncoderUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文字编码：四种屏幕工具类的 stringToHex（GBK 转十六进制）和 {@link UrlEncoderUtils#encodeUrlParams}（支付链接）
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TextBenchmark {
+
+	private int n;
+
+	private String nextLine() {
+		return BenchmarkInputs.LINES[BenchmarkInputs.index(n++, BenchmarkInputs.LINES.length)];
+	}
+
+	@Benchmark
+	public String rs485StringToHex() {
+		return Rs485Utils.stringToHex(nextLine());
+	}
+
+	@Benchmark
+	public String displayStringToHex() {
+		return Rs485DisplayUtils.stringToHex(nextLine());
+	}
+
+	@Benchmark
+	public String colorScreenStringToHex() {
+		return Rs485CPUtils.stringToHex(nextLine());
+	}
+
+	@Benchmark
+	public String smallScreenStringToHex() {
+		return Rs485XSPUtils.stringToHex(nextLine());
+	}
+
+	@Benchmark
+	public String encodeUrlParams() {
+		return UrlEncoderUtils
+			.encodeUrlParams(BenchmarkInputs.PAY_URLS[BenchmarkInputs.index(n++, BenchmarkInputs.PAY_URLS.length)]);
+	}
+
+}
@@ -0,0 +1,244 @@
+package com.cqcloud.platform.loadtest;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 相机推送压测：模拟多台相机按设定速率向推送接口发送车牌识别和心跳，校验每个应答并统计吞吐和延迟分位
+ * <p>
+ * 开放模型：每台相机的识别推送按泊松过程、心跳按固定间隔计划发送，不等待上一次应答，服务端变慢时请求会堆积而不是降低发送速率，
+ * 与车场高峰时相机的行为一致。延迟从计划发送时间算起。预热期间计划的请求不计入统计。
+ * <p>
+ * 相机序列号为 {@code ylc-0001-in}、{@code ylc-0002-out} 等，奇偶交替为入口和出口（见
+ * {@link ParkingLaneHandler}）。 有请求失败、应答未通过校验，或心跳应答没有带出任何排队命令时退出码为1。
+ *
+ * <pre>
+ * java -cp ... com.cqcloud.platform.loadtest.CameraLoadGenerator cameras=500 plate-interval=20s duration=5m
+ * </pre>
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class CameraLoadGenerator {
+
+	private final LoadTestOptions options;
+
+	private final PushBodies bodies;
+
+	private final HttpClient client;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final LoadStats plates = new LoadStats("plate");
+
+	private final LoadStats heartbeats = new LoadStats("heartbeat");
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicLong completed = new AtomicLong();
+
+	private final PrintStream out;
+
+	private long measureStart;
+
+	private long measureEnd;
+
+	private volatile boolean running;
+
+	public CameraLoadGenerator(LoadTestOptions options, PrintStream out) {
+		this.options = options;
+		this.out = out;
+		this.bodies = new PushBodies(options.getImageSize());
+		this.client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(options.getTimeout())
+			.build();
+		this.scheduler = Executors.newScheduledThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		LoadTestOptions options = LoadTestOptions.parse(args);
+		CameraLoadGenerator generator = new CameraLoadGenerator(options,
+				new PrintStream(new FileOutputStream(FileDescriptor.out), true, StandardCharsets.UTF_8));
+		boolean clean = generator.run();
+		System.exit(clean ? 0 : 1);
+	}
+
+	/**
+	 * 执行压测并输出报告
+	 * @return 统计期间没有失败和未通过校验的应答，且心跳应答带出了排队命令时为 true
+	 */
+	public boolean run() throws InterruptedException {
+		out.println("压测参数: " + options);
+		out.printf("目标速率: %.1f 次/秒%n", options.getOfferedRate());
+		long start = System.nanoTime();
+		measureStart = start + options.getWarmup().toNanos();
+		measureEnd = measureStart + options.getDuration().toNanos();
+		running = true;
+		SplittableRandom seeds = new SplittableRandom(42);
+		for (int i = 1; i <= options.getCameras(); i++) {
+			Camera camera = new Camera(
+					String.format("ylc-%04d%s", i, (i & 1) == 0 ? ParkingLaneHandler.EXIT_SUFFIX : "-in"),
+					seeds.split());
+			schedulePlate(camera, start + camera.nextPlateDelay());
+			if (!options.getHeartbeatInterval().isZero()) {
+				scheduleHeartbeat(camera, start + camera.random.nextLong(options.getHeartbeatInterval().toNanos()));
+			}
+		}
+		long reportNanos = options.getReportInterval().toNanos();
+		long lastCompleted = 0;
+		for (long next = start + reportNanos; next < measureEnd; next += reportNanos) {
+			TimeUnit.NANOSECONDS.sleep(next - System.nanoTime());
+			long done = completed.get();
+			out.printf("[%5.0fs] %-7s %8.1f 次/秒  在途 %d  失败 %d  无效 %d%n", (next - start) / 1e9,
+					next <= measureStart ? "预热" : "统计", (done - lastCompleted) * 1e9 / reportNanos, inFlight.get(),
+					plates.getFailed() + heartbeats.getFailed(), plates.getInvalid() + heartbeats.getInvalid());
+			lastCompleted = done;
+		}
+		TimeUnit.NANOSECONDS.sleep(Math.max(0, measureEnd - System.nanoTime()));
+		running = false;
+		scheduler.shutdownNow();
+		// 等待统计期间发出的请求完成
+		long drainDeadline = System.nanoTime() + options.getTimeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+		while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+			TimeUnit.MILLISECONDS.sleep(50);
+		}
+		report();
+		boolean delivered = heartbeatsDelivered();
+		if (!delivered) {
+			out.println("心跳应答没有带出排队的命令");
+		}
+		return delivered
+				&& plates.getFailed() + plates.getInvalid() + heartbeats.getFailed() + heartbeats.getInvalid() == 0;
+	}
+
+	/**
+	 * 识别推送使其余相机的队列有了车位更新，心跳应答应带出帧；没有识别推送或没有心跳时不检查
+	 */
+	private boolean heartbeatsDelivered() {
+		return plates.getSucceeded() == 0 || heartbeats.getSucceeded() == 0 || heartbeats.getFrames() > 0;
+	}
+
+	private void report() {
+		double seconds = options.getDuration().toNanos() / 1e9;
+		out.println();
+		out.printf("统计 %.0f 秒，%d 台相机%n", seconds, options.getCameras());
+		LoadStats.printHeader(out);
+		plates.print(out, seconds);
+		heartbeats.print(out, seconds);
+		out.printf("合计吞吐: %.1f 次/秒%n", (plates.getSucceeded() + heartbeats.getSucceeded()) / seconds);
+		printErrors(plates);
+		printErrors(heartbeats);
+	}
+
+	private void printErrors(LoadStats stats) {
+		for (Map.Entry<String, Long> error : stats.getErrors().entrySet()) {
+			out.printf("  %s %s: %d%n", stats.getName(), error.getKey(), error.getValue());
+		}
+	}
+
+	private void schedulePlate(Camera camera, long intended) {
+		schedule(intended, () -> {
+			long epochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()) + camera.random.nextInt(1000);
+			send(plates, bodies.plate(camera.serialno, PushBodies.license(camera.random), epochMicros), intended);
+			schedulePlate(camera, intended + camera.nextPlateDelay());
+		});
+	}
+
+	private void scheduleHeartbeat(Camera camera, long intended) {
+		schedule(intended, () -> {
+			send(heartbeats, PushBodies.heartbeat(camera.serialno, ++camera.heartbeats), intended);
+			scheduleHeartbeat(camera, intended + options.getHeartbeatInterval().toNanos());
+		});
+	}
+
+	private void schedule(long intended, Runnable task) {
+		if (!running || intended >= measureEnd) {
+			return;
+		}
+		scheduler.schedule(task, intended - System.nanoTime(), TimeUnit.NANOSECONDS);
+	}
+
+	private void send(LoadStats stats, byte[] body, long intended) {
+		boolean measured = intended >= measureStart;
+		if (measured) {
+			stats.sent();
+		}
+		HttpRequest request = HttpRequest.newBuilder(options.getUrl())
+			.timeout(options.getTimeout())
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofByteArray(body))
+			.build();
+		inFlight.incrementAndGet();
+		client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+			long latency = System.nanoTime() - intended;
+			inFlight.decrementAndGet();
+			completed.incrementAndGet();
+			if (!measured) {
+				return;
+			}
+			if (error != null) {
+				stats.failed(reason(error));
+			}
+			else if (response.statusCode() != 200) {
+				stats.failed("HTTP " + response.statusCode());
+			}
+			else {
+				try {
+					stats.succeeded(latency, ReplyValidator.validate(response.body()));
+				}
+				catch (IllegalArgumentException e) {
+					stats.invalid(e.getMessage());
+				}
+			}
+		});
+	}
+
+	private static String reason(Throwable error) {
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		if (cause instanceof HttpTimeoutException) {
+			return "超时";
+		}
+		if (cause instanceof ConnectException) {
+			return "连接失败";
+		}
+		return cause.getClass().getSimpleName();
+	}
+
+	private final class Camera {
+
+		private final String serialno;
+
+		private final SplittableRandom random;
+
+		// 只在调度线程中按顺序访问
+		private long heartbeats;
+
+		private Camera(String serialno, SplittableRandom random) {
+			this.serialno = serialno;
+			this.random = random;
+		}
+
+		// 泊松到达：间隔服从指数分布
+		private long nextPlateDelay() {
+			double mean = options.getPlateInterval().toNanos();
+			return (long) (-Math.log(1 - random.nextDouble()) * mean);
+		}
+
+	}
+
+}
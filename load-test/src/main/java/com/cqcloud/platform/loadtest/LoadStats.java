@@ -0,0 +1,139 @@
+package com.cqcloud.platform.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 一类请求（识别推送或心跳）的统计，线程安全
+ * <p>
+ * 延迟从计划发送时间算起（而不是实际发出时间），压测端来不及发送或服务端排队造成的等待都计入延迟，避免协调遗漏（coordinated
+ * omission）使高分位偏低。只有校验通过的应答计入延迟分布。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class LoadStats {
+
+	// 记录到微秒，最长1小时
+	private static final long MAX_LATENCY_MICROS = TimeUnit.HOURS.toMicros(1);
+
+	private final String name;
+
+	private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+	private final LongAdder sent = new LongAdder();
+
+	private final LongAdder succeeded = new LongAdder();
+
+	private final LongAdder failed = new LongAdder();
+
+	private final LongAdder invalid = new LongAdder();
+
+	private final LongAdder frames = new LongAdder();
+
+	private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+	public LoadStats(String name) {
+		this.name = name;
+	}
+
+	void sent() {
+		sent.increment();
+	}
+
+	/**
+	 * 校验通过的应答
+	 * @param latencyNanos 从计划发送到收到应答的时间
+	 * @param frameCount 应答中的帧数
+	 */
+	void succeeded(long latencyNanos, int frameCount) {
+		latency.recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 0), MAX_LATENCY_MICROS));
+		succeeded.increment();
+		frames.add(frameCount);
+	}
+
+	/**
+	 * 请求失败（超时、连接错误、非200）
+	 */
+	void failed(String reason) {
+		failed.increment();
+		errors.computeIfAbsent(reason, k -> new LongAdder()).increment();
+	}
+
+	/**
+	 * 应答未通过校验
+	 */
+	void invalid(String reason) {
+		invalid.increment();
+		errors.computeIfAbsent(reason, k -> new LongAdder()).increment();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getSent() {
+		return sent.sum();
+	}
+
+	public long getSucceeded() {
+		return succeeded.sum();
+	}
+
+	public long getFailed() {
+		return failed.sum();
+	}
+
+	public long getInvalid() {
+		return invalid.sum();
+	}
+
+	public long getFrames() {
+		return frames.sum();
+	}
+
+	/**
+	 * 各错误原因的次数
+	 */
+	public Map<String, Long> getErrors() {
+		Map<String, Long> result = new TreeMap<>();
+		errors.forEach((reason, count) -> result.put(reason, count.sum()));
+		return result;
+	}
+
+	/**
+	 * 延迟分布（微秒）的副本
+	 */
+	public Histogram getLatency() {
+		return latency.copy();
+	}
+
+	/**
+	 * 输出一行汇总
+	 * @param seconds 统计时长（秒）
+	 */
+	void print(PrintStream out, double seconds) {
+		Histogram histogram = getLatency();
+		out.printf("%-10s %9d %9d %7d %7d %12.1f %9d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, getSent(), getSucceeded(),
+				getFailed(), getInvalid(), getSucceeded() / seconds, getFrames(), millis(histogram, 50),
+				millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+				histogram.getMaxValue() / 1000.0);
+	}
+
+	static void printHeader(PrintStream out) {
+		out.printf("%-10s %9s %9s %7s %7s %12s %9s %9s %9s %9s %9s %9s%n", "type", "sent", "ok", "failed", "invalid",
+				"ok/s", "frames", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+	}
+
+	private static double millis(Histogram histogram, double percentile) {
+		return histogram.getValueAtPercentile(percentile) / 1000.0;
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.cqcloud.platform.loadtest;
+
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import com.cqcloud.platform.rs485.Rs485SceneService;
+import com.cqcloud.platform.web.LaneDecisionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * 压测用的被测应用：starter 提供推送接口，决策由 {@link ParkingLaneHandler} 模拟
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@SpringBootApplication
+public class LoadTestApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(LoadTestApplication.class, args);
+	}
+
+	@Bean
+	public LaneDecisionHandler parkingLaneHandler(Rs485SceneService sceneService, CameraCommandQueue commandQueue,
+			@Value("${loadtest.decision-delay:5ms}") Duration decisionDelay,
+			@Value("${loadtest.total-spaces:2000}") int totalSpaces) {
+		return new ParkingLaneHandler(sceneService, commandQueue, decisionDelay, totalSpaces);
+	}
+
+}
@@ -0,0 +1,162 @@
+package com.cqcloud.platform.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * 压测参数，命令行按 key=value 传入，未指定的取默认值
+ *
+ * <pre>
+ * url=http://localhost:8080/camera/push  推送接口
+ * cameras=200                            相机台数，一半入口一半出口
+ * plate-interval=30s                     每台相机两次车牌识别的平均间隔（泊松到达）
+ * heartbeat-interval=10s                 每台相机的心跳间隔，0 表示不发心跳
+ * image-size=48000                       每次识别推送附带的图片字节数（Base64前）
+ * warmup=15s                             预热时长，期间的结果不计入报告
+ * duration=60s                           统计时长
+ * timeout=5s                             单次请求超时
+ * report-interval=5s                     进度输出间隔
+ * </pre>
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class LoadTestOptions {
+
+	private URI url = URI.create("http://localhost:8080/camera/push");
+
+	private int cameras = 200;
+
+	private Duration plateInterval = Duration.ofSeconds(30);
+
+	private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+	private int imageSize = 48000;
+
+	private Duration warmup = Duration.ofSeconds(15);
+
+	private Duration duration = Duration.ofSeconds(60);
+
+	private Duration timeout = Duration.ofSeconds(5);
+
+	private Duration reportInterval = Duration.ofSeconds(5);
+
+	private LoadTestOptions() {
+	}
+
+	/**
+	 * 解析命令行参数，参数名或取值不合法时抛出 {@link IllegalArgumentException}
+	 */
+	public static LoadTestOptions parse(String... args) {
+		LoadTestOptions options = new LoadTestOptions();
+		for (String arg : args) {
+			int eq = arg.indexOf('=');
+			if (eq <= 0) {
+				throw new IllegalArgumentException("参数格式应为 key=value: " + arg);
+			}
+			String key = arg.substring(0, eq).trim();
+			String value = arg.substring(eq + 1).trim();
+			switch (key) {
+				case "url":
+					options.url = URI.create(value);
+					break;
+				case "cameras":
+					options.cameras = positive(key, Integer.parseInt(value));
+					break;
+				case "plate-interval":
+					options.plateInterval = duration(key, value, false);
+					break;
+				case "heartbeat-interval":
+					options.heartbeatInterval = duration(key, value, true);
+					break;
+				case "image-size":
+					options.imageSize = Math.max(0, Integer.parseInt(value));
+					break;
+				case "warmup":
+					options.warmup = duration(key, value, true);
+					break;
+				case "duration":
+					options.duration = duration(key, value, false);
+					break;
+				case "timeout":
+					options.timeout = duration(key, value, false);
+					break;
+				case "report-interval":
+					options.reportInterval = duration(key, value, false);
+					break;
+				default:
+					throw new IllegalArgumentException("未知参数: " + key);
+			}
+		}
+		return options;
+	}
+
+	private static int positive(String key, int value) {
+		if (value <= 0) {
+			throw new IllegalArgumentException(key + " 必须大于0: " + value);
+		}
+		return value;
+	}
+
+	private static Duration duration(String key, String value, boolean allowZero) {
+		Duration duration = DurationStyle.detectAndParse(value);
+		if (duration.isNegative() || (duration.isZero() && !allowZero)) {
+			throw new IllegalArgumentException(key + (allowZero ? " 不能为负: " : " 必须大于0: ") + value);
+		}
+		return duration;
+	}
+
+	/**
+	 * 按参数计算的目标请求速率（次/秒），含识别推送和心跳
+	 */
+	public double getOfferedRate() {
+		double plates = cameras * 1e9 / plateInterval.toNanos();
+		double heartbeats = heartbeatInterval.isZero() ? 0 : cameras * 1e9 / heartbeatInterval.toNanos();
+		return plates + heartbeats;
+	}
+
+	public URI getUrl() {
+		return url;
+	}
+
+	public int getCameras() {
+		return cameras;
+	}
+
+	public Duration getPlateInterval() {
+		return plateInterval;
+	}
+
+	public Duration getHeartbeatInterval() {
+		return heartbeatInterval;
+	}
+
+	public int getImageSize() {
+		return imageSize;
+	}
+
+	public Duration getWarmup() {
+		return warmup;
+	}
+
+	public Duration getDuration() {
+		return duration;
+	}
+
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	public Duration getReportInterval() {
+		return reportInterval;
+	}
+
+	@Override
+	public String toString() {
+		return "url=" + url + " cameras=" + cameras + " plate-interval=" + plateInterval + " heartbeat-interval="
+				+ heartbeatInterval + " image-size=" + imageSize + " warmup=" + warmup + " duration=" + duration
+				+ " timeout=" + timeout;
+	}
+
+}
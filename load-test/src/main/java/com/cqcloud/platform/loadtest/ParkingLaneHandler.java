@@ -0,0 +1,93 @@
+package com.cqcloud.platform.loadtest;
+
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.plate.PlateEvent;
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import com.cqcloud.platform.rs485.Rs485SceneService;
+import com.cqcloud.platform.web.LaneDecision;
+import com.cqcloud.platform.web.LaneDecisionHandler;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 模拟车场的放行决策
+ * <p>
+ * 序列号以 {@link #EXIT_SUFFIX} 结尾的相机为出口，其余为入口。每次决策先等待 decisionDelay 模拟查询车位和计费，
+ * 不占用请求线程；入口抬杆并显示剩余车位，出口按车牌计算停车费，免费时抬杆，否则只显示金额。决策后把新的剩余车位数作为低优先级命令
+ * 放入其余已推送过的相机的队列（同一行只保留最新一条），这些相机没有识别推送，由其心跳应答带出。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public class ParkingLaneHandler implements LaneDecisionHandler {
+
+	/**
+	 * 出口相机序列号的后缀
+	 */
+	public static final String EXIT_SUFFIX = "-out";
+
+	// 停车费档位（元），按车牌取
+	private static final int[] FEES = { 0, 0, 5, 10, 15, 20, 30, 45 };
+
+	private final Rs485SceneService sceneService;
+
+	private final CameraCommandQueue commandQueue;
+
+	private final Executor decisionExecutor;
+
+	private final int totalSpaces;
+
+	private final AtomicInteger freeSpaces;
+
+	private final Set<String> cameras = ConcurrentHashMap.newKeySet();
+
+	public ParkingLaneHandler(Rs485SceneService sceneService, CameraCommandQueue commandQueue, Duration decisionDelay,
+			int totalSpaces) {
+		this.sceneService = sceneService;
+		this.commandQueue = commandQueue;
+		this.decisionExecutor = CompletableFuture.delayedExecutor(decisionDelay.toNanos(), TimeUnit.NANOSECONDS);
+		this.totalSpaces = totalSpaces;
+		this.freeSpaces = new AtomicInteger(totalSpaces);
+	}
+
+	@Override
+	public CompletionStage<LaneDecision> decide(PlateEvent event) {
+		return CompletableFuture.supplyAsync(() -> decideNow(event), decisionExecutor);
+	}
+
+	private LaneDecision decideNow(PlateEvent event) {
+		String serialno = event.getSerialno();
+		String license = event.getLicense();
+		LaneDecision decision;
+		int spaces;
+		if (serialno != null && serialno.endsWith(EXIT_SUFFIX)) {
+			spaces = freeSpaces.updateAndGet(n -> Math.min(n + 1, totalSpaces));
+			int fee = FEES[(license.hashCode() & 0x7FFFFFFF) % FEES.length];
+			FrameBatch frames = sceneService.exitScene(license, fee);
+			decision = fee == 0 ? LaneDecision.open(frames) : LaneDecision.keepClosed(frames);
+		}
+		else {
+			spaces = freeSpaces.updateAndGet(n -> Math.max(n - 1, 0));
+			decision = LaneDecision.open(sceneService.entryScene(license, spaces));
+		}
+		if (serialno != null) {
+			cameras.add(serialno);
+			Frame update = sceneService.displayLines("余位" + spaces).get(0);
+			String key = CameraCommandQueue.lineKey(update);
+			for (String camera : cameras) {
+				if (!camera.equals(serialno)) {
+					commandQueue.offer(camera, update, CameraCommandQueue.PRIORITY_LOW, key);
+				}
+			}
+		}
+		return decision;
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.cqcloud.platform.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.SplittableRandom;
+
+/**
+ * 相机推送的请求体：车牌识别（AlarmInfoPlate，附带Base64图片）和心跳
+ * <p>
+ * 车牌按各省简称随机生成，含普通蓝牌、新能源（D/F）、挂车和教练车；图片内容只生成一次，各次推送共用。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class PushBodies {
+
+	private static final String PROVINCES = "京津沪渝冀豫云辽黑湘皖鲁新苏浙赣鄂桂甘晋蒙陕吉闽贵粤青藏川宁琼";
+
+	// 车牌不使用 I 和 O
+	private static final String LETTERS = "ABCDEFGHJKLMNPQRSTUVWXYZ";
+
+	private static final String DIGITS_AND_LETTERS = "0123456789ABCDEFGHJKLMNPQRSTUVWXYZ";
+
+	private final String image;
+
+	/**
+	 * @param imageSize 图片字节数（Base64前），0表示不带图片
+	 */
+	public PushBodies(int imageSize) {
+		byte[] jpeg = new byte[imageSize];
+		new SplittableRandom(imageSize).nextBytes(jpeg);
+		this.image = Base64.getEncoder().encodeToString(jpeg);
+	}
+
+	/**
+	 * 随机车牌
+	 */
+	public static String license(SplittableRandom random) {
+		StringBuilder plate = new StringBuilder(9);
+		plate.append(PROVINCES.charAt(random.nextInt(PROVINCES.length())));
+		plate.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+		int kind = random.nextInt(100);
+		if (kind < 20) {
+			// 新能源：D/F + 5位
+			plate.append(random.nextBoolean() ? 'D' : 'F');
+			appendRandom(plate, random, 5);
+		}
+		else if (kind < 23) {
+			appendRandom(plate, random, 4);
+			plate.append('挂');
+		}
+		else if (kind < 25) {
+			appendRandom(plate, random, 4);
+			plate.append('学');
+		}
+		else {
+			appendRandom(plate, random, 5);
+		}
+		return plate.toString();
+	}
+
+	private static void appendRandom(StringBuilder plate, SplittableRandom random, int count) {
+		for (int i = 0; i < count; i++) {
+			plate.append(DIGITS_AND_LETTERS.charAt(random.nextInt(DIGITS_AND_LETTERS.length())));
+		}
+	}
+
+	/**
+	 * 车牌识别推送
+	 * @param serialno 相机序列号
+	 * @param license 车牌
+	 * @param epochMicros 识别时间（微秒）
+	 */
+	public byte[] plate(String serialno, String license, long epochMicros) {
+		StringBuilder json = new StringBuilder(image.length() + 512);
+		json.append(
+				"{\"AlarmInfoPlate\":{\"channel\":0,\"deviceName\":\"IVS\",\"ipaddr\":\"192.168.1.100\",\"serialno\":\"")
+			.append(serialno)
+			.append("\",\"result\":{\"PlateResult\":{\"license\":\"")
+			.append(license)
+			.append("\",\"colorType\":")
+			.append(license.length() == 8 ? 5 : 1)
+			.append(",\"confidence\":98,\"triggerType\":8,\"type\":1,\"direction\":4,\"imageFile\":\"")
+			.append(image)
+			.append("\",\"imageFileLen\":")
+			.append(image.length())
+			.append(",\"timeStamp\":{\"Timeval\":{\"sec\":")
+			.append(epochMicros / 1_000_000)
+			.append(",\"usec\":")
+			.append(epochMicros % 1_000_000)
+			.append("}}}}}}");
+		return json.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 心跳
+	 * @param serialno 相机序列号
+	 * @param countid 心跳计数
+	 */
+	public static byte[] heartbeat(String serialno, long countid) {
+		return ("{\"heartbeat\":{\"countid\":" + countid + ",\"timeout\":0,\"serialno\":\"" + serialno + "\"}}")
+			.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
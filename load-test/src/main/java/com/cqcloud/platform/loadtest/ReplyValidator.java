@@ -0,0 +1,100 @@
+package com.cqcloud.platform.loadtest;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import com.cqcloud.platform.crc.CRC16Util;
+import com.cqcloud.platform.codec.HexCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 应答校验：error_num 为0，rs485_data 中每一帧按 encodetype 解码后帧头、长度、CRC 和帧尾均正确
+ * <p>
+ * 帧格式：AA55 | 流水号 | 地址 | 保留 | 命令 | 长度(2字节) | 数据 | CRC(2字节) | AF，CRC 计算范围为流水号至数据末尾再追加 00
+ * 00。 校验失败时抛出 {@link IllegalArgumentException}，消息不含可变内容，可直接用于错误分类。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class ReplyValidator {
+
+	private static final int HEADER_LENGTH = 8;
+
+	private static final int TRAILER_LENGTH = 3;
+
+	private ReplyValidator() {
+	}
+
+	/**
+	 * 校验应答
+	 * @param body 应答JSON（UTF-8）
+	 * @return rs485_data 的帧数
+	 */
+	public static int validate(byte[] body) {
+		JSONObject reply;
+		try {
+			reply = JSONUtil.parseObj(new String(body, StandardCharsets.UTF_8));
+		}
+		catch (RuntimeException e) {
+			throw new IllegalArgumentException("应答不是JSON对象");
+		}
+		if (reply.getInt("error_num", -1) != 0) {
+			throw new IllegalArgumentException("error_num 不为0");
+		}
+		JSONArray frames = reply.getJSONArray("rs485_data");
+		if (frames == null) {
+			throw new IllegalArgumentException("缺少 rs485_data");
+		}
+		for (int i = 0; i < frames.size(); i++) {
+			JSONObject item = frames.getJSONObject(i);
+			validateFrame(decode(item.getStr("encodetype"), item.getStr("data")));
+		}
+		return frames.size();
+	}
+
+	private static byte[] decode(String encodeType, String data) {
+		if (data == null) {
+			throw new IllegalArgumentException("帧数据为空");
+		}
+		try {
+			if ("base64".equals(encodeType)) {
+				return Base64.getDecoder().decode(data);
+			}
+			if ("hex2string".equals(encodeType)) {
+				return HexCodec.decode(data);
+			}
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("帧数据无法解码");
+		}
+		throw new IllegalArgumentException("未知 encodetype");
+	}
+
+	/**
+	 * 校验一帧
+	 */
+	public static void validateFrame(byte[] frame) {
+		if (frame.length < HEADER_LENGTH + TRAILER_LENGTH) {
+			throw new IllegalArgumentException("帧长度不足");
+		}
+		if ((frame[0] & 0xFF) != 0xAA || (frame[1] & 0xFF) != 0x55) {
+			throw new IllegalArgumentException("帧头错误");
+		}
+		int payloadLength = (frame[6] & 0xFF) << 8 | (frame[7] & 0xFF);
+		if (frame.length != HEADER_LENGTH + payloadLength + TRAILER_LENGTH) {
+			throw new IllegalArgumentException("长度字段与帧长不符");
+		}
+		if ((frame[frame.length - 1] & 0xFF) != 0xAF) {
+			throw new IllegalArgumentException("帧尾错误");
+		}
+		int crcOffset = HEADER_LENGTH + payloadLength;
+		int crc = CRC16Util.update(CRC16Util.INITIAL, frame, 2, crcOffset - 2);
+		crc = CRC16Util.update(CRC16Util.update(crc, 0), 0);
+		int actual = (frame[crcOffset] & 0xFF) << 8 | (frame[crcOffset + 1] & 0xFF);
+		if (crc != actual) {
+			throw new IllegalArgumentException("CRC错误");
+		}
+	}
+
+}
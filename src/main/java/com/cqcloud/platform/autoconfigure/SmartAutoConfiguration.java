@@ -0,0 +1,79 @@
+package com.cqcloud.platform.autoconfigure;
+
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.buffer.FrameArena;
+import com.cqcloud.platform.checkpoint.SmartCheckpointLifecycle;
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import com.cqcloud.platform.rs485.Rs485SceneService;
+import com.cqcloud.platform.utils.DisplayVoiceUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 编码器、场景服务和待下发命令队列的自动配置
+ * <p>
+ * 各 bean 在启动时按配置创建一次，场景模板、CRC表等均为预先构建，调用时只填入变量；全部线程安全，可直接注入使用。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(SmartProperties.class)
+public class SmartAutoConfiguration {
+
+	/**
+	 * 同时设为 {@link BufferPool#shared()}，静态组帧工具类也借用该池；应用自行声明的池需自行调用
+	 * {@link BufferPool#install()}
+	 */
+	@Bean(destroyMethod = "uninstall")
+	@ConditionalOnMissingBean
+	public BufferPool smartBufferPool(SmartProperties properties) {
+		return new BufferPool(properties.getBufferPool().getSlotsPerClass()).install();
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public DisplayVoiceUtils displayVoiceUtils(SmartProperties properties) {
+		DisplayVoiceUtils utils = new DisplayVoiceUtils(properties.getScreenType());
+		utils.setAddress(properties.getAddress());
+		return utils;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public Rs485SceneService rs485SceneService(SmartProperties properties, BufferPool bufferPool) {
+		SmartProperties.Display display = properties.getDisplay();
+		int color = display.getColor() != null ? display.getColor()
+				: Rs485SceneService.defaultColor(properties.getScreenType());
+		return new Rs485SceneService(properties.getScreenType(), properties.getAddress(), color, display.getDuration(),
+				bufferPool);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public CameraCommandQueue cameraCommandQueue(SmartProperties properties) {
+		SmartProperties.Queue queue = properties.getQueue();
+		return new CameraCommandQueue(queue.getCapacity(), queue.getMaxFramesPerResponse());
+	}
+
+	@Bean(destroyMethod = "close")
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = SmartProperties.PREFIX + ".arena", name = "enabled", havingValue = "true")
+	public FrameArena frameArena(SmartProperties properties) {
+		SmartProperties.Arena arena = properties.getArena();
+		return new FrameArena(arena.getRegionSize(), arena.getMaxRegions());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = SmartProperties.PREFIX + ".checkpoint", name = "enabled", matchIfMissing = true)
+	public SmartCheckpointLifecycle smartCheckpointLifecycle(SmartProperties properties,
+			ObjectProvider<CameraCommandQueue> commandQueue) {
+		return new SmartCheckpointLifecycle(commandQueue.getIfAvailable(),
+				properties.getCheckpoint().isResetSerialNumbers());
+	}
+
+}
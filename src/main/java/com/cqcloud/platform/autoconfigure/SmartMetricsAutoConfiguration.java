@@ -0,0 +1,32 @@
+package com.cqcloud.platform.autoconfigure;
+
+import com.cqcloud.platform.metrics.micrometer.SmartMeterBinder;
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Micrometer 指标，存在 micrometer-core 时启用；注册的 {@link SmartMeterBinder} 由 Spring Boot
+ * Actuator 绑定到 MeterRegistry，同时作为相机推送接口的 LaneObserver
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@AutoConfiguration(after = SmartAutoConfiguration.class)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = SmartProperties.PREFIX + ".metrics", name = "enabled", matchIfMissing = true)
+public class SmartMetricsAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public SmartMeterBinder smartMeterBinder(SmartProperties properties,
+			ObjectProvider<CameraCommandQueue> commandQueue) {
+		SmartProperties.Metrics metrics = properties.getMetrics();
+		return new SmartMeterBinder(commandQueue.getIfAvailable(), metrics.getBaudRate(), metrics.isEncodeLatency());
+	}
+
+}
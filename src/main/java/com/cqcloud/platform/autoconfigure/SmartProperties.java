@@ -0,0 +1,559 @@
+package com.cqcloud.platform.autoconfigure;
+
+import com.cqcloud.platform.buffer.FrameArena;
+import com.cqcloud.platform.json.EncodeType;
+import com.cqcloud.platform.metrics.micrometer.SmartMeterBinder;
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import com.cqcloud.platform.tracing.otel.InMemoryLaneSpanExporter;
+import com.cqcloud.platform.utils.DisplayVoiceUtils.ScreenEnum;
+import com.cqcloud.platform.warmup.SmartWarmup;
+import com.cqcloud.platform.web.CameraPushDispatcher;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 配置项，前缀 ylc.smart
+ *
+ * <pre>
+ * ylc:
+ *   smart:
+ *     address: 100
+ *     screen-type: SMALL_VERTICAL
+ *     display:
+ *       color: 8
+ *     endpoint:
+ *       path: /camera/push
+ *       encode-type: BASE64
+ * </pre>
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@Validated
+@ConfigurationProperties(prefix = SmartProperties.PREFIX)
+public class SmartProperties {
+
+	public static final String PREFIX = "ylc.smart";
+
+	/**
+	 * 显示屏设备地址
+	 */
+	@Min(0)
+	@Max(255)
+	private int address = 0x64;
+
+	/**
+	 * 屏幕类型
+	 */
+	@NotNull
+	private ScreenEnum screenType = ScreenEnum.STANDARD_HORIZONTAL;
+
+	@Valid
+	private final Display display = new Display();
+
+	@Valid
+	private final Pool bufferPool = new Pool();
+
+	@Valid
+	private final Arena arena = new Arena();
+
+	@Valid
+	private final Queue queue = new Queue();
+
+	@Valid
+	private final Endpoint endpoint = new Endpoint();
+
+	@Valid
+	private final Warmup warmup = new Warmup();
+
+	@Valid
+	private final Metrics metrics = new Metrics();
+
+	@Valid
+	private final Tracing tracing = new Tracing();
+
+	private final Checkpoint checkpoint = new Checkpoint();
+
+	public int getAddress() {
+		return address;
+	}
+
+	public void setAddress(int address) {
+		this.address = address;
+	}
+
+	public ScreenEnum getScreenType() {
+		return screenType;
+	}
+
+	public void setScreenType(ScreenEnum screenType) {
+		this.screenType = screenType;
+	}
+
+	public Display getDisplay() {
+		return display;
+	}
+
+	public Pool getBufferPool() {
+		return bufferPool;
+	}
+
+	public Arena getArena() {
+		return arena;
+	}
+
+	public Queue getQueue() {
+		return queue;
+	}
+
+	public Endpoint getEndpoint() {
+		return endpoint;
+	}
+
+	public Warmup getWarmup() {
+		return warmup;
+	}
+
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
+	public Tracing getTracing() {
+		return tracing;
+	}
+
+	public Checkpoint getCheckpoint() {
+		return checkpoint;
+	}
+
+	/**
+	 * 显示默认值
+	 * <p>
+	 * 只作用于 Rs485SceneService.displayLines；入场、出场等预编译场景的颜色和时长固定在模板中，不受影响。
+	 */
+	public static class Display {
+
+		/**
+		 * displayLines 的默认颜色，不设置时按屏幕类型取默认值
+		 */
+		@Min(0)
+		@Max(255)
+		private Integer color;
+
+		/**
+		 * displayLines 的默认临显时长（秒，0=长期显示）
+		 */
+		@Min(0)
+		@Max(255)
+		private int duration;
+
+		public Integer getColor() {
+			return color;
+		}
+
+		public void setColor(Integer color) {
+			this.color = color;
+		}
+
+		public int getDuration() {
+			return duration;
+		}
+
+		public void setDuration(int duration) {
+			this.duration = duration;
+		}
+
+	}
+
+	/**
+	 * 字节数组池
+	 * <p>
+	 * 自动配置创建的池会设为 {@link com.cqcloud.platform.buffer.BufferPool#shared()}，静态组帧工具类同样借用它。
+	 */
+	public static class Pool {
+
+		/**
+		 * 每个容量级别的槽位数
+		 */
+		@Min(1)
+		private int slotsPerClass = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+
+		public int getSlotsPerClass() {
+			return slotsPerClass;
+		}
+
+		public void setSlotsPerClass(int slotsPerClass) {
+			this.slotsPerClass = slotsPerClass;
+		}
+
+	}
+
+	/**
+	 * 堆外帧存储区
+	 */
+	public static class Arena {
+
+		/**
+		 * 是否创建 FrameArena
+		 */
+		private boolean enabled;
+
+		/**
+		 * 区块大小（字节）
+		 */
+		@Min(64)
+		private int regionSize = FrameArena.DEFAULT_REGION_SIZE;
+
+		/**
+		 * 区块数量上限
+		 */
+		@Min(1)
+		private int maxRegions = 16;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getRegionSize() {
+			return regionSize;
+		}
+
+		public void setRegionSize(int regionSize) {
+			this.regionSize = regionSize;
+		}
+
+		public int getMaxRegions() {
+			return maxRegions;
+		}
+
+		public void setMaxRegions(int maxRegions) {
+			this.maxRegions = maxRegions;
+		}
+
+	}
+
+	/**
+	 * 待下发命令队列
+	 */
+	public static class Queue {
+
+		/**
+		 * 每台相机的队列容量
+		 */
+		@Min(1)
+		private int capacity = CameraCommandQueue.DEFAULT_CAPACITY;
+
+		/**
+		 * 每次应答最多带出的帧数
+		 */
+		@Min(1)
+		private int maxFramesPerResponse = CameraCommandQueue.DEFAULT_MAX_FRAMES_PER_RESPONSE;
+
+		public int getCapacity() {
+			return capacity;
+		}
+
+		public void setCapacity(int capacity) {
+			this.capacity = capacity;
+		}
+
+		public int getMaxFramesPerResponse() {
+			return maxFramesPerResponse;
+		}
+
+		public void setMaxFramesPerResponse(int maxFramesPerResponse) {
+			this.maxFramesPerResponse = maxFramesPerResponse;
+		}
+
+	}
+
+	/**
+	 * 相机推送接口，需存在 LaneDecisionHandler bean
+	 */
+	public static class Endpoint {
+
+		/**
+		 * 是否注册推送接口
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 接口路径
+		 */
+		@NotNull
+		private String path = CameraPushDispatcher.DEFAULT_PATH;
+
+		/**
+		 * 应答中帧数据的编码方式
+		 */
+		@NotNull
+		private EncodeType encodeType = EncodeType.HEX2STRING;
+
+		/**
+		 * 最多读取的请求体字节数（仅WebFlux），推送在此之前未结束时应答错误
+		 */
+		@Min(1024)
+		private int maxPushSize = CameraPushDispatcher.DEFAULT_MAX_PUSH_SIZE;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getPath() {
+			return path;
+		}
+
+		public void setPath(String path) {
+			this.path = path;
+		}
+
+		public EncodeType getEncodeType() {
+			return encodeType;
+		}
+
+		public void setEncodeType(EncodeType encodeType) {
+			this.encodeType = encodeType;
+		}
+
+		public int getMaxPushSize() {
+			return maxPushSize;
+		}
+
+		public void setMaxPushSize(int maxPushSize) {
+			this.maxPushSize = maxPushSize;
+		}
+
+	}
+
+	/**
+	 * 启动预热，应用就绪后在后台线程执行
+	 */
+	public static class Warmup {
+
+		/**
+		 * 是否预热
+		 */
+		private boolean enabled;
+
+		/**
+		 * 每种屏幕的执行轮数
+		 */
+		@Min(1)
+		private int iterations = SmartWarmup.DEFAULT_ITERATIONS;
+
+		/**
+		 * 需要预热的屏幕类型，不设置时预热全部类型
+		 */
+		private List<ScreenEnum> screenTypes = new ArrayList<>();
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getIterations() {
+			return iterations;
+		}
+
+		public void setIterations(int iterations) {
+			this.iterations = iterations;
+		}
+
+		public List<ScreenEnum> getScreenTypes() {
+			return screenTypes;
+		}
+
+		public void setScreenTypes(List<ScreenEnum> screenTypes) {
+			this.screenTypes = screenTypes;
+		}
+
+	}
+
+	/**
+	 * Micrometer 指标，需引入 micrometer-core
+	 */
+	public static class Metrics {
+
+		/**
+		 * 是否注册指标
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 是否记录编码耗时
+		 */
+		private boolean encodeLatency = true;
+
+		/**
+		 * RS485波特率，用于估算总线占用时间
+		 */
+		@Min(1200)
+		private int baudRate = SmartMeterBinder.DEFAULT_BAUD_RATE;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public boolean isEncodeLatency() {
+			return encodeLatency;
+		}
+
+		public void setEncodeLatency(boolean encodeLatency) {
+			this.encodeLatency = encodeLatency;
+		}
+
+		public int getBaudRate() {
+			return baudRate;
+		}
+
+		public void setBaudRate(int baudRate) {
+			this.baudRate = baudRate;
+		}
+
+	}
+
+	/**
+	 * OpenTelemetry 车道链路追踪，需引入 opentelemetry-api
+	 */
+	public static class Tracing {
+
+		/**
+		 * 是否追踪
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 从收到推送到应答生成的目标耗时，超过时根span标记 ylc.lane.sla_exceeded
+		 */
+		@NotNull
+		private Duration sla = Duration.ofMillis(500);
+
+		/**
+		 * 容器中没有 OpenTelemetry bean 时是否使用 GlobalOpenTelemetry（如 Java
+		 * agent）；读取后全局实例即被锁定，应用之后不能再设置
+		 */
+		private boolean useGlobal;
+
+		@Valid
+		private final InMemory inMemory = new InMemory();
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getSla() {
+			return sla;
+		}
+
+		public void setSla(Duration sla) {
+			this.sla = sla;
+		}
+
+		public boolean isUseGlobal() {
+			return useGlobal;
+		}
+
+		public void setUseGlobal(boolean useGlobal) {
+			this.useGlobal = useGlobal;
+		}
+
+		public InMemory getInMemory() {
+			return inMemory;
+		}
+
+	}
+
+	/**
+	 * 内存span导出器，需引入 opentelemetry-sdk
+	 */
+	public static class InMemory {
+
+		/**
+		 * 是否保存最近的span；没有其他 OpenTelemetry bean 时同时创建只导出到内存的 OpenTelemetry
+		 */
+		private boolean enabled;
+
+		/**
+		 * 最多保存的span数
+		 */
+		@Min(1)
+		private int capacity = InMemoryLaneSpanExporter.DEFAULT_CAPACITY;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getCapacity() {
+			return capacity;
+		}
+
+		public void setCapacity(int capacity) {
+			this.capacity = capacity;
+		}
+
+	}
+
+	/**
+	 * CRaC 检查点与恢复
+	 */
+	public static class Checkpoint {
+
+		/**
+		 * 是否注册检查点生命周期（停止时清空命令队列，启动时校验编码表）
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 恢复后是否将所有流水号重置为初始值
+		 */
+		private boolean resetSerialNumbers = true;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public boolean isResetSerialNumbers() {
+			return resetSerialNumbers;
+		}
+
+		public void setResetSerialNumbers(boolean resetSerialNumbers) {
+			this.resetSerialNumbers = resetSerialNumbers;
+		}
+
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.cqcloud.platform.autoconfigure;
+
+import com.cqcloud.platform.tracing.LaneTracer;
+import com.cqcloud.platform.tracing.otel.InMemoryLaneSpanExporter;
+import com.cqcloud.platform.tracing.otel.OpenTelemetryLaneTracer;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * OpenTelemetry 车道链路追踪，存在 opentelemetry-api 时启用
+ * <p>
+ * 使用容器中的 OpenTelemetry bean（如 Spring Boot 的 OpenTelemetry 自动配置）。没有时默认不追踪（
+ * {@link OpenTelemetry#noop()}），不读取 {@link GlobalOpenTelemetry}：读取会把全局实例锁定为当前值，应用或 agent
+ * 之后再设置会失败；使用 Java agent 时开启 ylc.smart.tracing.use-global。开启
+ * ylc.smart.tracing.in-memory.enabled 时注册 {@link InMemoryLaneSpanExporter}，容器中没有
+ * OpenTelemetry bean 时同时创建只导出到该导出器的 OpenTelemetry。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@AutoConfiguration(after = SmartAutoConfiguration.class,
+		afterName = "org.springframework.boot.actuate.autoconfigure.opentelemetry.OpenTelemetryAutoConfiguration")
+@ConditionalOnClass(OpenTelemetry.class)
+@ConditionalOnProperty(prefix = SmartProperties.PREFIX + ".tracing", name = "enabled", matchIfMissing = true)
+public class SmartTracingAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean(LaneTracer.class)
+	public OpenTelemetryLaneTracer smartLaneTracer(ObjectProvider<OpenTelemetry> openTelemetry,
+			SmartProperties properties) {
+		OpenTelemetry otel = openTelemetry.getIfAvailable(
+				() -> properties.getTracing().isUseGlobal() ? GlobalOpenTelemetry.get() : OpenTelemetry.noop());
+		OpenTelemetryLaneTracer tracer = new OpenTelemetryLaneTracer(
+				otel.getTracer(OpenTelemetryLaneTracer.INSTRUMENTATION_NAME), properties.getTracing().getSla());
+		tracer.install();
+		return tracer;
+	}
+
+	/**
+	 * 内存span导出器，用于没有采集端的环境和测试
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(OpenTelemetrySdk.class)
+	@ConditionalOnProperty(prefix = SmartProperties.PREFIX + ".tracing.in-memory", name = "enabled")
+	static class InMemoryExporterConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		InMemoryLaneSpanExporter smartLaneSpanExporter(SmartProperties properties) {
+			return new InMemoryLaneSpanExporter(properties.getTracing().getInMemory().getCapacity());
+		}
+
+		@Bean
+		@ConditionalOnMissingBean(OpenTelemetry.class)
+		OpenTelemetrySdk smartOpenTelemetry(InMemoryLaneSpanExporter exporter) {
+			SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+				.addSpanProcessor(SimpleSpanProcessor.create(exporter))
+				.build();
+			return OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+		}
+
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.cqcloud.platform.autoconfigure;
+
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.warmup.SmartWarmup;
+import com.cqcloud.platform.warmup.SmartWarmupHealthIndicator;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 启动预热，ylc.smart.warmup.enabled=true 时启用
+ * <p>
+ * 应用就绪（{@link ApplicationReadyEvent}）后在后台线程执行 {@link SmartWarmup}，不阻塞启动；存在 Actuator
+ * 时注册健康检查 smartWarmup。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@AutoConfiguration(after = SmartAutoConfiguration.class)
+@ConditionalOnProperty(prefix = SmartProperties.PREFIX + ".warmup", name = "enabled", havingValue = "true")
+public class SmartWarmupAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public SmartWarmup smartWarmup(SmartProperties properties, BufferPool bufferPool) {
+		SmartProperties.Warmup warmup = properties.getWarmup();
+		return new SmartWarmup(warmup.getScreenTypes(), properties.getAddress(), bufferPool, warmup.getIterations());
+	}
+
+	@Bean
+	public WarmupStarter smartWarmupStarter(SmartWarmup warmup) {
+		return new WarmupStarter(warmup);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(HealthIndicator.class)
+	static class WarmupHealthConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean(name = "smartWarmupHealthIndicator")
+		public SmartWarmupHealthIndicator smartWarmupHealthIndicator(SmartWarmup warmup) {
+			return new SmartWarmupHealthIndicator(warmup);
+		}
+
+	}
+
+	static class WarmupStarter implements ApplicationListener<ApplicationReadyEvent> {
+
+		private final SmartWarmup warmup;
+
+		WarmupStarter(SmartWarmup warmup) {
+			this.warmup = warmup;
+		}
+
+		@Override
+		public void onApplicationEvent(ApplicationReadyEvent event) {
+			Thread thread = new Thread(warmup::run, "ylc-smart-warmup");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+	}
+
+}
@@ -0,0 +1,53 @@
+package com.cqcloud.platform.autoconfigure;
+
+import com.cqcloud.platform.metrics.LaneObserver;
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import com.cqcloud.platform.tracing.LaneTracer;
+import com.cqcloud.platform.web.CameraPushDispatcher;
+import com.cqcloud.platform.web.LaneDecisionHandler;
+import com.cqcloud.platform.web.reactive.CameraPushHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * WebFlux 应用中的相机推送接口，存在 {@link LaneDecisionHandler} bean 时注册路由
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@AutoConfiguration(after = { SmartAutoConfiguration.class, SmartMetricsAutoConfiguration.class,
+		SmartTracingAutoConfiguration.class })
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(RouterFunction.class)
+@ConditionalOnBean(LaneDecisionHandler.class)
+@ConditionalOnProperty(prefix = SmartProperties.PREFIX + ".endpoint", name = "enabled", matchIfMissing = true)
+public class SmartWebFluxAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public CameraPushDispatcher cameraPushDispatcher(LaneDecisionHandler handler,
+			ObjectProvider<CameraCommandQueue> commandQueue, ObjectProvider<LaneObserver> observer,
+			ObjectProvider<LaneTracer> tracer, SmartProperties properties) {
+		return new CameraPushDispatcher(handler, commandQueue.getIfAvailable(),
+				properties.getEndpoint().getEncodeType(), observer.getIfUnique(), tracer.getIfUnique());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public CameraPushHandler cameraPushHandler(CameraPushDispatcher dispatcher, SmartProperties properties) {
+		return new CameraPushHandler(dispatcher, properties.getEndpoint().getMaxPushSize());
+	}
+
+	@Bean
+	public RouterFunction<ServerResponse> cameraPushRoute(CameraPushHandler handler, SmartProperties properties) {
+		return handler.route(properties.getEndpoint().getPath());
+	}
+
+}
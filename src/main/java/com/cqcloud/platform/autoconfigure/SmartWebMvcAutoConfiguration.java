@@ -0,0 +1,47 @@
+package com.cqcloud.platform.autoconfigure;
+
+import com.cqcloud.platform.metrics.LaneObserver;
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import com.cqcloud.platform.tracing.LaneTracer;
+import com.cqcloud.platform.web.CameraPushDispatcher;
+import com.cqcloud.platform.web.LaneDecisionHandler;
+import com.cqcloud.platform.web.servlet.CameraPushController;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * Spring MVC 应用中的相机推送接口，存在 {@link LaneDecisionHandler} bean 时注册
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@AutoConfiguration(after = { SmartAutoConfiguration.class, SmartMetricsAutoConfiguration.class,
+		SmartTracingAutoConfiguration.class })
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(DispatcherServlet.class)
+@ConditionalOnBean(LaneDecisionHandler.class)
+@ConditionalOnProperty(prefix = SmartProperties.PREFIX + ".endpoint", name = "enabled", matchIfMissing = true)
+public class SmartWebMvcAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public CameraPushDispatcher cameraPushDispatcher(LaneDecisionHandler handler,
+			ObjectProvider<CameraCommandQueue> commandQueue, ObjectProvider<LaneObserver> observer,
+			ObjectProvider<LaneTracer> tracer, SmartProperties properties) {
+		return new CameraPushDispatcher(handler, commandQueue.getIfAvailable(),
+				properties.getEndpoint().getEncodeType(), observer.getIfUnique(), tracer.getIfUnique());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public CameraPushController cameraPushController(CameraPushDispatcher dispatcher) {
+		return new CameraPushController(dispatcher);
+	}
+
+}
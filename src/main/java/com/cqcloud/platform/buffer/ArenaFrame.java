@@ -0,0 +1,99 @@
+package com.cqcloud.platform.buffer;
+
+import com.cqcloud.platform.codec.HexCodec;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * {@link FrameArena} 中的一帧
+ * <p>
+ * 收到应答后调用 {@link #release()}；所在区块回收或过期后句柄失效，再访问抛出 {@link IllegalStateException}。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class ArenaFrame {
+
+	private static final AtomicIntegerFieldUpdater<ArenaFrame> RELEASED = AtomicIntegerFieldUpdater
+		.newUpdater(ArenaFrame.class, "released");
+
+	private final FrameArena arena;
+
+	private final FrameArena.Region region;
+
+	private final int generation;
+
+	private final int offset;
+
+	private final int length;
+
+	private volatile int released;
+
+	ArenaFrame(FrameArena arena, FrameArena.Region region, int generation, int offset, int length) {
+		this.arena = arena;
+		this.region = region;
+		this.generation = generation;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * 帧长度
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * 是否仍可访问（未释放且所在区块未回收）
+	 */
+	public boolean isValid() {
+		return released == 0 && region.generation == generation;
+	}
+
+	/**
+	 * 只读副本
+	 * <p>
+	 * 区块可能随时被其他线程回收并写入新帧，堆外内存的视图无法保证内容不变，因此这里同样在存储区锁内复制。
+	 */
+	public ByteBuffer asByteBuffer() {
+		return ByteBuffer.wrap(toByteArray()).asReadOnlyBuffer();
+	}
+
+	/**
+	 * 复制到堆内数组
+	 */
+	public byte[] toByteArray() {
+		byte[] bytes = new byte[length];
+		writeTo(ByteBuffer.wrap(bytes));
+		return bytes;
+	}
+
+	/**
+	 * 写入目标缓冲区的当前位置；在存储区锁内复制，复制期间区块不会被回收
+	 * @throws IllegalStateException 帧已释放或所在区块已回收
+	 */
+	public void writeTo(ByteBuffer dst) {
+		if (released != 0) {
+			throw new IllegalStateException("帧已释放或已过期");
+		}
+		arena.copy(region, generation, offset, length, dst);
+	}
+
+	/**
+	 * 十六进制字符串（大写）
+	 */
+	public String toHex() {
+		return HexCodec.toHexString(toByteArray());
+	}
+
+	/**
+	 * 释放该帧（如收到应答），重复调用无副作用
+	 */
+	public void release() {
+		if (region.generation == generation && RELEASED.compareAndSet(this, 0, 1)) {
+			arena.release(region, generation);
+		}
+	}
+
+}
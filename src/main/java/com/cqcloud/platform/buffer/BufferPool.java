@@ -0,0 +1,237 @@
+package com.cqcloud.platform.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 有界、无锁的字节数组池
+ * <p>
+ * 按2的幂分级（256字节至64KB），每级固定数量的槽位，借出和归还都只做一次CAS；池满时归还的数组直接丢弃，池空时新建，
+ * 因此内存占用有上限且不会阻塞。借出的数组内容不确定，调用方须自行覆盖写入的区域。超过最大级别的请求直接分配，不入池。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class BufferPool {
+
+	/**
+	 * 全局默认池
+	 */
+	public static final BufferPool DEFAULT = new BufferPool(
+			Math.max(8, Runtime.getRuntime().availableProcessors() * 2));
+
+	private static final AtomicReference<BufferPool> SHARED = new AtomicReference<>(DEFAULT);
+
+	private static final int MIN_SHIFT = 8;
+
+	private static final int MAX_SHIFT = 16;
+
+	/**
+	 * 最小分级（字节）
+	 */
+	public static final int MIN_CAPACITY = 1 << MIN_SHIFT;
+
+	/**
+	 * 最大分级（字节），更大的请求不入池
+	 */
+	public static final int MAX_CAPACITY = 1 << MAX_SHIFT;
+
+	private final AtomicReferenceArray<byte[]>[] classes;
+
+	private final int slotMask;
+
+	/**
+	 * @param slotsPerClass 每级槽位数，向上取整为2的幂
+	 */
+	public BufferPool(int slotsPerClass) {
+		if (slotsPerClass <= 0) {
+			throw new IllegalArgumentException("槽位数必须大于0: " + slotsPerClass);
+		}
+		int slots = slotsPerClass == 1 ? 1 : Integer.highestOneBit(slotsPerClass - 1) << 1;
+		this.slotMask = slots - 1;
+		int count = MAX_SHIFT - MIN_SHIFT + 1;
+		@SuppressWarnings("unchecked")
+		AtomicReferenceArray<byte[]>[] created = (AtomicReferenceArray<byte[]>[]) new AtomicReferenceArray<?>[count];
+		for (int i = 0; i < created.length; i++) {
+			created[i] = new AtomicReferenceArray<>(slots);
+		}
+		this.classes = created;
+	}
+
+	/**
+	 * 静态组帧工具类（TTS模板、显示语音、LED响应等）借用的池，未调用 {@link #install()} 时为 {@link #DEFAULT}
+	 */
+	public static BufferPool shared() {
+		return SHARED.get();
+	}
+
+	/**
+	 * 设为 {@link #shared()}，让静态组帧工具类也借用本池
+	 * @return 本池
+	 */
+	public BufferPool install() {
+		SHARED.set(this);
+		return this;
+	}
+
+	/**
+	 * 撤销 {@link #install()}，当前共享池不是本池时不做任何事
+	 */
+	public void uninstall() {
+		SHARED.compareAndSet(this, DEFAULT);
+	}
+
+	/**
+	 * 借出长度不小于 minCapacity 的数组，用完后调用 {@link #release(byte[])} 归还
+	 * @param minCapacity 最小长度
+	 * @return 数组（内容不确定）
+	 */
+	public byte[] acquire(int minCapacity) {
+		if (minCapacity > MAX_CAPACITY) {
+			return new byte[minCapacity];
+		}
+		int index = classIndex(minCapacity);
+		AtomicReferenceArray<byte[]> slots = classes[index];
+		int start = probe();
+		for (int i = 0; i <= slotMask; i++) {
+			int slot = (start + i) & slotMask;
+			byte[] buffer = slots.get(slot);
+			if (buffer != null && slots.compareAndSet(slot, buffer, null)) {
+				return buffer;
+			}
+		}
+		return new byte[1 << (index + MIN_SHIFT)];
+	}
+
+	/**
+	 * 归还数组，不属于任何分级的数组直接忽略
+	 * @param buffer 由 {@link #acquire(int)} 借出的数组
+	 */
+	public void release(byte[] buffer) {
+		if (buffer == null) {
+			return;
+		}
+		int length = buffer.length;
+		if (length < MIN_CAPACITY || length > MAX_CAPACITY || Integer.bitCount(length) != 1) {
+			return;
+		}
+		AtomicReferenceArray<byte[]> slots = classes[Integer.numberOfTrailingZeros(length) - MIN_SHIFT];
+		int start = probe();
+		for (int i = 0; i <= slotMask; i++) {
+			int slot = (start + i) & slotMask;
+			if (slots.get(slot) == null && slots.compareAndSet(slot, null, buffer)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 复制前 length 个字节作为恰好长度的结果，并归还数组
+	 * @param buffer 借出的数组
+	 * @param length 有效长度
+	 * @return 恰好长度的副本
+	 */
+	public byte[] copyAndRelease(byte[] buffer, int length) {
+		byte[] result = Arrays.copyOf(buffer, length);
+		release(buffer);
+		return result;
+	}
+
+	/**
+	 * 借出数组并包装为 {@link Lease}，配合 try-with-resources 使用
+	 * @param minCapacity 最小长度
+	 * @return 租约
+	 */
+	public Lease lease(int minCapacity) {
+		return new Lease(this, acquire(minCapacity));
+	}
+
+	private static int classIndex(int capacity) {
+		if (capacity <= MIN_CAPACITY) {
+			return 0;
+		}
+		return 32 - Integer.numberOfLeadingZeros(capacity - 1) - MIN_SHIFT;
+	}
+
+	// 不同线程从不同槽位开始查找，减少CAS冲突
+	private int probe() {
+		return (int) Thread.currentThread().getId() * 0x9E3779B9 >>> 16;
+	}
+
+	/**
+	 * 借出的数组及其有效长度，关闭时归还
+	 */
+	public static final class Lease implements AutoCloseable {
+
+		private final BufferPool pool;
+
+		private byte[] buffer;
+
+		private int length;
+
+		private Lease(BufferPool pool, byte[] buffer) {
+			this.pool = pool;
+			this.buffer = buffer;
+		}
+
+		/**
+		 * 底层数组，归还后不可再使用
+		 */
+		public byte[] array() {
+			checkOpen();
+			return buffer;
+		}
+
+		/**
+		 * 有效长度
+		 */
+		public int length() {
+			return length;
+		}
+
+		/**
+		 * 设置有效长度（写入完成后调用）
+		 */
+		public Lease length(int length) {
+			checkOpen();
+			if (length < 0 || length > buffer.length) {
+				throw new IndexOutOfBoundsException("长度超出范围: " + length);
+			}
+			this.length = length;
+			return this;
+		}
+
+		/**
+		 * 有效区域的只读视图，不复制，仅在归还前有效
+		 */
+		public ByteBuffer slice() {
+			checkOpen();
+			return ByteBuffer.wrap(buffer, 0, length).slice().asReadOnlyBuffer();
+		}
+
+		/**
+		 * 有效区域的恰好长度副本
+		 */
+		public byte[] toByteArray() {
+			checkOpen();
+			return Arrays.copyOf(buffer, length);
+		}
+
+		@Override
+		public void close() {
+			if (buffer != null) {
+				pool.release(buffer);
+				buffer = null;
+			}
+		}
+
+		private void checkOpen() {
+			if (buffer == null) {
+				throw new IllegalStateException("缓冲区已归还");
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,271 @@
+package com.cqcloud.platform.buffer;
+
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameEncoder;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 堆外帧存储区，用于网关缓存大量待发送、已发送未确认的帧
+ * <p>
+ * 内存按固定大小的区块（直接内存 {@link ByteBuffer}）划分，帧在当前区块内顺序分配；区块写满后转为只读，其中的帧全部
+ * {@link ArenaFrame#release() 释放}（收到应答）后整块回收复用。超时未确认的帧按区块整体过期，见
+ * {@link #expireOlderThan(long, TimeUnit)}。帧数据不占用Java堆，GC只需扫描少量句柄对象。
+ * <p>
+ * 区块总数有上限，超过时分配抛出 {@link IllegalStateException}。直接内存在存储区关闭后由GC随 ByteBuffer 一起释放。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class FrameArena implements AutoCloseable {
+
+	/**
+	 * 默认区块大小 1MB
+	 */
+	public static final int DEFAULT_REGION_SIZE = 1 << 20;
+
+	private final int regionSize;
+
+	private final int maxRegions;
+
+	private final ArrayDeque<Region> free = new ArrayDeque<>();
+
+	// 已写满、仍有未释放帧的区块
+	private final List<Region> retired = new ArrayList<>();
+
+	private Region current;
+
+	private int regionCount;
+
+	private boolean closed;
+
+	/**
+	 * @param regionSize 区块大小（字节），单帧不能超过该大小
+	 * @param maxRegions 区块数量上限
+	 */
+	public FrameArena(int regionSize, int maxRegions) {
+		if (regionSize < FrameEncoder.OVERHEAD || maxRegions <= 0) {
+			throw new IllegalArgumentException("区块参数不正确: " + regionSize + " x " + maxRegions);
+		}
+		this.regionSize = regionSize;
+		this.maxRegions = maxRegions;
+	}
+
+	/**
+	 * 编码一帧并直接写入堆外内存
+	 */
+	public ArenaFrame encode(int serial, int address, int command, byte[] payload) {
+		int payloadLength = payload != null ? payload.length : 0;
+		int length = FrameEncoder.frameLength(payloadLength);
+		synchronized (this) {
+			Region region = regionFor(length);
+			ByteBuffer target = region.memory.duplicate();
+			target.position(region.position);
+			FrameEncoder.encode(target, serial, address, command, payload, 0, payloadLength);
+			return allocated(region, length);
+		}
+	}
+
+	/**
+	 * 复制已编码的帧到堆外内存
+	 */
+	public ArenaFrame copyOf(Frame frame) {
+		int length = frame.length();
+		synchronized (this) {
+			Region region = regionFor(length);
+			ByteBuffer target = region.memory.duplicate();
+			target.position(region.position);
+			frame.writeTo(target);
+			return allocated(region, length);
+		}
+	}
+
+	/**
+	 * 复制数组中的一段帧字节到堆外内存（如 DisplayVoiceUtils 生成的数据包）
+	 */
+	public ArenaFrame copyOf(byte[] frame, int offset, int length) {
+		synchronized (this) {
+			Region region = regionFor(length);
+			ByteBuffer target = region.memory.duplicate();
+			target.position(region.position);
+			target.put(frame, offset, length);
+			return allocated(region, length);
+		}
+	}
+
+	/**
+	 * 使最后一次分配早于指定时长的区块整体过期，其中未释放的帧随之失效
+	 * @param age 时长
+	 * @param unit 单位
+	 * @return 回收的区块数
+	 */
+	public synchronized int expireOlderThan(long age, TimeUnit unit) {
+		long deadline = System.nanoTime() - unit.toNanos(age);
+		int expired = 0;
+		for (Iterator<Region> it = retired.iterator(); it.hasNext();) {
+			Region region = it.next();
+			if (region.lastAllocation - deadline < 0) {
+				it.remove();
+				recycle(region);
+				expired++;
+			}
+		}
+		if (current != null && current.position > 0 && current.lastAllocation - deadline < 0) {
+			Region region = current;
+			current = null;
+			recycle(region);
+			expired++;
+		}
+		return expired;
+	}
+
+	/**
+	 * 未释放的帧数
+	 */
+	public synchronized int liveFrames() {
+		int live = current != null ? current.live.get() : 0;
+		for (Region region : retired) {
+			live += region.live.get();
+		}
+		return live;
+	}
+
+	/**
+	 * 已创建的区块数
+	 */
+	public synchronized int regionCount() {
+		return regionCount;
+	}
+
+	/**
+	 * 已占用的区块数（当前区块及未回收的区块）
+	 */
+	public synchronized int usedRegions() {
+		return retired.size() + (current != null ? 1 : 0);
+	}
+
+	/**
+	 * 区块大小
+	 */
+	public int getRegionSize() {
+		return regionSize;
+	}
+
+	/**
+	 * 关闭存储区，所有帧失效
+	 */
+	@Override
+	public synchronized void close() {
+		closed = true;
+		for (Region region : retired) {
+			region.generation++;
+		}
+		if (current != null) {
+			current.generation++;
+		}
+		retired.clear();
+		free.clear();
+		current = null;
+	}
+
+	/**
+	 * 释放一帧；区块的代数和存活帧数只在锁内修改，代数已变（区块已回收或过期）时不再计数，避免旧句柄减掉新一代帧的计数
+	 * @param region 帧所在区块
+	 * @param generation 分配帧时区块的代数
+	 */
+	synchronized void release(Region region, int generation) {
+		if (region.generation != generation) {
+			return;
+		}
+		// 只回收已写满的区块，当前区块继续分配
+		if (region.live.decrementAndGet() == 0 && retired.remove(region)) {
+			recycle(region);
+		}
+	}
+
+	/**
+	 * 复制一帧到目标缓冲区；在锁内检查代数，复制期间区块不会被回收改写
+	 * @throws IllegalStateException 区块已回收或已过期
+	 */
+	synchronized void copy(Region region, int generation, int offset, int length, ByteBuffer dst) {
+		if (region.generation != generation) {
+			throw new IllegalStateException("帧已释放或已过期");
+		}
+		ByteBuffer source = region.memory.duplicate();
+		source.limit(offset + length).position(offset);
+		dst.put(source);
+	}
+
+	private Region regionFor(int length) {
+		if (closed) {
+			throw new IllegalStateException("存储区已关闭");
+		}
+		if (length > regionSize) {
+			throw new IllegalArgumentException("帧长度超过区块大小: " + length + " > " + regionSize);
+		}
+		if (current != null && current.position + length <= regionSize) {
+			return current;
+		}
+		if (current != null) {
+			if (current.live.get() == 0) {
+				recycle(current);
+			}
+			else {
+				retired.add(current);
+			}
+			current = null;
+		}
+		Region region = free.poll();
+		if (region == null) {
+			if (regionCount >= maxRegions) {
+				throw new IllegalStateException("堆外存储区已满: " + regionCount + " x " + regionSize);
+			}
+			region = new Region(ByteBuffer.allocateDirect(regionSize));
+			regionCount++;
+		}
+		current = region;
+		return region;
+	}
+
+	private ArenaFrame allocated(Region region, int length) {
+		ArenaFrame frame = new ArenaFrame(this, region, region.generation, region.position, length);
+		region.position += length;
+		region.live.incrementAndGet();
+		region.lastAllocation = System.nanoTime();
+		return frame;
+	}
+
+	private void recycle(Region region) {
+		region.generation++;
+		region.position = 0;
+		region.live.set(0);
+		if (!closed) {
+			free.push(region);
+		}
+	}
+
+	static final class Region {
+
+		final ByteBuffer memory;
+
+		final AtomicInteger live = new AtomicInteger();
+
+		// 每次回收加1，使旧句柄失效；只在存储区锁内修改
+		volatile int generation;
+
+		int position;
+
+		long lastAllocation;
+
+		Region(ByteBuffer memory) {
+			this.memory = memory;
+		}
+
+	}
+
+}
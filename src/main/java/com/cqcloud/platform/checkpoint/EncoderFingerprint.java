@@ -0,0 +1,45 @@
+package com.cqcloud.platform.checkpoint;
+
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.crc.CRC16Util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 编码表指纹：用GBK常用字表、固定用语表、CRC表和十六进制表编码一组固定文本，对结果求CRC32
+ * <p>
+ * 只读取静态表，不占用流水号，也不计入编码指标。同一版本的库在任何进程中结果相同，可用于检查恢复后的编码状态。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class EncoderFingerprint {
+
+	private EncoderFingerprint() {
+	}
+
+	/**
+	 * 计算指纹
+	 */
+	public static long compute() {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[GbkCodec.maxEncodedLength(GbkCodec.PROVINCES.length())];
+		update(crc, buffer, GbkCodec.PROVINCES);
+		update(crc, buffer, GbkCodec.PLATE_SUFFIXES);
+		for (String phrase : GbkCodec.PHRASES) {
+			update(crc, buffer, phrase);
+		}
+		return crc.getValue();
+	}
+
+	private static void update(CRC32 crc, byte[] buffer, String text) {
+		int length = GbkCodec.encode(text, buffer, 0);
+		crc.update(buffer, 0, length);
+		int crc16 = CRC16Util.compute(buffer, 0, length);
+		crc.update(crc16 >> 8);
+		crc.update(crc16);
+		crc.update(HexCodec.toHexString(buffer, 0, length).getBytes(StandardCharsets.US_ASCII));
+	}
+
+}
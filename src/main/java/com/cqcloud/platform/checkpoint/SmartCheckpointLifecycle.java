@@ -0,0 +1,111 @@
+package com.cqcloud.platform.checkpoint;
+
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import com.cqcloud.platform.rs485.Rs485SceneService;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * CRaC 检查点与恢复
+ * <p>
+ * 引入 org.crac 并在支持CRaC的JVM上运行时，Spring 在创建检查点前停止、恢复后重新启动所有 Lifecycle bean。本 bean
+ * 的阶段早于Web服务器，恢复后先于接收相机推送完成：
+ * <ul>
+ * <li>停止时清空待下发命令队列，恢复后不会下发创建检查点时排队的过期内容</li>
+ * <li>重新启动时把所有流水号重置为初始值，与冷启动一致，预热等在检查点前占用的流水号不带入恢复后的进程</li>
+ * <li>每次启动校验 {@link EncoderFingerprint}，恢复后与首次启动时不一致则启动失败，不下发错误的帧</li>
+ * </ul>
+ * 本库不持有串口或网络连接（帧经相机应答转发），没有需要关闭和重连的资源。首次启动时的校验会加载编码相关的类，
+ * AppCDS训练运行（-XX:ArchiveClassesAtExit 配合 -Dspring.context.exit=onRefresh）可将其写入归档，示例见
+ * load-test 工程的 cds 配置。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public class SmartCheckpointLifecycle implements SmartLifecycle {
+
+	/**
+	 * 启动阶段（{@code DEFAULT_PHASE - 4096}），早于Web服务器的启停阶段（{@code DEFAULT_PHASE - 2048}）
+	 */
+	public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+	private final CameraCommandQueue commandQueue;
+
+	private final boolean resetSerialNumbers;
+
+	private volatile boolean running;
+
+	private boolean stopped;
+
+	private long fingerprint = -1;
+
+	private int restarts;
+
+	private long droppedCommands;
+
+	/**
+	 * @param commandQueue 停止时清空的命令队列，可为 null
+	 * @param resetSerialNumbers 重新启动时是否重置流水号
+	 */
+	public SmartCheckpointLifecycle(CameraCommandQueue commandQueue, boolean resetSerialNumbers) {
+		this.commandQueue = commandQueue;
+		this.resetSerialNumbers = resetSerialNumbers;
+	}
+
+	@Override
+	public synchronized void start() {
+		long current = EncoderFingerprint.compute();
+		if (fingerprint < 0) {
+			fingerprint = current;
+		}
+		else if (current != fingerprint) {
+			throw new IllegalStateException(String.format("编码表校验失败: %08X != %08X", current, fingerprint));
+		}
+		if (stopped) {
+			if (resetSerialNumbers) {
+				Rs485SceneService.resetSerialNumbers();
+			}
+			restarts++;
+		}
+		running = true;
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (commandQueue != null) {
+			droppedCommands += commandQueue.clear();
+		}
+		stopped = true;
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public int getPhase() {
+		return PHASE;
+	}
+
+	/**
+	 * 首次启动时的编码表指纹，未启动时为 -1
+	 */
+	public synchronized long getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * 停止后重新启动（如从检查点恢复）的次数
+	 */
+	public synchronized int getRestarts() {
+		return restarts;
+	}
+
+	/**
+	 * 停止时丢弃的排队命令数
+	 */
+	public synchronized long getDroppedCommands() {
+		return droppedCommands;
+	}
+
+}
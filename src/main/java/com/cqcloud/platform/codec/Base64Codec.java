@@ -0,0 +1,88 @@
+package com.cqcloud.platform.codec;
+
+/**
+ * Base64编码（标准字母表，带填充），直接写入调用方提供的数组
+ * <p>
+ * {@link java.util.Base64.Encoder} 只能整段编码到新数组或从数组起始处写入，这里按偏移量读写，便于分段写入输出缓冲区。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class Base64Codec {
+
+	private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+		.toCharArray();
+
+	private static final char PAD = '=';
+
+	private Base64Codec() {
+	}
+
+	/**
+	 * 编码后的长度
+	 * @param length 原始字节数
+	 * @return 字符数
+	 */
+	public static int encodedLength(int length) {
+		return (length + 2) / 3 * 4;
+	}
+
+	/**
+	 * 编码到字节数组（ASCII）
+	 * @return 写入的字节数
+	 */
+	public static int encode(byte[] src, int off, int len, byte[] dst, int dstOff) {
+		int end = off + len - len % 3;
+		int pos = dstOff;
+		for (int i = off; i < end; i += 3) {
+			int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+			dst[pos++] = (byte) ALPHABET[bits >>> 18];
+			dst[pos++] = (byte) ALPHABET[(bits >>> 12) & 0x3F];
+			dst[pos++] = (byte) ALPHABET[(bits >>> 6) & 0x3F];
+			dst[pos++] = (byte) ALPHABET[bits & 0x3F];
+		}
+		int remaining = len % 3;
+		if (remaining > 0) {
+			int bits = (src[end] & 0xFF) << 16 | (remaining == 2 ? (src[end + 1] & 0xFF) << 8 : 0);
+			dst[pos++] = (byte) ALPHABET[bits >>> 18];
+			dst[pos++] = (byte) ALPHABET[(bits >>> 12) & 0x3F];
+			dst[pos++] = (byte) (remaining == 2 ? ALPHABET[(bits >>> 6) & 0x3F] : PAD);
+			dst[pos++] = (byte) PAD;
+		}
+		return pos - dstOff;
+	}
+
+	/**
+	 * 编码到字符数组
+	 * @return 写入的字符数
+	 */
+	public static int encode(byte[] src, int off, int len, char[] dst, int dstOff) {
+		int end = off + len - len % 3;
+		int pos = dstOff;
+		for (int i = off; i < end; i += 3) {
+			int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+			dst[pos++] = ALPHABET[bits >>> 18];
+			dst[pos++] = ALPHABET[(bits >>> 12) & 0x3F];
+			dst[pos++] = ALPHABET[(bits >>> 6) & 0x3F];
+			dst[pos++] = ALPHABET[bits & 0x3F];
+		}
+		int remaining = len % 3;
+		if (remaining > 0) {
+			int bits = (src[end] & 0xFF) << 16 | (remaining == 2 ? (src[end + 1] & 0xFF) << 8 : 0);
+			dst[pos++] = ALPHABET[bits >>> 18];
+			dst[pos++] = ALPHABET[(bits >>> 12) & 0x3F];
+			dst[pos++] = remaining == 2 ? ALPHABET[(bits >>> 6) & 0x3F] : PAD;
+			dst[pos++] = PAD;
+		}
+		return pos - dstOff;
+	}
+
+	/**
+	 * 编码为字符串
+	 */
+	public static String toBase64String(byte[] src, int off, int len) {
+		char[] chars = new char[encodedLength(len)];
+		encode(src, off, len, chars, 0);
+		return new String(chars);
+	}
+
+}
@@ -0,0 +1,267 @@
+package com.cqcloud.platform.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GBK文本编码器，直接写入调用方提供的缓冲区
+ * <p>
+ * ASCII 直接按字节写入；31个省份简称、车牌特殊字符以及场景中的固定用语预先编码成表；其余字符交给线程内复用的
+ * {@link CharsetEncoder}。无法编码的字符替换为 '?'，与 {@code String.getBytes("GBK")} 的结果一致。
+ * <p>
+ * 原生镜像中本类在构建时初始化（见 META-INF/native-image），各表随镜像保存；表外字符仍需 GBK 字符集，由 -H:+AddAllCharsets
+ * 加入镜像。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class GbkCodec {
+
+	public static final Charset GBK = Charset.forName("GBK");
+
+	/**
+	 * 31个省份简称
+	 */
+	public static final String PROVINCES = "京津沪渝冀豫云辽黑湘皖鲁新苏浙赣鄂桂甘晋蒙陕吉闽贵粤青藏川宁琼";
+
+	/**
+	 * 车牌中的特殊字符
+	 */
+	public static final String PLATE_SUFFIXES = "挂学警港澳领使试超临";
+
+	/**
+	 * 场景中使用的固定用语，不可修改
+	 */
+	public static final List<String> PHRASES = List.of("欢迎光临", "减速慢行", "一路平安", "一路顺风", "谢谢光临", "一车一杆", "一车一杆自动识别",
+			"剩余车位", "智慧停车", "车牌识别", "请勿跟车", "车位", "个", "元", "缴费", "请缴费", "请交费", "此车", "谢谢配合", "请支付停车费", "本次消费",
+			"欢迎光临，请入场停车", "一路平安，欢迎再次光临", "一路顺风，欢迎再次光临", "元，欢迎再次光临", "个，请合理安排", "个，请尽快停车", "剩余车位充足，欢迎停车", "车位已满，请稍候",
+			"恭喜发财万事如意", "停车场信息", "请有序停车", "支付成功", "车牌:", "金额:", "总车位:", "剩余:", "系统维护中", "请稍候", "给您带来不便", "敬请谅解", "车位紧张",
+			"车位较少", "剩余", "请尽快停车", "请扫码支付");
+
+	/**
+	 * 单个字符的最大编码长度
+	 */
+	public static final int MAX_BYTES_PER_CHAR = 2;
+
+	private static final int CHAR_TABLE_SIZE = 1024;
+
+	private static final int CHAR_TABLE_MASK = CHAR_TABLE_SIZE - 1;
+
+	// 开放寻址表：字符 -> 双字节编码（高字节在前）
+	private static final char[] CHAR_KEYS = new char[CHAR_TABLE_SIZE];
+
+	private static final char[] CHAR_CODES = new char[CHAR_TABLE_SIZE];
+
+	private static final Map<String, byte[]> PHRASE_TABLE;
+
+	private static final ThreadLocal<CharsetEncoder> ENCODER = ThreadLocal.withInitial(() -> GBK.newEncoder()
+		.onMalformedInput(CodingErrorAction.REPLACE)
+		.onUnmappableCharacter(CodingErrorAction.REPLACE));
+
+	// 线程内保留的临时缓冲区上限，更长的文本每次临时分配，避免长文本把缓冲区永久撑大
+	private static final int MAX_SCRATCH_SIZE = 4096;
+
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[256]);
+
+	static {
+		Map<String, byte[]> phrases = new HashMap<>();
+		for (String phrase : PHRASES) {
+			phrases.put(phrase, phrase.getBytes(GBK));
+			putChars(phrase);
+		}
+		putChars(PROVINCES);
+		putChars(PLATE_SUFFIXES);
+		PHRASE_TABLE = Collections.unmodifiableMap(phrases);
+	}
+
+	private GbkCodec() {
+	}
+
+	/**
+	 * 编码后可能的最大长度
+	 * @param charCount 字符数
+	 * @return 最大字节数
+	 */
+	public static int maxEncodedLength(int charCount) {
+		return charCount * MAX_BYTES_PER_CHAR;
+	}
+
+	/**
+	 * 编码并写入目标数组
+	 * @param text 文本
+	 * @param dst 目标数组
+	 * @param off 写入位置
+	 * @return 写入的字节数
+	 * @throws IllegalArgumentException 目标数组空间不足
+	 */
+	public static int encode(CharSequence text, byte[] dst, int off) {
+		int written = encode(text, dst, off, dst.length - off);
+		if (written < 0) {
+			throw new IllegalArgumentException("缓冲区空间不足");
+		}
+		return written;
+	}
+
+	/**
+	 * 编码并写入目标数组，限制最大写入长度
+	 * @param text 文本
+	 * @param dst 目标数组
+	 * @param off 写入位置
+	 * @param maxLength 允许写入的最大字节数
+	 * @return 写入的字节数，超出 maxLength 或目标数组剩余空间时返回 -1
+	 */
+	public static int encode(CharSequence text, byte[] dst, int off, int maxLength) {
+		int limit = Math.min(off + maxLength, dst.length);
+		if (limit < off) {
+			return -1;
+		}
+		if (text instanceof String) {
+			byte[] phrase = PHRASE_TABLE.get(text);
+			if (phrase != null) {
+				if (off + phrase.length > limit) {
+					return -1;
+				}
+				System.arraycopy(phrase, 0, dst, off, phrase.length);
+				return phrase.length;
+			}
+		}
+		int pos = off;
+		int len = text.length();
+		int i = 0;
+		while (i < len) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				if (pos >= limit) {
+					return -1;
+				}
+				dst[pos++] = (byte) c;
+				i++;
+				continue;
+			}
+			char code = lookup(c);
+			if (code != 0) {
+				if (pos + 2 > limit) {
+					return -1;
+				}
+				dst[pos++] = (byte) (code >> 8);
+				dst[pos++] = (byte) code;
+				i++;
+				continue;
+			}
+			// 连续的非表内字符交给CharsetEncoder
+			int end = i + 1;
+			while (end < len && text.charAt(end) >= 0x80 && lookup(text.charAt(end)) == 0) {
+				end++;
+			}
+			pos = encodeFallback(text, i, end, dst, pos, limit);
+			if (pos < 0) {
+				return -1;
+			}
+			i = end;
+		}
+		return pos - off;
+	}
+
+	/**
+	 * 编码并写入 {@link ByteBuffer} 的当前位置，写入后position后移
+	 * @return 写入的字节数
+	 */
+	public static int encode(CharSequence text, ByteBuffer dst) {
+		if (dst.hasArray()) {
+			int written = encode(text, dst.array(), dst.arrayOffset() + dst.position());
+			dst.position(dst.position() + written);
+			return written;
+		}
+		byte[] scratch = scratch(maxEncodedLength(text.length()));
+		int written = encode(text, scratch, 0);
+		dst.put(scratch, 0, written);
+		return written;
+	}
+
+	/**
+	 * 编码为恰好长度的字节数组
+	 */
+	public static byte[] encode(CharSequence text) {
+		if (text == null || text.length() == 0) {
+			return new byte[0];
+		}
+		if (text instanceof String) {
+			byte[] phrase = PHRASE_TABLE.get(text);
+			if (phrase != null) {
+				return phrase.clone();
+			}
+		}
+		byte[] scratch = scratch(maxEncodedLength(text.length()));
+		int written = encode(text, scratch, 0);
+		return Arrays.copyOf(scratch, written);
+	}
+
+	/**
+	 * 是否为预编码的固定用语
+	 */
+	public static boolean isPhrase(String text) {
+		return PHRASE_TABLE.containsKey(text);
+	}
+
+	private static int encodeFallback(CharSequence text, int start, int end, byte[] dst, int pos, int limit) {
+		CharsetEncoder encoder = ENCODER.get().reset();
+		ByteBuffer out = ByteBuffer.wrap(dst, pos, Math.max(limit - pos, 0));
+		CoderResult result = encoder.encode(CharBuffer.wrap(text, start, end), out, true);
+		if (result.isOverflow() || encoder.flush(out).isOverflow()) {
+			return -1;
+		}
+		return out.position();
+	}
+
+	private static char lookup(char c) {
+		int index = (c * 31) & CHAR_TABLE_MASK;
+		while (CHAR_KEYS[index] != 0) {
+			if (CHAR_KEYS[index] == c) {
+				return CHAR_CODES[index];
+			}
+			index = (index + 1) & CHAR_TABLE_MASK;
+		}
+		return 0;
+	}
+
+	private static void putChars(String chars) {
+		for (int i = 0; i < chars.length(); i++) {
+			char c = chars.charAt(i);
+			if (c < 0x80 || lookup(c) != 0) {
+				continue;
+			}
+			byte[] bytes = String.valueOf(c).getBytes(GBK);
+			if (bytes.length != 2) {
+				continue;
+			}
+			int index = (c * 31) & CHAR_TABLE_MASK;
+			while (CHAR_KEYS[index] != 0) {
+				index = (index + 1) & CHAR_TABLE_MASK;
+			}
+			CHAR_KEYS[index] = c;
+			CHAR_CODES[index] = (char) (((bytes[0] & 0xFF) << 8) | (bytes[1] & 0xFF));
+		}
+	}
+
+	private static byte[] scratch(int size) {
+		byte[] scratch = SCRATCH.get();
+		if (scratch.length >= size) {
+			return scratch;
+		}
+		if (size > MAX_SCRATCH_SIZE) {
+			return new byte[size];
+		}
+		scratch = new byte[Math.min(Math.max(size, scratch.length * 2), MAX_SCRATCH_SIZE)];
+		SCRATCH.set(scratch);
+		return scratch;
+	}
+
+}
@@ -0,0 +1,190 @@
+package com.cqcloud.platform.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 十六进制编解码（查表实现）
+ * <p>
+ * 编码按字节查表一次得到两个字符，可写入 char[]、byte[]（ASCII）或 {@link ByteBuffer}；解码严格校验，遇到非十六进制字符或奇数长度抛出
+ * {@link IllegalArgumentException}。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class HexCodec {
+
+	private static final char[] UPPER_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private static final char[] LOWER_DIGITS = "0123456789abcdef".toCharArray();
+
+	// 每个字节对应的两个字符，下标为 b * 2
+	private static final char[] UPPER_PAIRS = new char[512];
+
+	private static final char[] LOWER_PAIRS = new char[512];
+
+	// 字符到半字节的映射，非法字符为 -1
+	private static final byte[] NIBBLES = new byte[128];
+
+	static {
+		for (int b = 0; b < 256; b++) {
+			UPPER_PAIRS[b << 1] = UPPER_DIGITS[b >>> 4];
+			UPPER_PAIRS[(b << 1) + 1] = UPPER_DIGITS[b & 0x0F];
+			LOWER_PAIRS[b << 1] = LOWER_DIGITS[b >>> 4];
+			LOWER_PAIRS[(b << 1) + 1] = LOWER_DIGITS[b & 0x0F];
+		}
+		Arrays.fill(NIBBLES, (byte) -1);
+		for (int i = 0; i < 16; i++) {
+			NIBBLES[UPPER_DIGITS[i]] = (byte) i;
+			NIBBLES[LOWER_DIGITS[i]] = (byte) i;
+		}
+	}
+
+	private HexCodec() {
+	}
+
+	/**
+	 * 编码为大写十六进制字符，写入 char 数组
+	 * @return 写入的字符数
+	 */
+	public static int encode(byte[] src, int off, int len, char[] dst, int dstOff) {
+		int j = dstOff;
+		for (int i = off, end = off + len; i < end; i++) {
+			int pair = (src[i] & 0xFF) << 1;
+			dst[j++] = UPPER_PAIRS[pair];
+			dst[j++] = UPPER_PAIRS[pair + 1];
+		}
+		return len << 1;
+	}
+
+	/**
+	 * 编码为大写十六进制ASCII字节，写入 byte 数组
+	 * @return 写入的字节数
+	 */
+	public static int encode(byte[] src, int off, int len, byte[] dst, int dstOff) {
+		int j = dstOff;
+		for (int i = off, end = off + len; i < end; i++) {
+			int pair = (src[i] & 0xFF) << 1;
+			dst[j++] = (byte) UPPER_PAIRS[pair];
+			dst[j++] = (byte) UPPER_PAIRS[pair + 1];
+		}
+		return len << 1;
+	}
+
+	/**
+	 * 编码为大写十六进制ASCII字节，写入 {@link ByteBuffer} 的当前位置
+	 * @return 写入的字节数
+	 */
+	public static int encode(byte[] src, int off, int len, ByteBuffer dst) {
+		if (dst.hasArray()) {
+			int written = encode(src, off, len, dst.array(), dst.arrayOffset() + dst.position());
+			dst.position(dst.position() + written);
+			return written;
+		}
+		for (int i = off, end = off + len; i < end; i++) {
+			int pair = (src[i] & 0xFF) << 1;
+			dst.put((byte) UPPER_PAIRS[pair]).put((byte) UPPER_PAIRS[pair + 1]);
+		}
+		return len << 1;
+	}
+
+	/**
+	 * 写入单个字节的两个大写十六进制字符
+	 */
+	public static void encodeByte(int b, char[] dst, int dstOff) {
+		int pair = (b & 0xFF) << 1;
+		dst[dstOff] = UPPER_PAIRS[pair];
+		dst[dstOff + 1] = UPPER_PAIRS[pair + 1];
+	}
+
+	/**
+	 * 追加单个字节的两个大写十六进制字符（取低8位）
+	 */
+	public static StringBuilder appendByte(StringBuilder sb, int b) {
+		int pair = (b & 0xFF) << 1;
+		return sb.append(UPPER_PAIRS[pair]).append(UPPER_PAIRS[pair + 1]);
+	}
+
+	/**
+	 * 字节数组转大写十六进制字符串
+	 */
+	public static String toHexString(byte[] src) {
+		return toHexString(src, 0, src.length, true);
+	}
+
+	/**
+	 * 字节数组转大写十六进制字符串
+	 */
+	public static String toHexString(byte[] src, int off, int len) {
+		return toHexString(src, off, len, true);
+	}
+
+	/**
+	 * 字节数组转十六进制字符串
+	 * @param upperCase 是否大写
+	 */
+	public static String toHexString(byte[] src, int off, int len, boolean upperCase) {
+		char[] pairs = upperCase ? UPPER_PAIRS : LOWER_PAIRS;
+		char[] chars = new char[len << 1];
+		for (int i = 0, j = 0; i < len; i++) {
+			int pair = (src[off + i] & 0xFF) << 1;
+			chars[j++] = pairs[pair];
+			chars[j++] = pairs[pair + 1];
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * 多个单字节数值转大写十六进制字符串（每个值取低8位）
+	 */
+	public static String toHexString(int... values) {
+		char[] chars = new char[values.length << 1];
+		for (int i = 0; i < values.length; i++) {
+			encodeByte(values[i], chars, i << 1);
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * 解码十六进制字符串
+	 * @throws IllegalArgumentException 为空、奇数长度或包含非十六进制字符
+	 */
+	public static byte[] decode(CharSequence hex) {
+		if (hex == null || (hex.length() & 1) != 0) {
+			throw new IllegalArgumentException("Invalid hex string");
+		}
+		byte[] bytes = new byte[hex.length() >> 1];
+		decode(hex, 0, hex.length(), bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * 解码十六进制字符并写入目标数组
+	 * @param hex 十六进制字符
+	 * @param off 起始位置
+	 * @param len 字符数（须为偶数）
+	 * @param dst 目标数组
+	 * @param dstOff 写入位置
+	 * @return 写入的字节数
+	 * @throws IllegalArgumentException 奇数长度或包含非十六进制字符
+	 */
+	public static int decode(CharSequence hex, int off, int len, byte[] dst, int dstOff) {
+		if ((len & 1) != 0) {
+			throw new IllegalArgumentException("Invalid hex string");
+		}
+		int j = dstOff;
+		for (int i = off, end = off + len; i < end; i += 2) {
+			dst[j++] = (byte) ((nibble(hex, i) << 4) | nibble(hex, i + 1));
+		}
+		return len >> 1;
+	}
+
+	private static int nibble(CharSequence hex, int index) {
+		char c = hex.charAt(index);
+		int value = c < 128 ? NIBBLES[c] : -1;
+		if (value < 0) {
+			throw new IllegalArgumentException("Invalid hex string: 非法字符 '" + c + "' 位于 " + index);
+		}
+		return value;
+	}
+
+}
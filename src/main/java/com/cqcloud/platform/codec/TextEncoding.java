@@ -0,0 +1,106 @@
+package com.cqcloud.platform.codec;
+
+import com.cqcloud.platform.utils.DisplayVoiceUtils.ScreenEnum;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 屏幕文本编码策略
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public enum TextEncoding {
+
+	/**
+	 * GBK编码（GB2312 WINDOWS代码页936），中文屏默认使用
+	 */
+	GBK {
+		@Override
+		public int encode(CharSequence text, byte[] dst, int off, int maxLength) {
+			return GbkCodec.encode(text, dst, off, maxLength);
+		}
+	},
+
+	/**
+	 * 纯ASCII，非ASCII字符替换为 '?'
+	 */
+	ASCII {
+		@Override
+		public int encode(CharSequence text, byte[] dst, int off, int maxLength) {
+			int limit = Math.min(off + maxLength, dst.length);
+			if (limit < off) {
+				return -1;
+			}
+			int pos = off;
+			int len = text.length();
+			for (int i = 0; i < len; i++) {
+				if (pos >= limit) {
+					return -1;
+				}
+				char c = text.charAt(i);
+				if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(text.charAt(i + 1))) {
+					i++;
+				}
+				dst[pos++] = c < 0x80 ? (byte) c : (byte) '?';
+			}
+			return pos - off;
+		}
+	};
+
+	private static final Object POLICY_LOCK = new Object();
+
+	// 写时复制：修改时整体替换，读取时不加锁
+	private static volatile Map<ScreenEnum, TextEncoding> screenPolicy = defaultPolicy();
+
+	/**
+	 * 编码并写入目标数组
+	 * @param text 文本
+	 * @param dst 目标数组
+	 * @param off 写入位置
+	 * @param maxLength 允许写入的最大字节数
+	 * @return 写入的字节数，超出 maxLength 或目标数组剩余空间时返回 -1
+	 */
+	public abstract int encode(CharSequence text, byte[] dst, int off, int maxLength);
+
+	/**
+	 * 编码为恰好长度的字节数组
+	 */
+	public byte[] encode(CharSequence text) {
+		if (this == GBK) {
+			return GbkCodec.encode(text);
+		}
+		byte[] bytes = new byte[text.length()];
+		return Arrays.copyOf(bytes, encode(text, bytes, 0, bytes.length));
+	}
+
+	/**
+	 * 获取屏幕类型对应的编码策略
+	 */
+	public static TextEncoding forScreen(ScreenEnum screen) {
+		TextEncoding encoding = screen != null ? screenPolicy.get(screen) : null;
+		return encoding != null ? encoding : GBK;
+	}
+
+	/**
+	 * 修改屏幕类型的默认编码策略
+	 */
+	public static void setScreenPolicy(ScreenEnum screen, TextEncoding encoding) {
+		synchronized (POLICY_LOCK) {
+			Map<ScreenEnum, TextEncoding> policy = new EnumMap<>(screenPolicy);
+			policy.put(screen, encoding);
+			screenPolicy = policy;
+		}
+	}
+
+	private static Map<ScreenEnum, TextEncoding> defaultPolicy() {
+		Map<ScreenEnum, TextEncoding> policy = new EnumMap<>(ScreenEnum.class);
+		// 所有屏幕类型的控制卡均按GBK解析中文
+		for (ScreenEnum screen : ScreenEnum.values()) {
+			policy.put(screen, GBK);
+		}
+		return policy;
+	}
+
+}
@@ -0,0 +1,330 @@
+package com.cqcloud.platform.codec;
+
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.metrics.EncodeMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TTS万能语音模板：模板只解析一次，固定文本预先编码为GBK，渲染时直接写出命令字节
+ * <p>
+ * 命令格式：FD 00 | 长度 | 01 01 | "TTS" + 文本（GBK），长度 = 文本字节数 + 6（"TTS"与3个固定参数字节），只占一个字节，文本超过
+ * {@link #MAX_TEXT_LENGTH} 字节时抛出 {@link IllegalArgumentException}。
+ * <p>
+ * 支持两种写法：{@link #compile(String)} 使用 {0}、{1} 作为占位符；{@link #compileFormat(String)} 支持
+ * %s、%d 和 %%。 整数参数直接写出十进制字符，文本参数直接编码，不拼接中间字符串。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class TtsTemplate {
+
+	/**
+	 * 命令头
+	 */
+	public static final int HEADER = 0xFD00;
+
+	/**
+	 * 长度字节之后的两个参数字节
+	 */
+	public static final int OPTIONS = 0x0101;
+
+	/**
+	 * 文本编码后的最大字节数，长度字节不超过 0xFF
+	 */
+	public static final int MAX_TEXT_LENGTH = 0xFF - 6;
+
+	private static final byte[] TTS_PREFIX = { 'T', 'T', 'S' };
+
+	// 命令头、长度、参数、"TTS"
+	private static final int OVERHEAD = 8;
+
+	// long 的十进制最大长度（含负号）
+	private static final int MAX_DIGITS = 20;
+
+	private static final byte[] NULL_TEXT = { 'n', 'u', 'l', 'l' };
+
+	// segments.length == slots.length + 1，渲染时依次输出 segments[0] slot[0] segments[1] ...
+	private final byte[][] segments;
+
+	private final int[] slots;
+
+	// {n} 占位符的原文，参数缺失时原样输出；%s/%d 时为 null
+	private final byte[][] placeholders;
+
+	// 'd' 要求整数参数，其余为文本
+	private final char[] conversions;
+
+	private final int constantLength;
+
+	private TtsTemplate(List<byte[]> segments, List<Integer> slots, List<byte[]> placeholders,
+			List<Character> conversions) {
+		this.segments = segments.toArray(new byte[0][]);
+		this.slots = new int[slots.size()];
+		this.placeholders = placeholders.toArray(new byte[0][]);
+		this.conversions = new char[conversions.size()];
+		int length = 0;
+		for (byte[] segment : this.segments) {
+			length += segment.length;
+		}
+		for (int i = 0; i < this.slots.length; i++) {
+			this.slots[i] = slots.get(i);
+			this.conversions[i] = conversions.get(i);
+		}
+		this.constantLength = length;
+	}
+
+	/**
+	 * 解析 {0}、{1} 形式的模板
+	 * @param template 模板
+	 * @return 模板
+	 */
+	public static TtsTemplate compile(String template) {
+		List<byte[]> segments = new ArrayList<>();
+		List<Integer> slots = new ArrayList<>();
+		List<byte[]> placeholders = new ArrayList<>();
+		List<Character> conversions = new ArrayList<>();
+		int start = 0;
+		int i = 0;
+		while (i < template.length()) {
+			int end = placeholderEnd(template, i);
+			if (end < 0) {
+				i++;
+				continue;
+			}
+			segments.add(GbkCodec.encode(template.substring(start, i)));
+			slots.add(Integer.parseInt(template.substring(i + 1, end - 1)));
+			placeholders.add(GbkCodec.encode(template.substring(i, end)));
+			conversions.add('s');
+			start = i = end;
+		}
+		segments.add(GbkCodec.encode(template.substring(start)));
+		return new TtsTemplate(segments, slots, placeholders, conversions);
+	}
+
+	/**
+	 * 解析只含 %s、%d、%% 的格式字符串
+	 * @param format 格式字符串
+	 * @return 模板；含其他格式说明符时返回 null，调用方应改用 {@link String#format(String, Object...)}
+	 */
+	public static TtsTemplate compileFormat(String format) {
+		List<byte[]> segments = new ArrayList<>();
+		List<Integer> slots = new ArrayList<>();
+		List<byte[]> placeholders = new ArrayList<>();
+		List<Character> conversions = new ArrayList<>();
+		StringBuilder constant = new StringBuilder();
+		for (int i = 0; i < format.length(); i++) {
+			char c = format.charAt(i);
+			if (c != '%') {
+				constant.append(c);
+				continue;
+			}
+			char conversion = ++i < format.length() ? format.charAt(i) : 0;
+			if (conversion == '%') {
+				constant.append('%');
+			}
+			else if (conversion == 's' || conversion == 'd') {
+				segments.add(GbkCodec.encode(constant));
+				constant.setLength(0);
+				slots.add(slots.size());
+				placeholders.add(null);
+				conversions.add(conversion);
+			}
+			else {
+				return null;
+			}
+		}
+		segments.add(GbkCodec.encode(constant));
+		return new TtsTemplate(segments, slots, placeholders, conversions);
+	}
+
+	/**
+	 * 参数是否满足模板要求（%s/%d 的个数及 %d 的类型），不满足时应改用 {@link String#format(String, Object...)}
+	 */
+	public boolean accepts(Object... values) {
+		for (int i = 0; i < slots.length; i++) {
+			if (placeholders[i] != null) {
+				continue;
+			}
+			if (slots[i] >= values.length) {
+				return false;
+			}
+			if (conversions[i] == 'd' && !isInteger(values[slots[i]])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 渲染后可能的最大字节数
+	 */
+	public int maxLength(Object... values) {
+		int length = OVERHEAD + constantLength;
+		for (int i = 0; i < slots.length; i++) {
+			int slot = slots[i];
+			if (slot >= values.length) {
+				length += placeholders[i] != null ? placeholders[i].length : 0;
+			}
+			else {
+				length += maxValueLength(values[slot]);
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * 渲染到目标数组
+	 * @param dst 目标数组，剩余空间须不小于 {@link #maxLength(Object...)}
+	 * @param off 写入位置
+	 * @param values 参数
+	 * @return 写入的字节数
+	 */
+	public int render(byte[] dst, int off, Object... values) {
+		long start = EncodeMetrics.start();
+		int pos = writeHeader(dst, off);
+		for (int i = 0; i < slots.length; i++) {
+			pos = put(segments[i], dst, pos);
+			int slot = slots[i];
+			if (slot >= values.length) {
+				if (placeholders[i] == null) {
+					throw new IllegalArgumentException("缺少参数: " + slot);
+				}
+				pos = put(placeholders[i], dst, pos);
+			}
+			else {
+				pos = writeValue(values[slot], dst, pos);
+			}
+		}
+		pos = put(segments[slots.length], dst, pos);
+		return finish(dst, off, pos, start);
+	}
+
+	/**
+	 * 渲染为恰好长度的字节数组
+	 */
+	public byte[] render(Object... values) {
+		BufferPool pool = BufferPool.shared();
+		byte[] buffer = pool.acquire(maxLength(values));
+		try {
+			return Arrays.copyOf(buffer, render(buffer, 0, values));
+		}
+		finally {
+			pool.release(buffer);
+		}
+	}
+
+	/**
+	 * 渲染为十六进制字符串（大写）
+	 */
+	public String renderHex(Object... values) {
+		BufferPool pool = BufferPool.shared();
+		byte[] buffer = pool.acquire(maxLength(values));
+		try {
+			return HexCodec.toHexString(buffer, 0, render(buffer, 0, values));
+		}
+		finally {
+			pool.release(buffer);
+		}
+	}
+
+	/**
+	 * 直接编码一段文本为TTS命令（十六进制，大写）
+	 * @param text 播报文本，null按 "null" 处理
+	 */
+	public static String encodeHex(CharSequence text) {
+		int capacity = OVERHEAD + (text != null ? GbkCodec.maxEncodedLength(text.length()) : NULL_TEXT.length);
+		long start = EncodeMetrics.start();
+		BufferPool pool = BufferPool.shared();
+		byte[] buffer = pool.acquire(capacity);
+		try {
+			int pos = writeValue(text, buffer, writeHeader(buffer, 0));
+			return HexCodec.toHexString(buffer, 0, finish(buffer, 0, pos, start));
+		}
+		finally {
+			pool.release(buffer);
+		}
+	}
+
+	private static int writeHeader(byte[] dst, int off) {
+		dst[off] = (byte) (HEADER >> 8);
+		dst[off + 1] = (byte) HEADER;
+		// off + 2 为长度，文本写完后回填
+		dst[off + 3] = (byte) (OPTIONS >> 8);
+		dst[off + 4] = (byte) OPTIONS;
+		System.arraycopy(TTS_PREFIX, 0, dst, off + 5, TTS_PREFIX.length);
+		return off + OVERHEAD;
+	}
+
+	private static int finish(byte[] dst, int off, int end, long start) {
+		int textLength = end - off - OVERHEAD;
+		if (textLength > MAX_TEXT_LENGTH) {
+			throw new IllegalArgumentException("TTS文本过长: " + textLength + " 字节，最多 " + MAX_TEXT_LENGTH + " 字节");
+		}
+		// 长度 = "TTS"+文本字节数 + 3个固定参数字节
+		dst[off + 2] = (byte) (textLength + TTS_PREFIX.length + 3);
+		EncodeMetrics.record(EncodeMetrics.TTS, end - off, start);
+		return end - off;
+	}
+
+	private static int put(byte[] bytes, byte[] dst, int pos) {
+		System.arraycopy(bytes, 0, dst, pos, bytes.length);
+		return pos + bytes.length;
+	}
+
+	private static int maxValueLength(Object value) {
+		if (isInteger(value)) {
+			return MAX_DIGITS;
+		}
+		if (value instanceof CharSequence) {
+			return GbkCodec.maxEncodedLength(((CharSequence) value).length());
+		}
+		return value == null ? NULL_TEXT.length : GbkCodec.maxEncodedLength(String.valueOf(value).length());
+	}
+
+	private static int writeValue(Object value, byte[] dst, int pos) {
+		if (isInteger(value)) {
+			return writeDigits(((Number) value).longValue(), dst, pos);
+		}
+		if (value == null) {
+			return put(NULL_TEXT, dst, pos);
+		}
+		CharSequence text = value instanceof CharSequence ? (CharSequence) value : String.valueOf(value);
+		return pos + GbkCodec.encode(text, dst, pos);
+	}
+
+	private static int writeDigits(long value, byte[] dst, int pos) {
+		if (value < 0) {
+			dst[pos++] = '-';
+		}
+		int count = 1;
+		for (long t = value / 10; t != 0; t /= 10) {
+			count++;
+		}
+		for (int i = pos + count - 1; i >= pos; i--) {
+			dst[i] = (byte) ('0' + Math.abs(value % 10));
+			value /= 10;
+		}
+		return pos + count;
+	}
+
+	private static boolean isInteger(Object value) {
+		return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+	}
+
+	// {数字} 的结束位置（不含），不是占位符时返回 -1
+	private static int placeholderEnd(String template, int i) {
+		if (template.charAt(i) != '{') {
+			return -1;
+		}
+		int j = i + 1;
+		while (j < template.length() && template.charAt(j) >= '0' && template.charAt(j) <= '9') {
+			j++;
+		}
+		// 与 replace("{" + n + "}") 一致：不接受前导0
+		boolean digits = j > i + 1 && j - i <= 10 && (template.charAt(i + 1) != '0' || j == i + 2);
+		return digits && j < template.length() && template.charAt(j) == '}' ? j + 1 : -1;
+	}
+
+}
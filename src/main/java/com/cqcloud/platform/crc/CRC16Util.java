@@ -1,99 +1,296 @@
 package com.cqcloud.platform.crc;
 
+import java.nio.ByteBuffer;
+
 /**
- * CRC16校验工具类
+ * CRC16校验工具类（Modbus CRC16，全库共用的查表引擎）
+ * <p>
+ * 结果的高字节为 ucCRCHi、低字节为 ucCRCLo，与各协议原有的 usMBCRC16 / getCRC3 / calculateCRC16 结果一致。
+ * 短数据逐字节查表，长数据（二维码、TTS等）使用 slicing-by-8，每次处理8个字节。
  */
 public class CRC16Util {
 
+	/**
+	 * CRC初始值
+	 */
+	public static final int INITIAL = 0xFFFF;
+
+	/**
+	 * 达到该长度后使用 slicing-by-8
+	 */
+	public static final int SLICING_THRESHOLD = 16;
+
+	// CRC16查找表（高位/低位）
+	private static final byte[] crc16_h = { (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01,
+			(byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00,
+			(byte) 0xC1, (byte) 0x81, (byte) 0x40 };
+
+	private static final byte[] crc16_l = { (byte) 0x00, (byte) 0xC0, (byte) 0xC1, (byte) 0x01, (byte) 0xC3,
+			(byte) 0x03, (byte) 0x02, (byte) 0xC2, (byte) 0xC6, (byte) 0x06, (byte) 0x07, (byte) 0xC7, (byte) 0x05,
+			(byte) 0xC5, (byte) 0xC4, (byte) 0x04, (byte) 0xCC, (byte) 0x0C, (byte) 0x0D, (byte) 0xCD, (byte) 0x0F,
+			(byte) 0xCF, (byte) 0xCE, (byte) 0x0E, (byte) 0x0A, (byte) 0xCA, (byte) 0xCB, (byte) 0x0B, (byte) 0xC9,
+			(byte) 0x09, (byte) 0x08, (byte) 0xC8, (byte) 0xD8, (byte) 0x18, (byte) 0x19, (byte) 0xD9, (byte) 0x1B,
+			(byte) 0xDB, (byte) 0xDA, (byte) 0x1A, (byte) 0x1E, (byte) 0xDE, (byte) 0xDF, (byte) 0x1F, (byte) 0xDD,
+			(byte) 0x1D, (byte) 0x1C, (byte) 0xDC, (byte) 0x14, (byte) 0xD4, (byte) 0xD5, (byte) 0x15, (byte) 0xD7,
+			(byte) 0x17, (byte) 0x16, (byte) 0xD6, (byte) 0xD2, (byte) 0x12, (byte) 0x13, (byte) 0xD3, (byte) 0x11,
+			(byte) 0xD1, (byte) 0xD0, (byte) 0x10, (byte) 0xF0, (byte) 0x30, (byte) 0x31, (byte) 0xF1, (byte) 0x33,
+			(byte) 0xF3, (byte) 0xF2, (byte) 0x32, (byte) 0x36, (byte) 0xF6, (byte) 0xF7, (byte) 0x37, (byte) 0xF5,
+			(byte) 0x35, (byte) 0x34, (byte) 0xF4, (byte) 0x3C, (byte) 0xFC, (byte) 0xFD, (byte) 0x3D, (byte) 0xFF,
+			(byte) 0x3F, (byte) 0x3E, (byte) 0xFE, (byte) 0xFA, (byte) 0x3A, (byte) 0x3B, (byte) 0xFB, (byte) 0x39,
+			(byte) 0xF9, (byte) 0xF8, (byte) 0x38, (byte) 0x28, (byte) 0xE8, (byte) 0xE9, (byte) 0x29, (byte) 0xEB,
+			(byte) 0x2B, (byte) 0x2A, (byte) 0xEA, (byte) 0xEE, (byte) 0x2E, (byte) 0x2F, (byte) 0xEF, (byte) 0x2D,
+			(byte) 0xED, (byte) 0xEC, (byte) 0x2C, (byte) 0xE4, (byte) 0x24, (byte) 0x25, (byte) 0xE5, (byte) 0x27,
+			(byte) 0xE7, (byte) 0xE6, (byte) 0x26, (byte) 0x22, (byte) 0xE2, (byte) 0xE3, (byte) 0x23, (byte) 0xE1,
+			(byte) 0x21, (byte) 0x20, (byte) 0xE0, (byte) 0xA0, (byte) 0x60, (byte) 0x61, (byte) 0xA1, (byte) 0x63,
+			(byte) 0xA3, (byte) 0xA2, (byte) 0x62, (byte) 0x66, (byte) 0xA6, (byte) 0xA7, (byte) 0x67, (byte) 0xA5,
+			(byte) 0x65, (byte) 0x64, (byte) 0xA4, (byte) 0x6C, (byte) 0xAC, (byte) 0xAD, (byte) 0x6D, (byte) 0xAF,
+			(byte) 0x6F, (byte) 0x6E, (byte) 0xAE, (byte) 0xAA, (byte) 0x6A, (byte) 0x6B, (byte) 0xAB, (byte) 0x69,
+			(byte) 0xA9, (byte) 0xA8, (byte) 0x68, (byte) 0x78, (byte) 0xB8, (byte) 0xB9, (byte) 0x79, (byte) 0xBB,
+			(byte) 0x7B, (byte) 0x7A, (byte) 0xBA, (byte) 0xBE, (byte) 0x7E, (byte) 0x7F, (byte) 0xBF, (byte) 0x7D,
+			(byte) 0xBD, (byte) 0xBC, (byte) 0x7C, (byte) 0xB4, (byte) 0x74, (byte) 0x75, (byte) 0xB5, (byte) 0x77,
+			(byte) 0xB7, (byte) 0xB6, (byte) 0x76, (byte) 0x72, (byte) 0xB2, (byte) 0xB3, (byte) 0x73, (byte) 0xB1,
+			(byte) 0x71, (byte) 0x70, (byte) 0xB0, (byte) 0x50, (byte) 0x90, (byte) 0x91, (byte) 0x51, (byte) 0x93,
+			(byte) 0x53, (byte) 0x52, (byte) 0x92, (byte) 0x96, (byte) 0x56, (byte) 0x57, (byte) 0x97, (byte) 0x55,
+			(byte) 0x95, (byte) 0x94, (byte) 0x54, (byte) 0x9C, (byte) 0x5C, (byte) 0x5D, (byte) 0x9D, (byte) 0x5F,
+			(byte) 0x9F, (byte) 0x9E, (byte) 0x5E, (byte) 0x5A, (byte) 0x9A, (byte) 0x9B, (byte) 0x5B, (byte) 0x99,
+			(byte) 0x59, (byte) 0x58, (byte) 0x98, (byte) 0x88, (byte) 0x48, (byte) 0x49, (byte) 0x89, (byte) 0x4B,
+			(byte) 0x8B, (byte) 0x8A, (byte) 0x4A, (byte) 0x4E, (byte) 0x8E, (byte) 0x8F, (byte) 0x4F, (byte) 0x8D,
+			(byte) 0x4D, (byte) 0x4C, (byte) 0x8C, (byte) 0x44, (byte) 0x84, (byte) 0x85, (byte) 0x45, (byte) 0x87,
+			(byte) 0x47, (byte) 0x46, (byte) 0x86, (byte) 0x82, (byte) 0x42, (byte) 0x43, (byte) 0x83, (byte) 0x41,
+			(byte) 0x81, (byte) 0x80, (byte) 0x40 };
+
+	/**
+	 * 合并后的查表：TABLE[0] 为逐字节表，TABLE[k] 为 slicing-by-N 的第k张表
+	 */
+	private static final int[][] TABLE = new int[8][256];
+
+	static {
+		for (int n = 0; n < 256; n++) {
+			TABLE[0][n] = ((crc16_l[n] & 0x00ff) << 8) | (crc16_h[n] & 0x00ff);
+		}
+		for (int k = 1; k < 8; k++) {
+			for (int n = 0; n < 256; n++) {
+				int prev = TABLE[k - 1][n];
+				TABLE[k][n] = (prev >>> 8) ^ TABLE[0][prev & 0x00ff];
+			}
+		}
+	}
+
+	/**
+	 * 连续 2^k 个 0x00 字节对CRC状态的线性变换，ZEROS[k][i] 为第i位单独置1时的结果
+	 */
+	private static final int[][] ZEROS = new int[31][16];
+
+	static {
+		for (int i = 0; i < 16; i++) {
+			ZEROS[0][i] = update(1 << i, 0);
+		}
+		for (int k = 1; k < ZEROS.length; k++) {
+			for (int i = 0; i < 16; i++) {
+				ZEROS[k][i] = apply(ZEROS[k - 1], ZEROS[k - 1][i]);
+			}
+		}
+	}
+
 	/**
 	 * @param data 需要校验的数组
 	 * @param Pos 需要计算的数组长度
 	 * @return
 	 */
 	public static int getCRC3(byte[] data, int Pos) {
+		// 高低位互换，输出符合相关工具对Modbus CRC16的运算
+		// crc = ( (crc & 0xFF00) >> 8) | ( (crc & 0x00FF ) << 8);
+		return update(INITIAL, data, 0, Pos);
+	}
 
-		byte[] crc16_h = { (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81, (byte) 0x40, (byte) 0x01, (byte) 0xC0, (byte) 0x80,
-				(byte) 0x41, (byte) 0x01, (byte) 0xC0, (byte) 0x80, (byte) 0x41, (byte) 0x00, (byte) 0xC1, (byte) 0x81,
-				(byte) 0x40 };
-
-		byte[] crc16_l = { (byte) 0x00, (byte) 0xC0, (byte) 0xC1, (byte) 0x01, (byte) 0xC3, (byte) 0x03, (byte) 0x02,
-				(byte) 0xC2, (byte) 0xC6, (byte) 0x06, (byte) 0x07, (byte) 0xC7, (byte) 0x05, (byte) 0xC5, (byte) 0xC4,
-				(byte) 0x04, (byte) 0xCC, (byte) 0x0C, (byte) 0x0D, (byte) 0xCD, (byte) 0x0F, (byte) 0xCF, (byte) 0xCE,
-				(byte) 0x0E, (byte) 0x0A, (byte) 0xCA, (byte) 0xCB, (byte) 0x0B, (byte) 0xC9, (byte) 0x09, (byte) 0x08,
-				(byte) 0xC8, (byte) 0xD8, (byte) 0x18, (byte) 0x19, (byte) 0xD9, (byte) 0x1B, (byte) 0xDB, (byte) 0xDA,
-				(byte) 0x1A, (byte) 0x1E, (byte) 0xDE, (byte) 0xDF, (byte) 0x1F, (byte) 0xDD, (byte) 0x1D, (byte) 0x1C,
-				(byte) 0xDC, (byte) 0x14, (byte) 0xD4, (byte) 0xD5, (byte) 0x15, (byte) 0xD7, (byte) 0x17, (byte) 0x16,
-				(byte) 0xD6, (byte) 0xD2, (byte) 0x12, (byte) 0x13, (byte) 0xD3, (byte) 0x11, (byte) 0xD1, (byte) 0xD0,
-				(byte) 0x10, (byte) 0xF0, (byte) 0x30, (byte) 0x31, (byte) 0xF1, (byte) 0x33, (byte) 0xF3, (byte) 0xF2,
-				(byte) 0x32, (byte) 0x36, (byte) 0xF6, (byte) 0xF7, (byte) 0x37, (byte) 0xF5, (byte) 0x35, (byte) 0x34,
-				(byte) 0xF4, (byte) 0x3C, (byte) 0xFC, (byte) 0xFD, (byte) 0x3D, (byte) 0xFF, (byte) 0x3F, (byte) 0x3E,
-				(byte) 0xFE, (byte) 0xFA, (byte) 0x3A, (byte) 0x3B, (byte) 0xFB, (byte) 0x39, (byte) 0xF9, (byte) 0xF8,
-				(byte) 0x38, (byte) 0x28, (byte) 0xE8, (byte) 0xE9, (byte) 0x29, (byte) 0xEB, (byte) 0x2B, (byte) 0x2A,
-				(byte) 0xEA, (byte) 0xEE, (byte) 0x2E, (byte) 0x2F, (byte) 0xEF, (byte) 0x2D, (byte) 0xED, (byte) 0xEC,
-				(byte) 0x2C, (byte) 0xE4, (byte) 0x24, (byte) 0x25, (byte) 0xE5, (byte) 0x27, (byte) 0xE7, (byte) 0xE6,
-				(byte) 0x26, (byte) 0x22, (byte) 0xE2, (byte) 0xE3, (byte) 0x23, (byte) 0xE1, (byte) 0x21, (byte) 0x20,
-				(byte) 0xE0, (byte) 0xA0, (byte) 0x60, (byte) 0x61, (byte) 0xA1, (byte) 0x63, (byte) 0xA3, (byte) 0xA2,
-				(byte) 0x62, (byte) 0x66, (byte) 0xA6, (byte) 0xA7, (byte) 0x67, (byte) 0xA5, (byte) 0x65, (byte) 0x64,
-				(byte) 0xA4, (byte) 0x6C, (byte) 0xAC, (byte) 0xAD, (byte) 0x6D, (byte) 0xAF, (byte) 0x6F, (byte) 0x6E,
-				(byte) 0xAE, (byte) 0xAA, (byte) 0x6A, (byte) 0x6B, (byte) 0xAB, (byte) 0x69, (byte) 0xA9, (byte) 0xA8,
-				(byte) 0x68, (byte) 0x78, (byte) 0xB8, (byte) 0xB9, (byte) 0x79, (byte) 0xBB, (byte) 0x7B, (byte) 0x7A,
-				(byte) 0xBA, (byte) 0xBE, (byte) 0x7E, (byte) 0x7F, (byte) 0xBF, (byte) 0x7D, (byte) 0xBD, (byte) 0xBC,
-				(byte) 0x7C, (byte) 0xB4, (byte) 0x74, (byte) 0x75, (byte) 0xB5, (byte) 0x77, (byte) 0xB7, (byte) 0xB6,
-				(byte) 0x76, (byte) 0x72, (byte) 0xB2, (byte) 0xB3, (byte) 0x73, (byte) 0xB1, (byte) 0x71, (byte) 0x70,
-				(byte) 0xB0, (byte) 0x50, (byte) 0x90, (byte) 0x91, (byte) 0x51, (byte) 0x93, (byte) 0x53, (byte) 0x52,
-				(byte) 0x92, (byte) 0x96, (byte) 0x56, (byte) 0x57, (byte) 0x97, (byte) 0x55, (byte) 0x95, (byte) 0x94,
-				(byte) 0x54, (byte) 0x9C, (byte) 0x5C, (byte) 0x5D, (byte) 0x9D, (byte) 0x5F, (byte) 0x9F, (byte) 0x9E,
-				(byte) 0x5E, (byte) 0x5A, (byte) 0x9A, (byte) 0x9B, (byte) 0x5B, (byte) 0x99, (byte) 0x59, (byte) 0x58,
-				(byte) 0x98, (byte) 0x88, (byte) 0x48, (byte) 0x49, (byte) 0x89, (byte) 0x4B, (byte) 0x8B, (byte) 0x8A,
-				(byte) 0x4A, (byte) 0x4E, (byte) 0x8E, (byte) 0x8F, (byte) 0x4F, (byte) 0x8D, (byte) 0x4D, (byte) 0x4C,
-				(byte) 0x8C, (byte) 0x44, (byte) 0x84, (byte) 0x85, (byte) 0x45, (byte) 0x87, (byte) 0x47, (byte) 0x46,
-				(byte) 0x86, (byte) 0x82, (byte) 0x42, (byte) 0x43, (byte) 0x83, (byte) 0x41, (byte) 0x81, (byte) 0x80,
-				(byte) 0x40 };
-
-		int crc = 0x0000ffff;
-		int ucCRCHi = 0x00ff;
-		int ucCRCLo = 0x00ff;
-		int iIndex;
-		for (int i = 0; i < Pos; ++i) {
-			iIndex = (ucCRCLo ^ data[i]) & 0x00ff;
-			ucCRCLo = ucCRCHi ^ crc16_h[iIndex];
-			ucCRCHi = crc16_l[iIndex];
+	/**
+	 * 计算整段数据的CRC
+	 * @param data 数据
+	 * @param off 起始位置
+	 * @param len 长度
+	 * @return CRC
+	 */
+	public static int compute(byte[] data, int off, int len) {
+		return update(INITIAL, data, off, len);
+	}
+
+	/**
+	 * 增量计算CRC，可对同一帧分段多次调用
+	 * @param crc 上一次的结果，首次传入{@link #INITIAL}
+	 * @param data 数据
+	 * @param off 起始位置
+	 * @param len 长度
+	 * @return 更新后的CRC（高字节为ucCRCHi，低字节为ucCRCLo）
+	 */
+	public static int update(int crc, byte[] data, int off, int len) {
+		if (len >= SLICING_THRESHOLD) {
+			return updateSlicing8(crc, data, off, len);
 		}
+		return updateBytewise(crc, data, off, len);
+	}
 
-		crc = ((ucCRCHi & 0x00ff) << 8) | (ucCRCLo & 0x00ff) & 0xffff;
-		// 高低位互换，输出符合相关工具对Modbus CRC16的运算
-		// crc = ( (crc & 0xFF00) >> 8) | ( (crc & 0x00FF ) << 8);
+	/**
+	 * 增量计算CRC，按绝对位置读取，不改变缓冲区的position
+	 * @param crc 上一次的结果
+	 * @param buf 数据缓冲区（堆内或直接内存）
+	 * @param off 起始位置
+	 * @param len 长度
+	 * @return 更新后的CRC
+	 */
+	public static int update(int crc, ByteBuffer buf, int off, int len) {
+		if (buf.hasArray()) {
+			return update(crc, buf.array(), buf.arrayOffset() + off, len);
+		}
+		int[] t0 = TABLE[0];
+		int i = off;
+		int end = off + len;
+		if (len >= SLICING_THRESHOLD) {
+			int[] t1 = TABLE[1], t2 = TABLE[2], t3 = TABLE[3], t4 = TABLE[4], t5 = TABLE[5], t6 = TABLE[6],
+					t7 = TABLE[7];
+			for (int limit = end - 7; i < limit; i += 8) {
+				crc ^= (buf.get(i) & 0xff) | ((buf.get(i + 1) & 0xff) << 8);
+				crc = t7[crc & 0xff] ^ t6[crc >>> 8] ^ t5[buf.get(i + 2) & 0xff] ^ t4[buf.get(i + 3) & 0xff]
+						^ t3[buf.get(i + 4) & 0xff] ^ t2[buf.get(i + 5) & 0xff] ^ t1[buf.get(i + 6) & 0xff]
+						^ t0[buf.get(i + 7) & 0xff];
+			}
+		}
+		for (; i < end; i++) {
+			crc = (crc >>> 8) ^ t0[(crc ^ buf.get(i)) & 0xff];
+		}
 		return crc;
 	}
 
+	/**
+	 * 增量计算单个字节的CRC
+	 * @param crc 上一次的结果
+	 * @param b 数据字节
+	 * @return 更新后的CRC
+	 */
+	public static int update(int crc, int b) {
+		return (crc >>> 8) ^ TABLE[0][(crc ^ b) & 0xff];
+	}
+
+	/**
+	 * 逐字节查表
+	 */
+	public static int updateBytewise(int crc, byte[] data, int off, int len) {
+		int[] t0 = TABLE[0];
+		for (int i = off, end = off + len; i < end; i++) {
+			crc = (crc >>> 8) ^ t0[(crc ^ data[i]) & 0xff];
+		}
+		return crc;
+	}
+
+	/**
+	 * slicing-by-4，每次处理4个字节
+	 */
+	public static int updateSlicing4(int crc, byte[] data, int off, int len) {
+		int[] t0 = TABLE[0], t1 = TABLE[1], t2 = TABLE[2], t3 = TABLE[3];
+		int i = off;
+		int end = off + len;
+		for (int limit = end - 3; i < limit; i += 4) {
+			crc ^= (data[i] & 0xff) | ((data[i + 1] & 0xff) << 8);
+			crc = t3[crc & 0xff] ^ t2[crc >>> 8] ^ t1[data[i + 2] & 0xff] ^ t0[data[i + 3] & 0xff];
+		}
+		return updateBytewise(crc, data, i, end - i);
+	}
+
+	/**
+	 * slicing-by-8，每次处理8个字节
+	 */
+	public static int updateSlicing8(int crc, byte[] data, int off, int len) {
+		int[] t0 = TABLE[0], t1 = TABLE[1], t2 = TABLE[2], t3 = TABLE[3], t4 = TABLE[4], t5 = TABLE[5], t6 = TABLE[6],
+				t7 = TABLE[7];
+		int i = off;
+		int end = off + len;
+		for (int limit = end - 7; i < limit; i += 8) {
+			crc ^= (data[i] & 0xff) | ((data[i + 1] & 0xff) << 8);
+			crc = t7[crc & 0xff] ^ t6[crc >>> 8] ^ t5[data[i + 2] & 0xff] ^ t4[data[i + 3] & 0xff]
+					^ t3[data[i + 4] & 0xff] ^ t2[data[i + 5] & 0xff] ^ t1[data[i + 6] & 0xff] ^ t0[data[i + 7] & 0xff];
+		}
+		return updateBytewise(crc, data, i, end - i);
+	}
+
+	/**
+	 * 计算CRC状态在其后追加 n 个 0x00 字节后的值，耗时与 n 的二进制位数成正比
+	 * <p>
+	 * CRC对状态和数据都是线性的，因此 update(s, B) == shift(s, B.length) ^ update(0, B)。
+	 * 同一段数据前面拼接不同的字节时，可以只计算一次 update(0, B)，再用本方法合并。
+	 * @param crc CRC状态
+	 * @param zeroBytes 追加的 0x00 字节数
+	 * @return 更新后的CRC
+	 */
+	public static int shift(int crc, int zeroBytes) {
+		if (zeroBytes < 0) {
+			throw new IllegalArgumentException("字节数不能为负: " + zeroBytes);
+		}
+		for (int k = 0; zeroBytes != 0; k++, zeroBytes >>>= 1) {
+			if ((zeroBytes & 1) != 0) {
+				crc = apply(ZEROS[k], crc);
+			}
+		}
+		return crc;
+	}
+
+	/**
+	 * 生成 {@link #shift(int, int)} 的查表，批量合并时每帧只需两次查表
+	 * <p>
+	 * 结果长度为512：shift(crc, n) == table[crc &amp; 0xff] ^ table[256 + (crc &gt;&gt;&gt; 8)]
+	 * @param zeroBytes 追加的 0x00 字节数
+	 * @return 查表
+	 */
+	public static int[] shiftTable(int zeroBytes) {
+		int[] table = new int[512];
+		for (int bit = 0; bit < 8; bit++) {
+			int lo = shift(1 << bit, zeroBytes);
+			int hi = shift(1 << (bit + 8), zeroBytes);
+			int step = 1 << bit;
+			for (int n = step; n < step << 1; n++) {
+				table[n] = table[n - step] ^ lo;
+				table[256 + n] = table[256 + n - step] ^ hi;
+			}
+		}
+		return table;
+	}
+
+	private static int apply(int[] operator, int crc) {
+		int result = 0;
+		for (int i = 0; crc != 0; i++, crc >>>= 1) {
+			if ((crc & 1) != 0) {
+				result ^= operator[i];
+			}
+		}
+		return result;
+	}
+
 }
@@ -0,0 +1,149 @@
+package com.cqcloud.platform.frame;
+
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.crc.CRC16Util;
+import com.cqcloud.platform.jfr.FrameEncodeEvent;
+import com.cqcloud.platform.metrics.EncodeMetrics;
+
+/**
+ * 批量帧编码：同一命令、同一数据发往多个设备，各帧只有流水号和地址不同
+ * <p>
+ * 第一帧完整编码后作为模板，其余帧复制模板并只改写流水号、地址和CRC。地址之后的内容各帧相同，其CRC只计算一次， 再通过
+ * {@link CRC16Util#shiftTable(int)} 与每帧前缀的CRC状态合并，每帧的CRC开销与数据长度无关。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class BatchFrameEncoder {
+
+	// 流水号、地址在帧中的位置
+	private static final int SERIAL_OFFSET = 2;
+
+	private static final int ADDRESS_OFFSET = 3;
+
+	// 帧头 AA55 之后的CRC状态（DisplayVoiceUtils 数据包的CRC从帧头开始计算）
+	private static final int PACKET_HEADER_CRC = CRC16Util
+		.update(CRC16Util.update(CRC16Util.INITIAL, FrameEncoder.HEADER_1), FrameEncoder.HEADER_2);
+
+	private BatchFrameEncoder() {
+	}
+
+	/**
+	 * 批量编码RS485帧（与 {@link FrameEncoder} 格式相同：CRC从流水号开始，补两个00，高字节在前）
+	 * @param serials 各帧流水号
+	 * @param addresses 各帧设备地址，长度须与 serials 相同
+	 * @param command 命令码
+	 * @param payload 数据，可为null
+	 * @return 连续存放的帧
+	 */
+	public static FrameBatch encode(int[] serials, int[] addresses, int command, byte[] payload) {
+		return encode(serials, addresses, command, payload, false);
+	}
+
+	/**
+	 * 批量编码显示语音控制卡数据包（与 DisplayVoiceUtils.buildPacket 格式相同：CRC从帧头开始，低字节在前）
+	 * @param serials 各帧流水号
+	 * @param addresses 各帧设备地址，长度须与 serials 相同
+	 * @param command 命令码
+	 * @param payload 数据，可为null
+	 * @return 连续存放的数据包
+	 */
+	public static FrameBatch encodePackets(int[] serials, int[] addresses, int command, byte[] payload) {
+		return encode(serials, addresses, command, payload, true);
+	}
+
+	/**
+	 * 由十六进制数据批量编码RS485帧，返回各帧的十六进制字符串
+	 * <p>
+	 * 模板帧只转换一次十六进制，其余帧复制字符后改写流水号、地址和CRC对应的字符。
+	 * @param serials 各帧流水号
+	 * @param addresses 各帧设备地址
+	 * @param command 命令码
+	 * @param hexPayload 十六进制数据
+	 * @return 各帧十六进制字符串（大写）
+	 */
+	public static String[] encodeHex(int[] serials, int[] addresses, int command, CharSequence hexPayload) {
+		byte[] payload = hexPayload == null || hexPayload.length() == 0 ? null : HexCodec.decode(hexPayload);
+		FrameBatch batch = encode(serials, addresses, command, payload, false);
+		String[] frames = new String[batch.size()];
+		if (frames.length == 0) {
+			return frames;
+		}
+		int crcOffset = batch.getLength(0) - 3;
+		byte[] buffer = batch.buffer();
+		char[] template = batch.toHex(0).toCharArray();
+		frames[0] = new String(template);
+		for (int i = 1; i < frames.length; i++) {
+			int off = batch.getOffset(i);
+			HexCodec.encode(buffer, off + SERIAL_OFFSET, 2, template, SERIAL_OFFSET << 1);
+			HexCodec.encode(buffer, off + crcOffset, 2, template, crcOffset << 1);
+			frames[i] = new String(template);
+		}
+		return frames;
+	}
+
+	private static FrameBatch encode(int[] serials, int[] addresses, int command, byte[] payload, boolean packet) {
+		if (serials.length != addresses.length) {
+			throw new IllegalArgumentException("流水号与地址数量不一致: " + serials.length + " != " + addresses.length);
+		}
+		FrameEncodeEvent event = new FrameEncodeEvent();
+		event.begin();
+		long start = EncodeMetrics.start();
+		int count = serials.length;
+		int payloadLength = payload != null ? payload.length : 0;
+		int frameLength = FrameEncoder.frameLength(payloadLength);
+		byte[] buffer = new byte[Math.multiplyExact(count, frameLength)];
+		int[] offsets = new int[count + 1];
+		offsets[count] = buffer.length;
+		if (count == 0) {
+			return new FrameBatch(buffer, offsets);
+		}
+
+		int crcOffset = FrameEncoder.HEADER_LENGTH + payloadLength;
+		// 模板帧
+		if (packet) {
+			int pos = FrameEncoder.begin(buffer, 0, serials[0], addresses[0], command, payloadLength);
+			if (payloadLength > 0) {
+				System.arraycopy(payload, 0, buffer, pos, payloadLength);
+			}
+			buffer[frameLength - 1] = FrameEncoder.TAIL;
+		}
+		else {
+			FrameEncoder.encodeUncounted(buffer, 0, serials[0], addresses[0], command, payload, 0, payloadLength);
+		}
+
+		// 地址之后各帧相同的部分：保留字节到数据末尾，RS485帧另有两个00填充
+		int suffixLength = crcOffset - (ADDRESS_OFFSET + 1);
+		int suffixCrc = CRC16Util.update(0, buffer, ADDRESS_OFFSET + 1, suffixLength);
+		if (!packet) {
+			suffixCrc = CRC16Util.update(CRC16Util.update(suffixCrc, 0), 0);
+			suffixLength += 2;
+		}
+		int[] shift = CRC16Util.shiftTable(suffixLength);
+
+		for (int i = 0; i < count; i++) {
+			int off = i * frameLength;
+			offsets[i] = off;
+			if (i > 0) {
+				System.arraycopy(buffer, 0, buffer, off, frameLength);
+				buffer[off + SERIAL_OFFSET] = (byte) serials[i];
+				buffer[off + ADDRESS_OFFSET] = (byte) addresses[i];
+			}
+			int state = CRC16Util.update(packet ? PACKET_HEADER_CRC : CRC16Util.INITIAL, serials[i]);
+			state = CRC16Util.update(state, addresses[i]);
+			int crc = shift[state & 0xFF] ^ shift[256 + (state >>> 8)] ^ suffixCrc;
+			if (packet) {
+				buffer[off + crcOffset] = (byte) crc;
+				buffer[off + crcOffset + 1] = (byte) (crc >> 8);
+			}
+			else {
+				buffer[off + crcOffset] = (byte) (crc >> 8);
+				buffer[off + crcOffset + 1] = (byte) crc;
+			}
+		}
+		EncodeMetrics.count(command, count, buffer.length);
+		EncodeMetrics.latency(command, start);
+		event.commit(command, addresses[0], serials[0], payloadLength, count);
+		return new FrameBatch(buffer, offsets);
+	}
+
+}
@@ -0,0 +1,239 @@
+package com.cqcloud.platform.frame;
+
+import com.cqcloud.platform.codec.HexCodec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 已编码的数据帧（不可变）
+ * <p>
+ * 持有帧的字节及元数据（流水号、地址、命令、数据和CRC位置），十六进制和Base64只在需要时生成并缓存。 适用于 RS485 帧和 DisplayVoiceUtils
+ * 数据包，两者头部格式相同，仅CRC的计算范围和字节序不同。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class Frame {
+
+	private final byte[] data;
+
+	private final int offset;
+
+	private final int length;
+
+	private volatile String hex;
+
+	private volatile String base64;
+
+	// 不复制，调用方保证 data 的该区域不再被修改
+	Frame(byte[] data, int offset, int length) {
+		this.data = data;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * 由完整的帧字节创建（复制），校验帧头、帧尾和长度字段
+	 * @param frame 帧字节
+	 * @return 数据帧
+	 * @throws IllegalArgumentException 格式不正确
+	 */
+	public static Frame of(byte[] frame) {
+		return of(frame, 0, frame.length);
+	}
+
+	/**
+	 * 由数组中的一段帧字节创建（复制）
+	 */
+	public static Frame of(byte[] frame, int offset, int length) {
+		validate(frame, offset, length);
+		return new Frame(Arrays.copyOfRange(frame, offset, offset + length), 0, length);
+	}
+
+	/**
+	 * 由十六进制字符串创建
+	 */
+	public static Frame fromHex(CharSequence hex) {
+		byte[] bytes = HexCodec.decode(hex);
+		validate(bytes, 0, bytes.length);
+		Frame frame = new Frame(bytes, 0, bytes.length);
+		if (hex instanceof String && isUpperCase((String) hex)) {
+			frame.hex = (String) hex;
+		}
+		return frame;
+	}
+
+	/**
+	 * 流水号
+	 */
+	public int getSerial() {
+		return data[offset + 2] & 0xFF;
+	}
+
+	/**
+	 * 设备地址
+	 */
+	public int getAddress() {
+		return data[offset + 3] & 0xFF;
+	}
+
+	/**
+	 * 命令码
+	 */
+	public int getCommand() {
+		return data[offset + 5] & 0xFF;
+	}
+
+	/**
+	 * 数据在帧中的起始位置
+	 */
+	public int getPayloadOffset() {
+		return FrameEncoder.HEADER_LENGTH;
+	}
+
+	/**
+	 * 数据长度
+	 */
+	public int getPayloadLength() {
+		return ((data[offset + 6] & 0xFF) << 8) | (data[offset + 7] & 0xFF);
+	}
+
+	/**
+	 * CRC在帧中的起始位置（2字节）
+	 */
+	public int getCrcOffset() {
+		return length - 3;
+	}
+
+	/**
+	 * 整帧字节数
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * 读取帧中的单个字节
+	 */
+	public byte get(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("位置超出范围: " + index);
+		}
+		return data[offset + index];
+	}
+
+	/**
+	 * 数据部分的副本
+	 */
+	public byte[] getPayload() {
+		int from = offset + FrameEncoder.HEADER_LENGTH;
+		return Arrays.copyOfRange(data, from, from + getPayloadLength());
+	}
+
+	/**
+	 * 整帧的副本
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOfRange(data, offset, offset + length);
+	}
+
+	/**
+	 * 整帧的只读视图，不复制
+	 */
+	public ByteBuffer asByteBuffer() {
+		return ByteBuffer.wrap(data, offset, length).slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * 写入 {@link ByteBuffer} 的当前位置
+	 */
+	public void writeTo(ByteBuffer dst) {
+		dst.put(data, offset, length);
+	}
+
+	/**
+	 * 复制到目标数组
+	 * @return 写入的字节数
+	 */
+	public int writeTo(byte[] dst, int dstOff) {
+		System.arraycopy(data, offset, dst, dstOff, length);
+		return length;
+	}
+
+	/**
+	 * 十六进制字符串（大写），首次调用时生成
+	 */
+	public String toHex() {
+		String result = hex;
+		if (result == null) {
+			result = HexCodec.toHexString(data, offset, length);
+			hex = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Base64字符串，首次调用时生成
+	 */
+	public String toBase64() {
+		String result = base64;
+		if (result == null) {
+			result = Base64.getEncoder().encodeToString(toByteArray());
+			base64 = result;
+		}
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof Frame)) {
+			return false;
+		}
+		Frame other = (Frame) o;
+		return Arrays.equals(data, offset, offset + length, other.data, other.offset, other.offset + other.length);
+	}
+
+	@Override
+	public int hashCode() {
+		int h = 1;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			h = 31 * h + data[i];
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		return toHex();
+	}
+
+	private static void validate(byte[] frame, int offset, int length) {
+		if (length < FrameEncoder.OVERHEAD || offset < 0 || offset + length > frame.length) {
+			throw new IllegalArgumentException("帧长度不正确: " + length);
+		}
+		if (frame[offset] != FrameEncoder.HEADER_1 || frame[offset + 1] != FrameEncoder.HEADER_2
+				|| frame[offset + length - 1] != FrameEncoder.TAIL) {
+			throw new IllegalArgumentException("帧头或帧尾不正确");
+		}
+		int payloadLength = ((frame[offset + 6] & 0xFF) << 8) | (frame[offset + 7] & 0xFF);
+		if (payloadLength + FrameEncoder.OVERHEAD != length) {
+			throw new IllegalArgumentException(
+					"长度字段与帧长度不一致: " + payloadLength + " + " + FrameEncoder.OVERHEAD + " != " + length);
+		}
+	}
+
+	private static boolean isUpperCase(String hex) {
+		for (int i = 0; i < hex.length(); i++) {
+			char c = hex.charAt(i);
+			if (c >= 'a' && c <= 'f') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,138 @@
+package com.cqcloud.platform.frame;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 一批连续存放的数据帧
+ * <p>
+ * 所有帧依次写在同一个字节数组中，第i帧位于 [offset(i), offset(i + 1))，可整体写出，也可按帧取出。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class FrameBatch {
+
+	private final byte[] buffer;
+
+	// 长度为帧数+1，最后一项为总长度
+	private final int[] offsets;
+
+	// 按需创建的帧视图，与 buffer 共享数据
+	private final Frame[] frames;
+
+	FrameBatch(byte[] buffer, int[] offsets) {
+		this.buffer = buffer;
+		this.offsets = offsets;
+		this.frames = new Frame[offsets.length - 1];
+	}
+
+	/**
+	 * 将多个帧依次复制到同一个数组中
+	 */
+	public static FrameBatch of(Frame... frames) {
+		int[] offsets = new int[frames.length + 1];
+		for (int i = 0; i < frames.length; i++) {
+			offsets[i + 1] = offsets[i] + frames[i].length();
+		}
+		byte[] buffer = new byte[offsets[frames.length]];
+		for (int i = 0; i < frames.length; i++) {
+			frames[i].writeTo(buffer, offsets[i]);
+		}
+		return new FrameBatch(buffer, offsets);
+	}
+
+	/**
+	 * 第i帧，与本批次共享数据，不复制
+	 */
+	public Frame get(int index) {
+		checkIndex(index);
+		Frame frame = frames[index];
+		if (frame == null) {
+			frame = new Frame(buffer, offsets[index], offsets[index + 1] - offsets[index]);
+			frames[index] = frame;
+		}
+		return frame;
+	}
+
+	/**
+	 * 帧数
+	 */
+	public int size() {
+		return offsets.length - 1;
+	}
+
+	/**
+	 * 所有帧的总字节数
+	 */
+	public int getTotalLength() {
+		return offsets[offsets.length - 1];
+	}
+
+	/**
+	 * 第i帧的起始位置
+	 */
+	public int getOffset(int index) {
+		checkIndex(index);
+		return offsets[index];
+	}
+
+	/**
+	 * 第i帧的长度
+	 */
+	public int getLength(int index) {
+		checkIndex(index);
+		return offsets[index + 1] - offsets[index];
+	}
+
+	/**
+	 * 复制第i帧
+	 */
+	public byte[] toByteArray(int index) {
+		checkIndex(index);
+		return Arrays.copyOfRange(buffer, offsets[index], offsets[index + 1]);
+	}
+
+	/**
+	 * 第i帧的只读视图，不复制数据
+	 */
+	public ByteBuffer slice(int index) {
+		checkIndex(index);
+		return ByteBuffer.wrap(buffer, offsets[index], offsets[index + 1] - offsets[index]).slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * 所有帧的只读视图，可直接写入通道
+	 */
+	public ByteBuffer asByteBuffer() {
+		return ByteBuffer.wrap(buffer, 0, getTotalLength()).slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * 第i帧的十六进制字符串（大写），生成后缓存
+	 */
+	public String toHex(int index) {
+		return get(index).toHex();
+	}
+
+	/**
+	 * 所有帧的十六进制字符串（兼容原有 String[] 接口）
+	 */
+	public String[] toHexArray() {
+		String[] hex = new String[size()];
+		for (int i = 0; i < hex.length; i++) {
+			hex[i] = toHex(i);
+		}
+		return hex;
+	}
+
+	byte[] buffer() {
+		return buffer;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("帧序号超出范围: " + index);
+		}
+	}
+
+}
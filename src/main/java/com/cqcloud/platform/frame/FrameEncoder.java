@@ -0,0 +1,240 @@
+package com.cqcloud.platform.frame;
+
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.crc.CRC16Util;
+import com.cqcloud.platform.jfr.FrameEncodeEvent;
+import com.cqcloud.platform.metrics.EncodeMetrics;
+
+import java.nio.ByteBuffer;
+
+/**
+ * RS485数据帧二进制编码器（AA55 ... AF）
+ * <p>
+ * 帧格式：帧头(AA55) | 流水号 | 地址 | 保留 | 命令 | 长度(2字节) | 数据 | CRC(2字节) | 帧尾(AF)
+ * <p>
+ * CRC 计算范围为流水号至数据末尾，再追加两个 00 字节（CRC位置用00 00填充），高字节在前。 所有方法直接写入字节数组或
+ * {@link ByteBuffer}，编码时同步计算CRC，不产生中间字符串。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class FrameEncoder {
+
+	public static final byte HEADER_1 = (byte) 0xAA;
+
+	public static final byte HEADER_2 = 0x55;
+
+	public static final byte TAIL = (byte) 0xAF;
+
+	public static final byte RESERVED = 0x00;
+
+	/**
+	 * 帧头到长度字段的字节数（帧头2 + 流水号1 + 地址1 + 保留1 + 命令1 + 长度2）
+	 */
+	public static final int HEADER_LENGTH = 8;
+
+	/**
+	 * 除数据外的固定开销（头部8 + CRC2 + 帧尾1）
+	 */
+	public static final int OVERHEAD = HEADER_LENGTH + 3;
+
+	/**
+	 * 数据最大长度（长度字段为16位）
+	 */
+	public static final int MAX_PAYLOAD_LENGTH = 0xFFFF;
+
+	private FrameEncoder() {
+	}
+
+	/**
+	 * 计算整帧长度
+	 * @param payloadLength 数据长度
+	 * @return 整帧字节数
+	 */
+	public static int frameLength(int payloadLength) {
+		checkPayloadLength(payloadLength);
+		return payloadLength + OVERHEAD;
+	}
+
+	/**
+	 * 写入帧头部（帧头到长度字段），调用方随后直接把数据写入返回的位置，再调用 {@link #finish(byte[], int, int)}
+	 * @param dst 目标数组
+	 * @param off 帧起始位置
+	 * @param serial 流水号
+	 * @param address 设备地址
+	 * @param command 命令码
+	 * @param payloadLength 数据长度
+	 * @return 数据起始位置
+	 */
+	public static int begin(byte[] dst, int off, int serial, int address, int command, int payloadLength) {
+		checkPayloadLength(payloadLength);
+		int pos = off;
+		dst[pos++] = HEADER_1;
+		dst[pos++] = HEADER_2;
+		dst[pos++] = (byte) serial;
+		dst[pos++] = (byte) address;
+		dst[pos++] = RESERVED;
+		dst[pos++] = (byte) command;
+		dst[pos++] = (byte) (payloadLength >> 8);
+		dst[pos++] = (byte) payloadLength;
+		return pos;
+	}
+
+	/**
+	 * 计算CRC并写入CRC与帧尾，数据须已写入 {@link #begin} 返回的位置
+	 * @param dst 目标数组
+	 * @param off 帧起始位置
+	 * @param payloadLength 数据长度
+	 * @return 整帧字节数
+	 */
+	public static int finish(byte[] dst, int off, int payloadLength) {
+		int crcOffset = off + HEADER_LENGTH + payloadLength;
+		int crc = CRC16Util.update(CRC16Util.INITIAL, dst, off + 2, HEADER_LENGTH - 2 + payloadLength);
+		writeTrailer(dst, crcOffset, crc);
+		EncodeMetrics.count(dst[off + 5], 1, payloadLength + OVERHEAD);
+		return payloadLength + OVERHEAD;
+	}
+
+	/**
+	 * 编码一帧到目标数组
+	 * @param dst 目标数组，剩余空间须不小于 {@link #frameLength(int)}
+	 * @param off 写入位置
+	 * @param serial 流水号
+	 * @param address 设备地址
+	 * @param command 命令码
+	 * @param payload 数据
+	 * @param payloadOff 数据起始位置
+	 * @param payloadLength 数据长度
+	 * @return 写入的字节数
+	 */
+	public static int encode(byte[] dst, int off, int serial, int address, int command, byte[] payload, int payloadOff,
+			int payloadLength) {
+		FrameEncodeEvent event = new FrameEncodeEvent();
+		event.begin();
+		long start = EncodeMetrics.start();
+		int length = encodeUncounted(dst, off, serial, address, command, payload, payloadOff, payloadLength);
+		EncodeMetrics.record(command, length, start);
+		event.commit(command, address, serial, payloadLength, 1);
+		return length;
+	}
+
+	/**
+	 * 同 {@link #encode(byte[], int, int, int, int, byte[], int, int)}，不计入
+	 * {@link EncodeMetrics}（由调用方统一计数）
+	 */
+	static int encodeUncounted(byte[] dst, int off, int serial, int address, int command, byte[] payload,
+			int payloadOff, int payloadLength) {
+		int pos = begin(dst, off, serial, address, command, payloadLength);
+		int crc = headerCrc(serial, address, command, payloadLength);
+		if (payloadLength > 0) {
+			System.arraycopy(payload, payloadOff, dst, pos, payloadLength);
+			crc = CRC16Util.update(crc, payload, payloadOff, payloadLength);
+		}
+		writeTrailer(dst, pos + payloadLength, crc);
+		return payloadLength + OVERHEAD;
+	}
+
+	/**
+	 * 编码一帧，返回恰好长度的字节数组
+	 */
+	public static byte[] encode(int serial, int address, int command, byte[] payload) {
+		int payloadLength = payload != null ? payload.length : 0;
+		byte[] frame = new byte[frameLength(payloadLength)];
+		encode(frame, 0, serial, address, command, payload, 0, payloadLength);
+		return frame;
+	}
+
+	/**
+	 * 编码一帧，返回 {@link Frame}
+	 */
+	public static Frame encodeFrame(int serial, int address, int command, byte[] payload) {
+		byte[] frame = encode(serial, address, command, payload);
+		return new Frame(frame, 0, frame.length);
+	}
+
+	/**
+	 * 编码一帧到 {@link ByteBuffer} 的当前位置，写入后position后移
+	 * @return 写入的字节数
+	 */
+	public static int encode(ByteBuffer dst, int serial, int address, int command, byte[] payload, int payloadOff,
+			int payloadLength) {
+		int length = frameLength(payloadLength);
+		if (dst.remaining() < length) {
+			throw new IllegalArgumentException("缓冲区剩余空间不足: " + dst.remaining() + " < " + length);
+		}
+		if (dst.hasArray()) {
+			int written = encode(dst.array(), dst.arrayOffset() + dst.position(), serial, address, command, payload,
+					payloadOff, payloadLength);
+			dst.position(dst.position() + written);
+			return written;
+		}
+		FrameEncodeEvent event = new FrameEncodeEvent();
+		event.begin();
+		long start = EncodeMetrics.start();
+		dst.put(HEADER_1).put(HEADER_2);
+		dst.put((byte) serial).put((byte) address).put(RESERVED).put((byte) command);
+		dst.put((byte) (payloadLength >> 8)).put((byte) payloadLength);
+		int crc = headerCrc(serial, address, command, payloadLength);
+		if (payloadLength > 0) {
+			dst.put(payload, payloadOff, payloadLength);
+			crc = CRC16Util.update(crc, payload, payloadOff, payloadLength);
+		}
+		crc = CRC16Util.update(CRC16Util.update(crc, 0), 0);
+		dst.put((byte) (crc >> 8)).put((byte) crc).put(TAIL);
+		EncodeMetrics.record(command, length, start);
+		event.commit(command, address, serial, payloadLength, 1);
+		return length;
+	}
+
+	/**
+	 * 由十六进制数据编码一帧并以十六进制字符串返回（兼容原有 buildFrame(String, String) 接口）
+	 * @param serial 流水号
+	 * @param address 设备地址
+	 * @param command 命令码
+	 * @param hexPayload 十六进制数据
+	 * @return 整帧十六进制字符串（大写）
+	 */
+	public static String encodeHex(int serial, int address, int command, CharSequence hexPayload) {
+		FrameEncodeEvent event = new FrameEncodeEvent();
+		event.begin();
+		long start = EncodeMetrics.start();
+		int hexLength = hexPayload != null ? hexPayload.length() : 0;
+		if ((hexLength & 1) != 0) {
+			throw new IllegalArgumentException("Invalid hex string");
+		}
+		int payloadLength = hexLength >> 1;
+		byte[] frame = new byte[frameLength(payloadLength)];
+		int pos = begin(frame, 0, serial, address, command, payloadLength);
+		if (hexLength > 0) {
+			HexCodec.decode(hexPayload, 0, hexLength, frame, pos);
+		}
+		finish(frame, 0, payloadLength);
+		String hex = HexCodec.toHexString(frame);
+		EncodeMetrics.latency(command, start);
+		event.commit(command, address, serial, payloadLength, 1);
+		return hex;
+	}
+
+	static int headerCrc(int serial, int address, int command, int payloadLength) {
+		int crc = CRC16Util.update(CRC16Util.INITIAL, serial);
+		crc = CRC16Util.update(crc, address);
+		crc = CRC16Util.update(crc, RESERVED);
+		crc = CRC16Util.update(crc, command);
+		crc = CRC16Util.update(crc, payloadLength >> 8);
+		return CRC16Util.update(crc, payloadLength);
+	}
+
+	static void writeTrailer(byte[] dst, int pos, int crc) {
+		// CRC位置用00 00填充后参与计算
+		crc = CRC16Util.update(CRC16Util.update(crc, 0), 0);
+		dst[pos++] = (byte) (crc >> 8);
+		dst[pos++] = (byte) crc;
+		dst[pos] = TAIL;
+	}
+
+	private static void checkPayloadLength(int payloadLength) {
+		if (payloadLength < 0 || payloadLength > MAX_PAYLOAD_LENGTH) {
+			throw new IllegalArgumentException("数据长度超出范围: " + payloadLength);
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.cqcloud.platform.frame;
+
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.codec.GbkCodec;
+
+import java.util.Arrays;
+
+/**
+ * 帧数据构造工具：控制字与GBK文本拼接，直接得到字节，不经过十六进制字符串
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class Payloads {
+
+	private Payloads() {
+	}
+
+	/**
+	 * 单字节数值依次排列（每个值取低8位）
+	 */
+	public static byte[] bytes(int... values) {
+		byte[] payload = new byte[values.length];
+		for (int i = 0; i < values.length; i++) {
+			payload[i] = (byte) values[i];
+		}
+		return payload;
+	}
+
+	/**
+	 * 控制字 + GBK文本
+	 * @param text 文本，null按空文本处理
+	 * @param control 控制字（每个值取低8位）
+	 */
+	public static byte[] text(CharSequence text, int... control) {
+		int capacity = control.length + GbkCodec.maxEncodedLength(text != null ? text.length() : 0);
+		BufferPool pool = BufferPool.shared();
+		byte[] buffer = pool.acquire(capacity);
+		try {
+			for (int i = 0; i < control.length; i++) {
+				buffer[i] = (byte) control[i];
+			}
+			int length = control.length;
+			if (text != null) {
+				length += GbkCodec.encode(text, buffer, control.length);
+			}
+			return Arrays.copyOf(buffer, length);
+		}
+		finally {
+			pool.release(buffer);
+		}
+	}
+
+	/**
+	 * GBK文本 + 尾部字节（如车牌后的语音索引）
+	 * @param text 文本，null按空文本处理
+	 * @param trailing 尾部字节（每个值取低8位）
+	 */
+	public static byte[] textThen(CharSequence text, int... trailing) {
+		BufferPool pool = BufferPool.shared();
+		byte[] buffer = pool.acquire(GbkCodec.maxEncodedLength(text != null ? text.length() : 0) + trailing.length);
+		try {
+			int length = text != null ? GbkCodec.encode(text, buffer, 0) : 0;
+			for (int value : trailing) {
+				buffer[length++] = (byte) value;
+			}
+			return Arrays.copyOf(buffer, length);
+		}
+		finally {
+			pool.release(buffer);
+		}
+	}
+
+}
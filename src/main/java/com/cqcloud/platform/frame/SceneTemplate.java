@@ -0,0 +1,426 @@
+package com.cqcloud.platform.frame;
+
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.crc.CRC16Util;
+import com.cqcloud.platform.jfr.SceneRenderEvent;
+import com.cqcloud.platform.metrics.EncodeMetrics;
+import com.cqcloud.platform.tracing.LaneTracing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 场景模板：一组RS485帧，固定内容预先编码，每次只填入变量（车牌、金额、车位数等）
+ * <p>
+ * 构建时把每帧的固定部分编码为字节，并预先算好其CRC贡献（利用 {@link CRC16Util#shift(int, int)} 的线性合并）。
+ * 不含变量的帧整帧预编码，渲染时复制后只改写流水号、地址和CRC；含变量的帧按段拼接，固定段直接复制，CRC只对变量字节逐字节计算。
+ *
+ * <pre>
+ * SceneTemplate entry = SceneTemplate.builder()
+ *     .frame(0x27).bytes(1, 1, 0).text("欢迎光临")
+ *     .frame(0x27).bytes(2, 1, 0).slot(0)
+ *     .frame(0x22).slot(0).bytes(0x01)
+ *     .build();
+ * FrameBatch frames = entry.render(serial, address, "渝A12345");
+ * </pre>
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class SceneTemplate {
+
+	// 固定段不短于该长度时用移位表合并CRC，否则逐字节计算
+	private static final int SHIFT_THRESHOLD = 8;
+
+	private static final int SERIAL_OFFSET = 2;
+
+	private static final int ADDRESS_OFFSET = 3;
+
+	private final FrameTemplate[] frames;
+
+	private final int slotCount;
+
+	private SceneTemplate(FrameTemplate[] frames, int slotCount) {
+		this.frames = frames;
+		this.slotCount = slotCount;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * 帧数，渲染时需要同样数量的连续流水号
+	 */
+	public int size() {
+		return frames.length;
+	}
+
+	/**
+	 * 变量个数
+	 */
+	public int getSlotCount() {
+		return slotCount;
+	}
+
+	/**
+	 * 渲染场景
+	 * @param firstSerial 第一帧的流水号，其后各帧依次加1（按256取模）
+	 * @param address 设备地址
+	 * @param values 变量值，按序号对应；文本变量接受任意对象（null按空文本），数字变量须为int范围内的整数
+	 * @return 连续存放的数据帧
+	 */
+	public FrameBatch render(int firstSerial, int address, Object... values) {
+		if (values.length < slotCount) {
+			throw new IllegalArgumentException("变量个数不足: " + values.length + " < " + slotCount);
+		}
+		SceneRenderEvent event = new SceneRenderEvent();
+		event.begin();
+		long start = EncodeMetrics.start();
+		long traceStart = LaneTracing.start();
+		byte[][] texts = new byte[slotCount][];
+		int[] offsets = new int[frames.length + 1];
+		int total = 0;
+		for (int i = 0; i < frames.length; i++) {
+			offsets[i] = total;
+			total += frames[i].frameLength(values, texts);
+		}
+		offsets[frames.length] = total;
+
+		byte[] buffer = new byte[total];
+		for (int i = 0; i < frames.length; i++) {
+			frames[i].render(buffer, offsets[i], firstSerial + i, address, values, texts);
+			EncodeMetrics.count(frames[i].command, 1, offsets[i + 1] - offsets[i]);
+		}
+		EncodeMetrics.latency(EncodeMetrics.SCENE, start);
+		event.commit(address, firstSerial, frames.length, total);
+		LaneTracing.scene(address, firstSerial, frames.length, total, traceStart);
+		return new FrameBatch(buffer, offsets);
+	}
+
+	/**
+	 * 渲染只有一帧的模板
+	 */
+	public Frame renderFrame(int serial, int address, Object... values) {
+		if (frames.length != 1) {
+			throw new IllegalStateException("模板包含 " + frames.length + " 帧");
+		}
+		return render(serial, address, values).get(0);
+	}
+
+	/**
+	 * 模板构建器，先调用 {@link #frame(int)} 开始一帧，随后按顺序追加该帧数据的各段
+	 */
+	public static final class Builder {
+
+		private final List<FrameTemplate> frames = new ArrayList<>();
+
+		private List<Segment> segments;
+
+		private int command;
+
+		private byte[] pending = new byte[64];
+
+		private int pendingLength;
+
+		private int slotCount;
+
+		private Builder() {
+		}
+
+		/**
+		 * 开始新的一帧
+		 * @param command 命令码
+		 */
+		public Builder frame(int command) {
+			flushFrame();
+			this.command = command;
+			this.segments = new ArrayList<>();
+			return this;
+		}
+
+		/**
+		 * 固定字节（每个值取低8位）
+		 */
+		public Builder bytes(int... values) {
+			checkFrame();
+			ensurePending(values.length);
+			for (int value : values) {
+				pending[pendingLength++] = (byte) value;
+			}
+			return this;
+		}
+
+		/**
+		 * 固定文本（GBK）
+		 */
+		public Builder text(CharSequence text) {
+			checkFrame();
+			ensurePending(GbkCodec.maxEncodedLength(text.length()));
+			pendingLength += GbkCodec.encode(text, pending, pendingLength);
+			return this;
+		}
+
+		/**
+		 * 文本变量（GBK），同一序号可在多帧中重复使用，每次渲染只编码一次
+		 * @param index 变量序号
+		 */
+		public Builder slot(int index) {
+			return addSlot(index, -1);
+		}
+
+		/**
+		 * 整数变量，按十进制写入，不足 minDigits 位时补0（同 %0Nd）
+		 * @param index 变量序号
+		 * @param minDigits 最少位数，0表示不补
+		 */
+		public Builder number(int index, int minDigits) {
+			if (minDigits < 0) {
+				throw new IllegalArgumentException("位数不能为负: " + minDigits);
+			}
+			return addSlot(index, minDigits);
+		}
+
+		public SceneTemplate build() {
+			flushFrame();
+			return new SceneTemplate(frames.toArray(new FrameTemplate[0]), slotCount);
+		}
+
+		private Builder addSlot(int index, int minDigits) {
+			checkFrame();
+			if (index < 0) {
+				throw new IllegalArgumentException("变量序号不能为负: " + index);
+			}
+			flushConstant();
+			segments.add(new Segment(index, minDigits));
+			slotCount = Math.max(slotCount, index + 1);
+			return this;
+		}
+
+		private void flushConstant() {
+			if (pendingLength > 0) {
+				byte[] bytes = new byte[pendingLength];
+				System.arraycopy(pending, 0, bytes, 0, pendingLength);
+				segments.add(new Segment(bytes));
+				pendingLength = 0;
+			}
+		}
+
+		private void flushFrame() {
+			if (segments != null) {
+				flushConstant();
+				frames.add(new FrameTemplate(command, segments.toArray(new Segment[0])));
+				segments = null;
+			}
+		}
+
+		private void checkFrame() {
+			if (segments == null) {
+				throw new IllegalStateException("请先调用 frame(command)");
+			}
+		}
+
+		private void ensurePending(int extra) {
+			if (pendingLength + extra > pending.length) {
+				byte[] larger = new byte[Math.max(pending.length * 2, pendingLength + extra)];
+				System.arraycopy(pending, 0, larger, 0, pendingLength);
+				pending = larger;
+			}
+		}
+
+	}
+
+	/**
+	 * 数据中的一段：固定字节或变量
+	 */
+	private static final class Segment {
+
+		final byte[] bytes;
+
+		// update(0, bytes)
+		final int crc;
+
+		final int[] shift;
+
+		final int slot;
+
+		// 小于0为文本变量
+		final int minDigits;
+
+		Segment(byte[] bytes) {
+			this.bytes = bytes;
+			this.crc = CRC16Util.update(0, bytes, 0, bytes.length);
+			this.shift = bytes.length >= SHIFT_THRESHOLD ? CRC16Util.shiftTable(bytes.length) : null;
+			this.slot = -1;
+			this.minDigits = -1;
+		}
+
+		Segment(int slot, int minDigits) {
+			this.bytes = null;
+			this.crc = 0;
+			this.shift = null;
+			this.slot = slot;
+			this.minDigits = minDigits;
+		}
+
+		boolean isSlot() {
+			return bytes == null;
+		}
+
+		int update(int state) {
+			if (shift != null) {
+				return shift[state & 0xFF] ^ shift[256 + (state >>> 8)] ^ crc;
+			}
+			return CRC16Util.update(state, bytes, 0, bytes.length);
+		}
+
+		byte[] value(Object[] values, byte[][] texts) {
+			Object value = values[slot];
+			if (minDigits >= 0) {
+				if (!(value instanceof Number)) {
+					throw new IllegalArgumentException("变量 " + slot + " 须为数字: " + value);
+				}
+				return digits(intValue((Number) value), minDigits);
+			}
+			byte[] text = texts[slot];
+			if (text == null) {
+				text = value == null ? new byte[0]
+						: GbkCodec.encode(value instanceof CharSequence ? (CharSequence) value : String.valueOf(value));
+				texts[slot] = text;
+			}
+			return text;
+		}
+
+		// 超出int范围或带小数时拒绝，不像 intValue() 那样静默截断
+		private int intValue(Number value) {
+			long v = value.longValue();
+			if (v != value.doubleValue() || v != (int) v) {
+				throw new IllegalArgumentException("变量 " + slot + " 须为int范围内的整数: " + value);
+			}
+			return (int) v;
+		}
+
+	}
+
+	/**
+	 * 单帧模板
+	 */
+	private static final class FrameTemplate {
+
+		final int command;
+
+		final Segment[] segments;
+
+		// 不含变量时的整帧预编码（流水号、地址、CRC待填）
+		final byte[] image;
+
+		// 地址之后到CRC（含两个00填充）的CRC贡献及其移位表
+		final int suffixCrc;
+
+		final int[] suffixShift;
+
+		FrameTemplate(int command, Segment[] segments) {
+			this.command = command;
+			this.segments = segments;
+			boolean constant = true;
+			int payloadLength = 0;
+			for (Segment segment : segments) {
+				if (segment.isSlot()) {
+					constant = false;
+				}
+				else {
+					payloadLength += segment.bytes.length;
+				}
+			}
+			if (constant) {
+				image = new byte[FrameEncoder.frameLength(payloadLength)];
+				int pos = FrameEncoder.begin(image, 0, 0, 0, command, payloadLength);
+				for (Segment segment : segments) {
+					System.arraycopy(segment.bytes, 0, image, pos, segment.bytes.length);
+					pos += segment.bytes.length;
+				}
+				image[image.length - 1] = FrameEncoder.TAIL;
+				int suffixLength = pos - (ADDRESS_OFFSET + 1);
+				int crc = CRC16Util.update(0, image, ADDRESS_OFFSET + 1, suffixLength);
+				suffixCrc = CRC16Util.update(CRC16Util.update(crc, 0), 0);
+				suffixShift = CRC16Util.shiftTable(suffixLength + 2);
+			}
+			else {
+				image = null;
+				suffixCrc = 0;
+				suffixShift = null;
+			}
+		}
+
+		int frameLength(Object[] values, byte[][] texts) {
+			if (image != null) {
+				return image.length;
+			}
+			int payloadLength = 0;
+			for (Segment segment : segments) {
+				payloadLength += segment.isSlot() ? segment.value(values, texts).length : segment.bytes.length;
+			}
+			return FrameEncoder.frameLength(payloadLength);
+		}
+
+		void render(byte[] dst, int off, int serial, int address, Object[] values, byte[][] texts) {
+			if (image != null) {
+				System.arraycopy(image, 0, dst, off, image.length);
+				dst[off + SERIAL_OFFSET] = (byte) serial;
+				dst[off + ADDRESS_OFFSET] = (byte) address;
+				int state = CRC16Util.update(CRC16Util.update(CRC16Util.INITIAL, serial), address);
+				int crc = suffixShift[state & 0xFF] ^ suffixShift[256 + (state >>> 8)] ^ suffixCrc;
+				int crcOffset = off + image.length - 3;
+				dst[crcOffset] = (byte) (crc >> 8);
+				dst[crcOffset + 1] = (byte) crc;
+				return;
+			}
+			int payloadLength = 0;
+			for (Segment segment : segments) {
+				payloadLength += segment.isSlot() ? segment.value(values, texts).length : segment.bytes.length;
+			}
+			int pos = FrameEncoder.begin(dst, off, serial, address, command, payloadLength);
+			int crc = FrameEncoder.headerCrc(serial, address, command, payloadLength);
+			for (Segment segment : segments) {
+				if (segment.isSlot()) {
+					byte[] value = segment.value(values, texts);
+					System.arraycopy(value, 0, dst, pos, value.length);
+					crc = CRC16Util.update(crc, value, 0, value.length);
+					pos += value.length;
+				}
+				else {
+					System.arraycopy(segment.bytes, 0, dst, pos, segment.bytes.length);
+					crc = segment.update(crc);
+					pos += segment.bytes.length;
+				}
+			}
+			FrameEncoder.writeTrailer(dst, pos, crc);
+		}
+
+	}
+
+	/**
+	 * 十进制ASCII，负数带符号，总宽度不足 minDigits 时在符号后补0
+	 */
+	static byte[] digits(int value, int minDigits) {
+		long v = Math.abs((long) value);
+		int count = 1;
+		for (long t = v; t >= 10; t /= 10) {
+			count++;
+		}
+		int sign = value < 0 ? 1 : 0;
+		int width = Math.max(count + sign, minDigits);
+		byte[] digits = new byte[width];
+		for (int i = width - 1; i >= width - count; i--) {
+			digits[i] = (byte) ('0' + v % 10);
+			v /= 10;
+		}
+		for (int i = sign; i < width - count; i++) {
+			digits[i] = '0';
+		}
+		if (sign != 0) {
+			digits[0] = '-';
+		}
+		return digits;
+	}
+
+}
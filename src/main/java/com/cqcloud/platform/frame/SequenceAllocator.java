@@ -0,0 +1,118 @@
+package com.cqcloud.platform.frame;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 流水号分配器，按总线和设备地址各自独立计数（0-255循环）
+ * <p>
+ * 每条总线对应一个 {@link AtomicIntegerArray}，按设备地址取计数器，分配时只做一次 getAndIncrement，无锁；
+ * 相邻地址的计数器间隔一个缓存行，避免多线程下的伪共享。默认总线（0）直接持有，不经过Map查找。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class SequenceAllocator {
+
+	/**
+	 * 默认总线
+	 */
+	public static final int DEFAULT_BUS = 0;
+
+	private static final int ADDRESS_COUNT = 256;
+
+	// 16个int = 64字节，一个地址独占一个缓存行
+	private static final int STRIDE = 16;
+
+	private final int initialValue;
+
+	private final AtomicIntegerArray defaultBus;
+
+	private final ConcurrentMap<Integer, AtomicIntegerArray> buses = new ConcurrentHashMap<>();
+
+	/**
+	 * @param initialValue 每个设备的第一个流水号
+	 */
+	public SequenceAllocator(int initialValue) {
+		this.initialValue = initialValue & 0xFF;
+		this.defaultBus = newCounters();
+		buses.put(DEFAULT_BUS, defaultBus);
+	}
+
+	/**
+	 * 默认总线上指定设备的下一个流水号
+	 * @param address 设备地址（取低8位）
+	 * @return 流水号（0-255）
+	 */
+	public int next(int address) {
+		return defaultBus.getAndIncrement((address & 0xFF) * STRIDE) & 0xFF;
+	}
+
+	/**
+	 * 指定总线上指定设备的下一个流水号
+	 * @param bus 总线编号
+	 * @param address 设备地址（取低8位）
+	 * @return 流水号（0-255）
+	 */
+	public int next(int bus, int address) {
+		return counters(bus).getAndIncrement((address & 0xFF) * STRIDE) & 0xFF;
+	}
+
+	/**
+	 * 为同一设备连续分配多个流水号
+	 * @param bus 总线编号
+	 * @param address 设备地址
+	 * @param count 数量
+	 * @return 第一个流水号，其后依次加1（按256取模）
+	 */
+	public int reserve(int bus, int address, int count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("数量不能为负: " + count);
+		}
+		return counters(bus).getAndAdd((address & 0xFF) * STRIDE, count) & 0xFF;
+	}
+
+	/**
+	 * 查看下一个流水号，不分配
+	 */
+	public int peek(int bus, int address) {
+		return counters(bus).get((address & 0xFF) * STRIDE) & 0xFF;
+	}
+
+	/**
+	 * 将指定设备的流水号重置为初始值（如设备重启后）
+	 */
+	public void reset(int bus, int address) {
+		counters(bus).set((address & 0xFF) * STRIDE, initialValue);
+	}
+
+	/**
+	 * 将所有总线上所有设备的流水号重置为初始值（如从检查点恢复后，与冷启动一致）
+	 */
+	public void resetAll() {
+		for (AtomicIntegerArray counters : buses.values()) {
+			for (int i = 0; i < ADDRESS_COUNT; i++) {
+				counters.set(i * STRIDE, initialValue);
+			}
+		}
+	}
+
+	private AtomicIntegerArray counters(int bus) {
+		if (bus == DEFAULT_BUS) {
+			return defaultBus;
+		}
+		AtomicIntegerArray counters = buses.get(bus);
+		return counters != null ? counters : buses.computeIfAbsent(bus, key -> newCounters());
+	}
+
+	private AtomicIntegerArray newCounters() {
+		AtomicIntegerArray counters = new AtomicIntegerArray(ADDRESS_COUNT * STRIDE);
+		if (initialValue != 0) {
+			for (int i = 0; i < ADDRESS_COUNT; i++) {
+				counters.set(i * STRIDE, initialValue);
+			}
+		}
+		return counters;
+	}
+
+}
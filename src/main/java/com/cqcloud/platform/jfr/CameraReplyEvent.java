@@ -0,0 +1,85 @@
+package com.cqcloud.platform.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 相机推送应答（帧经应答交给相机，再由相机转发到RS485总线）的JFR事件
+ * <p>
+ * 事件时长为从分发到应答生成；Decision Time 为其中等待决策回调的部分，Since Received 为从收到推送（含解析）起的总耗时。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@Name("com.cqcloud.smart.CameraReply")
+@Label("Camera Push Reply")
+@Category({ "YLC Smart", "Camera" })
+@Description("相机推送的应答及其中下发的帧")
+@StackTrace(false)
+public class CameraReplyEvent extends Event {
+
+	@Label("Camera")
+	private String camera;
+
+	@Label("License")
+	private String license;
+
+	@Label("Frames")
+	private int frames;
+
+	@Label("Size")
+	@DataAmount
+	private int size;
+
+	@Label("Retransmit")
+	private boolean retransmit;
+
+	@Label("Error")
+	private String error;
+
+	@Label("Decision Time")
+	@Timespan
+	private long decisionTime;
+
+	@Label("Since Received")
+	@Timespan
+	private long sinceReceived;
+
+	/**
+	 * 记录决策完成（在 {@link #begin()} 之后调用）
+	 */
+	public void decided(long decisionNanos) {
+		this.decisionTime = decisionNanos;
+	}
+
+	/**
+	 * 结束计时，开启录制时提交
+	 * @param camera 相机序列号，可为 null
+	 * @param license 车牌号，非车牌推送为 null
+	 * @param frames 应答中的帧数
+	 * @param size 这些帧的字节数
+	 * @param retransmit 是否为相机重发的识别
+	 * @param error 错误信息，成功时为 null
+	 * @param sinceReceivedNanos 从收到推送起的耗时（纳秒）
+	 */
+	public void commit(String camera, String license, int frames, int size, boolean retransmit, String error,
+			long sinceReceivedNanos) {
+		end();
+		if (shouldCommit()) {
+			this.camera = camera;
+			this.license = license;
+			this.frames = frames;
+			this.size = size;
+			this.retransmit = retransmit;
+			this.error = error;
+			this.sinceReceived = sinceReceivedNanos;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.cqcloud.platform.jfr;
+
+import com.cqcloud.platform.metrics.EncodeMetrics;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 帧编码（FrameEncoder、BatchFrameEncoder、DisplayVoiceUtils.buildPacket）的JFR事件
+ * <p>
+ * 默认只记录耗时超过50微秒的编码，可在JFR配置中把 com.cqcloud.smart.FrameEncode#threshold 改为 0 ms 记录全部。 未录制时
+ * {@link #commit(int, int, int, int, int)}
+ * 只做一次开关判断。{@link EncodeMetrics#runUncounted(Runnable)} 中的编码不提交。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@Name("com.cqcloud.smart.FrameEncode")
+@Label("RS485 Frame Encode")
+@Category({ "YLC Smart", "RS485" })
+@Description("RS485数据帧编码，批量编码时地址和流水号为第一帧的值")
+@Threshold("50 us")
+@StackTrace(false)
+public class FrameEncodeEvent extends Event {
+
+	@Label("Command")
+	private int command;
+
+	@Label("Address")
+	private int address;
+
+	@Label("Serial")
+	private int serial;
+
+	@Label("Payload Size")
+	@DataAmount
+	private int payloadSize;
+
+	@Label("Frames")
+	private int frames;
+
+	/**
+	 * 结束计时，开启录制且超过阈值时提交
+	 * @param command 命令码
+	 * @param address 设备地址
+	 * @param serial 流水号
+	 * @param payloadSize 每帧数据长度
+	 * @param frames 帧数
+	 */
+	public void commit(int command, int address, int serial, int payloadSize, int frames) {
+		end();
+		if (shouldCommit() && !EncodeMetrics.isUncounted()) {
+			this.command = command & 0xFF;
+			this.address = address & 0xFF;
+			this.serial = serial & 0xFF;
+			this.payloadSize = payloadSize;
+			this.frames = frames;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.cqcloud.platform.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 命令从入队到被应答带出的排队时间，每帧一个事件
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@Name("com.cqcloud.smart.QueueWait")
+@Label("Camera Queue Wait")
+@Category({ "YLC Smart", "Camera" })
+@Description("待下发命令在相机队列中的等待时间")
+@StackTrace(false)
+public class QueueWaitEvent extends Event {
+
+	@Label("Camera")
+	private String camera;
+
+	@Label("Command")
+	private int command;
+
+	@Label("Address")
+	private int address;
+
+	@Label("Serial")
+	private int serial;
+
+	@Label("Priority")
+	private int priority;
+
+	@Label("Wait Time")
+	@Timespan
+	private long waitTime;
+
+	/**
+	 * 开启录制时提交
+	 * @param camera 相机序列号
+	 * @param command 命令码
+	 * @param address 设备地址
+	 * @param serial 流水号
+	 * @param priority 优先级
+	 * @param waitNanos 排队时间（纳秒）
+	 */
+	public void commit(String camera, int command, int address, int serial, int priority, long waitNanos) {
+		if (shouldCommit()) {
+			this.camera = camera;
+			this.command = command & 0xFF;
+			this.address = address & 0xFF;
+			this.serial = serial & 0xFF;
+			this.priority = priority;
+			this.waitTime = waitNanos;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.cqcloud.platform.jfr;
+
+import com.cqcloud.platform.metrics.EncodeMetrics;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 场景模板渲染（入场、出场等多帧场景）的JFR事件，默认阈值100微秒；{@link EncodeMetrics#runUncounted(Runnable)} 中的渲染不提交
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@Name("com.cqcloud.smart.SceneRender")
+@Label("RS485 Scene Render")
+@Category({ "YLC Smart", "RS485" })
+@Description("场景模板一次渲染出的全部帧")
+@Threshold("100 us")
+@StackTrace(false)
+public class SceneRenderEvent extends Event {
+
+	@Label("Address")
+	private int address;
+
+	@Label("First Serial")
+	private int firstSerial;
+
+	@Label("Frames")
+	private int frames;
+
+	@Label("Size")
+	@DataAmount
+	private int size;
+
+	/**
+	 * 结束计时，开启录制且超过阈值时提交
+	 * @param address 设备地址
+	 * @param firstSerial 第一帧的流水号
+	 * @param frames 帧数
+	 * @param size 全部帧的字节数
+	 */
+	public void commit(int address, int firstSerial, int frames, int size) {
+		end();
+		if (shouldCommit() && !EncodeMetrics.isUncounted()) {
+			this.address = address & 0xFF;
+			this.firstSerial = firstSerial & 0xFF;
+			this.frames = frames;
+			this.size = size;
+			commit();
+		}
+	}
+
+}
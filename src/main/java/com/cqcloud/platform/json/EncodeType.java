@@ -0,0 +1,33 @@
+package com.cqcloud.platform.json;
+
+/**
+ * rs485_data 中帧数据的编码方式（encodetype）
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public enum EncodeType {
+
+	/**
+	 * 十六进制字符串，每字节2个字符
+	 */
+	HEX2STRING("hex2string"),
+
+	/**
+	 * Base64，每3字节4个字符，比十六进制约少三分之一
+	 */
+	BASE64("base64");
+
+	private final String value;
+
+	EncodeType(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * JSON中 encodetype 字段的值
+	 */
+	public String getValue() {
+		return value;
+	}
+
+}
@@ -0,0 +1,473 @@
+package com.cqcloud.platform.json;
+
+import com.cqcloud.platform.codec.Base64Codec;
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameBatch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 相机 rs485_data 应答的流式JSON写出器
+ * <p>
+ * 按 error_str、gpio_data、error_num、rs485_data 的顺序直接写出，帧数据由编码后的字节直接转为十六进制（或Base64，见
+ * {@link #encodeType(EncodeType)}）写入缓冲区，不生成中间字符串。 字符串值按JSON规则转义。可写入
+ * {@link OutputStream}（UTF-8）、{@link Writer}，或不指定输出时通过 {@link #toString()} 取得结果。
+ *
+ * <pre>
+ * new Rs485JsonWriter(out).begin("noerror", 0)
+ *     .gpio("on", "io1")
+ *     .frames(Rs485XSPUtils.buildSmallScreenEntrySceneFrames(plate, 48))
+ *     .end();
+ * </pre>
+ *
+ * 非线程安全，每次应答使用一个实例。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class Rs485JsonWriter implements Closeable {
+
+	/**
+	 * 无错误时的 error_str
+	 */
+	public static final String NO_ERROR = "noerror";
+
+	private static final int BUFFER_SIZE = 1024;
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	private enum State {
+
+		INITIAL, GPIO, RS485, ENDED
+
+	}
+
+	private final OutputStream out;
+
+	private final Writer writer;
+
+	// 写入 OutputStream 时使用 bytes，否则使用 chars
+	private byte[] bytes;
+
+	private char[] chars;
+
+	private int pos;
+
+	private State state = State.INITIAL;
+
+	private int errorNum;
+
+	private boolean first;
+
+	private EncodeType encodeType = EncodeType.HEX2STRING;
+
+	// 十六进制命令转Base64、只读 ByteBuffer 转数组时复用
+	private byte[] scratch;
+
+	/**
+	 * 写入 {@link OutputStream}，UTF-8 编码
+	 */
+	public Rs485JsonWriter(OutputStream out) {
+		this.out = out;
+		this.writer = null;
+		this.bytes = new byte[BUFFER_SIZE];
+	}
+
+	/**
+	 * 写入 {@link Writer}
+	 */
+	public Rs485JsonWriter(Writer writer) {
+		this.out = null;
+		this.writer = writer;
+		this.chars = new char[BUFFER_SIZE];
+	}
+
+	/**
+	 * 写入内存，结束后用 {@link #toString()} 取得JSON
+	 */
+	public Rs485JsonWriter() {
+		this.out = null;
+		this.writer = null;
+		this.chars = new char[256];
+	}
+
+	/**
+	 * 设置之后各帧的编码方式，默认 {@link EncodeType#HEX2STRING}
+	 */
+	public Rs485JsonWriter encodeType(EncodeType encodeType) {
+		this.encodeType = encodeType;
+		return this;
+	}
+
+	/**
+	 * 开始应答，写出 error_str 并打开 gpio_data
+	 * @param errorStr 错误信息
+	 * @param errorNum 错误码，在 gpio_data 之后写出
+	 */
+	public Rs485JsonWriter begin(String errorStr, int errorNum) {
+		expect(State.INITIAL);
+		ascii("{\"error_str\":");
+		string(errorStr);
+		ascii(",\"gpio_data\":[");
+		this.errorNum = errorNum;
+		this.state = State.GPIO;
+		this.first = true;
+		return this;
+	}
+
+	/**
+	 * 追加一个GPIO动作，可多次调用
+	 * @param action 动作（"on"/"off"）
+	 * @param ionum 端口（"io1"、"io2"等）
+	 */
+	public Rs485JsonWriter gpio(String action, String ionum) {
+		expect(State.GPIO);
+		separator();
+		ascii("{\"action\":");
+		string(action);
+		ascii(",\"ionum\":");
+		string(ionum);
+		ascii('}');
+		return this;
+	}
+
+	/**
+	 * 追加一帧，直接由帧字节写出十六进制
+	 */
+	public Rs485JsonWriter frame(Frame frame) {
+		return frame(frame.asByteBuffer());
+	}
+
+	/**
+	 * 追加一帧（数组中的一段字节）
+	 */
+	public Rs485JsonWriter frame(byte[] frame, int offset, int length) {
+		beginFrame();
+		if (encodeType == EncodeType.BASE64) {
+			base64(frame, offset, length);
+			ascii("\"}");
+			return this;
+		}
+		int end = offset + length;
+		while (offset < end) {
+			int n = Math.min(end - offset, room() >> 1);
+			if (n == 0) {
+				flush(2);
+				continue;
+			}
+			if (bytes != null) {
+				HexCodec.encode(frame, offset, n, bytes, pos);
+			}
+			else {
+				HexCodec.encode(frame, offset, n, chars, pos);
+			}
+			pos += n << 1;
+			offset += n;
+		}
+		ascii("\"}");
+		return this;
+	}
+
+	/**
+	 * 追加一帧（{@link ByteBuffer} 中 position 到 limit 的字节，不改变 position）
+	 */
+	public Rs485JsonWriter frame(ByteBuffer frame) {
+		if (frame.hasArray()) {
+			return frame(frame.array(), frame.arrayOffset() + frame.position(), frame.remaining());
+		}
+		if (encodeType == EncodeType.BASE64) {
+			int length = frame.remaining();
+			byte[] copy = scratch(length);
+			frame.duplicate().get(copy, 0, length);
+			return frame(copy, 0, length);
+		}
+		beginFrame();
+		int i = frame.position();
+		int end = frame.limit();
+		while (i < end) {
+			int n = Math.min(end - i, room() >> 1);
+			if (n == 0) {
+				flush(2);
+				continue;
+			}
+			for (int stop = i + n; i < stop; i++) {
+				int b = frame.get(i);
+				if (bytes != null) {
+					bytes[pos++] = (byte) HEX[(b >> 4) & 0x0F];
+					bytes[pos++] = (byte) HEX[b & 0x0F];
+				}
+				else {
+					chars[pos++] = HEX[(b >> 4) & 0x0F];
+					chars[pos++] = HEX[b & 0x0F];
+				}
+			}
+		}
+		ascii("\"}");
+		return this;
+	}
+
+	/**
+	 * 追加一批帧
+	 */
+	public Rs485JsonWriter frames(FrameBatch batch) {
+		for (int i = 0; i < batch.size(); i++) {
+			frame(batch.slice(i));
+		}
+		return this;
+	}
+
+	/**
+	 * 追加已是十六进制字符串的命令（兼容原有 String 接口）；Base64 模式下先解码再编码
+	 * @throws IllegalArgumentException Base64 模式下命令不是合法的十六进制
+	 */
+	public Rs485JsonWriter hex(String command) {
+		if (encodeType == EncodeType.BASE64) {
+			int length = command.length() >> 1;
+			byte[] decoded = scratch(length);
+			HexCodec.decode(command, 0, command.length(), decoded, 0);
+			return frame(decoded, 0, length);
+		}
+		beginFrame();
+		escaped(String.valueOf(command));
+		ascii("\"}");
+		return this;
+	}
+
+	/**
+	 * 追加多条十六进制命令
+	 */
+	public Rs485JsonWriter hex(String... commands) {
+		for (String command : commands) {
+			hex(command);
+		}
+		return this;
+	}
+
+	/**
+	 * 结束应答并刷新到输出
+	 */
+	public Rs485JsonWriter end() {
+		if (state == State.GPIO) {
+			openRs485();
+		}
+		expect(State.RS485);
+		ascii("]}");
+		state = State.ENDED;
+		flush(0);
+		return this;
+	}
+
+	/**
+	 * 未结束时先结束；不关闭底层输出
+	 */
+	@Override
+	public void close() {
+		if (state != State.ENDED) {
+			end();
+		}
+	}
+
+	/**
+	 * 写入内存时返回已写出的JSON
+	 */
+	@Override
+	public String toString() {
+		if (chars == null || writer != null) {
+			return super.toString();
+		}
+		return new String(chars, 0, pos);
+	}
+
+	private void beginFrame() {
+		if (state == State.GPIO) {
+			openRs485();
+		}
+		expect(State.RS485);
+		separator();
+		ascii("{\"encodetype\":\"");
+		ascii(encodeType.getValue());
+		ascii("\",\"data\":\"");
+	}
+
+	// 按3字节一组分段写入，只有最后一段带填充
+	private void base64(byte[] src, int offset, int length) {
+		int end = offset + length;
+		while (offset < end) {
+			int n = Math.min(end - offset, room() / 4 * 3);
+			if (n == 0) {
+				flush(4);
+				continue;
+			}
+			if (bytes != null) {
+				pos += Base64Codec.encode(src, offset, n, bytes, pos);
+			}
+			else {
+				pos += Base64Codec.encode(src, offset, n, chars, pos);
+			}
+			offset += n;
+		}
+	}
+
+	private byte[] scratch(int length) {
+		if (scratch == null || scratch.length < length) {
+			scratch = new byte[Math.max(length, 256)];
+		}
+		return scratch;
+	}
+
+	private void openRs485() {
+		ascii("],\"error_num\":");
+		ascii(Integer.toString(errorNum));
+		ascii(",\"rs485_data\":[");
+		state = State.RS485;
+		first = true;
+	}
+
+	private void separator() {
+		if (first) {
+			first = false;
+		}
+		else {
+			ascii(',');
+		}
+	}
+
+	private void expect(State expected) {
+		if (state != expected) {
+			throw new IllegalStateException("当前状态 " + state + " 不能执行该操作");
+		}
+	}
+
+	// null 写为字符串 "null"，与原 String.format 拼接结果一致
+	private void string(String value) {
+		ascii('"');
+		escaped(String.valueOf(value));
+		ascii('"');
+	}
+
+	private void escaped(String value) {
+		for (int i = 0, len = value.length(); i < len; i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				ascii('\\');
+				ascii(c);
+			}
+			else if (c < 0x20) {
+				control(c);
+			}
+			else if (c < 0x80) {
+				ascii(c);
+			}
+			else if (bytes == null) {
+				ensure(1);
+				chars[pos++] = c;
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(value.charAt(i + 1))) {
+				utf8(Character.toCodePoint(c, value.charAt(++i)));
+			}
+			else if (Character.isSurrogate(c)) {
+				// 不成对的代理字符，与 String.getBytes(UTF_8) 一致
+				ascii('?');
+			}
+			else {
+				utf8(c);
+			}
+		}
+	}
+
+	private void control(char c) {
+		ascii('\\');
+		switch (c) {
+			case '\n':
+				ascii('n');
+				break;
+			case '\r':
+				ascii('r');
+				break;
+			case '\t':
+				ascii('t');
+				break;
+			case '\b':
+				ascii('b');
+				break;
+			case '\f':
+				ascii('f');
+				break;
+			default:
+				ascii("u00");
+				ascii(HEX[c >> 4]);
+				ascii(HEX[c & 0x0F]);
+		}
+	}
+
+	private void utf8(int codePoint) {
+		ensure(4);
+		if (codePoint < 0x800) {
+			bytes[pos++] = (byte) (0xC0 | (codePoint >> 6));
+		}
+		else {
+			if (codePoint < 0x10000) {
+				bytes[pos++] = (byte) (0xE0 | (codePoint >> 12));
+			}
+			else {
+				bytes[pos++] = (byte) (0xF0 | (codePoint >> 18));
+				bytes[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+			}
+			bytes[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+		}
+		bytes[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+	}
+
+	private void ascii(String s) {
+		for (int i = 0, len = s.length(); i < len; i++) {
+			ascii(s.charAt(i));
+		}
+	}
+
+	private void ascii(char c) {
+		ensure(1);
+		if (bytes != null) {
+			bytes[pos++] = (byte) c;
+		}
+		else {
+			chars[pos++] = c;
+		}
+	}
+
+	private int room() {
+		return (bytes != null ? bytes.length : chars.length) - pos;
+	}
+
+	private void ensure(int n) {
+		if (room() < n) {
+			flush(n);
+		}
+	}
+
+	// 输出缓冲区内容；写入内存时改为扩容，保证至少 required 的剩余空间
+	private void flush(int required) {
+		try {
+			if (out != null) {
+				out.write(bytes, 0, pos);
+				pos = 0;
+			}
+			else if (writer != null) {
+				writer.write(chars, 0, pos);
+				pos = 0;
+			}
+			else if (chars.length - pos < required) {
+				chars = Arrays.copyOf(chars, Math.max(chars.length << 1, pos + required));
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
@@ -0,0 +1,177 @@
+package com.cqcloud.platform.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 编码计数：按命令码累计编码的帧数和字节数，可选记录编码耗时
+ * <p>
+ * 所有编码入口（{@code FrameEncoder}、{@code BatchFrameEncoder}、{@code SceneTemplate}、{@code DisplayVoiceUtils}、
+ * {@code TtsTemplate}）编码完成后调用。计数用 {@link LongAdder}，按命令码下标存放，调用时不分配对象， 可在生产环境常开；只有设置了
+ * {@link LatencyRecorder} 时才读取时钟。
+ * <p>
+ * 启动预热等不代表实际下发的编码可放在 {@link #runUncounted(Runnable)} 中执行，只对当前线程生效。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class EncodeMetrics {
+
+	/**
+	 * 多帧场景渲染的耗时键（场景内各帧仍按各自命令码计数）
+	 */
+	public static final int SCENE = 0x100;
+
+	/**
+	 * TTS万能语音（FD 00 命令头，不是 AA55 帧）的计数键，在命令码范围之外，不与命令码 0xFD 混计
+	 */
+	public static final int TTS = 0x101;
+
+	/**
+	 * 计数键的个数：命令码 0x00-0xFF、{@link #SCENE} 和 {@link #TTS}
+	 */
+	public static final int KEYS = TTS + 1;
+
+	/**
+	 * 未计时，{@link #start()} 在未设置 {@link LatencyRecorder} 时返回
+	 */
+	public static final long NOT_TIMED = Long.MIN_VALUE;
+
+	private static final LongAdder[] FRAMES = new LongAdder[KEYS];
+
+	private static final LongAdder[] BYTES = new LongAdder[KEYS];
+
+	private static volatile LatencyRecorder latencyRecorder;
+
+	// 正在执行 runUncounted 的线程数，为0时编码路径不查线程变量
+	private static final AtomicInteger UNCOUNTED_THREADS = new AtomicInteger();
+
+	private static final ThreadLocal<Boolean> UNCOUNTED = new ThreadLocal<>();
+
+	static {
+		for (int i = 0; i < KEYS; i++) {
+			FRAMES[i] = new LongAdder();
+			BYTES[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * 编码耗时记录
+	 */
+	@FunctionalInterface
+	public interface LatencyRecorder {
+
+		/**
+		 * @param key 命令码，或 {@link EncodeMetrics#SCENE}、{@link EncodeMetrics#TTS}
+		 * @param nanos 耗时（纳秒）
+		 */
+		void record(int key, long nanos);
+
+	}
+
+	private EncodeMetrics() {
+	}
+
+	/**
+	 * 编码开始时调用
+	 * @return 开始时间，未设置 {@link LatencyRecorder} 时为 {@link #NOT_TIMED}
+	 */
+	public static long start() {
+		return latencyRecorder != null && !isUncounted() ? System.nanoTime() : NOT_TIMED;
+	}
+
+	/**
+	 * 记录编码完成的一帧及其耗时
+	 * @param command 命令码，或 {@link #TTS}
+	 * @param length 整帧字节数
+	 * @param start {@link #start()} 的返回值
+	 */
+	public static void record(int command, int length, long start) {
+		count(command, 1, length);
+		latency(command, start);
+	}
+
+	/**
+	 * 只计数，不记录耗时
+	 * @param command 命令码，或 {@link #TTS}
+	 * @param frames 帧数
+	 * @param bytes 字节数
+	 */
+	public static void count(int command, int frames, long bytes) {
+		if (isUncounted()) {
+			return;
+		}
+		int index = index(command);
+		FRAMES[index].add(frames);
+		BYTES[index].add(bytes);
+	}
+
+	/**
+	 * 记录耗时
+	 * @param key 命令码（取低8位），或 {@link #SCENE}、{@link #TTS}
+	 * @param start {@link #start()} 的返回值，为 {@link #NOT_TIMED} 时忽略
+	 */
+	public static void latency(int key, long start) {
+		LatencyRecorder recorder = latencyRecorder;
+		if (recorder != null && start != NOT_TIMED) {
+			recorder.record(index(key), System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * 在当前线程执行任务，期间的编码不计数、不计时，也不提交JFR编码事件；其他线程照常计数
+	 * @param task 任务，如启动预热
+	 */
+	public static void runUncounted(Runnable task) {
+		if (UNCOUNTED.get() != null) {
+			task.run();
+			return;
+		}
+		UNCOUNTED.set(Boolean.TRUE);
+		UNCOUNTED_THREADS.incrementAndGet();
+		try {
+			task.run();
+		}
+		finally {
+			UNCOUNTED_THREADS.decrementAndGet();
+			UNCOUNTED.remove();
+		}
+	}
+
+	/**
+	 * 当前线程是否在 {@link #runUncounted(Runnable)} 中
+	 */
+	public static boolean isUncounted() {
+		return UNCOUNTED_THREADS.get() != 0 && UNCOUNTED.get() != null;
+	}
+
+	/**
+	 * 已编码的帧数
+	 */
+	public static long getFrames(int command) {
+		return FRAMES[index(command)].sum();
+	}
+
+	/**
+	 * 已编码的字节数
+	 */
+	public static long getBytes(int command) {
+		return BYTES[index(command)].sum();
+	}
+
+	/**
+	 * 设置耗时记录，null 表示不计时
+	 */
+	public static void setLatencyRecorder(LatencyRecorder recorder) {
+		latencyRecorder = recorder;
+	}
+
+	public static LatencyRecorder getLatencyRecorder() {
+		return latencyRecorder;
+	}
+
+	// 命令码可能以有符号 byte 传入，取低8位；SCENE、TTS 原样保留
+	private static int index(int key) {
+		return key == SCENE || key == TTS ? key : key & 0xFF;
+	}
+
+}
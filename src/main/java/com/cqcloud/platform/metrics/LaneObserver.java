@@ -0,0 +1,35 @@
+package com.cqcloud.platform.metrics;
+
+import com.cqcloud.platform.plate.PlateEvent;
+
+/**
+ * 相机推送应答的观察者，由 {@code CameraPushDispatcher} 在每次应答后调用，须快速返回
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public interface LaneObserver {
+
+	/**
+	 * 不做任何记录
+	 */
+	LaneObserver NOOP = new LaneObserver() {
+	};
+
+	/**
+	 * 应答已生成
+	 * @param event 识别结果，非车牌推送（心跳等）为 null
+	 * @param frames 应答中的帧数（决策的帧加上队列带出的帧）
+	 * @param bytes 这些帧的总字节数，即相机需经RS485转发的字节数
+	 * @param latencyNanos 从收到推送到应答生成的耗时（含决策回调）
+	 * @param retransmit 是否为相机重发的同一次识别（同一相机、同一车牌、同一识别时间）
+	 */
+	default void onReply(PlateEvent event, int frames, int bytes, long latencyNanos, boolean retransmit) {
+	}
+
+	/**
+	 * 推送无法解析或决策失败
+	 */
+	default void onError(Throwable error) {
+	}
+
+}
@@ -0,0 +1,235 @@
+package com.cqcloud.platform.metrics.micrometer;
+
+import com.cqcloud.platform.metrics.EncodeMetrics;
+import com.cqcloud.platform.metrics.LaneObserver;
+import com.cqcloud.platform.plate.PlateEvent;
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer 指标
+ * <p>
+ * <ul>
+ * <li>ylc.smart.encode.frames / ylc.smart.encode.bytes：按命令码（command=0x27 等，TTS为
+ * tts）编码的帧数和字节数，读取 {@link EncodeMetrics} 的计数</li>
+ * <li>ylc.smart.encode.latency：按命令码的编码耗时，多帧场景为 command=scene</li>
+ * <li>ylc.smart.queue.depth：每台相机（camera=序列号）待下发的帧数；ylc.smart.queue.rejected / evicted /
+ * coalesced</li>
+ * <li>ylc.smart.lane.latency：从收到车牌推送到应答生成的耗时（含决策回调）；ylc.smart.lane.retransmits：相机重发的识别推送；
+ * ylc.smart.lane.errors</li>
+ * <li>ylc.smart.rs485.bytes /
+ * ylc.smart.rs485.wire.time：应答中需经RS485转发的字节数及按波特率估算的总线占用时间</li>
+ * </ul>
+ * 所有计量器在绑定时按固定标签创建，记录时不分配标签对象。编码计数在编码路径上只是 {@link java.util.concurrent.atomic.LongAdder}
+ * 累加，由 Micrometer 采集时读取。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public class SmartMeterBinder implements MeterBinder, LaneObserver, AutoCloseable {
+
+	/**
+	 * 默认RS485波特率
+	 */
+	public static final int DEFAULT_BAUD_RATE = 9600;
+
+	// 每字节的线上位数：起始位 + 8数据位 + 停止位
+	private static final int BITS_PER_BYTE = 10;
+
+	// 单独计量的命令码，其余计入 other
+	private static final int[] COMMANDS = { 0x01, 0x10, 0x21, 0x22, 0x25, 0x27, 0x28, 0x29, 0x32, 0x35, 0x37, 0x56,
+			0xF0, 0xF1, 0xF2, 0xF3, 0xF4, 0xF5, 0xF6, 0xF7, 0xF8, 0xF9, 0xFA, EncodeMetrics.TTS };
+
+	private final CameraCommandQueue commandQueue;
+
+	private final int baudRate;
+
+	private final boolean encodeLatency;
+
+	private volatile LaneMeters lane;
+
+	private volatile EncodeMetrics.LatencyRecorder latencyRecorder;
+
+	public SmartMeterBinder() {
+		this(null, DEFAULT_BAUD_RATE, true);
+	}
+
+	/**
+	 * @param commandQueue 待下发命令队列，null表示不计量队列
+	 * @param baudRate RS485波特率，用于估算总线占用时间
+	 * @param encodeLatency 是否记录编码耗时（每次编码读取两次时钟）
+	 */
+	public SmartMeterBinder(CameraCommandQueue commandQueue, int baudRate, boolean encodeLatency) {
+		if (baudRate <= 0) {
+			throw new IllegalArgumentException("波特率必须大于0: " + baudRate);
+		}
+		this.commandQueue = commandQueue;
+		this.baudRate = baudRate;
+		this.encodeLatency = encodeLatency;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		bindEncode(registry);
+		if (commandQueue != null) {
+			bindQueue(registry);
+		}
+		lane = new LaneMeters(registry);
+	}
+
+	@Override
+	public void onReply(PlateEvent event, int frames, int bytes, long latencyNanos, boolean retransmit) {
+		LaneMeters meters = lane;
+		if (meters == null) {
+			return;
+		}
+		if (event != null) {
+			meters.latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+		}
+		if (retransmit) {
+			meters.retransmits.increment();
+		}
+		if (bytes > 0) {
+			meters.bytes.increment(bytes);
+			meters.wireTime.record(bytes * BITS_PER_BYTE * 1_000_000_000L / baudRate, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void onError(Throwable error) {
+		LaneMeters meters = lane;
+		if (meters != null) {
+			meters.errors.increment();
+		}
+	}
+
+	/**
+	 * 撤销编码耗时记录和队列回调
+	 */
+	@Override
+	public void close() {
+		EncodeMetrics.LatencyRecorder recorder = latencyRecorder;
+		if (recorder != null && EncodeMetrics.getLatencyRecorder() == recorder) {
+			EncodeMetrics.setLatencyRecorder(null);
+		}
+		if (commandQueue != null) {
+			commandQueue.setCameraListener(null);
+		}
+	}
+
+	public int getBaudRate() {
+		return baudRate;
+	}
+
+	private void bindEncode(MeterRegistry registry) {
+		boolean[] named = new boolean[EncodeMetrics.KEYS];
+		Timer other = encodeLatency ? latencyTimer(registry, "other") : null;
+		Timer[] timers = new Timer[EncodeMetrics.KEYS];
+		for (int command : COMMANDS) {
+			named[command] = true;
+			String tag = command == EncodeMetrics.TTS ? "tts" : String.format("0x%02X", command);
+			FunctionCounter.builder("ylc.smart.encode.frames", this, binder -> EncodeMetrics.getFrames(command))
+				.tag("command", tag)
+				.register(registry);
+			FunctionCounter.builder("ylc.smart.encode.bytes", this, binder -> EncodeMetrics.getBytes(command))
+				.tag("command", tag)
+				.baseUnit("bytes")
+				.register(registry);
+			if (encodeLatency) {
+				timers[command] = latencyTimer(registry, tag);
+			}
+		}
+		FunctionCounter.builder("ylc.smart.encode.frames", this, binder -> sumOther(named, false))
+			.tag("command", "other")
+			.register(registry);
+		FunctionCounter.builder("ylc.smart.encode.bytes", this, binder -> sumOther(named, true))
+			.tag("command", "other")
+			.baseUnit("bytes")
+			.register(registry);
+		if (encodeLatency) {
+			timers[EncodeMetrics.SCENE] = latencyTimer(registry, "scene");
+			for (int i = 0; i < timers.length; i++) {
+				if (timers[i] == null) {
+					timers[i] = other;
+				}
+			}
+			latencyRecorder = (key, nanos) -> timers[key].record(nanos, TimeUnit.NANOSECONDS);
+			EncodeMetrics.setLatencyRecorder(latencyRecorder);
+		}
+	}
+
+	private void bindQueue(MeterRegistry registry) {
+		FunctionCounter.builder("ylc.smart.queue.rejected", commandQueue, CameraCommandQueue::getRejectedCount)
+			.register(registry);
+		FunctionCounter.builder("ylc.smart.queue.evicted", commandQueue, CameraCommandQueue::getEvictedCount)
+			.register(registry);
+		FunctionCounter.builder("ylc.smart.queue.coalesced", commandQueue, CameraCommandQueue::getCoalescedCount)
+			.register(registry);
+		commandQueue.setCameraListener(serialno -> registerDepth(registry, serialno));
+		for (String serialno : commandQueue.cameras()) {
+			registerDepth(registry, serialno);
+		}
+	}
+
+	private void registerDepth(MeterRegistry registry, String serialno) {
+		Gauge.builder("ylc.smart.queue.depth", commandQueue, queue -> queue.size(serialno))
+			.tag("camera", serialno)
+			.register(registry);
+	}
+
+	private static Timer latencyTimer(MeterRegistry registry, String command) {
+		return Timer.builder("ylc.smart.encode.latency")
+			.tag("command", command)
+			.publishPercentileHistogram()
+			.minimumExpectedValue(Duration.ofNanos(500))
+			.maximumExpectedValue(Duration.ofMillis(10))
+			.register(registry);
+	}
+
+	private static double sumOther(boolean[] named, boolean bytes) {
+		long sum = 0;
+		for (int command = 0; command < named.length; command++) {
+			if (!named[command]) {
+				sum += bytes ? EncodeMetrics.getBytes(command) : EncodeMetrics.getFrames(command);
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * 车道应答相关的计量器
+	 */
+	private static final class LaneMeters {
+
+		final Timer latency;
+
+		final Counter retransmits;
+
+		final Counter errors;
+
+		final Counter bytes;
+
+		final Timer wireTime;
+
+		LaneMeters(MeterRegistry registry) {
+			this.latency = Timer.builder("ylc.smart.lane.latency")
+				.publishPercentileHistogram()
+				.minimumExpectedValue(Duration.ofMillis(1))
+				.maximumExpectedValue(Duration.ofSeconds(10))
+				.register(registry);
+			this.retransmits = Counter.builder("ylc.smart.lane.retransmits").register(registry);
+			this.errors = Counter.builder("ylc.smart.lane.errors").register(registry);
+			this.bytes = Counter.builder("ylc.smart.rs485.bytes").baseUnit("bytes").register(registry);
+			this.wireTime = Timer.builder("ylc.smart.rs485.wire.time").register(registry);
+		}
+
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.cqcloud.platform.plate;
+
+/**
+ * 一次相机推送：车牌识别推送带识别结果，心跳只带相机序列号，其他推送两者都没有
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class CameraPush {
+
+	private static final CameraPush UNKNOWN = new CameraPush(null, null);
+
+	private final PlateEvent event;
+
+	private final String serialno;
+
+	private CameraPush(PlateEvent event, String serialno) {
+		this.event = event;
+		this.serialno = serialno;
+	}
+
+	/**
+	 * 车牌识别推送，event 为 null 时同 {@link #unknown()}
+	 */
+	public static CameraPush of(PlateEvent event) {
+		return event != null ? new CameraPush(event, event.getSerialno()) : UNKNOWN;
+	}
+
+	/**
+	 * 心跳，serialno 为 null 时同 {@link #unknown()}
+	 */
+	public static CameraPush heartbeat(String serialno) {
+		return serialno != null ? new CameraPush(null, serialno) : UNKNOWN;
+	}
+
+	/**
+	 * 无法识别来源的推送
+	 */
+	public static CameraPush unknown() {
+		return UNKNOWN;
+	}
+
+	/**
+	 * 识别结果，非车牌识别推送为 null
+	 */
+	public PlateEvent getEvent() {
+		return event;
+	}
+
+	/**
+	 * 相机序列号，无法识别来源时为 null
+	 */
+	public String getSerialno() {
+		return serialno;
+	}
+
+	/**
+	 * 是否为心跳
+	 */
+	public boolean isHeartbeat() {
+		return event == null && serialno != null;
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.cqcloud.platform.plate;
+
+/**
+ * 相机车牌识别推送（AlarmInfoPlate）中的识别结果，只保留下发场景所需的字段，不含图片
+ *
+ * <pre>
+ * PlateEvent event = PlateEventParser.parse(request.getInputStream());
+ * if (event != null &amp;&amp; event.hasPlate()) {
+ *     FrameBatch frames = Rs485XSPUtils.buildSmallScreenEntrySceneFrames(event.getLicense(), freeSpaces);
+ * }
+ * </pre>
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class PlateEvent {
+
+	/**
+	 * 相机未识别到车牌时 license 的值
+	 */
+	public static final String NO_PLATE = "_无_";
+
+	private final String serialno;
+
+	private final String deviceName;
+
+	private final String ipaddr;
+
+	private final int channel;
+
+	private final String license;
+
+	private final int colorType;
+
+	private final int confidence;
+
+	private final int triggerType;
+
+	private final int plateType;
+
+	private final int direction;
+
+	private final long timestamp;
+
+	PlateEvent(String serialno, String deviceName, String ipaddr, int channel, String license, int colorType,
+			int confidence, int triggerType, int plateType, int direction, long timestamp) {
+		this.serialno = serialno;
+		this.deviceName = deviceName;
+		this.ipaddr = ipaddr;
+		this.channel = channel;
+		this.license = license;
+		this.colorType = colorType;
+		this.confidence = confidence;
+		this.triggerType = triggerType;
+		this.plateType = plateType;
+		this.direction = direction;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * 是否识别到车牌
+	 */
+	public boolean hasPlate() {
+		return license != null && !license.isEmpty() && !NO_PLATE.equals(license);
+	}
+
+	/**
+	 * 相机序列号
+	 */
+	public String getSerialno() {
+		return serialno;
+	}
+
+	/**
+	 * 设备名称
+	 */
+	public String getDeviceName() {
+		return deviceName;
+	}
+
+	/**
+	 * 相机IP
+	 */
+	public String getIpaddr() {
+		return ipaddr;
+	}
+
+	/**
+	 * 通道号
+	 */
+	public int getChannel() {
+		return channel;
+	}
+
+	/**
+	 * 车牌号，未识别时为 {@link #NO_PLATE}，推送中没有该字段时为 null
+	 */
+	public String getLicense() {
+		return license;
+	}
+
+	/**
+	 * 车牌颜色（colorType）
+	 */
+	public int getColorType() {
+		return colorType;
+	}
+
+	/**
+	 * 识别可信度（0-100）
+	 */
+	public int getConfidence() {
+		return confidence;
+	}
+
+	/**
+	 * 触发类型（triggerType）
+	 */
+	public int getTriggerType() {
+		return triggerType;
+	}
+
+	/**
+	 * 车牌类型（PlateResult.type）
+	 */
+	public int getPlateType() {
+		return plateType;
+	}
+
+	/**
+	 * 车辆行驶方向
+	 */
+	public int getDirection() {
+		return direction;
+	}
+
+	/**
+	 * 识别时间（毫秒），推送中没有 timeStamp 时为0
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	@Override
+	public String toString() {
+		return "PlateEvent{serialno=" + serialno + ", channel=" + channel + ", license=" + license + ", colorType="
+				+ colorType + ", confidence=" + confidence + ", triggerType=" + triggerType + ", timestamp=" + timestamp
+				+ "}";
+	}
+
+}
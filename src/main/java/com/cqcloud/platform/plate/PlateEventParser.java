@@ -0,0 +1,595 @@
+package com.cqcloud.platform.plate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 相机车牌识别推送（AlarmInfoPlate）的流式解析
+ * <p>
+ * 推送JSON中 imageFile、imageFragmentFile 等Base64图片字段往往占绝大部分长度。这里按字节顺序读取，只解码车牌、颜色、可信度、触发类型、
+ * 序列号等少数字段，其余字符串只扫描到结束引号，不生成字符串也不做Base64解码；AlarmInfoPlate 对象结束后即停止读取。输入按UTF-8处理。
+ *
+ * <pre>
+ * {"AlarmInfoPlate":{"channel":0,"deviceName":"IVS","ipaddr":"192.168.1.100","serialno":"...",
+ *   "result":{"PlateResult":{"license":"渝A12345","colorType":1,"confidence":98,"triggerType":8,
+ *     "type":1,"direction":0,"imageFile":"...","timeStamp":{"Timeval":{"sec":1760000000,"usec":0}}}}}}
+ * </pre>
+ *
+ * 心跳推送 {"heartbeat":{"countid":1,"serialno":"..."}} 只读取序列号，通过 {@link #parsePush}
+ * 取得，用于在心跳应答中带出排队命令。 格式错误时抛出 {@link IllegalArgumentException}。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class PlateEventParser {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final int MAX_DEPTH = 64;
+
+	// 字段名超过该长度时不可能是需要的字段，只扫描不保存
+	private static final int MAX_KEY_LENGTH = 32;
+
+	// 需要解码的字符串值的最大字节数
+	private static final int MAX_TEXT_LENGTH = 1024;
+
+	// 当前所在的对象
+	private static final int OTHER = 0;
+
+	private static final int ROOT = 1;
+
+	private static final int ALARM = 2;
+
+	private static final int RESULT = 3;
+
+	private static final int PLATE = 4;
+
+	private static final int TIMESTAMP = 5;
+
+	private static final int TIMEVAL = 6;
+
+	private static final int HEARTBEAT = 7;
+
+	// 需要的字段
+	private static final int NONE = 0;
+
+	private static final int SERIALNO = 1;
+
+	private static final int DEVICE_NAME = 2;
+
+	private static final int IPADDR = 3;
+
+	private static final int CHANNEL = 4;
+
+	private static final int LICENSE = 5;
+
+	private static final int COLOR_TYPE = 6;
+
+	private static final int CONFIDENCE = 7;
+
+	private static final int TRIGGER_TYPE = 8;
+
+	private static final int PLATE_TYPE = 9;
+
+	private static final int DIRECTION = 10;
+
+	private static final int SEC = 11;
+
+	private static final int USEC = 12;
+
+	private static final int HEARTBEAT_SERIALNO = 13;
+
+	private static final byte[] ALARM_INFO_PLATE = ascii("AlarmInfoPlate");
+
+	private static final byte[] RESULT_KEY = ascii("result");
+
+	private static final byte[] HEARTBEAT_KEY = ascii("heartbeat");
+
+	private static final byte[] PLATE_RESULT = ascii("PlateResult");
+
+	private static final byte[] TIME_STAMP = ascii("timeStamp");
+
+	private static final byte[] TIMEVAL_KEY = ascii("Timeval");
+
+	// 与字段编号一一对应，下标0不用
+	private static final byte[][] FIELD_NAMES = { null, ascii("serialno"), ascii("deviceName"), ascii("ipaddr"),
+			ascii("channel"), ascii("license"), ascii("colorType"), ascii("confidence"), ascii("triggerType"),
+			ascii("type"), ascii("direction"), ascii("sec"), ascii("usec"), ascii("serialno") };
+
+	// 各字段所属的对象
+	private static final int[] FIELD_CONTEXTS = { OTHER, ALARM, ALARM, ALARM, ALARM, PLATE, PLATE, PLATE, PLATE, PLATE,
+			PLATE, TIMEVAL, TIMEVAL, HEARTBEAT };
+
+	private final InputStream in;
+
+	private final byte[] buf;
+
+	private int pos;
+
+	private int limit;
+
+	// 已丢弃的字节数，用于报告出错位置
+	private long consumed;
+
+	private final byte[] key = new byte[MAX_KEY_LENGTH];
+
+	private int keyLength;
+
+	private byte[] text = new byte[64];
+
+	private int textLength;
+
+	// 待与低位代理配对的 \\u 高位代理，没有时为0
+	private int highSurrogate;
+
+	private boolean found;
+
+	private final String[] strings = new String[FIELD_NAMES.length];
+
+	private final long[] numbers = new long[FIELD_NAMES.length];
+
+	private PlateEventParser(InputStream in, byte[] buf, int pos, int limit) {
+		this.in = in;
+		this.buf = buf;
+		this.pos = pos;
+		this.limit = limit;
+	}
+
+	/**
+	 * 从输入流解析，读到 AlarmInfoPlate 对象结束为止，不关闭输入流
+	 * @return 识别结果；不是车牌识别推送（没有 AlarmInfoPlate 对象）时返回 null
+	 */
+	public static PlateEvent parse(InputStream in) throws IOException {
+		return parsePush(in).getEvent();
+	}
+
+	/**
+	 * 解析UTF-8字节
+	 * @return 识别结果；不是车牌识别推送时返回 null
+	 */
+	public static PlateEvent parse(byte[] json) {
+		return parse(json, 0, json.length);
+	}
+
+	/**
+	 * 解析UTF-8字节中的一段
+	 * @return 识别结果；不是车牌识别推送时返回 null
+	 */
+	public static PlateEvent parse(byte[] json, int off, int len) {
+		return parsePush(json, off, len).getEvent();
+	}
+
+	/**
+	 * 解析字符串
+	 * @return 识别结果；不是车牌识别推送时返回 null
+	 */
+	public static PlateEvent parse(String json) {
+		return parse(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 从输入流解析推送，车牌识别推送读到 AlarmInfoPlate 对象结束为止，不关闭输入流
+	 * @return 推送，车牌识别和心跳都带相机序列号
+	 */
+	public static CameraPush parsePush(InputStream in) throws IOException {
+		return new PlateEventParser(in, new byte[BUFFER_SIZE], 0, 0).run();
+	}
+
+	/**
+	 * 解析UTF-8字节中的一段推送
+	 * @return 推送，车牌识别和心跳都带相机序列号
+	 */
+	public static CameraPush parsePush(byte[] json, int off, int len) {
+		try {
+			return new PlateEventParser(null, json, off, off + len).run();
+		}
+		catch (IOException e) {
+			// 没有输入流，不会发生
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private CameraPush run() throws IOException {
+		if (next() != '{') {
+			throw error("需要 {");
+		}
+		parseObject(ROOT, 1);
+		if (!found) {
+			return CameraPush.heartbeat(strings[HEARTBEAT_SERIALNO]);
+		}
+		long timestamp = numbers[SEC] * 1000 + numbers[USEC] / 1000;
+		return CameraPush.of(new PlateEvent(strings[SERIALNO], strings[DEVICE_NAME], strings[IPADDR],
+				(int) numbers[CHANNEL], strings[LICENSE], (int) numbers[COLOR_TYPE], (int) numbers[CONFIDENCE],
+				(int) numbers[TRIGGER_TYPE], (int) numbers[PLATE_TYPE], (int) numbers[DIRECTION], timestamp));
+	}
+
+	// '{' 已读入
+	private void parseObject(int context, int depth) throws IOException {
+		if (depth > MAX_DEPTH) {
+			throw error("嵌套超过 " + MAX_DEPTH + " 层");
+		}
+		int c = next();
+		if (c == '}') {
+			return;
+		}
+		while (true) {
+			if (c != '"') {
+				throw error("需要字段名");
+			}
+			readKey();
+			if (next() != ':') {
+				throw error("需要 :");
+			}
+			int child = childContext(context);
+			parseValue(next(), child, field(context), depth);
+			if (found) {
+				return;
+			}
+			c = next();
+			if (c == '}') {
+				return;
+			}
+			if (c != ',') {
+				throw error("需要 , 或 }");
+			}
+			c = next();
+		}
+	}
+
+	// '[' 已读入
+	private void parseArray(int depth) throws IOException {
+		if (depth > MAX_DEPTH) {
+			throw error("嵌套超过 " + MAX_DEPTH + " 层");
+		}
+		int c = next();
+		if (c == ']') {
+			return;
+		}
+		while (true) {
+			parseValue(c, OTHER, NONE, depth);
+			c = next();
+			if (c == ']') {
+				return;
+			}
+			if (c != ',') {
+				throw error("需要 , 或 ]");
+			}
+			c = next();
+		}
+	}
+
+	private void parseValue(int c, int child, int field, int depth) throws IOException {
+		switch (c) {
+			case '{':
+				parseObject(child, depth + 1);
+				if (child == ALARM) {
+					// 需要的字段都在 AlarmInfoPlate 内，其后的内容不再读取
+					found = true;
+				}
+				break;
+			case '[':
+				parseArray(depth + 1);
+				break;
+			case '"':
+				if (field == NONE) {
+					skipString();
+				}
+				else {
+					String value = readString();
+					if (isText(field)) {
+						strings[field] = value;
+					}
+					else {
+						numbers[field] = parseLong(value.trim());
+					}
+				}
+				break;
+			case 't':
+			case 'f':
+			case 'n':
+				skipLiteral();
+				break;
+			case -1:
+				throw error("内容不完整");
+			default:
+				if (c != '-' && (c < '0' || c > '9')) {
+					throw error("无法识别的值");
+				}
+				long value = readNumber(c);
+				if (field != NONE && !isText(field)) {
+					numbers[field] = value;
+				}
+		}
+	}
+
+	private int childContext(int context) {
+		switch (context) {
+			case ROOT:
+				if (keyEquals(ALARM_INFO_PLATE)) {
+					return ALARM;
+				}
+				return keyEquals(HEARTBEAT_KEY) ? HEARTBEAT : OTHER;
+			case ALARM:
+				return keyEquals(RESULT_KEY) ? RESULT : OTHER;
+			case RESULT:
+				return keyEquals(PLATE_RESULT) ? PLATE : OTHER;
+			case PLATE:
+				return keyEquals(TIME_STAMP) ? TIMESTAMP : OTHER;
+			case TIMESTAMP:
+				return keyEquals(TIMEVAL_KEY) ? TIMEVAL : OTHER;
+			default:
+				return OTHER;
+		}
+	}
+
+	private int field(int context) {
+		if (context != ALARM && context != PLATE && context != TIMEVAL && context != HEARTBEAT) {
+			return NONE;
+		}
+		for (int i = 1; i < FIELD_NAMES.length; i++) {
+			if (FIELD_CONTEXTS[i] == context && keyEquals(FIELD_NAMES[i])) {
+				return i;
+			}
+		}
+		return NONE;
+	}
+
+	private static boolean isText(int field) {
+		return field == SERIALNO || field == DEVICE_NAME || field == IPADDR || field == LICENSE
+				|| field == HEARTBEAT_SERIALNO;
+	}
+
+	private boolean keyEquals(byte[] name) {
+		if (keyLength != name.length) {
+			return false;
+		}
+		for (int i = 0; i < keyLength; i++) {
+			if (key[i] != name[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 开头的 '"' 已读入；字段名中的转义原样保存，需要的字段名都不含转义
+	private void readKey() throws IOException {
+		int length = 0;
+		while (true) {
+			int b = read();
+			if (b == '"') {
+				break;
+			}
+			if (b == '\\') {
+				b = read();
+				length = MAX_KEY_LENGTH + 1;
+			}
+			if (b < 0) {
+				throw error("字符串未结束");
+			}
+			if (length < MAX_KEY_LENGTH) {
+				key[length] = (byte) b;
+			}
+			length++;
+		}
+		keyLength = length;
+	}
+
+	private void skipString() throws IOException {
+		while (true) {
+			if (pos == limit && !fill()) {
+				throw error("字符串未结束");
+			}
+			byte b = buf[pos++];
+			if (b == '"') {
+				return;
+			}
+			if (b == '\\') {
+				// 跳过被转义的字符；\\uXXXX 的十六进制部分不含引号，按普通字符扫描
+				if (read() < 0) {
+					throw error("字符串未结束");
+				}
+			}
+		}
+	}
+
+	private String readString() throws IOException {
+		textLength = 0;
+		highSurrogate = 0;
+		while (true) {
+			int b = read();
+			if (b == '"') {
+				break;
+			}
+			if (b < 0) {
+				throw error("字符串未结束");
+			}
+			if (b == '\\') {
+				readEscape();
+				continue;
+			}
+			flushSurrogate();
+			put(b);
+		}
+		flushSurrogate();
+		return new String(text, 0, textLength, StandardCharsets.UTF_8);
+	}
+
+	private void readEscape() throws IOException {
+		int c = read();
+		if (c == 'u') {
+			int ch = 0;
+			for (int i = 0; i < 4; i++) {
+				int digit = Character.digit(read(), 16);
+				if (digit < 0) {
+					throw error("\\u 后需要4位十六进制");
+				}
+				ch = ch << 4 | digit;
+			}
+			if (Character.isHighSurrogate((char) ch)) {
+				flushSurrogate();
+				highSurrogate = ch;
+			}
+			else if (Character.isLowSurrogate((char) ch) && highSurrogate != 0) {
+				putCodePoint(Character.toCodePoint((char) highSurrogate, (char) ch));
+				highSurrogate = 0;
+			}
+			else {
+				flushSurrogate();
+				putCodePoint(Character.isSurrogate((char) ch) ? '?' : ch);
+			}
+			return;
+		}
+		flushSurrogate();
+		switch (c) {
+			case '"':
+			case '\\':
+			case '/':
+				put(c);
+				break;
+			case 'b':
+				put('\b');
+				break;
+			case 'f':
+				put('\f');
+				break;
+			case 'n':
+				put('\n');
+				break;
+			case 'r':
+				put('\r');
+				break;
+			case 't':
+				put('\t');
+				break;
+			default:
+				throw error("无效的转义字符");
+		}
+	}
+
+	// 未配对的高位代理按 '?' 输出
+	private void flushSurrogate() {
+		if (highSurrogate != 0) {
+			highSurrogate = 0;
+			put('?');
+		}
+	}
+
+	private void putCodePoint(int cp) {
+		if (cp < 0x80) {
+			put(cp);
+		}
+		else if (cp < 0x800) {
+			put(0xC0 | cp >> 6);
+			put(0x80 | cp & 0x3F);
+		}
+		else if (cp < 0x10000) {
+			put(0xE0 | cp >> 12);
+			put(0x80 | cp >> 6 & 0x3F);
+			put(0x80 | cp & 0x3F);
+		}
+		else {
+			put(0xF0 | cp >> 18);
+			put(0x80 | cp >> 12 & 0x3F);
+			put(0x80 | cp >> 6 & 0x3F);
+			put(0x80 | cp & 0x3F);
+		}
+	}
+
+	private void put(int b) {
+		if (textLength == text.length) {
+			if (textLength >= MAX_TEXT_LENGTH) {
+				throw error("字段值超过 " + MAX_TEXT_LENGTH + " 字节");
+			}
+			byte[] larger = new byte[Math.min(text.length * 2, MAX_TEXT_LENGTH)];
+			System.arraycopy(text, 0, larger, 0, textLength);
+			text = larger;
+		}
+		text[textLength++] = (byte) b;
+	}
+
+	// 取整数部分，小数和指数部分只读过
+	private long readNumber(int first) throws IOException {
+		boolean negative = first == '-';
+		long value = negative ? 0 : first - '0';
+		boolean integer = true;
+		while (true) {
+			int b = peek();
+			if (b >= '0' && b <= '9') {
+				if (integer) {
+					value = value * 10 + (b - '0');
+				}
+			}
+			else if (b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-') {
+				integer = false;
+			}
+			else {
+				return negative ? -value : value;
+			}
+			pos++;
+		}
+	}
+
+	private void skipLiteral() throws IOException {
+		int b = peek();
+		while (b >= 'a' && b <= 'z') {
+			pos++;
+			b = peek();
+		}
+	}
+
+	private static long parseLong(String value) {
+		try {
+			return Long.parseLong(value);
+		}
+		catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	// 跳过空白后的下一个字节，结束时为 -1
+	private int next() throws IOException {
+		while (true) {
+			int b = read();
+			if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+				return b;
+			}
+		}
+	}
+
+	private int read() throws IOException {
+		if (pos == limit && !fill()) {
+			return -1;
+		}
+		return buf[pos++] & 0xFF;
+	}
+
+	private int peek() throws IOException {
+		if (pos == limit && !fill()) {
+			return -1;
+		}
+		return buf[pos] & 0xFF;
+	}
+
+	private boolean fill() throws IOException {
+		if (in == null) {
+			return false;
+		}
+		int n = in.read(buf, 0, buf.length);
+		if (n <= 0) {
+			return false;
+		}
+		consumed += limit;
+		pos = 0;
+		limit = n;
+		return true;
+	}
+
+	private IllegalArgumentException error(String message) {
+		return new IllegalArgumentException("车牌识别推送格式错误: " + message + "，位置 " + (consumed + pos));
+	}
+
+	private static byte[] ascii(String s) {
+		return s.getBytes(StandardCharsets.US_ASCII);
+	}
+
+}
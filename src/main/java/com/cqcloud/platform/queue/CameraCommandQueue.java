@@ -0,0 +1,463 @@
+package com.cqcloud.platform.queue;
+
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.jfr.QueueWaitEvent;
+import com.cqcloud.platform.json.Rs485JsonWriter;
+import com.cqcloud.platform.tracing.LaneTracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 按相机序列号（serialno）分别排队的下发命令，在相机下一次心跳或轮询应答时合并进 rs485_data
+ * <p>
+ * 车位数变化、广告更新、延迟的缴费语音等异步更新没有对应的相机推送，先放入队列，由心跳应答带出：
+ * <ul>
+ * <li>每台相机的队列有容量上限，满时淘汰优先级最低、最晚入队的命令；新命令优先级不高于它时拒绝入队</li>
+ * <li>按优先级从高到低、同优先级按入队顺序取出</li>
+ * <li>指定合并键的命令会替换队列中同键的旧命令（如同一行的显示内容只保留最新的一条），保留旧命令的排队位置</li>
+ * <li>每次应答最多带出 maxFramesPerResponse 帧，剩余的留到下一次</li>
+ * </ul>
+ * 车牌识别推送的应答不必从队列取帧，或只用剩余的帧数额度，异步更新不会拖慢识别结果的下发。线程安全。
+ * <p>
+ * 取出时每帧的排队时间记录为JFR事件 {@link QueueWaitEvent}（合并替换的命令按最初入队时间计），并报告给
+ * {@link LaneTracing}：入队时的追踪上下文随命令保存，带出时关联到当前应答的追踪。
+ *
+ * <pre>
+ * Frame frame = Rs485CPUtils.buildDisplayFrame(2, 3, "车位12个");
+ * queue.offer(serialno, frame, CameraCommandQueue.PRIORITY_LOW, CameraCommandQueue.lineKey(frame));
+ * // 心跳应答
+ * Rs485JsonWriter writer = new Rs485JsonWriter(out).begin(Rs485JsonWriter.NO_ERROR, 0).gpio("off", "io1");
+ * queue.drainTo(serialno, writer);
+ * writer.end();
+ * </pre>
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class CameraCommandQueue {
+
+	/**
+	 * 低优先级（广告、车位数等可延迟的刷新）
+	 */
+	public static final int PRIORITY_LOW = 0;
+
+	/**
+	 * 普通优先级
+	 */
+	public static final int PRIORITY_NORMAL = 5;
+
+	/**
+	 * 高优先级（缴费语音等需尽快送达的命令）
+	 */
+	public static final int PRIORITY_HIGH = 10;
+
+	/**
+	 * 默认每台相机的队列容量
+	 */
+	public static final int DEFAULT_CAPACITY = 64;
+
+	/**
+	 * 默认每次应答最多带出的帧数
+	 */
+	public static final int DEFAULT_MAX_FRAMES_PER_RESPONSE = 8;
+
+	private final ConcurrentMap<String, CameraQueue> queues = new ConcurrentHashMap<>();
+
+	private final int capacity;
+
+	private final int maxFramesPerResponse;
+
+	private final LongAdder rejected = new LongAdder();
+
+	private final LongAdder evicted = new LongAdder();
+
+	private final LongAdder coalesced = new LongAdder();
+
+	private volatile Consumer<String> cameraListener;
+
+	public CameraCommandQueue() {
+		this(DEFAULT_CAPACITY, DEFAULT_MAX_FRAMES_PER_RESPONSE);
+	}
+
+	/**
+	 * @param capacity 每台相机的队列容量
+	 * @param maxFramesPerResponse 每次应答最多带出的帧数
+	 */
+	public CameraCommandQueue(int capacity, int maxFramesPerResponse) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("队列容量必须大于0: " + capacity);
+		}
+		if (maxFramesPerResponse <= 0) {
+			throw new IllegalArgumentException("每次应答帧数必须大于0: " + maxFramesPerResponse);
+		}
+		this.capacity = capacity;
+		this.maxFramesPerResponse = maxFramesPerResponse;
+	}
+
+	/**
+	 * 显示行的合并键：设备地址、命令码和数据首字节（行号），同一屏同一行的显示命令只保留最新一条
+	 */
+	public static String lineKey(Frame frame) {
+		int line = frame.getPayloadLength() > 0 ? frame.get(frame.getPayloadOffset()) & 0xFF : -1;
+		return frame.getAddress() + ":" + frame.getCommand() + ":" + line;
+	}
+
+	/**
+	 * 普通优先级入队，不合并
+	 * @return 是否入队
+	 */
+	public boolean offer(String serialno, Frame frame) {
+		return offer(serialno, frame, PRIORITY_NORMAL, null);
+	}
+
+	/**
+	 * 入队，不合并
+	 * @return 是否入队
+	 */
+	public boolean offer(String serialno, Frame frame, int priority) {
+		return offer(serialno, frame, priority, null);
+	}
+
+	/**
+	 * 入队
+	 * @param serialno 相机序列号
+	 * @param frame 数据帧
+	 * @param priority 优先级，越大越先下发
+	 * @param coalesceKey 合并键，null表示不合并
+	 * @return 是否入队；队列已满且新命令优先级不高于队中最低者时返回 false
+	 */
+	public boolean offer(String serialno, Frame frame, int priority, String coalesceKey) {
+		if (frame == null) {
+			throw new IllegalArgumentException("frame 不能为空");
+		}
+		for (;;) {
+			int result = queue(serialno).offer(frame, priority, coalesceKey);
+			// 队列在入队前已被移除，重新取得该相机的新队列
+			if (result != CameraQueue.CLOSED) {
+				return result == CameraQueue.ACCEPTED;
+			}
+		}
+	}
+
+	/**
+	 * 一组帧按顺序以同一优先级入队（如一个完整场景），不合并
+	 * @return 入队的帧数
+	 */
+	public int offerAll(String serialno, FrameBatch frames, int priority) {
+		for (;;) {
+			int count = queue(serialno).offerAll(frames, priority);
+			if (count != CameraQueue.CLOSED) {
+				return count;
+			}
+		}
+	}
+
+	/**
+	 * 取出最多 maxFramesPerResponse 帧
+	 */
+	public List<Frame> drain(String serialno) {
+		return drain(serialno, maxFramesPerResponse);
+	}
+
+	/**
+	 * 取出帧
+	 * @param serialno 相机序列号
+	 * @param maxFrames 本次最多取出的帧数，超过 maxFramesPerResponse 时按 maxFramesPerResponse
+	 * @return 按下发顺序排列的帧，没有时为空列表
+	 */
+	public List<Frame> drain(String serialno, int maxFrames) {
+		CameraQueue queue = queues.get(serialno);
+		int limit = Math.min(maxFrames, maxFramesPerResponse);
+		if (queue == null || limit <= 0) {
+			return Collections.emptyList();
+		}
+		return queue.drain(limit);
+	}
+
+	/**
+	 * 取出最多 maxFramesPerResponse 帧并写入应答，须在 {@link Rs485JsonWriter#begin(String, int)} 之后、
+	 * {@link Rs485JsonWriter#end()} 之前调用
+	 * @return 写入的帧数
+	 */
+	public int drainTo(String serialno, Rs485JsonWriter writer) {
+		return drainTo(serialno, writer, maxFramesPerResponse);
+	}
+
+	/**
+	 * 取出帧并写入应答
+	 * @param maxFrames 本次最多写入的帧数（如应答中已有识别结果的帧时传入剩余额度）
+	 * @return 写入的帧数
+	 */
+	public int drainTo(String serialno, Rs485JsonWriter writer, int maxFrames) {
+		List<Frame> frames = drain(serialno, maxFrames);
+		for (Frame frame : frames) {
+			writer.frame(frame);
+		}
+		return frames.size();
+	}
+
+	/**
+	 * 待下发的帧数
+	 */
+	public int size(String serialno) {
+		CameraQueue queue = queues.get(serialno);
+		return queue == null ? 0 : queue.size();
+	}
+
+	/**
+	 * 清空并移除相机的队列（如相机下线）；之后的入队使用新的队列，不会写入已移除的队列而丢失
+	 * @return 丢弃的帧数
+	 */
+	public int remove(String serialno) {
+		CameraQueue queue = queues.remove(serialno);
+		return queue == null ? 0 : queue.close();
+	}
+
+	/**
+	 * 清空并移除所有相机的队列（如创建检查点前丢弃不应在恢复后下发的命令）
+	 * @return 丢弃的帧数
+	 */
+	public int clear() {
+		int dropped = 0;
+		for (String serialno : queues.keySet()) {
+			dropped += remove(serialno);
+		}
+		return dropped;
+	}
+
+	/**
+	 * 当前有队列的相机序列号（只读视图）
+	 */
+	public Set<String> cameras() {
+		return Collections.unmodifiableSet(queues.keySet());
+	}
+
+	/**
+	 * 设置新相机首次入队时的回调（如注册该相机的队列深度指标），在入队线程中调用
+	 */
+	public void setCameraListener(Consumer<String> cameraListener) {
+		this.cameraListener = cameraListener;
+	}
+
+	/**
+	 * 因队列已满被拒绝的命令数
+	 */
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+
+	/**
+	 * 因队列已满被更高优先级命令淘汰的命令数
+	 */
+	public long getEvictedCount() {
+		return evicted.sum();
+	}
+
+	/**
+	 * 被同合并键的新命令替换的命令数
+	 */
+	public long getCoalescedCount() {
+		return coalesced.sum();
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public int getMaxFramesPerResponse() {
+		return maxFramesPerResponse;
+	}
+
+	private CameraQueue queue(String serialno) {
+		if (serialno == null) {
+			throw new IllegalArgumentException("serialno 不能为空");
+		}
+		CameraQueue queue = queues.get(serialno);
+		if (queue != null) {
+			return queue;
+		}
+		CameraQueue created = new CameraQueue(this, serialno);
+		queue = queues.putIfAbsent(serialno, created);
+		if (queue != null) {
+			return queue;
+		}
+		Consumer<String> listener = cameraListener;
+		if (listener != null) {
+			listener.accept(serialno);
+		}
+		return created;
+	}
+
+	/**
+	 * 单台相机的队列
+	 */
+	private static final class CameraQueue {
+
+		static final int ACCEPTED = 1;
+
+		static final int REJECTED = 0;
+
+		// 已从 queues 移除，调用方须重新取得队列
+		static final int CLOSED = -1;
+
+		// 优先级从高到低，同优先级按入队顺序
+		private final TreeSet<Entry> entries = new TreeSet<>();
+
+		private final Map<String, Entry> coalesced = new HashMap<>();
+
+		private final CameraCommandQueue owner;
+
+		private final String serialno;
+
+		private long sequence;
+
+		private boolean closed;
+
+		CameraQueue(CameraCommandQueue owner, String serialno) {
+			this.owner = owner;
+			this.serialno = serialno;
+		}
+
+		synchronized int offer(Frame frame, int priority, String coalesceKey) {
+			if (closed) {
+				return CLOSED;
+			}
+			return add(frame, priority, coalesceKey) ? ACCEPTED : REJECTED;
+		}
+
+		/**
+		 * 一组帧在同一次加锁内入队，不会一部分写入已移除的队列
+		 * @return 入队的帧数，已移除时为 {@link #CLOSED}
+		 */
+		synchronized int offerAll(FrameBatch frames, int priority) {
+			if (closed) {
+				return CLOSED;
+			}
+			int count = 0;
+			for (int i = 0; i < frames.size(); i++) {
+				if (add(frames.get(i), priority, null)) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * 标记为已移除并清空
+		 * @return 丢弃的帧数
+		 */
+		synchronized int close() {
+			closed = true;
+			int dropped = entries.size();
+			entries.clear();
+			coalesced.clear();
+			return dropped;
+		}
+
+		private boolean add(Frame frame, int priority, String coalesceKey) {
+			Object traceContext = LaneTracing.capture();
+			Entry previous = coalesceKey != null ? coalesced.get(coalesceKey) : null;
+			if (previous != null) {
+				owner.coalesced.increment();
+				entries.remove(previous);
+				Entry entry = new Entry(frame, priority, previous.sequence, coalesceKey, previous.offeredNanos,
+						traceContext);
+				entries.add(entry);
+				coalesced.put(coalesceKey, entry);
+				return true;
+			}
+			if (entries.size() >= owner.capacity) {
+				Entry lowest = entries.last();
+				if (lowest.priority >= priority) {
+					owner.rejected.increment();
+					return false;
+				}
+				remove(lowest);
+				owner.evicted.increment();
+			}
+			Entry entry = new Entry(frame, priority, sequence++, coalesceKey, System.nanoTime(), traceContext);
+			entries.add(entry);
+			if (coalesceKey != null) {
+				coalesced.put(coalesceKey, entry);
+			}
+			return true;
+		}
+
+		synchronized List<Frame> drain(int limit) {
+			int count = Math.min(limit, entries.size());
+			if (count == 0) {
+				return Collections.emptyList();
+			}
+			List<Frame> frames = new ArrayList<>(count);
+			long now = System.nanoTime();
+			for (int i = 0; i < count; i++) {
+				Entry entry = entries.pollFirst();
+				if (entry.coalesceKey != null) {
+					coalesced.remove(entry.coalesceKey);
+				}
+				Frame frame = entry.frame;
+				frames.add(frame);
+				new QueueWaitEvent().commit(serialno, frame.getCommand(), frame.getAddress(), frame.getSerial(),
+						entry.priority, now - entry.offeredNanos);
+				LaneTracing.dequeued(entry.traceContext, serialno, frame, now - entry.offeredNanos);
+			}
+			return frames;
+		}
+
+		synchronized int size() {
+			return entries.size();
+		}
+
+		private void remove(Entry entry) {
+			entries.remove(entry);
+			if (entry.coalesceKey != null) {
+				coalesced.remove(entry.coalesceKey);
+			}
+		}
+
+	}
+
+	private static final class Entry implements Comparable<Entry> {
+
+		final Frame frame;
+
+		final int priority;
+
+		final long sequence;
+
+		final String coalesceKey;
+
+		final long offeredNanos;
+
+		final Object traceContext;
+
+		Entry(Frame frame, int priority, long sequence, String coalesceKey, long offeredNanos, Object traceContext) {
+			this.frame = frame;
+			this.priority = priority;
+			this.sequence = sequence;
+			this.coalesceKey = coalesceKey;
+			this.offeredNanos = offeredNanos;
+			this.traceContext = traceContext;
+		}
+
+		@Override
+		public int compareTo(Entry o) {
+			if (priority != o.priority) {
+				return priority > o.priority ? -1 : 1;
+			}
+			return Long.compare(sequence, o.sequence);
+		}
+
+	}
+
+}
@@ -1,5 +1,19 @@
 package com.cqcloud.platform.rs485;
 
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.crc.CRC16Util;
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.frame.FrameEncoder;
+import com.cqcloud.platform.frame.Payloads;
+import com.cqcloud.platform.frame.SceneTemplate;
+import com.cqcloud.platform.frame.SequenceAllocator;
+import com.cqcloud.platform.json.EncodeType;
+import com.cqcloud.platform.json.Rs485JsonWriter;
+
+import java.io.OutputStream;
+
 /**
  * 彩屏
  *
@@ -8,17 +22,12 @@ package com.cqcloud.platform.rs485;
  */
 public class Rs485CPUtils {
 
-	// 流水号计数器
-	private static int serialNumber = 0x20;
+	// 流水号分配器，每个设备地址独立计数
+	static final SequenceAllocator SERIAL_NUMBERS = new SequenceAllocator(0x20);
 
 	// 设备地址（默认100=0x64）
 	private static final int DEFAULT_ADDRESS = 0x64;
 
-	// 帧头帧尾定义
-	private static final String FRAME_HEADER = "AA55";
-
-	private static final String FRAME_TAIL = "AF";
-
 	// ==================== 语音索引常量 ====================
 	public static final int WELCOME = 0x01; // 欢迎光临
 
@@ -46,39 +55,89 @@ public class Rs485CPUtils {
 	public static final int[] NUMBER_VOICE = { 0x30, 0x31, 0x32, 0x33, 0x34, 0x35, 0x36, 0x37, 0x38, 0x39 // 0-9
 	};
 
+	// 入场场景模板：变量0为车牌，变量1为剩余车位数
+	static final SceneTemplate ENTRY_SCENE = SceneTemplate.builder()
+		.frame(0x37)
+		.bytes(1, 0x00, 0, 0x00)
+		.text("欢迎光临")
+		.frame(0x37)
+		.bytes(2, 0x00, 3, 0x00)
+		.slot(0)
+		.frame(0x37)
+		.bytes(3, 0x00, 4, 0x00)
+		.text("一车一杆自动识别")
+		.frame(0x37)
+		.bytes(4, 0x00, 8, 0x00)
+		.text("剩余车位")
+		.number(1, 0)
+		.text("个")
+		.frame(0x22)
+		.slot(0)
+		.bytes(WELCOME) // 车牌 + 欢迎光临
+		.frame(0x22)
+		.bytes(PLEASE_ENTER) // 请入场停车
+		.build();
+
+	// 出场场景模板：变量0为车牌，变量1为金额；数字语音索引即ASCII数字，金额语音直接按十进制写入
+	static final SceneTemplate EXIT_SCENE = SceneTemplate.builder()
+		.frame(0x37)
+		.bytes(1, 0x00, 0, 0x00)
+		.text("一路平安")
+		.frame(0x37)
+		.bytes(2, 0x00, 3, 0x00)
+		.slot(0)
+		.frame(0x37)
+		.bytes(3, 0x00, 4, 0x00)
+		.text("缴费")
+		.number(1, 0)
+		.text("元")
+		.frame(0x37)
+		.bytes(4, 0x00, 8, 0x00)
+		.text("谢谢光临")
+		.frame(0x22)
+		.slot(0)
+		.bytes(PAYMENT) // 车牌 + 请缴费
+		.frame(0x22)
+		.bytes(PAYMENT)
+		.number(1, 0)
+		.bytes(YUAN) // 请缴费XX元
+		.frame(0x22)
+		.bytes(SMOOTH_JOURNEY) // 一路顺风
+		.build();
+
 	// ==================== 核心工具方法 ====================
 
 	/**
 	 * 获取下一个流水号
 	 */
-	private static String getNextSerialNumber() {
-		String serial = String.format("%02X", serialNumber);
-		serialNumber = (serialNumber + 1) & 0xFF; // 循环0-255
-		return serial;
+	private static int getNextSerialNumber() {
+		return SERIAL_NUMBERS.next(DEFAULT_ADDRESS);
 	}
 
 	/**
 	 * 构建完整的数据帧
 	 */
 	public static String buildFrame(String command, String data) {
-		String serial = getNextSerialNumber();
-		String address = String.format("%02X", DEFAULT_ADDRESS);
-		String reserved = "00";
-
-		// 计算数据长度（字节数）
-		int dataLength = data.length() / 2;
-		String lengthHex = String.format("%04X", dataLength);
+		return FrameEncoder.encodeHex(getNextSerialNumber(), DEFAULT_ADDRESS, Integer.parseInt(command, 16), data);
+	}
 
-		// 构建数据部分
-		String frameData = serial + address + reserved + command + lengthHex + data;
+	/**
+	 * 构建完整的数据帧（二进制，直接写入字节数组）
+	 * @param command 命令码
+	 * @param data 数据
+	 * @return 完整的数据帧
+	 */
+	public static byte[] buildFrame(int command, byte[] data) {
+		return FrameEncoder.encode(getNextSerialNumber(), DEFAULT_ADDRESS, command, data);
+	}
 
-		// 计算CRC
-		String dataForCRC = frameData + "0000";
-		byte[] dataBytes = hexStringToByteArray(dataForCRC);
-		int crc = usMBCRC16(dataBytes, dataBytes.length);
-		String crcHex = String.format("%04X", crc);
+	private static FrameBatch render(SceneTemplate scene, Object... values) {
+		int serial = SERIAL_NUMBERS.reserve(SequenceAllocator.DEFAULT_BUS, DEFAULT_ADDRESS, scene.size());
+		return scene.render(serial, DEFAULT_ADDRESS, values);
+	}
 
-		return FRAME_HEADER + frameData + crcHex + FRAME_TAIL;
+	private static Frame frame(int command, byte[] data) {
+		return FrameEncoder.encodeFrame(getNextSerialNumber(), DEFAULT_ADDRESS, command, data);
 	}
 
 	/**
@@ -88,38 +147,14 @@ public class Rs485CPUtils {
 		if (str == null || str.isEmpty()) {
 			return "";
 		}
-		StringBuilder sb = new StringBuilder();
-		try {
-			byte[] bytes = str.getBytes("GBK");
-			for (byte b : bytes) {
-				sb.append(String.format("%02X", b & 0xFF));
-			}
-		}
-		catch (java.io.UnsupportedEncodingException e) {
-			// 降级处理
-			byte[] bytes = str.getBytes(java.nio.charset.StandardCharsets.UTF_8);
-			for (byte b : bytes) {
-				sb.append(String.format("%02X", b & 0xFF));
-			}
-		}
-		return sb.toString();
+		return HexCodec.toHexString(GbkCodec.encode(str)); // 使用GBK编码处理中文
 	}
 
 	/**
 	 * 十六进制字符串转字节数组
 	 */
 	public static byte[] hexStringToByteArray(String hexString) {
-		if (hexString == null || hexString.length() % 2 != 0) {
-			throw new IllegalArgumentException("Invalid hex string");
-		}
-
-		int len = hexString.length();
-		byte[] data = new byte[len / 2];
-		for (int i = 0; i < len; i += 2) {
-			data[i / 2] = (byte) ((Character.digit(hexString.charAt(i), 16) << 4)
-					+ Character.digit(hexString.charAt(i + 1), 16));
-		}
-		return data;
+		return HexCodec.decode(hexString);
 	}
 
 	// ==================== 显示控制方法 ====================
@@ -128,9 +163,14 @@ public class Rs485CPUtils {
 	 * 构建显示指令 (0x37) - 固定显示内容 协议格式：控制字1(行号) | 控制字2(00) | 控制字3(颜色) | 控制字4(00) | 内容
 	 */
 	public static String buildDisplayCommand(int line, int color, String content) {
-		String hexContent = stringToHex(content);
-		String controlData = String.format("%02X00%02X00", line, color) + hexContent;
-		return buildFrame("37", controlData);
+		return buildDisplayFrame(line, color, content).toHex();
+	}
+
+	/**
+	 * 构建显示指令 (0x37)，返回 {@link Frame}
+	 */
+	public static Frame buildDisplayFrame(int line, int color, String content) {
+		return frame(0x37, Payloads.text(content, line, 0x00, color, 0x00));
 	}
 
 	/**
@@ -172,39 +212,49 @@ public class Rs485CPUtils {
 	 * 构建单个语音播报指令 (0x22) 格式：语音索引(1字节)
 	 */
 	public static String buildVoiceCommand(int voiceIndex) {
-		String data = String.format("%02X", voiceIndex);
-		return buildFrame("22", data);
+		return buildVoiceFrame(voiceIndex).toHex();
+	}
+
+	/**
+	 * 构建单个语音播报指令 (0x22)，返回 {@link Frame}
+	 */
+	public static Frame buildVoiceFrame(int voiceIndex) {
+		return frame(0x22, Payloads.bytes(voiceIndex));
 	}
 
 	/**
 	 * 构建车牌号+语音播报指令 - 支持字符索引
 	 */
 	public static String buildPlateWithVoiceCommand(String plateNumber, char voiceChar) {
-		String plateHex = stringToHex(plateNumber);
-		String voiceHex = String.format("%02X", (int) voiceChar);
-		String data = plateHex + voiceHex;
-		return buildFrame("22", data);
+		return buildPlateWithVoiceFrame(plateNumber, voiceChar).toHex();
+	}
+
+	/**
+	 * 构建车牌号+语音播报指令，返回 {@link Frame}
+	 */
+	public static Frame buildPlateWithVoiceFrame(String plateNumber, int voiceIndex) {
+		return frame(0x22, Payloads.textThen(plateNumber, voiceIndex));
 	}
 
 	/**
 	 * 构建车牌号+语音播报指令 - 支持整数索引
 	 */
 	public static String buildPlateWithVoiceCommand(String plateNumber, int voiceIndex) {
-		String plateHex = stringToHex(plateNumber);
-		String voiceHex = String.format("%02X", voiceIndex);
-		String data = plateHex + voiceHex;
-		return buildFrame("22", data);
+		return buildPlateWithVoiceFrame(plateNumber, voiceIndex).toHex();
 	}
 
 	/**
 	 * 构建多语音组合指令 格式：多个语音索引连续
 	 */
 	public static String buildMultiVoiceCommand(int[] voiceIndexes) {
-		StringBuilder data = new StringBuilder();
-		for (int index : voiceIndexes) {
-			data.append(String.format("%02X", index));
-		}
-		return buildFrame("22", data.toString());
+		return buildMultiVoiceFrame(voiceIndexes).toHex();
+	}
+
+	/**
+	 * 构建多语音组合指令，返回 {@link Frame}
+	 */
+	public static Frame buildMultiVoiceFrame(int[] voiceIndexes) {
+		return frame(0x22, Payloads.bytes(voiceIndexes));
 	}
 
 	// ==================== 具体语音业务方法（使用字符索引）====================
@@ -294,35 +344,41 @@ public class Rs485CPUtils {
 	 * 构建入场完整场景（显示+语音）- 使用字符索引
 	 */
 	public static String[] buildEntryScene(String plateNumber, int parkingSpaceCount) {
-		return new String[] {
-				// 显示内容
-				buildDisplayCommand(1, 0, "欢迎光临"), buildDisplayCommand(2, 3, plateNumber),
-				buildDisplayCommand(3, 4, "一车一杆自动识别"), buildDisplayCommand(4, 8, "剩余车位" + parkingSpaceCount + "个"),
-				// 语音播报 - 使用字符索引
-				buildPlateWelcomeVoice(plateNumber), // 车牌 + 欢迎光临
-				buildPleaseEnterVoice() // 请入场停车
-		};
+		return buildEntrySceneFrames(plateNumber, parkingSpaceCount).toHexArray();
+	}
+
+	/**
+	 * 构建入场完整场景（显示+语音），各帧连续存放
+	 */
+	public static FrameBatch buildEntrySceneFrames(String plateNumber, int parkingSpaceCount) {
+		return render(ENTRY_SCENE, plateNumber, parkingSpaceCount);
 	}
 
 	/**
 	 * 构建出场完整场景（显示+语音）- 使用字符索引
 	 */
 	public static String[] buildExitScene(String plateNumber, int amount) {
-		return new String[] {
-				// 显示内容
-				buildDisplayCommand(1, 0, "一路平安"), buildDisplayCommand(2, 3, plateNumber),
-				buildDisplayCommand(3, 4, "缴费" + amount + "元"), buildDisplayCommand(4, 8, "谢谢光临"),
-				// 语音播报 - 使用字符索引
-				buildPlatePaymentVoice(plateNumber), // 车牌 + 请缴费
-				buildPaymentAmountVoice(amount), // XX元
-				buildSmoothJourneyVoice() // 一路顺风
-		};
+		return buildExitSceneFrames(plateNumber, amount).toHexArray();
+	}
+
+	/**
+	 * 构建出场完整场景（显示+语音），各帧连续存放
+	 */
+	public static FrameBatch buildExitSceneFrames(String plateNumber, int amount) {
+		return render(EXIT_SCENE, plateNumber, amount);
 	}
 
 	/**
 	 * 构建请缴费XX元语音
 	 */
 	public static String buildPaymentAmountVoice(int amount) {
+		return buildPaymentAmountVoiceFrame(amount).toHex();
+	}
+
+	/**
+	 * 构建请缴费XX元语音，返回 {@link Frame}
+	 */
+	public static Frame buildPaymentAmountVoiceFrame(int amount) {
 		String amountStr = String.valueOf(amount);
 		int[] digits = new int[amountStr.length()];
 		for (int i = 0; i < amountStr.length(); i++) {
@@ -338,7 +394,7 @@ public class Rs485CPUtils {
 
 		voiceIndexes[voiceIndexes.length - 1] = YUAN; // 元
 
-		return buildMultiVoiceCommand(voiceIndexes);
+		return buildMultiVoiceFrame(voiceIndexes);
 	}
 
 	/**
@@ -369,69 +425,8 @@ public class Rs485CPUtils {
 	 * CRC16校验算法
 	 */
 	public static int usMBCRC16(byte[] pucFrame, int usLen) {
-		byte ucCRCHi = (byte) 0xFF;
-		byte ucCRCLo = (byte) 0xFF;
-		int iIndex;
-		int i = 0;
-
-		while (usLen-- > 0) {
-			iIndex = (ucCRCLo ^ pucFrame[i++]) & 0xFF;
-			ucCRCLo = (byte) (ucCRCHi ^ aucCRCHi[iIndex]);
-			ucCRCHi = aucCRCLo[iIndex];
-		}
-		return ((ucCRCHi & 0xFF) << 8) | (ucCRCLo & 0xFF);
-	}
-
-	// CRC16查找表
-	private static final byte[] aucCRCHi = { 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0,
-			(byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81,
-			0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01,
-			(byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01,
-			(byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81,
-			0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0,
-			(byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40 };
-
-	private static final byte[] aucCRCLo = { 0x00, (byte) 0xC0, (byte) 0xC1, 0x01, (byte) 0xC3, 0x03, 0x02, (byte) 0xC2,
-			(byte) 0xC6, 0x06, 0x07, (byte) 0xC7, 0x05, (byte) 0xC5, (byte) 0xC4, 0x04, (byte) 0xCC, 0x0C, 0x0D,
-			(byte) 0xCD, 0x0F, (byte) 0xCF, (byte) 0xCE, 0x0E, 0x0A, (byte) 0xCA, (byte) 0xCB, 0x0B, (byte) 0xC9, 0x09,
-			0x08, (byte) 0xC8, (byte) 0xD8, 0x18, 0x19, (byte) 0xD9, 0x1B, (byte) 0xDB, (byte) 0xDA, 0x1A, 0x1E,
-			(byte) 0xDE, (byte) 0xDF, 0x1F, (byte) 0xDD, 0x1D, 0x1C, (byte) 0xDC, 0x14, (byte) 0xD4, (byte) 0xD5, 0x15,
-			(byte) 0xD7, 0x17, 0x16, (byte) 0xD6, (byte) 0xD2, 0x12, 0x13, (byte) 0xD3, 0x11, (byte) 0xD1, (byte) 0xD0,
-			0x10, (byte) 0xF0, 0x30, 0x31, (byte) 0xF1, 0x33, (byte) 0xF3, (byte) 0xF2, 0x32, 0x36, (byte) 0xF6,
-			(byte) 0xF7, 0x37, (byte) 0xF5, 0x35, 0x34, (byte) 0xF4, 0x3C, (byte) 0xFC, (byte) 0xFD, 0x3D, (byte) 0xFF,
-			0x3F, 0x3E, (byte) 0xFE, (byte) 0xFA, 0x3A, 0x3B, (byte) 0xFB, 0x39, (byte) 0xF9, (byte) 0xF8, 0x38, 0x28,
-			(byte) 0xE8, (byte) 0xE9, 0x29, (byte) 0xEB, 0x2B, 0x2A, (byte) 0xEA, (byte) 0xEE, 0x2E, 0x2F, (byte) 0xEF,
-			0x2D, (byte) 0xED, (byte) 0xEC, 0x2C, (byte) 0xE4, 0x24, 0x25, (byte) 0xE5, 0x27, (byte) 0xE7, (byte) 0xE6,
-			0x26, 0x22, (byte) 0xE2, (byte) 0xE3, 0x23, (byte) 0xE1, 0x21, 0x20, (byte) 0xE0, (byte) 0xA0, 0x60, 0x61,
-			(byte) 0xA1, 0x63, (byte) 0xA3, (byte) 0xA2, 0x62, 0x66, (byte) 0xA6, (byte) 0xA7, 0x67, (byte) 0xA5, 0x65,
-			0x64, (byte) 0xA4, 0x6C, (byte) 0xAC, (byte) 0xAD, 0x6D, (byte) 0xAF, 0x6F, 0x6E, (byte) 0xAE, (byte) 0xAA,
-			0x6A, 0x6B, (byte) 0xAB, 0x69, (byte) 0xA9, (byte) 0xA8, 0x68, 0x78, (byte) 0xB8, (byte) 0xB9, 0x79,
-			(byte) 0xBB, 0x7B, 0x7A, (byte) 0xBA, (byte) 0xBE, 0x7E, 0x7F, (byte) 0xBF, 0x7D, (byte) 0xBD, (byte) 0xBC,
-			0x7C, (byte) 0xB4, 0x74, 0x75, (byte) 0xB5, 0x77, (byte) 0xB7, (byte) 0xB6, 0x76, 0x72, (byte) 0xB2,
-			(byte) 0xB3, 0x73, (byte) 0xB1, 0x71, 0x70, (byte) 0xB0, 0x50, (byte) 0x90, (byte) 0x91, 0x51, (byte) 0x93,
-			0x53, 0x52, (byte) 0x92, (byte) 0x96, 0x56, 0x57, (byte) 0x97, 0x55, (byte) 0x95, (byte) 0x94, 0x54,
-			(byte) 0x9C, 0x5C, 0x5D, (byte) 0x9D, 0x5F, (byte) 0x9F, (byte) 0x9E, 0x5E, 0x5A, (byte) 0x9A, (byte) 0x9B,
-			0x5B, (byte) 0x99, 0x59, 0x58, (byte) 0x98, (byte) 0x88, 0x48, 0x49, (byte) 0x89, 0x4B, (byte) 0x8B,
-			(byte) 0x8A, 0x4A, 0x4E, (byte) 0x8E, (byte) 0x8F, 0x4F, (byte) 0x8D, 0x4D, 0x4C, (byte) 0x8C, 0x44,
-			(byte) 0x84, (byte) 0x85, 0x45, (byte) 0x87, 0x47, 0x46, (byte) 0x86, (byte) 0x82, 0x42, 0x43, (byte) 0x83,
-			0x41, (byte) 0x81, (byte) 0x80, 0x40 };
+		return CRC16Util.update(CRC16Util.INITIAL, pucFrame, 0, usLen);
+	}
 
 	// ==================== 测试方法 ====================
 
@@ -472,9 +467,11 @@ public class Rs485CPUtils {
 	 * @return JSON格式字符串
 	 */
 	public static String buildRs485Json(String command) {
-		return String.format(
-				"{\"error_str\":\"noerror\",\"gpio_data\":[{\"action\":\"off\",\"ionum\":\"io1\"}],\"error_num\":0,\"rs485_data\":[{\"encodetype\":\"hex2string\",\"data\":\"%s\"}]}",
-				command);
+		return new Rs485JsonWriter().begin(Rs485JsonWriter.NO_ERROR, 0)
+			.gpio("off", "io1")
+			.hex(command)
+			.end()
+			.toString();
 	}
 
 	/**
@@ -483,20 +480,7 @@ public class Rs485CPUtils {
 	 * @return JSON格式字符串
 	 */
 	public static String buildRs485Json(String[] commands) {
-		StringBuilder rs485Data = new StringBuilder();
-		rs485Data.append("[");
-
-		for (int i = 0; i < commands.length; i++) {
-			rs485Data.append(String.format("{\"encodetype\":\"hex2string\",\"data\":\"%s\"}", commands[i]));
-			if (i < commands.length - 1) {
-				rs485Data.append(",");
-			}
-		}
-		rs485Data.append("]");
-
-		return String.format(
-				"{\"error_str\":\"noerror\",\"gpio_data\":[{\"action\":\"on\",\"ionum\":\"io1\"}],\"error_num\":0,\"rs485_data\":%s}",
-				rs485Data.toString());
+		return buildRs485Json(commands, "on", "io1");
 	}
 
 	/**
@@ -507,36 +491,82 @@ public class Rs485CPUtils {
 	 * @return JSON格式字符串
 	 */
 	public static String buildRs485Json(String[] commands, String gpioAction, String gpioNum) {
-		StringBuilder rs485Data = new StringBuilder();
-		rs485Data.append("[");
-
-		for (int i = 0; i < commands.length; i++) {
-			rs485Data.append(String.format("{\"encodetype\":\"hex2string\",\"data\":\"%s\"}", commands[i]));
-			if (i < commands.length - 1) {
-				rs485Data.append(",");
-			}
-		}
-		rs485Data.append("]");
+		return new Rs485JsonWriter().begin(Rs485JsonWriter.NO_ERROR, 0)
+			.gpio(gpioAction, gpioNum)
+			.hex(commands)
+			.end()
+			.toString();
+	}
+
+	/**
+	 * 按指定编码方式构建多帧的RS485 JSON格式（GPIO默认 "on"/"io1"）
+	 * @param frames 数据帧
+	 * @param encodeType 帧数据编码方式
+	 * @return JSON格式字符串
+	 */
+	public static String buildRs485Json(FrameBatch frames, EncodeType encodeType) {
+		return new Rs485JsonWriter().encodeType(encodeType)
+			.begin(Rs485JsonWriter.NO_ERROR, 0)
+			.gpio("on", "io1")
+			.frames(frames)
+			.end()
+			.toString();
+	}
+
+	/**
+	 * 将帧直接写为 rs485_data 应答JSON，帧数据由字节转为十六进制写出，不生成中间字符串
+	 * @param out 输出（UTF-8）
+	 * @param frames 数据帧
+	 * @param gpioAction GPIO动作 ("on" 或 "off")
+	 * @param gpioNum GPIO编号 ("io1", "io2", 等)
+	 */
+	public static void writeRs485Json(OutputStream out, FrameBatch frames, String gpioAction, String gpioNum) {
+		writeRs485Json(out, frames, gpioAction, gpioNum, EncodeType.HEX2STRING);
+	}
 
-		return String.format(
-				"{\"error_str\":\"noerror\",\"gpio_data\":[{\"action\":\"%s\",\"ionum\":\"%s\"}],\"error_num\":0,\"rs485_data\":%s}",
-				gpioAction, gpioNum, rs485Data.toString());
+	/**
+	 * 将帧直接写为 rs485_data 应答JSON，帧数据按指定编码方式写出
+	 * @param out 输出（UTF-8）
+	 * @param frames 数据帧
+	 * @param gpioAction GPIO动作 ("on" 或 "off")
+	 * @param gpioNum GPIO编号 ("io1", "io2", 等)
+	 * @param encodeType 帧数据编码方式
+	 */
+	public static void writeRs485Json(OutputStream out, FrameBatch frames, String gpioAction, String gpioNum,
+			EncodeType encodeType) {
+		new Rs485JsonWriter(out).encodeType(encodeType)
+			.begin(Rs485JsonWriter.NO_ERROR, 0)
+			.gpio(gpioAction, gpioNum)
+			.frames(frames)
+			.end();
 	}
 
 	/**
 	 * 构建完整的业务场景JSON
 	 */
 	public static String buildEntrySceneJson(String plateNumber, int parkingSpaceCount) {
-		String[] commands = buildEntryScene(plateNumber, parkingSpaceCount);
-		return buildRs485Json(commands);
+		return buildEntrySceneJson(plateNumber, parkingSpaceCount, EncodeType.HEX2STRING);
+	}
+
+	/**
+	 * 按指定编码方式构建入场场景JSON
+	 */
+	public static String buildEntrySceneJson(String plateNumber, int parkingSpaceCount, EncodeType encodeType) {
+		return buildRs485Json(buildEntrySceneFrames(plateNumber, parkingSpaceCount), encodeType);
 	}
 
 	/**
 	 * 构建出场场景JSON
 	 */
 	public static String buildExitSceneJson(String plateNumber, int amount) {
-		String[] commands = buildExitScene(plateNumber, amount);
-		return buildRs485Json(commands);
+		return buildExitSceneJson(plateNumber, amount, EncodeType.HEX2STRING);
+	}
+
+	/**
+	 * 按指定编码方式构建出场场景JSON
+	 */
+	public static String buildExitSceneJson(String plateNumber, int amount, EncodeType encodeType) {
+		return buildRs485Json(buildExitSceneFrames(plateNumber, amount), encodeType);
 	}
 
 	/**
@@ -1,6 +1,14 @@
 package com.cqcloud.platform.rs485;
 
-import java.nio.charset.StandardCharsets;
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.crc.CRC16Util;
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.frame.FrameEncoder;
+import com.cqcloud.platform.frame.Payloads;
+import com.cqcloud.platform.frame.SceneTemplate;
+import com.cqcloud.platform.frame.SequenceAllocator;
 
 /**
  * RS485显示工具类
@@ -9,11 +17,6 @@ import java.nio.charset.StandardCharsets;
  */
 public class Rs485DisplayUtils {
 
-	// 帧头帧尾定义
-	private static final String FRAME_HEADER = "AA55";
-
-	private static final String FRAME_TAIL = "AF";
-
 	// 设备地址（默认100=0x64）
 	private static final int DEFAULT_ADDRESS = 0x64;
 
@@ -31,8 +34,44 @@ public class Rs485DisplayUtils {
 
 	public static final int COLOR_YELLOW = 3;
 
-	// 流水号计数器
-	private static int serialNumber = 0x20;
+	// 流水号分配器，每个设备地址独立计数
+	static final SequenceAllocator SERIAL_NUMBERS = new SequenceAllocator(0x20);
+
+	// 入场欢迎显示模板：变量0为车牌，变量1为剩余车位数
+	static final SceneTemplate ENTRY_WELCOME_DISPLAY = SceneTemplate.builder()
+		.frame(0x27)
+		.bytes(1, 0, COLOR_GREEN, 0x00)
+		.text("欢迎光临")
+		.frame(0x27)
+		.bytes(2, 0, COLOR_GREEN, 0x00)
+		.slot(0)
+		.frame(0x27)
+		.bytes(3, 0, COLOR_GREEN, 0x00)
+		.text("一车一杆自动识别")
+		.frame(0x27)
+		.bytes(4, 0, COLOR_GREEN, 0x00)
+		.text("剩余车位")
+		.number(1, 0)
+		.text("个")
+		.build();
+
+	// 出场显示模板：变量0为车牌，变量1为金额
+	static final SceneTemplate EXIT_DISPLAY = SceneTemplate.builder()
+		.frame(0x27)
+		.bytes(1, 0, COLOR_GREEN, 0x00)
+		.text("一路平安")
+		.frame(0x27)
+		.bytes(2, 0, COLOR_GREEN, 0x00)
+		.slot(0)
+		.frame(0x27)
+		.bytes(3, 0, COLOR_GREEN, 0x00)
+		.text("缴费")
+		.slot(1)
+		.text("元")
+		.frame(0x27)
+		.bytes(4, 0, COLOR_GREEN, 0x00)
+		.text("谢谢光临")
+		.build();
 
 	// ==================== 语音控制方法 ====================
 
@@ -77,7 +116,7 @@ public class Rs485DisplayUtils {
 	 * @return 完整的语音命令
 	 */
 	public static String buildSingleVoiceCommand(int voiceIndex) {
-		String data = String.format("%02X", voiceIndex);
+		String data = HexCodec.toHexString(voiceIndex);
 		return buildFrame(CMD_PLAY_VOICE, data);
 	}
 
@@ -128,7 +167,7 @@ public class Rs485DisplayUtils {
 	 */
 	public static String buildPlateWithVoiceCommand(String plateNumber, char voiceChar) {
 		String plateHex = stringToHex(plateNumber);
-		String voiceHex = String.format("%02X", (int) voiceChar);
+		String voiceHex = HexCodec.toHexString((int) voiceChar);
 		String data = plateHex + voiceHex;
 		return buildFrame("22", data);
 	}
@@ -138,7 +177,7 @@ public class Rs485DisplayUtils {
 	 */
 	public static String buildPlateWithVoiceCommand(String plateNumber, int voiceIndex) {
 		String plateHex = stringToHex(plateNumber);
-		String voiceHex = String.format("%02X", voiceIndex);
+		String voiceHex = HexCodec.toHexString(voiceIndex);
 		String data = plateHex + voiceHex;
 		return buildFrame("22", data);
 	}
@@ -166,7 +205,7 @@ public class Rs485DisplayUtils {
 	public static String buildMultiVoiceCommand(int[] voiceIndexes) {
 		StringBuilder data = new StringBuilder();
 		for (int index : voiceIndexes) {
-			data.append(String.format("%02X", index));
+			HexCodec.appendByte(data, index);
 		}
 		return buildFrame(CMD_PLAY_VOICE, data.toString());
 	}
@@ -315,35 +354,25 @@ public class Rs485DisplayUtils {
 	/**
 	 * 获取下一个流水号
 	 */
-	private static String getNextSerialNumber() {
-		String serial = String.format("%02X", serialNumber);
-		serialNumber = (serialNumber + 1) & 0xFF; // 循环0-255
-		return serial;
+	private static int getNextSerialNumber() {
+		return SERIAL_NUMBERS.next(DEFAULT_ADDRESS);
 	}
 
 	/**
 	 * 构建完整的数据帧
 	 */
 	public static String buildFrame(String command, String data) {
-		String serial = getNextSerialNumber();
-		String address = String.format("%02X", DEFAULT_ADDRESS);
-		String reserved = "00"; // 业务类型/保留
-
-		// 计算数据长度（字节数）
-		int dataLength = data.length() / 2;
-		String lengthHex = String.format("%04X", dataLength);
-
-		// 构建数据部分
-		String frameData = serial + address + reserved + command + lengthHex + data;
-
-		// 计算CRC（CRC位置用00 00填充）
-		String dataForCRC = frameData + "0000";
-		byte[] dataBytes = hexStringToByteArray(dataForCRC);
-		int crc = usMBCRC16(dataBytes, dataBytes.length);
-		String crcHex = String.format("%04X", crc);
+		return FrameEncoder.encodeHex(getNextSerialNumber(), DEFAULT_ADDRESS, Integer.parseInt(command, 16), data);
+	}
 
-		// 构建完整命令
-		return FRAME_HEADER + frameData + crcHex + FRAME_TAIL;
+	/**
+	 * 构建完整的数据帧（二进制，直接写入字节数组）
+	 * @param command 命令码
+	 * @param data 数据
+	 * @return 完整的数据帧
+	 */
+	public static byte[] buildFrame(int command, byte[] data) {
+		return FrameEncoder.encode(getNextSerialNumber(), DEFAULT_ADDRESS, command, data);
 	}
 
 	/**
@@ -354,16 +383,22 @@ public class Rs485DisplayUtils {
 	 * @param content 显示内容
 	 */
 	public static String buildLoadTempDisplayCommand(int line, int duration, int color, String content) {
-		String hexContent = stringToHex(content);
-		String controlData = String.format("%02X%02X%02X00", line, duration, color) + hexContent;
-		return buildFrame(CMD_LOAD_TEMP_DISPLAY, controlData);
+		return buildLoadTempDisplayFrame(line, duration, color, content).toHex();
+	}
+
+	/**
+	 * 构建下发临显内容指令 (0x27)，返回 {@link Frame}
+	 * @see #buildLoadTempDisplayCommand(int, int, int, String)
+	 */
+	public static Frame buildLoadTempDisplayFrame(int line, int duration, int color, String content) {
+		return FrameEncoder.encodeFrame(getNextSerialNumber(), DEFAULT_ADDRESS,
+				Integer.parseInt(CMD_LOAD_TEMP_DISPLAY, 16), Payloads.text(content, line, duration, color, 0x00));
 	}
 
 	/**
 	 * 构建长期显示的临显指令（简化版）
 	 */
 	public static String buildLoadTempDisplayCommand(int line, int color, String content) {
-		System.out.println("调用前显示:" + content);
 		return buildLoadTempDisplayCommand(line, 0, color, content);
 	}
 
@@ -392,12 +427,18 @@ public class Rs485DisplayUtils {
 	 * 构建带语音提示的智慧停车完整场景
 	 */
 	public static String[] buildSmartParkingScene(int parkingSpaceCount) {
-		String[] displayCommands = buildSmartParkingDisplay(parkingSpaceCount, COLOR_RED);
+		return buildSmartParkingSceneFrames(parkingSpaceCount).toHexArray();
+	}
 
+	/**
+	 * 构建智慧停车完整场景，各帧连续存放
+	 */
+	public static FrameBatch buildSmartParkingSceneFrames(int parkingSpaceCount) {
 		// 可以添加语音命令
 		// String voiceCommand = buildParkingSpaceVoice(parkingSpaceCount);
-
-		return displayCommands;
+		return FrameBatch.of(buildLoadTempDisplayFrame(1, 0, COLOR_RED, "智慧停车"),
+				buildLoadTempDisplayFrame(2, 0, COLOR_RED, "车位" + parkingSpaceCount + "个"),
+				buildLoadTempDisplayFrame(3, 0, COLOR_RED, "一车一杆"), buildLoadTempDisplayFrame(4, 0, COLOR_RED, "请勿跟车"));
 	}
 
 	/**
@@ -431,20 +472,33 @@ public class Rs485DisplayUtils {
 	 * 构建入场欢迎显示场景
 	 */
 	public static String[] buildEntryWelcomeDisplay(String plateNumber, int parkingSpaceCount) {
-		return new String[] { buildLoadTempDisplayCommand(1, COLOR_GREEN, "欢迎光临"),
-				buildLoadTempDisplayCommand(2, COLOR_GREEN, plateNumber),
-				buildLoadTempDisplayCommand(3, COLOR_GREEN, "一车一杆自动识别"),
-				buildLoadTempDisplayCommand(4, COLOR_GREEN, "剩余车位" + parkingSpaceCount + "个") };
+		return buildEntryWelcomeDisplayFrames(plateNumber, parkingSpaceCount).toHexArray();
+	}
+
+	/**
+	 * 构建入场欢迎显示场景，各帧连续存放（由预编码模板生成，只填入车牌和车位数）
+	 */
+	public static FrameBatch buildEntryWelcomeDisplayFrames(String plateNumber, int parkingSpaceCount) {
+		return render(ENTRY_WELCOME_DISPLAY, plateNumber, parkingSpaceCount);
 	}
 
 	/**
 	 * 构建出场显示场景
 	 */
 	public static String[] buildExitDisplay(String plateNumber, String amount) {
-		return new String[] { buildLoadTempDisplayCommand(1, COLOR_GREEN, "一路平安"),
-				buildLoadTempDisplayCommand(2, COLOR_GREEN, plateNumber),
-				buildLoadTempDisplayCommand(3, COLOR_GREEN, "缴费" + amount + "元"),
-				buildLoadTempDisplayCommand(4, COLOR_GREEN, "谢谢光临") };
+		return buildExitDisplayFrames(plateNumber, amount).toHexArray();
+	}
+
+	/**
+	 * 构建出场显示场景，各帧连续存放
+	 */
+	public static FrameBatch buildExitDisplayFrames(String plateNumber, String amount) {
+		return render(EXIT_DISPLAY, plateNumber, amount);
+	}
+
+	private static FrameBatch render(SceneTemplate scene, Object... values) {
+		int serial = SERIAL_NUMBERS.reserve(SequenceAllocator.DEFAULT_BUS, DEFAULT_ADDRESS, scene.size());
+		return scene.render(serial, DEFAULT_ADDRESS, values);
 	}
 
 	/**
@@ -466,7 +520,7 @@ public class Rs485DisplayUtils {
 	 * @param lineMask 行掩码 (按位操作: bit0=第1行, bit1=第2行, bit2=第3行, bit3=第4行)
 	 */
 	public static String buildCancelTempDisplayCommand(int lineMask) {
-		String data = String.format("%02X", lineMask & 0x0F);
+		String data = HexCodec.toHexString(lineMask & 0x0F);
 		return buildFrame(CMD_CANCEL_TEMP_DISPLAY, data);
 	}
 
@@ -497,107 +551,22 @@ public class Rs485DisplayUtils {
 		if (str == null || str.isEmpty()) {
 			return "";
 		}
-		StringBuilder sb = new StringBuilder();
-		try {
-			byte[] bytes = str.getBytes("GBK"); // 使用GBK编码处理中文
-			for (byte b : bytes) {
-				sb.append(String.format("%02X", b & 0xFF));
-			}
-		}
-		catch (java.io.UnsupportedEncodingException e) {
-			// 如果GBK不支持，使用默认编码
-			byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
-			for (byte b : bytes) {
-				sb.append(String.format("%02X", b & 0xFF));
-			}
-		}
-		return sb.toString();
+		return HexCodec.toHexString(GbkCodec.encode(str)); // 使用GBK编码处理中文
 	}
 
 	/**
 	 * 十六进制字符串转字节数组
 	 */
 	public static byte[] hexStringToByteArray(String hexString) {
-		if (hexString == null || hexString.length() % 2 != 0) {
-			throw new IllegalArgumentException("Invalid hex string");
-		}
-
-		int len = hexString.length();
-		byte[] data = new byte[len / 2];
-		for (int i = 0; i < len; i += 2) {
-			data[i / 2] = (byte) ((Character.digit(hexString.charAt(i), 16) << 4)
-					+ Character.digit(hexString.charAt(i + 1), 16));
-		}
-		return data;
+		return HexCodec.decode(hexString);
 	}
 
 	/**
 	 * CRC16校验算法
 	 */
 	public static int usMBCRC16(byte[] pucFrame, int usLen) {
-		byte ucCRCHi = (byte) 0xFF;
-		byte ucCRCLo = (byte) 0xFF;
-		int iIndex;
-		int i = 0;
-
-		while (usLen-- > 0) {
-			iIndex = (ucCRCLo ^ pucFrame[i++]) & 0xFF;
-			ucCRCLo = (byte) (ucCRCHi ^ aucCRCHi[iIndex]);
-			ucCRCHi = aucCRCLo[iIndex];
-		}
-		return ((ucCRCHi & 0xFF) << 8) | (ucCRCLo & 0xFF);
-	}
-
-	// CRC16查找表
-	private static final byte[] aucCRCHi = { 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0,
-			(byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81,
-			0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01,
-			(byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01,
-			(byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81,
-			0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0,
-			(byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40 };
-
-	private static final byte[] aucCRCLo = { 0x00, (byte) 0xC0, (byte) 0xC1, 0x01, (byte) 0xC3, 0x03, 0x02, (byte) 0xC2,
-			(byte) 0xC6, 0x06, 0x07, (byte) 0xC7, 0x05, (byte) 0xC5, (byte) 0xC4, 0x04, (byte) 0xCC, 0x0C, 0x0D,
-			(byte) 0xCD, 0x0F, (byte) 0xCF, (byte) 0xCE, 0x0E, 0x0A, (byte) 0xCA, (byte) 0xCB, 0x0B, (byte) 0xC9, 0x09,
-			0x08, (byte) 0xC8, (byte) 0xD8, 0x18, 0x19, (byte) 0xD9, 0x1B, (byte) 0xDB, (byte) 0xDA, 0x1A, 0x1E,
-			(byte) 0xDE, (byte) 0xDF, 0x1F, (byte) 0xDD, 0x1D, 0x1C, (byte) 0xDC, 0x14, (byte) 0xD4, (byte) 0xD5, 0x15,
-			(byte) 0xD7, 0x17, 0x16, (byte) 0xD6, (byte) 0xD2, 0x12, 0x13, (byte) 0xD3, 0x11, (byte) 0xD1, (byte) 0xD0,
-			0x10, (byte) 0xF0, 0x30, 0x31, (byte) 0xF1, 0x33, (byte) 0xF3, (byte) 0xF2, 0x32, 0x36, (byte) 0xF6,
-			(byte) 0xF7, 0x37, (byte) 0xF5, 0x35, 0x34, (byte) 0xF4, 0x3C, (byte) 0xFC, (byte) 0xFD, 0x3D, (byte) 0xFF,
-			0x3F, 0x3E, (byte) 0xFE, (byte) 0xFA, 0x3A, 0x3B, (byte) 0xFB, 0x39, (byte) 0xF9, (byte) 0xF8, 0x38, 0x28,
-			(byte) 0xE8, (byte) 0xE9, 0x29, (byte) 0xEB, 0x2B, 0x2A, (byte) 0xEA, (byte) 0xEE, 0x2E, 0x2F, (byte) 0xEF,
-			0x2D, (byte) 0xED, (byte) 0xEC, 0x2C, (byte) 0xE4, 0x24, 0x25, (byte) 0xE5, 0x27, (byte) 0xE7, (byte) 0xE6,
-			0x26, 0x22, (byte) 0xE2, (byte) 0xE3, 0x23, (byte) 0xE1, 0x21, 0x20, (byte) 0xE0, (byte) 0xA0, 0x60, 0x61,
-			(byte) 0xA1, 0x63, (byte) 0xA3, (byte) 0xA2, 0x62, 0x66, (byte) 0xA6, (byte) 0xA7, 0x67, (byte) 0xA5, 0x65,
-			0x64, (byte) 0xA4, 0x6C, (byte) 0xAC, (byte) 0xAD, 0x6D, (byte) 0xAF, 0x6F, 0x6E, (byte) 0xAE, (byte) 0xAA,
-			0x6A, 0x6B, (byte) 0xAB, 0x69, (byte) 0xA9, (byte) 0xA8, 0x68, 0x78, (byte) 0xB8, (byte) 0xB9, 0x79,
-			(byte) 0xBB, 0x7B, 0x7A, (byte) 0xBA, (byte) 0xBE, 0x7E, 0x7F, (byte) 0xBF, 0x7D, (byte) 0xBD, (byte) 0xBC,
-			0x7C, (byte) 0xB4, 0x74, 0x75, (byte) 0xB5, 0x77, (byte) 0xB7, (byte) 0xB6, 0x76, 0x72, (byte) 0xB2,
-			(byte) 0xB3, 0x73, (byte) 0xB1, 0x71, 0x70, (byte) 0xB0, 0x50, (byte) 0x90, (byte) 0x91, 0x51, (byte) 0x93,
-			0x53, 0x52, (byte) 0x92, (byte) 0x96, 0x56, 0x57, (byte) 0x97, 0x55, (byte) 0x95, (byte) 0x94, 0x54,
-			(byte) 0x9C, 0x5C, 0x5D, (byte) 0x9D, 0x5F, (byte) 0x9F, (byte) 0x9E, 0x5E, 0x5A, (byte) 0x9A, (byte) 0x9B,
-			0x5B, (byte) 0x99, 0x59, 0x58, (byte) 0x98, (byte) 0x88, 0x48, 0x49, (byte) 0x89, 0x4B, (byte) 0x8B,
-			(byte) 0x8A, 0x4A, 0x4E, (byte) 0x8E, (byte) 0x8F, 0x4F, (byte) 0x8D, 0x4D, 0x4C, (byte) 0x8C, 0x44,
-			(byte) 0x84, (byte) 0x85, 0x45, (byte) 0x87, 0x47, 0x46, (byte) 0x86, (byte) 0x82, 0x42, 0x43, (byte) 0x83,
-			0x41, (byte) 0x81, (byte) 0x80, 0x40 };
+		return CRC16Util.update(CRC16Util.INITIAL, pucFrame, 0, usLen);
+	}
 
 	// ==================== 测试方法 ====================
 
@@ -0,0 +1,230 @@
+package com.cqcloud.platform.rs485;
+
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.frame.FrameEncoder;
+import com.cqcloud.platform.frame.Payloads;
+import com.cqcloud.platform.frame.SceneTemplate;
+import com.cqcloud.platform.frame.SequenceAllocator;
+import com.cqcloud.platform.utils.DisplayVoiceUtils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils.ScreenEnum;
+
+/**
+ * 按屏幕类型和设备地址配置的场景服务，线程安全
+ * <p>
+ * 与静态工具类使用同一套预编译的场景模板和同一个流水号分配器，只是地址、默认颜色和显示时长可配置：
+ * <ul>
+ * <li>{@link ScreenEnum#STANDARD_HORIZONTAL}：{@link Rs485Utils}（0x27 临显）</li>
+ * <li>{@link ScreenEnum#COLOR_SCREEN}：{@link Rs485CPUtils}（0x37 显示）</li>
+ * <li>{@link ScreenEnum#SMALL_VERTICAL}：{@link Rs485XSPUtils}（0x29 四行显示）</li>
+ * <li>模组竖屏：{@link Rs485DisplayUtils}（0x27 临显，场景只含显示）</li>
+ * </ul>
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class Rs485SceneService {
+
+	private static final int CMD_LOAD_TEMP_DISPLAY = 0x27;
+
+	private static final int CMD_DISPLAY = 0x37;
+
+	private static final int CMD_SMALL_SCREEN_DISPLAY = 0x29;
+
+	private static final int SMALL_SCREEN_LINES = 4;
+
+	private final ScreenEnum screenType;
+
+	private final int address;
+
+	private final int color;
+
+	private final int duration;
+
+	private final BufferPool bufferPool;
+
+	private final SceneTemplate entryScene;
+
+	private final SceneTemplate exitScene;
+
+	private final SequenceAllocator serialNumbers;
+
+	/**
+	 * 使用屏幕类型的默认颜色、长期显示
+	 */
+	public Rs485SceneService(ScreenEnum screenType, int address) {
+		this(screenType, address, defaultColor(screenType), 0, BufferPool.shared());
+	}
+
+	/**
+	 * @param screenType 屏幕类型
+	 * @param address 设备地址（取低8位）
+	 * @param color {@link #displayLines(String...)} 的默认颜色，入场、出场场景使用模板内的颜色
+	 * @param duration {@link #displayLines(String...)} 的默认显示时长（秒，0=长期显示），只用于0x27临显
+	 * @param bufferPool 组帧时借用的缓冲池
+	 */
+	public Rs485SceneService(ScreenEnum screenType, int address, int color, int duration, BufferPool bufferPool) {
+		this(screenType, address, color, duration, bufferPool, null);
+	}
+
+	/**
+	 * @param screenType 屏幕类型
+	 * @param address 设备地址（取低8位）
+	 * @param color {@link #displayLines(String...)} 的默认颜色，入场、出场场景使用模板内的颜色
+	 * @param duration {@link #displayLines(String...)} 的默认显示时长（秒，0=长期显示），只用于0x27临显
+	 * @param bufferPool 组帧时借用的缓冲池
+	 * @param serialNumbers 流水号分配器，null 时与该屏幕类型的工具类共享（如启动预热传入独立的分配器，不占用共享的流水号）
+	 */
+	public Rs485SceneService(ScreenEnum screenType, int address, int color, int duration, BufferPool bufferPool,
+			SequenceAllocator serialNumbers) {
+		this.screenType = screenType;
+		this.address = address & 0xFF;
+		this.color = color;
+		this.duration = duration;
+		this.bufferPool = bufferPool;
+		SequenceAllocator shared;
+		switch (screenType) {
+			case STANDARD_HORIZONTAL:
+				this.entryScene = Rs485Utils.ENTRY_SCENE;
+				this.exitScene = Rs485Utils.EXIT_SCENE;
+				shared = Rs485Utils.SERIAL_NUMBERS;
+				break;
+			case COLOR_SCREEN:
+				this.entryScene = Rs485CPUtils.ENTRY_SCENE;
+				this.exitScene = Rs485CPUtils.EXIT_SCENE;
+				shared = Rs485CPUtils.SERIAL_NUMBERS;
+				break;
+			case SMALL_VERTICAL:
+				this.entryScene = Rs485XSPUtils.SMALL_SCREEN_ENTRY_SCENE;
+				this.exitScene = Rs485XSPUtils.SMALL_SCREEN_EXIT_SCENE;
+				shared = Rs485XSPUtils.SERIAL_NUMBERS;
+				break;
+			default:
+				this.entryScene = Rs485DisplayUtils.ENTRY_WELCOME_DISPLAY;
+				this.exitScene = Rs485DisplayUtils.EXIT_DISPLAY;
+				shared = Rs485DisplayUtils.SERIAL_NUMBERS;
+		}
+		this.serialNumbers = serialNumbers != null ? serialNumbers : shared;
+	}
+
+	/**
+	 * 屏幕类型的默认颜色（与该类屏幕场景首行一致）
+	 */
+	public static int defaultColor(ScreenEnum screenType) {
+		switch (screenType) {
+			case STANDARD_HORIZONTAL:
+				return Rs485Utils.COLOR_RED;
+			case COLOR_SCREEN:
+				return 0x00;
+			case SMALL_VERTICAL:
+				return 0x08;
+			default:
+				return Rs485DisplayUtils.COLOR_GREEN;
+		}
+	}
+
+	/**
+	 * 入场场景
+	 * @param plateNumber 车牌号
+	 * @param parkingSpaceCount 剩余车位数
+	 */
+	public FrameBatch entryScene(String plateNumber, int parkingSpaceCount) {
+		return render(entryScene, plateNumber, parkingSpaceCount);
+	}
+
+	/**
+	 * 出场场景
+	 * @param plateNumber 车牌号
+	 * @param amount 金额（元）
+	 */
+	public FrameBatch exitScene(String plateNumber, int amount) {
+		return render(exitScene, plateNumber, amount);
+	}
+
+	/**
+	 * 按默认颜色（及默认时长）显示多行文字，第i个参数为第i+1行
+	 * <p>
+	 * 小竖屏一帧下发四行，不足四行的留空；其他屏每行一帧。
+	 * @param lines 各行内容，null表示该行留空
+	 */
+	public FrameBatch displayLines(String... lines) {
+		if (screenType == ScreenEnum.SMALL_VERTICAL) {
+			return FrameBatch.of(smallScreenDisplay(lines));
+		}
+		Frame[] frames = new Frame[lines.length];
+		int serial = serialNumbers.reserve(SequenceAllocator.DEFAULT_BUS, address, lines.length);
+		for (int i = 0; i < lines.length; i++) {
+			String content = lines[i] != null ? lines[i] : "";
+			byte[] payload = screenType == ScreenEnum.COLOR_SCREEN ? Payloads.text(content, i + 1, 0x00, color, 0x00)
+					: Payloads.text(content, i + 1, duration, color, 0x00);
+			int command = screenType == ScreenEnum.COLOR_SCREEN ? CMD_DISPLAY : CMD_LOAD_TEMP_DISPLAY;
+			frames[i] = FrameEncoder.encodeFrame(serial + i, address, command, payload);
+		}
+		return FrameBatch.of(frames);
+	}
+
+	/**
+	 * 将各屏幕类型工具类和 {@link DisplayVoiceUtils} 的流水号全部重置为初始值，与冷启动时一致（如从CRaC检查点恢复后）
+	 */
+	public static void resetSerialNumbers() {
+		Rs485Utils.SERIAL_NUMBERS.resetAll();
+		Rs485CPUtils.SERIAL_NUMBERS.resetAll();
+		Rs485XSPUtils.SERIAL_NUMBERS.resetAll();
+		Rs485DisplayUtils.SERIAL_NUMBERS.resetAll();
+		DisplayVoiceUtils.resetSequenceNumbers();
+	}
+
+	public ScreenEnum getScreenType() {
+		return screenType;
+	}
+
+	public int getAddress() {
+		return address;
+	}
+
+	public int getColor() {
+		return color;
+	}
+
+	public int getDuration() {
+		return duration;
+	}
+
+	// 每行格式：0001 + 颜色 + 内容
+	private Frame smallScreenDisplay(String[] lines) {
+		if (lines.length > SMALL_SCREEN_LINES) {
+			throw new IllegalArgumentException("小竖屏最多4行: " + lines.length);
+		}
+		int capacity = SMALL_SCREEN_LINES * 3;
+		for (String line : lines) {
+			capacity += line != null ? GbkCodec.maxEncodedLength(line.length()) : 0;
+		}
+		byte[] payload = bufferPool.acquire(capacity);
+		byte[] frame = bufferPool.acquire(FrameEncoder.frameLength(capacity));
+		try {
+			int pos = 0;
+			for (int i = 0; i < SMALL_SCREEN_LINES; i++) {
+				payload[pos++] = 0x00;
+				payload[pos++] = 0x01;
+				payload[pos++] = (byte) color;
+				if (i < lines.length && lines[i] != null) {
+					pos += GbkCodec.encode(lines[i], payload, pos);
+				}
+			}
+			int length = FrameEncoder.encode(frame, 0, serialNumbers.next(address), address, CMD_SMALL_SCREEN_DISPLAY,
+					payload, 0, pos);
+			return Frame.of(frame, 0, length);
+		}
+		finally {
+			bufferPool.release(payload);
+			bufferPool.release(frame);
+		}
+	}
+
+	private FrameBatch render(SceneTemplate scene, Object... values) {
+		int serial = serialNumbers.reserve(SequenceAllocator.DEFAULT_BUS, address, scene.size());
+		return scene.render(serial, address, values);
+	}
+
+}
@@ -1,18 +1,30 @@
 package com.cqcloud.platform.rs485;
 
+import com.cqcloud.platform.buffer.ArenaFrame;
+import com.cqcloud.platform.buffer.FrameArena;
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.codec.TtsTemplate;
+import com.cqcloud.platform.crc.CRC16Util;
+import com.cqcloud.platform.frame.BatchFrameEncoder;
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.frame.FrameEncoder;
+import com.cqcloud.platform.frame.Payloads;
+import com.cqcloud.platform.frame.SceneTemplate;
+import com.cqcloud.platform.frame.SequenceAllocator;
 import com.cqcloud.platform.utils.UrlEncoderUtils;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * @author weimeilayer@gmail.com ✨
  * @date 💓💕 2025年8月27日 🐬🐇 💓💕
  */
 public class Rs485Utils {
 
-	// 帧头帧尾定义
-	private static final String FRAME_HEADER = "AA55";
-
-	private static final String FRAME_TAIL = "AF";
-
 	// 设备地址（默认100=0x64）
 	private static final int DEFAULT_ADDRESS = 0x64;
 
@@ -31,8 +43,52 @@ public class Rs485Utils {
 
 	public static final int COLOR_YELLOW = 3;
 
-	// 流水号计数器
-	private static int serialNumber = 0x6C;
+	// 流水号分配器，每个设备地址独立计数
+	static final SequenceAllocator SERIAL_NUMBERS = new SequenceAllocator(0x6C);
+
+	// 入场场景模板：变量0为车牌，变量1为车位数
+	static final SceneTemplate ENTRY_SCENE = SceneTemplate.builder()
+		.frame(0x27)
+		.bytes(1, COLOR_RED, 0x00)
+		.text("欢迎光临")
+		.frame(0x27)
+		.bytes(2, COLOR_RED, 0x00)
+		.slot(0)
+		.frame(0x27)
+		.bytes(3, COLOR_RED, 0x00)
+		.text("一车一杆自动识别")
+		.frame(0x27)
+		.bytes(4, COLOR_RED, 0x00)
+		.text("减速慢行")
+		.frame(0x27)
+		.bytes(6, 60, COLOR_GREEN, 0x00)
+		.text("剩余车位")
+		.number(1, 3)
+		.frame(0x22)
+		.slot(0)
+		.bytes(0x01) // 车牌+欢迎光临语音
+		.build();
+
+	// 出场场景模板：变量0为车牌，变量1为金额
+	static final SceneTemplate EXIT_SCENE = SceneTemplate.builder()
+		.frame(0x27)
+		.bytes(1, COLOR_RED, 0x00)
+		.text("一路平安")
+		.frame(0x27)
+		.bytes(2, COLOR_RED, 0x00)
+		.slot(0)
+		.frame(0x27)
+		.bytes(3, COLOR_RED, 0x00)
+		.text("请交费")
+		.slot(1)
+		.text("元")
+		.frame(0x27)
+		.bytes(4, COLOR_RED, 0x00)
+		.text("谢谢光临")
+		.frame(0x22)
+		.slot(0)
+		.bytes(0x02) // 车牌 + 一路平安语音
+		.build();
 
 	/**
 	 * 数字颜色定义
@@ -188,35 +244,76 @@ public class Rs485Utils {
 	/**
 	 * 获取下一个流水号
 	 */
-	private static String getNextSerialNumber() {
-		String serial = String.format("%02X", serialNumber);
-		serialNumber = (serialNumber + 1) & 0xFF; // 循环0-255
-		return serial;
+	private static int getNextSerialNumber() {
+		return SERIAL_NUMBERS.next(DEFAULT_ADDRESS);
 	}
 
 	/**
 	 * 构建完整的数据帧（基于实际通信格式）
 	 */
 	public static String buildFrame(String command, String data) {
-		String serial = getNextSerialNumber();
-		String address = String.format("%02X", DEFAULT_ADDRESS);
-		String reserved = "00"; // 业务类型/保留
+		return FrameEncoder.encodeHex(getNextSerialNumber(), DEFAULT_ADDRESS, Integer.parseInt(command, 16), data);
+	}
+
+	/**
+	 * 构建完整的数据帧（二进制，直接写入字节数组）
+	 * @param command 命令码
+	 * @param data 数据
+	 * @return 完整的数据帧
+	 */
+	public static byte[] buildFrame(int command, byte[] data) {
+		return FrameEncoder.encode(getNextSerialNumber(), DEFAULT_ADDRESS, command, data);
+	}
+
+	/**
+	 * 构建数据帧并直接写入堆外存储区，收到应答后调用 {@link ArenaFrame#release()}
+	 * @param arena 堆外存储区
+	 * @param command 命令码
+	 * @param data 数据
+	 * @return 存储区中的数据帧
+	 */
+	public static ArenaFrame buildFrame(FrameArena arena, int command, byte[] data) {
+		return arena.encode(getNextSerialNumber(), DEFAULT_ADDRESS, command, data);
+	}
 
-		// 计算数据长度（字节数）
-		int dataLength = data.length() / 2;
-		String lengthHex = String.format("%04X", dataLength);
+	private static Frame frame(String command, byte[] data) {
+		return FrameEncoder.encodeFrame(getNextSerialNumber(), DEFAULT_ADDRESS, Integer.parseInt(command, 16), data);
+	}
+
+	/**
+	 * 批量构建数据帧：同一命令发往多个地址，每帧取该地址的下一个流水号
+	 * @param command 命令码
+	 * @param data 数据
+	 * @param addresses 设备地址
+	 * @return 连续存放的数据帧
+	 */
+	public static FrameBatch buildFrames(int command, byte[] data, int... addresses) {
+		return BatchFrameEncoder.encode(nextSerialNumbers(addresses), addresses, command, data);
+	}
 
-		// 构建数据部分
-		String frameData = serial + address + reserved + command + lengthHex + data;
+	/**
+	 * 批量构建数据帧（十六进制）
+	 * @param command 命令码（十六进制）
+	 * @param data 数据（十六进制）
+	 * @param addresses 设备地址
+	 * @return 各帧十六进制字符串
+	 */
+	public static String[] buildFrames(String command, String data, int... addresses) {
+		return BatchFrameEncoder.encodeHex(nextSerialNumbers(addresses), addresses, Integer.parseInt(command, 16),
+				data);
+	}
 
-		// 计算CRC（CRC位置用00 00填充）
-		String dataForCRC = frameData + "0000";
-		byte[] dataBytes = hexStringToByteArray(dataForCRC);
-		int crc = usMBCRC16(dataBytes, dataBytes.length);
-		String crcHex = String.format("%04X", crc);
+	private static FrameBatch render(SceneTemplate scene, Object... values) {
+		int serial = SERIAL_NUMBERS.reserve(SequenceAllocator.DEFAULT_BUS, DEFAULT_ADDRESS, scene.size());
+		return scene.render(serial, DEFAULT_ADDRESS, values);
+	}
 
-		// 构建完整命令
-		return FRAME_HEADER + frameData + crcHex + FRAME_TAIL;
+	private static int[] nextSerialNumbers(int[] addresses) {
+		int[] serials = new int[addresses.length];
+		for (int i = 0; i < serials.length; i++) {
+			serials[i] = SERIAL_NUMBERS.next(addresses[i]);
+		}
+		return serials;
 	}
 
 	// ==================== 显示控制方法 ====================
@@ -229,9 +326,15 @@ public class Rs485Utils {
 	 * @param content 显示内容
 	 */
 	public static String buildLoadAdCommand(int line, int color, String content) {
-		String hexContent = stringToHex(content);
-		String controlData = String.format("%02X%02X00", line, color) + hexContent;
-		return buildFrame(CMD_LOAD_TEMP_DISPLAY, controlData);
+		return buildLoadAdFrame(line, color, content).toHex();
+	}
+
+	/**
+	 * 构建下发临显内容指令 (0x27)，返回 {@link Frame}
+	 * @see #buildLoadAdCommand(int, int, String)
+	 */
+	public static Frame buildLoadAdFrame(int line, int color, String content) {
+		return frame(CMD_LOAD_TEMP_DISPLAY, Payloads.text(content, line, color, 0x00));
 	}
 
 	/**
@@ -269,9 +372,15 @@ public class Rs485Utils {
 	 * @param voiceContent 语音内容组合
 	 */
 	public static String buildPlayVoiceCommand(String voiceContent) {
-		System.out.println("调用前语音:" + voiceContent);
-		String hexContent = stringToHex(voiceContent);
-		return buildFrame(CMD_PLAY_VOICE, hexContent);
+		return buildPlayVoiceFrame(voiceContent).toHex();
+	}
+
+	/**
+	 * 构建立即播报语音指令 (0x22)，返回 {@link Frame}
+	 * @param voiceContent 语音内容组合
+	 */
+	public static Frame buildPlayVoiceFrame(String voiceContent) {
+		return frame(CMD_PLAY_VOICE, Payloads.text(voiceContent));
 	}
 
 	/**
@@ -289,7 +398,7 @@ public class Rs485Utils {
 	public static String buildMultiVoiceCommand(int[] voiceIndexes) {
 		StringBuilder data = new StringBuilder();
 		for (int index : voiceIndexes) {
-			data.append(String.format("%02X", index));
+			HexCodec.appendByte(data, index);
 		}
 		return buildFrame(CMD_PLAY_VOICE, data.toString());
 	}
@@ -304,9 +413,15 @@ public class Rs485Utils {
 	 * @param content 显示内容
 	 */
 	public static String buildLoadTempDisplayCommand(int line, int duration, int color, String content) {
-		String hexContent = stringToHex(content);
-		String controlData = String.format("%02X%02X%02X00", line, duration, color) + hexContent;
-		return buildFrame(CMD_LOAD_TEMP_DISPLAY, controlData);
+		return buildLoadTempDisplayFrame(line, duration, color, content).toHex();
+	}
+
+	/**
+	 * 构建下发临显内容指令 (0x27)，返回 {@link Frame}
+	 * @see #buildLoadTempDisplayCommand(int, int, int, String)
+	 */
+	public static Frame buildLoadTempDisplayFrame(int line, int duration, int color, String content) {
+		return frame(CMD_LOAD_TEMP_DISPLAY, Payloads.text(content, line, duration, color, 0x00));
 	}
 
 	/**
@@ -316,8 +431,15 @@ public class Rs485Utils {
 	 * @param color 颜色 (1=红, 2=绿, 3=黄)
 	 */
 	public static String buildParkingSpaceCommand(int count, int duration, int color) {
+		return buildParkingSpaceFrame(count, duration, color).toHex();
+	}
+
+	/**
+	 * 构建剩余车位显示命令，返回 {@link Frame}
+	 */
+	public static Frame buildParkingSpaceFrame(int count, int duration, int color) {
 		String content = "剩余车位" + String.format("%03d", count);
-		return buildLoadTempDisplayCommand(6, duration, color, content); // 行号6为剩余车位虚拟行
+		return buildLoadTempDisplayFrame(6, duration, color, content); // 行号6为剩余车位虚拟行
 	}
 
 	/**
@@ -328,7 +450,7 @@ public class Rs485Utils {
 	 */
 	public static String buildLoadAdFixedDisplayCommand(int line, int color, String content) {
 		String hexContent = stringToHex(content);
-		String controlData = String.format("%02X%02X00", line, color) + hexContent;
+		String controlData = HexCodec.toHexString(line, color, 0x00) + hexContent;
 		return buildFrame(CMD_LOAD_TEMP_DISPLAY, controlData);
 	}
 
@@ -337,7 +459,7 @@ public class Rs485Utils {
 	 * @param lineMask 行掩码 (按位操作: bit0=第1行, bit1=第2行, bit2=第3行, bit3=第4行)
 	 */
 	public static String buildCancelTempDisplayCommand(int lineMask) {
-		String data = String.format("%02X", lineMask & 0x0F);
+		String data = HexCodec.toHexString(lineMask & 0x0F);
 		return buildFrame(CMD_CANCEL_TEMP_DISPLAY, data);
 	}
 
@@ -354,22 +476,28 @@ public class Rs485Utils {
 	 * 构建完整的入场显示场景
 	 */
 	public static String[] buildEntryScene(String plateNumber, int parkingSpace) {
-		return new String[] { buildLoadAdCommand(1, COLOR_RED, "欢迎光临"), buildLoadAdCommand(2, COLOR_RED, plateNumber),
-				buildLoadAdCommand(3, COLOR_RED, "一车一杆自动识别"), buildLoadAdCommand(4, COLOR_RED, "减速慢行"),
-				buildParkingSpaceCommand(parkingSpace, 60, COLOR_GREEN), buildPlayVoiceCommand(plateNumber + "\u0001") // 车牌
-																														// +
-																														// 欢迎光临语音
-		};
+		return buildEntrySceneFrames(plateNumber, parkingSpace).toHexArray();
+	}
+
+	/**
+	 * 构建完整的入场显示场景，各帧连续存放（由预编码模板生成，只填入车牌和车位数）
+	 */
+	public static FrameBatch buildEntrySceneFrames(String plateNumber, int parkingSpace) {
+		return render(ENTRY_SCENE, plateNumber, parkingSpace);
 	}
 
 	/**
 	 * 构建完整的出场显示场景
 	 */
 	public static String[] buildExitScene(String plateNumber, String amount) {
-		return new String[] { buildLoadAdCommand(1, COLOR_RED, "一路平安"), buildLoadAdCommand(2, COLOR_RED, plateNumber),
-				buildLoadAdCommand(3, COLOR_RED, "请交费" + amount + "元"), buildLoadAdCommand(4, COLOR_RED, "谢谢光临"),
-				buildPlayVoiceCommand(plateNumber + "\u0002") // 车牌 + 一路平安语音
-		};
+		return buildExitSceneFrames(plateNumber, amount).toHexArray();
+	}
+
+	/**
+	 * 构建完整的出场显示场景，各帧连续存放（由预编码模板生成，只填入车牌和金额）
+	 */
+	public static FrameBatch buildExitSceneFrames(String plateNumber, String amount) {
+		return render(EXIT_SCENE, plateNumber, amount);
 	}
 
 	// ==================== 工具方法 ====================
@@ -381,107 +509,22 @@ public class Rs485Utils {
 		if (str == null || str.isEmpty()) {
 			return "";
 		}
-		StringBuilder sb = new StringBuilder();
-		try {
-			byte[] bytes = str.getBytes("GBK"); // 使用GBK编码处理中文
-			for (byte b : bytes) {
-				sb.append(String.format("%02X", b & 0xFF));
-			}
-		}
-		catch (java.io.UnsupportedEncodingException e) {
-			// 如果GBK不支持，使用默认编码
-			for (char c : str.toCharArray()) {
-				sb.append(String.format("%02X", (int) c));
-			}
-		}
-		return sb.toString();
+		return HexCodec.toHexString(GbkCodec.encode(str)); // 使用GBK编码处理中文
 	}
 
 	/**
 	 * 十六进制字符串转字节数组
 	 */
 	public static byte[] hexStringToByteArray(String hexString) {
-		if (hexString == null || hexString.length() % 2 != 0) {
-			throw new IllegalArgumentException("Invalid hex string");
-		}
-
-		int len = hexString.length();
-		byte[] data = new byte[len / 2];
-		for (int i = 0; i < len; i += 2) {
-			data[i / 2] = (byte) ((Character.digit(hexString.charAt(i), 16) << 4)
-					+ Character.digit(hexString.charAt(i + 1), 16));
-		}
-		return data;
+		return HexCodec.decode(hexString);
 	}
 
 	/**
-	 * CRC16校验算法（保持原有实现）
+	 * CRC16校验算法（委托给 CRC16Util）
 	 */
 	public static int usMBCRC16(byte[] pucFrame, int usLen) {
-		// 原有的CRC16实现代码
-		byte ucCRCHi = (byte) 0xFF;
-		byte ucCRCLo = (byte) 0xFF;
-		int iIndex;
-		int i = 0;
-
-		while (usLen-- > 0) {
-			iIndex = (ucCRCLo ^ pucFrame[i++]) & 0xFF;
-			ucCRCLo = (byte) (ucCRCHi ^ aucCRCHi[iIndex]);
-			ucCRCHi = aucCRCLo[iIndex];
-		}
-		return ((ucCRCHi & 0xFF) << 8) | (ucCRCLo & 0xFF);
-	}
-
-	// CRC16查找表
-	private static final byte[] aucCRCHi = { 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0,
-			(byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81,
-			0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01,
-			(byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01,
-			(byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81,
-			0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0,
-			(byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40 };
-
-	private static final byte[] aucCRCLo = { 0x00, (byte) 0xC0, (byte) 0xC1, 0x01, (byte) 0xC3, 0x03, 0x02, (byte) 0xC2,
-			(byte) 0xC6, 0x06, 0x07, (byte) 0xC7, 0x05, (byte) 0xC5, (byte) 0xC4, 0x04, (byte) 0xCC, 0x0C, 0x0D,
-			(byte) 0xCD, 0x0F, (byte) 0xCF, (byte) 0xCE, 0x0E, 0x0A, (byte) 0xCA, (byte) 0xCB, 0x0B, (byte) 0xC9, 0x09,
-			0x08, (byte) 0xC8, (byte) 0xD8, 0x18, 0x19, (byte) 0xD9, 0x1B, (byte) 0xDB, (byte) 0xDA, 0x1A, 0x1E,
-			(byte) 0xDE, (byte) 0xDF, 0x1F, (byte) 0xDD, 0x1D, 0x1C, (byte) 0xDC, 0x14, (byte) 0xD4, (byte) 0xD5, 0x15,
-			(byte) 0xD7, 0x17, 0x16, (byte) 0xD6, (byte) 0xD2, 0x12, 0x13, (byte) 0xD3, 0x11, (byte) 0xD1, (byte) 0xD0,
-			0x10, (byte) 0xF0, 0x30, 0x31, (byte) 0xF1, 0x33, (byte) 0xF3, (byte) 0xF2, 0x32, 0x36, (byte) 0xF6,
-			(byte) 0xF7, 0x37, (byte) 0xF5, 0x35, 0x34, (byte) 0xF4, 0x3C, (byte) 0xFC, (byte) 0xFD, 0x3D, (byte) 0xFF,
-			0x3F, 0x3E, (byte) 0xFE, (byte) 0xFA, 0x3A, 0x3B, (byte) 0xFB, 0x39, (byte) 0xF9, (byte) 0xF8, 0x38, 0x28,
-			(byte) 0xE8, (byte) 0xE9, 0x29, (byte) 0xEB, 0x2B, 0x2A, (byte) 0xEA, (byte) 0xEE, 0x2E, 0x2F, (byte) 0xEF,
-			0x2D, (byte) 0xED, (byte) 0xEC, 0x2C, (byte) 0xE4, 0x24, 0x25, (byte) 0xE5, 0x27, (byte) 0xE7, (byte) 0xE6,
-			0x26, 0x22, (byte) 0xE2, (byte) 0xE3, 0x23, (byte) 0xE1, 0x21, 0x20, (byte) 0xE0, (byte) 0xA0, 0x60, 0x61,
-			(byte) 0xA1, 0x63, (byte) 0xA3, (byte) 0xA2, 0x62, 0x66, (byte) 0xA6, (byte) 0xA7, 0x67, (byte) 0xA5, 0x65,
-			0x64, (byte) 0xA4, 0x6C, (byte) 0xAC, (byte) 0xAD, 0x6D, (byte) 0xAF, 0x6F, 0x6E, (byte) 0xAE, (byte) 0xAA,
-			0x6A, 0x6B, (byte) 0xAB, 0x69, (byte) 0xA9, (byte) 0xA8, 0x68, 0x78, (byte) 0xB8, (byte) 0xB9, 0x79,
-			(byte) 0xBB, 0x7B, 0x7A, (byte) 0xBA, (byte) 0xBE, 0x7E, 0x7F, (byte) 0xBF, 0x7D, (byte) 0xBD, (byte) 0xBC,
-			0x7C, (byte) 0xB4, 0x74, 0x75, (byte) 0xB5, 0x77, (byte) 0xB7, (byte) 0xB6, 0x76, 0x72, (byte) 0xB2,
-			(byte) 0xB3, 0x73, (byte) 0xB1, 0x71, 0x70, (byte) 0xB0, 0x50, (byte) 0x90, (byte) 0x91, 0x51, (byte) 0x93,
-			0x53, 0x52, (byte) 0x92, (byte) 0x96, 0x56, 0x57, (byte) 0x97, 0x55, (byte) 0x95, (byte) 0x94, 0x54,
-			(byte) 0x9C, 0x5C, 0x5D, (byte) 0x9D, 0x5F, (byte) 0x9F, (byte) 0x9E, 0x5E, 0x5A, (byte) 0x9A, (byte) 0x9B,
-			0x5B, (byte) 0x99, 0x59, 0x58, (byte) 0x98, (byte) 0x88, 0x48, 0x49, (byte) 0x89, 0x4B, (byte) 0x8B,
-			(byte) 0x8A, 0x4A, 0x4E, (byte) 0x8E, (byte) 0x8F, 0x4F, (byte) 0x8D, 0x4D, 0x4C, (byte) 0x8C, 0x44,
-			(byte) 0x84, (byte) 0x85, 0x45, (byte) 0x87, 0x47, 0x46, (byte) 0x86, (byte) 0x82, 0x42, 0x43, (byte) 0x83,
-			0x41, (byte) 0x81, (byte) 0x80, 0x40 };
+		return CRC16Util.update(CRC16Util.INITIAL, pucFrame, 0, usLen);
+	}
 
 	// ==================== 二维码控制方法 ====================
 
@@ -513,7 +556,7 @@ public class Rs485Utils {
 	 */
 	public static String buildQrcodeCommand(int mode, int duration, int color, String content) {
 		String hexContent = stringToHex(UrlEncoderUtils.encodeUrlParams(content));
-		String controlData = String.format("%02X%02X%02X", mode, duration, color) + hexContent;
+		String controlData = HexCodec.toHexString(mode, duration, color) + hexContent;
 		return buildFrame("28", controlData);
 	}
 
@@ -628,10 +671,25 @@ public class Rs485Utils {
 
 	// ==================== TTS万能语音控制方法 ====================
 
-	/**
-	 * TTS命令头
-	 */
-	private static final String TTS_HEADER = "FD00";
+	// 常用播报的预编译模板
+	private static final TtsTemplate ENTRY_WELCOME_TTS = TtsTemplate.compile("{0}欢迎光临，请入场停车");
+
+	private static final TtsTemplate EXIT_BLESSING_TTS = TtsTemplate.compile("{0}一路平安，欢迎再次光临");
+
+	private static final TtsTemplate CONSUMPTION_TTS = TtsTemplate.compile("本次消费{0}元，欢迎再次光临");
+
+	private static final TtsTemplate PAYMENT_REMINDER_TTS = TtsTemplate.compile("请支付停车费{0}元");
+
+	private static final TtsTemplate PAYMENT_SCENE_TTS = TtsTemplate.compile("{0}请支付停车费{1}元");
+
+	private static final TtsTemplate PARKING_SPACE_TTS = TtsTemplate.compile("剩余车位{0}个，请合理安排");
+
+	// 调用方传入的模板/格式串解析后缓存，超过上限时清空
+	private static final int TTS_CACHE_LIMIT = 256;
+
+	private static final Map<String, TtsTemplate> TTS_TEMPLATES = new ConcurrentHashMap<>();
+
+	private static final Map<String, Optional<TtsTemplate>> TTS_FORMATS = new ConcurrentHashMap<>();
 
 	/**
 	 * 构建TTS万能语音播报指令
@@ -639,18 +697,8 @@ public class Rs485Utils {
 	 * @return TTS语音命令
 	 */
 	public static String buildTTSVoiceCommand(String text) {
-		// 构建内容："TTS" + 文本内容
-		String content = "TTS" + text;
-		String hexContent = stringToHex(content);
-
-		// 计算数据长度（内容字节数 + 3个固定参数字节）
-		int dataLength = hexContent.length() / 2 + 3;
-		String lengthHex = String.format("%02X", dataLength);
-
-		// 构建完整数据：长度 + 01 + 01 + 内容
-		String data = lengthHex + "0101" + hexContent;
-
-		return TTS_HEADER + data;
+		// FD00 + 长度 + 01 + 01 + "TTS" + 文本内容
+		return TtsTemplate.encodeHex(text);
 	}
 
 	/**
@@ -659,8 +707,7 @@ public class Rs485Utils {
 	 * @return 入场欢迎语音命令
 	 */
 	public static String buildEntryWelcomeTTS(String plateNumber) {
-		String text = plateNumber + "欢迎光临，请入场停车";
-		return buildTTSVoiceCommand(text);
+		return ENTRY_WELCOME_TTS.renderHex(plateNumber);
 	}
 
 	/**
@@ -669,8 +716,7 @@ public class Rs485Utils {
 	 * @return 出场祝福语音命令
 	 */
 	public static String buildExitBlessingTTS(String plateNumber) {
-		String text = plateNumber + "一路平安，欢迎再次光临";
-		return buildTTSVoiceCommand(text);
+		return EXIT_BLESSING_TTS.renderHex(plateNumber);
 	}
 
 	/**
@@ -679,8 +725,7 @@ public class Rs485Utils {
 	 * @return 消费提醒语音命令
 	 */
 	public static String buildConsumptionTTS(String amount) {
-		String text = "本次消费" + amount + "元，欢迎再次光临";
-		return buildTTSVoiceCommand(text);
+		return CONSUMPTION_TTS.renderHex(amount);
 	}
 
 	/**
@@ -689,8 +734,7 @@ public class Rs485Utils {
 	 * @return 支付提醒语音命令
 	 */
 	public static String buildPaymentReminderTTS(String amount) {
-		String text = "请支付停车费" + amount + "元";
-		return buildTTSVoiceCommand(text);
+		return PAYMENT_REMINDER_TTS.renderHex(amount);
 	}
 
 	/**
@@ -700,8 +744,7 @@ public class Rs485Utils {
 	 * @return 支付场景语音命令
 	 */
 	public static String buildPaymentSceneTTS(String plateNumber, String amount) {
-		String text = plateNumber + "请支付停车费" + amount + "元";
-		return buildTTSVoiceCommand(text);
+		return PAYMENT_SCENE_TTS.renderHex(plateNumber, amount);
 	}
 
 	/**
@@ -710,8 +753,7 @@ public class Rs485Utils {
 	 * @return 车位提醒语音命令
 	 */
 	public static String buildParkingSpaceTTS(int availableSpaces) {
-		String text = "剩余车位" + availableSpaces + "个，请合理安排";
-		return buildTTSVoiceCommand(text);
+		return PARKING_SPACE_TTS.renderHex(availableSpaces);
 	}
 
 	/**
@@ -721,11 +763,12 @@ public class Rs485Utils {
 	 * @return 自定义语音命令
 	 */
 	public static String buildTemplateTTS(String template, String... params) {
-		String result = template;
-		for (int i = 0; i < params.length; i++) {
-			result = result.replace("{" + i + "}", params[i]);
+		TtsTemplate compiled = TTS_TEMPLATES.get(template);
+		if (compiled == null) {
+			compiled = TtsTemplate.compile(template);
+			cache(TTS_TEMPLATES, template, compiled);
 		}
-		return buildTTSVoiceCommand(result);
+		return compiled.renderHex((Object[]) params);
 	}
 
 	/**
@@ -735,8 +778,23 @@ public class Rs485Utils {
 	 * @return 语音命令
 	 */
 	public static String buildFormattedTTS(String format, Object... args) {
-		String text = String.format(format, args);
-		return buildTTSVoiceCommand(text);
+		Optional<TtsTemplate> compiled = TTS_FORMATS.get(format);
+		if (compiled == null) {
+			compiled = Optional.ofNullable(TtsTemplate.compileFormat(format));
+			cache(TTS_FORMATS, format, compiled);
+		}
+		if (compiled.isPresent() && compiled.get().accepts(args)) {
+			return compiled.get().renderHex(args);
+		}
+		// 含其他格式说明符或参数不匹配，由 String.format 处理（包括抛出异常）
+		return buildTTSVoiceCommand(String.format(format, args));
+	}
+
+	private static <V> void cache(Map<String, V> cache, String key, V value) {
+		if (cache.size() >= TTS_CACHE_LIMIT) {
+			cache.clear();
+		}
+		cache.put(key, value);
 	}
 
 	// ==================== 测试方法 ====================
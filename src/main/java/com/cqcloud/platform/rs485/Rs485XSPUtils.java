@@ -1,5 +1,21 @@
 package com.cqcloud.platform.rs485;
 
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.crc.CRC16Util;
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.frame.FrameEncoder;
+import com.cqcloud.platform.frame.Payloads;
+import com.cqcloud.platform.frame.SceneTemplate;
+import com.cqcloud.platform.frame.SequenceAllocator;
+import com.cqcloud.platform.json.EncodeType;
+import com.cqcloud.platform.json.Rs485JsonWriter;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
 /**
  * 横屏(小竖屏)
  * @author weimeilayer@gmail.com ✨
@@ -7,17 +23,12 @@ package com.cqcloud.platform.rs485;
  */
 public class Rs485XSPUtils {
 
-	// 流水号计数器
-	private static int serialNumber = 0x20;
+	// 流水号分配器，每个设备地址独立计数
+	static final SequenceAllocator SERIAL_NUMBERS = new SequenceAllocator(0x20);
 
 	// 设备地址（默认100=0x64）
 	private static final int DEFAULT_ADDRESS = 0x64;
 
-	// 帧头帧尾定义
-	private static final String FRAME_HEADER = "AA55";
-
-	private static final String FRAME_TAIL = "AF";
-
 	// ==================== 语音索引常量 ====================
 	public static final int WELCOME = 0x01; // 欢迎光临
 
@@ -45,6 +56,62 @@ public class Rs485XSPUtils {
 	public static final int[] NUMBER_VOICE = { 0x30, 0x31, 0x32, 0x33, 0x34, 0x35, 0x36, 0x37, 0x38, 0x39 // 0-9
 	};
 
+	// 小竖屏入场显示模板：变量0为车牌，变量1为剩余车位数
+	private static final SceneTemplate SMALL_SCREEN_ENTRY = smallScreenEntry().build();
+
+	static final SceneTemplate SMALL_SCREEN_ENTRY_SCENE = smallScreenEntry().frame(0x22)
+		.slot(0)
+		.bytes(WELCOME) // 车牌欢迎语音
+		.frame(0x22)
+		.bytes(PLEASE_ENTER) // 请入场语音
+		.build();
+
+	// 小竖屏出场显示模板：变量0为车牌，变量1为金额
+	private static final SceneTemplate SMALL_SCREEN_EXIT = smallScreenExit().build();
+
+	// 数字语音索引即ASCII数字，金额语音直接按十进制写入
+	static final SceneTemplate SMALL_SCREEN_EXIT_SCENE = smallScreenExit().frame(0x22)
+		.slot(0)
+		.bytes(PAYMENT) // 车牌请缴费语音
+		.frame(0x22)
+		.bytes(PAYMENT)
+		.number(1, 0)
+		.bytes(YUAN) // 金额语音
+		.frame(0x22)
+		.bytes(SMOOTH_JOURNEY) // 一路顺风语音
+		.build();
+
+	private static SceneTemplate.Builder smallScreenEntry() {
+		// 每行格式：0001 + 颜色 + 内容
+		return SceneTemplate.builder()
+			.frame(0x29)
+			.bytes(0x00, 0x01, 0x08)
+			.text("欢迎光临")
+			.bytes(0x00, 0x01, 0x08)
+			.slot(0)
+			.bytes(0x00, 0x01, 0x08)
+			.text("一车一杆自动识别")
+			.bytes(0x00, 0x01, 0x08)
+			.text("剩余车位")
+			.number(1, 0)
+			.text("个");
+	}
+
+	private static SceneTemplate.Builder smallScreenExit() {
+		return SceneTemplate.builder()
+			.frame(0x29)
+			.bytes(0x00, 0x01, 0x08)
+			.text("一路平安")
+			.bytes(0x00, 0x01, 0x08)
+			.slot(0)
+			.bytes(0x00, 0x01, 0x08)
+			.text("缴费")
+			.slot(1)
+			.text("元")
+			.bytes(0x00, 0x01, 0x08)
+			.text("谢谢光临");
+	}
+
 	/**
 	 * 字符串转HEX (使用GBK编码处理中文)
 	 */
@@ -52,107 +119,22 @@ public class Rs485XSPUtils {
 		if (str == null || str.isEmpty()) {
 			return "";
 		}
-		StringBuilder sb = new StringBuilder();
-		try {
-			byte[] bytes = str.getBytes("GBK");
-			for (byte b : bytes) {
-				sb.append(String.format("%02X", b & 0xFF));
-			}
-		}
-		catch (java.io.UnsupportedEncodingException e) {
-			// 降级处理
-			byte[] bytes = str.getBytes(java.nio.charset.StandardCharsets.UTF_8);
-			for (byte b : bytes) {
-				sb.append(String.format("%02X", b & 0xFF));
-			}
-		}
-		return sb.toString();
+		return HexCodec.toHexString(GbkCodec.encode(str)); // 使用GBK编码处理中文
 	}
 
 	/**
 	 * 十六进制字符串转字节数组
 	 */
 	public static byte[] hexStringToByteArray(String hexString) {
-		if (hexString == null || hexString.length() % 2 != 0) {
-			throw new IllegalArgumentException("Invalid hex string");
-		}
-
-		int len = hexString.length();
-		byte[] data = new byte[len / 2];
-		for (int i = 0; i < len; i += 2) {
-			data[i / 2] = (byte) ((Character.digit(hexString.charAt(i), 16) << 4)
-					+ Character.digit(hexString.charAt(i + 1), 16));
-		}
-		return data;
+		return HexCodec.decode(hexString);
 	}
 
 	/**
 	 * CRC16校验算法
 	 */
 	public static int usMBCRC16(byte[] pucFrame, int usLen) {
-		byte ucCRCHi = (byte) 0xFF;
-		byte ucCRCLo = (byte) 0xFF;
-		int iIndex;
-		int i = 0;
-
-		while (usLen-- > 0) {
-			iIndex = (ucCRCLo ^ pucFrame[i++]) & 0xFF;
-			ucCRCLo = (byte) (ucCRCHi ^ aucCRCHi[iIndex]);
-			ucCRCHi = aucCRCLo[iIndex];
-		}
-		return ((ucCRCHi & 0xFF) << 8) | (ucCRCLo & 0xFF);
-	}
-
-	// CRC16查找表
-	private static final byte[] aucCRCHi = { 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0,
-			(byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81,
-			0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01,
-			(byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01,
-			(byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81,
-			0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1,
-			(byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00,
-			(byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0, (byte) 0x80, 0x41,
-			0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80,
-			0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40, 0x01, (byte) 0xC0, (byte) 0x80, 0x41, 0x01, (byte) 0xC0,
-			(byte) 0x80, 0x41, 0x00, (byte) 0xC1, (byte) 0x81, 0x40 };
-
-	private static final byte[] aucCRCLo = { 0x00, (byte) 0xC0, (byte) 0xC1, 0x01, (byte) 0xC3, 0x03, 0x02, (byte) 0xC2,
-			(byte) 0xC6, 0x06, 0x07, (byte) 0xC7, 0x05, (byte) 0xC5, (byte) 0xC4, 0x04, (byte) 0xCC, 0x0C, 0x0D,
-			(byte) 0xCD, 0x0F, (byte) 0xCF, (byte) 0xCE, 0x0E, 0x0A, (byte) 0xCA, (byte) 0xCB, 0x0B, (byte) 0xC9, 0x09,
-			0x08, (byte) 0xC8, (byte) 0xD8, 0x18, 0x19, (byte) 0xD9, 0x1B, (byte) 0xDB, (byte) 0xDA, 0x1A, 0x1E,
-			(byte) 0xDE, (byte) 0xDF, 0x1F, (byte) 0xDD, 0x1D, 0x1C, (byte) 0xDC, 0x14, (byte) 0xD4, (byte) 0xD5, 0x15,
-			(byte) 0xD7, 0x17, 0x16, (byte) 0xD6, (byte) 0xD2, 0x12, 0x13, (byte) 0xD3, 0x11, (byte) 0xD1, (byte) 0xD0,
-			0x10, (byte) 0xF0, 0x30, 0x31, (byte) 0xF1, 0x33, (byte) 0xF3, (byte) 0xF2, 0x32, 0x36, (byte) 0xF6,
-			(byte) 0xF7, 0x37, (byte) 0xF5, 0x35, 0x34, (byte) 0xF4, 0x3C, (byte) 0xFC, (byte) 0xFD, 0x3D, (byte) 0xFF,
-			0x3F, 0x3E, (byte) 0xFE, (byte) 0xFA, 0x3A, 0x3B, (byte) 0xFB, 0x39, (byte) 0xF9, (byte) 0xF8, 0x38, 0x28,
-			(byte) 0xE8, (byte) 0xE9, 0x29, (byte) 0xEB, 0x2B, 0x2A, (byte) 0xEA, (byte) 0xEE, 0x2E, 0x2F, (byte) 0xEF,
-			0x2D, (byte) 0xED, (byte) 0xEC, 0x2C, (byte) 0xE4, 0x24, 0x25, (byte) 0xE5, 0x27, (byte) 0xE7, (byte) 0xE6,
-			0x26, 0x22, (byte) 0xE2, (byte) 0xE3, 0x23, (byte) 0xE1, 0x21, 0x20, (byte) 0xE0, (byte) 0xA0, 0x60, 0x61,
-			(byte) 0xA1, 0x63, (byte) 0xA3, (byte) 0xA2, 0x62, 0x66, (byte) 0xA6, (byte) 0xA7, 0x67, (byte) 0xA5, 0x65,
-			0x64, (byte) 0xA4, 0x6C, (byte) 0xAC, (byte) 0xAD, 0x6D, (byte) 0xAF, 0x6F, 0x6E, (byte) 0xAE, (byte) 0xAA,
-			0x6A, 0x6B, (byte) 0xAB, 0x69, (byte) 0xA9, (byte) 0xA8, 0x68, 0x78, (byte) 0xB8, (byte) 0xB9, 0x79,
-			(byte) 0xBB, 0x7B, 0x7A, (byte) 0xBA, (byte) 0xBE, 0x7E, 0x7F, (byte) 0xBF, 0x7D, (byte) 0xBD, (byte) 0xBC,
-			0x7C, (byte) 0xB4, 0x74, 0x75, (byte) 0xB5, 0x77, (byte) 0xB7, (byte) 0xB6, 0x76, 0x72, (byte) 0xB2,
-			(byte) 0xB3, 0x73, (byte) 0xB1, 0x71, 0x70, (byte) 0xB0, 0x50, (byte) 0x90, (byte) 0x91, 0x51, (byte) 0x93,
-			0x53, 0x52, (byte) 0x92, (byte) 0x96, 0x56, 0x57, (byte) 0x97, 0x55, (byte) 0x95, (byte) 0x94, 0x54,
-			(byte) 0x9C, 0x5C, 0x5D, (byte) 0x9D, 0x5F, (byte) 0x9F, (byte) 0x9E, 0x5E, 0x5A, (byte) 0x9A, (byte) 0x9B,
-			0x5B, (byte) 0x99, 0x59, 0x58, (byte) 0x98, (byte) 0x88, 0x48, 0x49, (byte) 0x89, 0x4B, (byte) 0x8B,
-			(byte) 0x8A, 0x4A, 0x4E, (byte) 0x8E, (byte) 0x8F, 0x4F, (byte) 0x8D, 0x4D, 0x4C, (byte) 0x8C, 0x44,
-			(byte) 0x84, (byte) 0x85, 0x45, (byte) 0x87, 0x47, 0x46, (byte) 0x86, (byte) 0x82, 0x42, 0x43, (byte) 0x83,
-			0x41, (byte) 0x81, (byte) 0x80, 0x40 };
+		return CRC16Util.update(CRC16Util.INITIAL, pucFrame, 0, usLen);
+	}
 
 	// ==================== 小竖屏显示控制方法 ====================
 
@@ -162,18 +144,39 @@ public class Rs485XSPUtils {
 	 * @param colors 四行颜色数组
 	 */
 	public static String buildSmallScreenDisplayCommand(String[] lines, int[] colors) {
+		return buildSmallScreenDisplayFrame(lines, colors).toHex();
+	}
+
+	/**
+	 * 构建小竖屏显示指令 (0x29)，返回 {@link Frame}
+	 */
+	public static Frame buildSmallScreenDisplayFrame(String[] lines, int[] colors) {
 		if (lines.length != 4 || colors.length != 4) {
 			throw new IllegalArgumentException("必须提供4行内容和4个颜色");
 		}
 
-		StringBuilder content = new StringBuilder();
-		for (int i = 0; i < 4; i++) {
-			String hexContent = stringToHex(lines[i]);
-			// 格式：0001 + 颜色 + 内容
-			content.append(String.format("0001%02X", colors[i])).append(hexContent);
+		int capacity = 0;
+		for (String line : lines) {
+			capacity += 3 + GbkCodec.maxEncodedLength(line != null ? line.length() : 0);
+		}
+		BufferPool pool = BufferPool.shared();
+		byte[] content = pool.acquire(capacity);
+		try {
+			int pos = 0;
+			for (int i = 0; i < 4; i++) {
+				// 格式：0001 + 颜色 + 内容
+				content[pos++] = 0x00;
+				content[pos++] = 0x01;
+				content[pos++] = (byte) colors[i];
+				if (lines[i] != null) {
+					pos += GbkCodec.encode(lines[i], content, pos);
+				}
+			}
+			return frame(0x29, Arrays.copyOf(content, pos));
+		}
+		finally {
+			pool.release(content);
 		}
-
-		return buildFrame("29", content.toString());
 	}
 
 	/**
@@ -198,18 +201,28 @@ public class Rs485XSPUtils {
 	 * 构建小竖屏入场显示
 	 */
 	public static String buildSmallScreenEntry(String plateNumber, int parkingSpaceCount) {
-		String[] lines = { "欢迎光临", plateNumber, "一车一杆自动识别", "剩余车位" + parkingSpaceCount + "个" };
-		int[] colors = { 0x08, 0x08, 0x08, 0x08 };
-		return buildSmallScreenDisplayCommand(lines, colors);
+		return buildSmallScreenEntryFrame(plateNumber, parkingSpaceCount).toHex();
+	}
+
+	/**
+	 * 构建小竖屏入场显示，返回 {@link Frame}
+	 */
+	public static Frame buildSmallScreenEntryFrame(String plateNumber, int parkingSpaceCount) {
+		return SMALL_SCREEN_ENTRY.renderFrame(getNextSerialNumber(), DEFAULT_ADDRESS, plateNumber, parkingSpaceCount);
 	}
 
 	/**
 	 * 构建小竖屏出场显示
 	 */
 	public static String buildSmallScreenExit(String plateNumber, String amount) {
-		String[] lines = { "一路平安", plateNumber, "缴费" + amount + "元", "谢谢光临" };
-		int[] colors = { 0x08, 0x08, 0x08, 0x08 };
-		return buildSmallScreenDisplayCommand(lines, colors);
+		return buildSmallScreenExitFrame(plateNumber, amount).toHex();
+	}
+
+	/**
+	 * 构建小竖屏出场显示，返回 {@link Frame}
+	 */
+	public static Frame buildSmallScreenExitFrame(String plateNumber, String amount) {
+		return SMALL_SCREEN_EXIT.renderFrame(getNextSerialNumber(), DEFAULT_ADDRESS, plateNumber, amount);
 	}
 
 	// ==================== 小竖屏完整场景方法 ====================
@@ -218,51 +231,61 @@ public class Rs485XSPUtils {
 	 * 构建小竖屏入场完整场景（显示+语音）
 	 */
 	public static String[] buildSmallScreenEntryScene(String plateNumber, int parkingSpaceCount) {
-		return new String[] { buildSmallScreenEntry(plateNumber, parkingSpaceCount), // 显示
-				buildPlateWelcomeVoice(plateNumber), // 车牌欢迎语音
-				buildPleaseEnterVoice() // 请入场语音
-		};
+		return buildSmallScreenEntrySceneFrames(plateNumber, parkingSpaceCount).toHexArray();
+	}
+
+	/**
+	 * 构建小竖屏入场完整场景（显示+语音），各帧连续存放
+	 */
+	public static FrameBatch buildSmallScreenEntrySceneFrames(String plateNumber, int parkingSpaceCount) {
+		return render(SMALL_SCREEN_ENTRY_SCENE, plateNumber, parkingSpaceCount);
 	}
 
 	/**
 	 * 构建单个语音播报指令 (0x22) 格式：语音索引(1字节)
 	 */
 	public static String buildVoiceCommand(int voiceIndex) {
-		String data = String.format("%02X", voiceIndex);
-		return buildFrame("22", data);
+		return buildVoiceFrame(voiceIndex).toHex();
+	}
+
+	/**
+	 * 构建单个语音播报指令 (0x22)，返回 {@link Frame}
+	 */
+	public static Frame buildVoiceFrame(int voiceIndex) {
+		return frame(0x22, Payloads.bytes(voiceIndex));
+	}
+
+	private static FrameBatch render(SceneTemplate scene, Object... values) {
+		int serial = SERIAL_NUMBERS.reserve(SequenceAllocator.DEFAULT_BUS, DEFAULT_ADDRESS, scene.size());
+		return scene.render(serial, DEFAULT_ADDRESS, values);
 	}
 
 	/**
 	 * 获取下一个流水号
 	 */
-	private static String getNextSerialNumber() {
-		String serial = String.format("%02X", serialNumber);
-		serialNumber = (serialNumber + 1) & 0xFF; // 循环0-255
-		return serial;
+	private static int getNextSerialNumber() {
+		return SERIAL_NUMBERS.next(DEFAULT_ADDRESS);
 	}
 
 	/**
 	 * 构建完整的数据帧
 	 */
 	public static String buildFrame(String command, String data) {
-		String serial = getNextSerialNumber();
-		String address = String.format("%02X", DEFAULT_ADDRESS);
-		String reserved = "00";
-
-		// 计算数据长度（字节数）
-		int dataLength = data.length() / 2;
-		String lengthHex = String.format("%04X", dataLength);
-
-		// 构建数据部分
-		String frameData = serial + address + reserved + command + lengthHex + data;
+		return FrameEncoder.encodeHex(getNextSerialNumber(), DEFAULT_ADDRESS, Integer.parseInt(command, 16), data);
+	}
 
-		// 计算CRC
-		String dataForCRC = frameData + "0000";
-		byte[] dataBytes = hexStringToByteArray(dataForCRC);
-		int crc = usMBCRC16(dataBytes, dataBytes.length);
-		String crcHex = String.format("%04X", crc);
+	/**
+	 * 构建完整的数据帧（二进制，直接写入字节数组）
+	 * @param command 命令码
+	 * @param data 数据
+	 * @return 完整的数据帧
+	 */
+	public static byte[] buildFrame(int command, byte[] data) {
+		return FrameEncoder.encode(getNextSerialNumber(), DEFAULT_ADDRESS, command, data);
+	}
 
-		return FRAME_HEADER + frameData + crcHex + FRAME_TAIL;
+	private static Frame frame(int command, byte[] data) {
+		return FrameEncoder.encodeFrame(getNextSerialNumber(), DEFAULT_ADDRESS, command, data);
 	}
 
 	/**
@@ -283,21 +306,28 @@ public class Rs485XSPUtils {
 	 * 构建车牌号+语音播报指令 - 支持字符索引
 	 */
 	public static String buildPlateWithVoiceCommand(String plateNumber, char voiceChar) {
-		String plateHex = stringToHex(plateNumber);
-		String voiceHex = String.format("%02X", (int) voiceChar);
-		String data = plateHex + voiceHex;
-		return buildFrame("22", data);
+		return buildPlateWithVoiceFrame(plateNumber, voiceChar).toHex();
+	}
+
+	/**
+	 * 构建车牌号+语音播报指令，返回 {@link Frame}
+	 */
+	public static Frame buildPlateWithVoiceFrame(String plateNumber, int voiceIndex) {
+		return frame(0x22, Payloads.textThen(plateNumber, voiceIndex));
 	}
 
 	/**
 	 * 构建小竖屏出场完整场景（显示+语音）
 	 */
 	public static String[] buildSmallScreenExitScene(String plateNumber, int amount) {
-		return new String[] { buildSmallScreenExit(plateNumber, String.valueOf(amount)), // 显示
-				buildPlatePaymentVoice(plateNumber), // 车牌请缴费语音
-				buildPaymentAmountVoice(amount), // 金额语音
-				buildSmoothJourneyVoice() // 一路顺风语音
-		};
+		return buildSmallScreenExitSceneFrames(plateNumber, amount).toHexArray();
+	}
+
+	/**
+	 * 构建小竖屏出场完整场景（显示+语音），各帧连续存放
+	 */
+	public static FrameBatch buildSmallScreenExitSceneFrames(String plateNumber, int amount) {
+		return render(SMALL_SCREEN_EXIT_SCENE, plateNumber, amount);
 	}
 
 	/**
@@ -311,6 +341,13 @@ public class Rs485XSPUtils {
 	 * 构建请缴费XX元语音
 	 */
 	public static String buildPaymentAmountVoice(int amount) {
+		return buildPaymentAmountVoiceFrame(amount).toHex();
+	}
+
+	/**
+	 * 构建请缴费XX元语音，返回 {@link Frame}
+	 */
+	public static Frame buildPaymentAmountVoiceFrame(int amount) {
 		String amountStr = String.valueOf(amount);
 		int[] digits = new int[amountStr.length()];
 		for (int i = 0; i < amountStr.length(); i++) {
@@ -326,18 +363,21 @@ public class Rs485XSPUtils {
 
 		voiceIndexes[voiceIndexes.length - 1] = YUAN; // 元
 
-		return buildMultiVoiceCommand(voiceIndexes);
+		return buildMultiVoiceFrame(voiceIndexes);
 	}
 
 	/**
 	 * 构建多语音组合指令 格式：多个语音索引连续
 	 */
 	public static String buildMultiVoiceCommand(int[] voiceIndexes) {
-		StringBuilder data = new StringBuilder();
-		for (int index : voiceIndexes) {
-			data.append(String.format("%02X", index));
-		}
-		return buildFrame("22", data.toString());
+		return buildMultiVoiceFrame(voiceIndexes).toHex();
+	}
+
+	/**
+	 * 构建多语音组合指令，返回 {@link Frame}
+	 */
+	public static Frame buildMultiVoiceFrame(int[] voiceIndexes) {
+		return frame(0x22, Payloads.bytes(voiceIndexes));
 	}
 
 	/**
@@ -354,9 +394,11 @@ public class Rs485XSPUtils {
 	 * @return JSON格式字符串
 	 */
 	public static String buildRs485Json(String command) {
-		return String.format(
-				"{\"error_str\":\"noerror\",\"gpio_data\":[{\"action\":\"off\",\"ionum\":\"io1\"}],\"error_num\":0,\"rs485_data\":[{\"encodetype\":\"hex2string\",\"data\":\"%s\"}]}",
-				command);
+		return new Rs485JsonWriter().begin(Rs485JsonWriter.NO_ERROR, 0)
+			.gpio("off", "io1")
+			.hex(command)
+			.end()
+			.toString();
 	}
 
 	/**
@@ -365,20 +407,7 @@ public class Rs485XSPUtils {
 	 * @return JSON格式字符串
 	 */
 	public static String buildRs485Json(String[] commands) {
-		StringBuilder rs485Data = new StringBuilder();
-		rs485Data.append("[");
-
-		for (int i = 0; i < commands.length; i++) {
-			rs485Data.append(String.format("{\"encodetype\":\"hex2string\",\"data\":\"%s\"}", commands[i]));
-			if (i < commands.length - 1) {
-				rs485Data.append(",");
-			}
-		}
-		rs485Data.append("]");
-
-		return String.format(
-				"{\"error_str\":\"noerror\",\"gpio_data\":[{\"action\":\"off\",\"ionum\":\"io1\"}],\"error_num\":0,\"rs485_data\":%s}",
-				rs485Data.toString());
+		return buildRs485Json(commands, "off", "io1");
 	}
 
 	/**
@@ -389,20 +418,7 @@ public class Rs485XSPUtils {
 	 * @return JSON格式字符串
 	 */
 	public static String buildRs485Json(String[] commands, String gpioAction, String gpioNum) {
-		StringBuilder rs485Data = new StringBuilder();
-		rs485Data.append("[");
-
-		for (int i = 0; i < commands.length; i++) {
-			rs485Data.append(String.format("{\"encodetype\":\"hex2string\",\"data\":\"%s\"}", commands[i]));
-			if (i < commands.length - 1) {
-				rs485Data.append(",");
-			}
-		}
-		rs485Data.append("]");
-
-		return String.format(
-				"{\"error_str\":\"noerror\",\"gpio_data\":[{\"action\":\"%s\",\"ionum\":\"%s\"}],\"error_num\":0,\"rs485_data\":%s}",
-				gpioAction, gpioNum, rs485Data.toString());
+		return buildRs485Json(commands, gpioAction, gpioNum, Rs485JsonWriter.NO_ERROR, 0);
 	}
 
 	/**
@@ -413,20 +429,7 @@ public class Rs485XSPUtils {
 	 * @return JSON格式字符串
 	 */
 	public static String buildRs485Json(String[] commands, String errorStr, int errorNum) {
-		StringBuilder rs485Data = new StringBuilder();
-		rs485Data.append("[");
-
-		for (int i = 0; i < commands.length; i++) {
-			rs485Data.append(String.format("{\"encodetype\":\"hex2string\",\"data\":\"%s\"}", commands[i]));
-			if (i < commands.length - 1) {
-				rs485Data.append(",");
-			}
-		}
-		rs485Data.append("]");
-
-		return String.format(
-				"{\"error_str\":\"%s\",\"gpio_data\":[{\"action\":\"off\",\"ionum\":\"io1\"}],\"error_num\":%d,\"rs485_data\":%s}",
-				errorStr, errorNum, rs485Data.toString());
+		return buildRs485Json(commands, "off", "io1", errorStr, errorNum);
 	}
 
 	/**
@@ -440,20 +443,70 @@ public class Rs485XSPUtils {
 	 */
 	public static String buildRs485Json(String[] commands, String gpioAction, String gpioNum, String errorStr,
 			int errorNum) {
-		StringBuilder rs485Data = new StringBuilder();
-		rs485Data.append("[");
+		return new Rs485JsonWriter().begin(errorStr, errorNum).gpio(gpioAction, gpioNum).hex(commands).end().toString();
+	}
 
-		for (int i = 0; i < commands.length; i++) {
-			rs485Data.append(String.format("{\"encodetype\":\"hex2string\",\"data\":\"%s\"}", commands[i]));
-			if (i < commands.length - 1) {
-				rs485Data.append(",");
-			}
-		}
-		rs485Data.append("]");
+	/**
+	 * 按指定编码方式构建多个RS485命令的JSON格式，Base64 时先将十六进制命令还原为字节
+	 * @param commands RS485命令数组
+	 * @param encodeType 帧数据编码方式
+	 * @return JSON格式字符串
+	 */
+	public static String buildRs485Json(String[] commands, EncodeType encodeType) {
+		return new Rs485JsonWriter().encodeType(encodeType)
+			.begin(Rs485JsonWriter.NO_ERROR, 0)
+			.gpio("off", "io1")
+			.hex(commands)
+			.end()
+			.toString();
+	}
+
+	/**
+	 * 按指定编码方式构建多帧的RS485 JSON格式
+	 * @param frames 数据帧
+	 * @param encodeType 帧数据编码方式
+	 * @return JSON格式字符串
+	 */
+	public static String buildRs485Json(FrameBatch frames, EncodeType encodeType) {
+		return new Rs485JsonWriter().encodeType(encodeType)
+			.begin(Rs485JsonWriter.NO_ERROR, 0)
+			.gpio("off", "io1")
+			.frames(frames)
+			.end()
+			.toString();
+	}
 
-		return String.format(
-				"{\"error_str\":\"%s\",\"gpio_data\":[{\"action\":\"%s\",\"ionum\":\"%s\"}],\"error_num\":%d,\"rs485_data\":%s}",
-				errorStr, gpioAction, gpioNum, errorNum, rs485Data.toString());
+	/**
+	 * 将帧直接写为 rs485_data 应答JSON，帧数据由字节转为十六进制写出，不生成中间字符串
+	 * @param out 输出（UTF-8）
+	 * @param frames 数据帧
+	 * @param gpioAction GPIO动作
+	 * @param gpioNum GPIO编号
+	 * @param errorStr 错误信息
+	 * @param errorNum 错误码
+	 */
+	public static void writeRs485Json(OutputStream out, FrameBatch frames, String gpioAction, String gpioNum,
+			String errorStr, int errorNum) {
+		writeRs485Json(out, frames, gpioAction, gpioNum, errorStr, errorNum, EncodeType.HEX2STRING);
+	}
+
+	/**
+	 * 将帧直接写为 rs485_data 应答JSON，帧数据按指定编码方式写出
+	 * @param out 输出（UTF-8）
+	 * @param frames 数据帧
+	 * @param gpioAction GPIO动作
+	 * @param gpioNum GPIO编号
+	 * @param errorStr 错误信息
+	 * @param errorNum 错误码
+	 * @param encodeType 帧数据编码方式
+	 */
+	public static void writeRs485Json(OutputStream out, FrameBatch frames, String gpioAction, String gpioNum,
+			String errorStr, int errorNum, EncodeType encodeType) {
+		new Rs485JsonWriter(out).encodeType(encodeType)
+			.begin(errorStr, errorNum)
+			.gpio(gpioAction, gpioNum)
+			.frames(frames)
+			.end();
 	}
 	// ==================== 便捷JSON构建方法 ====================
 
@@ -511,16 +564,29 @@ public class Rs485XSPUtils {
 	 * 构建小竖屏入场场景JSON
 	 */
 	public static String buildSmallScreenEntrySceneJson(String plateNumber, int parkingSpaceCount) {
-		String[] commands = buildSmallScreenEntryScene(plateNumber, parkingSpaceCount);
-		return buildRs485Json(commands);
+		return buildSmallScreenEntrySceneJson(plateNumber, parkingSpaceCount, EncodeType.HEX2STRING);
+	}
+
+	/**
+	 * 按指定编码方式构建小竖屏入场场景JSON
+	 */
+	public static String buildSmallScreenEntrySceneJson(String plateNumber, int parkingSpaceCount,
+			EncodeType encodeType) {
+		return buildRs485Json(buildSmallScreenEntrySceneFrames(plateNumber, parkingSpaceCount), encodeType);
 	}
 
 	/**
 	 * 构建小竖屏出场场景JSON
 	 */
 	public static String buildSmallScreenExitSceneJson(String plateNumber, int amount) {
-		String[] commands = buildSmallScreenExitScene(plateNumber, amount);
-		return buildRs485Json(commands);
+		return buildSmallScreenExitSceneJson(plateNumber, amount, EncodeType.HEX2STRING);
+	}
+
+	/**
+	 * 按指定编码方式构建小竖屏出场场景JSON
+	 */
+	public static String buildSmallScreenExitSceneJson(String plateNumber, int amount, EncodeType encodeType) {
+		return buildRs485Json(buildSmallScreenExitSceneFrames(plateNumber, amount), encodeType);
 	}
 	// ==================== 补充缺失的方法 ====================
 
@@ -528,7 +594,7 @@ public class Rs485XSPUtils {
 	 * 构建语音播报指令 (0x22) - 支持字符索引
 	 */
 	public static String buildVoiceCommand(char voiceChar) {
-		String data = String.format("%02X", (int) voiceChar);
+		String data = HexCodec.toHexString((int) voiceChar);
 		return buildFrame("22", data);
 	}
 
@@ -545,7 +611,7 @@ public class Rs485XSPUtils {
 	 */
 	public static String buildPlateWithVoiceCommand(String plateNumber, int voiceIndex) {
 		String plateHex = stringToHex(plateNumber);
-		String voiceHex = String.format("%02X", voiceIndex);
+		String voiceHex = HexCodec.toHexString(voiceIndex);
 		String data = plateHex + voiceHex;
 		return buildFrame("22", data);
 	}
@@ -585,7 +651,7 @@ public class Rs485XSPUtils {
 	 */
 	public static String buildDisplayCommand(int line, int color, String content) {
 		String hexContent = stringToHex(content);
-		String controlData = String.format("%02X00%02X00", line, color) + hexContent;
+		String controlData = HexCodec.toHexString(line, 0x00, color, 0x00) + hexContent;
 		return buildFrame("37", controlData);
 	}
 
@@ -663,6 +729,13 @@ public class Rs485XSPUtils {
 		return buildRs485Json(commands);
 	}
 
+	/**
+	 * 按指定编码方式构建入场场景JSON
+	 */
+	public static String buildEntrySceneJson(String plateNumber, int parkingSpaceCount, EncodeType encodeType) {
+		return buildRs485Json(buildEntryScene(plateNumber, parkingSpaceCount), encodeType);
+	}
+
 	/**
 	 * 构建出场场景JSON
 	 */
@@ -671,6 +744,13 @@ public class Rs485XSPUtils {
 		return buildRs485Json(commands);
 	}
 
+	/**
+	 * 按指定编码方式构建出场场景JSON
+	 */
+	public static String buildExitSceneJson(String plateNumber, int amount, EncodeType encodeType) {
+		return buildRs485Json(buildExitScene(plateNumber, amount), encodeType);
+	}
+
 	/**
 	 * 构建智慧停车显示JSON
 	 */
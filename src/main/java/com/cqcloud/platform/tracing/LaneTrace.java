@@ -0,0 +1,59 @@
+package com.cqcloud.platform.tracing;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * 一次相机推送的追踪，由 {@link LaneTracer#start} 创建，{@link #end} 后结束
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public interface LaneTrace {
+
+	/**
+	 * 不追踪
+	 */
+	LaneTrace NOOP = new LaneTrace() {
+	};
+
+	/**
+	 * 在追踪上下文中调用决策回调，返回的阶段完成时决策结束
+	 * <p>
+	 * 回调中同步渲染的场景归入本次追踪；回调转到其他线程执行时，须自行传递上下文（如用 OpenTelemetry 的
+	 * {@code Context.current().wrap(executor)}）。
+	 */
+	default <T> CompletionStage<T> decide(Supplier<? extends CompletionStage<T>> decision) {
+		return decision.get();
+	}
+
+	/**
+	 * 开始生成应答，关闭返回的步骤时结束；结束前从命令队列带出的帧归入本次追踪
+	 */
+	default Step reply() {
+		return Step.NOOP;
+	}
+
+	/**
+	 * 结束追踪
+	 * @param frames 应答中的帧数
+	 * @param bytes 这些帧的字节数
+	 * @param retransmit 是否为相机重发的识别
+	 * @param error 错误，成功时为 null
+	 */
+	default void end(int frames, int bytes, boolean retransmit, Throwable error) {
+	}
+
+	/**
+	 * 追踪中的一个步骤，须在开始的线程上关闭
+	 */
+	interface Step extends AutoCloseable {
+
+		Step NOOP = () -> {
+		};
+
+		@Override
+		void close();
+
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.cqcloud.platform.tracing;
+
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.plate.PlateEvent;
+
+/**
+ * 车道链路追踪：从收到相机推送、解析、决策、场景渲染到应答生成，以及排队命令从入队到被应答带出
+ * <p>
+ * {@code CameraPushDispatcher} 对每次推送调用 {@link #start(PlateEvent, long)}；场景渲染和命令队列通过
+ * {@link LaneTracing} 调用其余方法。实现须快速返回，不追踪的部分保持默认实现即可。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public interface LaneTracer {
+
+	/**
+	 * 不追踪
+	 */
+	LaneTracer NOOP = new LaneTracer() {
+	};
+
+	/**
+	 * 开始追踪一次推送，调用时推送已解析完成
+	 * @param event 识别结果，非车牌推送为 null
+	 * @param startNanos 收到推送时的 {@link System#nanoTime()}
+	 */
+	default LaneTrace start(PlateEvent event, long startNanos) {
+		return LaneTrace.NOOP;
+	}
+
+	/**
+	 * 命令入队时的追踪上下文，随命令保存到被应答带出
+	 * @return 上下文，当前不在追踪中时为 null
+	 */
+	default Object capture() {
+		return null;
+	}
+
+	/**
+	 * 排队的命令被应答带出
+	 * @param context 入队时 {@link #capture()} 的返回值
+	 * @param serialno 相机序列号
+	 * @param frame 数据帧
+	 * @param waitNanos 排队时间
+	 */
+	default void dequeued(Object context, String serialno, Frame frame, long waitNanos) {
+	}
+
+	/**
+	 * 场景渲染完成
+	 * @param address 设备地址
+	 * @param firstSerial 第一帧的流水号
+	 * @param frames 帧数
+	 * @param bytes 全部帧的字节数
+	 * @param startNanos 开始渲染时的 {@link System#nanoTime()}
+	 */
+	default void scene(int address, int firstSerial, int frames, int bytes, long startNanos) {
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.cqcloud.platform.tracing;
+
+import com.cqcloud.platform.frame.Frame;
+
+/**
+ * 场景渲染和命令队列使用的全局 {@link LaneTracer}
+ * <p>
+ * 静态工具类渲染场景时无法注入依赖，由追踪实现启动时设置；未设置时各方法只做一次引用比较，不读取时钟。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class LaneTracing {
+
+	/**
+	 * 未追踪，{@link #start()} 在未设置追踪时返回
+	 */
+	public static final long NOT_TRACED = Long.MIN_VALUE;
+
+	private static volatile LaneTracer tracer = LaneTracer.NOOP;
+
+	private LaneTracing() {
+	}
+
+	/**
+	 * 场景渲染开始时调用
+	 * @return 开始时间，未设置追踪时为 {@link #NOT_TRACED}
+	 */
+	public static long start() {
+		return tracer != LaneTracer.NOOP ? System.nanoTime() : NOT_TRACED;
+	}
+
+	/**
+	 * 场景渲染完成
+	 * @param start {@link #start()} 的返回值，为 {@link #NOT_TRACED} 时忽略
+	 */
+	public static void scene(int address, int firstSerial, int frames, int bytes, long start) {
+		if (start != NOT_TRACED) {
+			tracer.scene(address, firstSerial, frames, bytes, start);
+		}
+	}
+
+	/**
+	 * 命令入队时的追踪上下文，见 {@link LaneTracer#capture()}
+	 */
+	public static Object capture() {
+		return tracer.capture();
+	}
+
+	/**
+	 * 排队的命令被带出，见 {@link LaneTracer#dequeued}
+	 */
+	public static void dequeued(Object context, String serialno, Frame frame, long waitNanos) {
+		tracer.dequeued(context, serialno, frame, waitNanos);
+	}
+
+	/**
+	 * 设置追踪，null 表示不追踪
+	 */
+	public static void setTracer(LaneTracer laneTracer) {
+		tracer = laneTracer != null ? laneTracer : LaneTracer.NOOP;
+	}
+
+	public static LaneTracer getTracer() {
+		return tracer;
+	}
+
+}
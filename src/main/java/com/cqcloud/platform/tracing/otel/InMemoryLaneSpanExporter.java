@@ -0,0 +1,90 @@
+package com.cqcloud.platform.tracing.otel;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 保存最近结束的span的导出器，不需要采集端即可检查车道链路（如集成测试中断言耗时或span结构），线程安全
+ * <p>
+ * 超过容量时丢弃最早的span。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public class InMemoryLaneSpanExporter implements SpanExporter {
+
+	/**
+	 * 默认保存的span数
+	 */
+	public static final int DEFAULT_CAPACITY = 1000;
+
+	private final ArrayDeque<SpanData> spans = new ArrayDeque<>();
+
+	private final int capacity;
+
+	private boolean shutdown;
+
+	public InMemoryLaneSpanExporter() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity 最多保存的span数
+	 */
+	public InMemoryLaneSpanExporter(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("容量必须大于0: " + capacity);
+		}
+		this.capacity = capacity;
+	}
+
+	@Override
+	public synchronized CompletableResultCode export(Collection<SpanData> finished) {
+		if (shutdown) {
+			return CompletableResultCode.ofFailure();
+		}
+		for (SpanData span : finished) {
+			if (spans.size() == capacity) {
+				spans.pollFirst();
+			}
+			spans.addLast(span);
+		}
+		return CompletableResultCode.ofSuccess();
+	}
+
+	@Override
+	public CompletableResultCode flush() {
+		return CompletableResultCode.ofSuccess();
+	}
+
+	@Override
+	public synchronized CompletableResultCode shutdown() {
+		shutdown = true;
+		spans.clear();
+		return CompletableResultCode.ofSuccess();
+	}
+
+	/**
+	 * 已结束的span，按结束顺序
+	 */
+	public synchronized List<SpanData> getFinishedSpans() {
+		return new ArrayList<>(spans);
+	}
+
+	/**
+	 * 清空已保存的span
+	 */
+	public synchronized void reset() {
+		spans.clear();
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+}
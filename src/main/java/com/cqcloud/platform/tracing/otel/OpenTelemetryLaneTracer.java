@@ -0,0 +1,241 @@
+package com.cqcloud.platform.tracing.otel;
+
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.plate.PlateEvent;
+import com.cqcloud.platform.tracing.LaneTrace;
+import com.cqcloud.platform.tracing.LaneTracer;
+import com.cqcloud.platform.tracing.LaneTracing;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * OpenTelemetry 车道链路追踪
+ * <p>
+ * 每次相机推送一个 ylc.lane 根span（父span为调用时的当前上下文，如HTTP服务端span），其下：
+ * <ul>
+ * <li>ylc.lane.parse：推送解析（从收到推送到开始分发）</li>
+ * <li>ylc.lane.decision：决策回调，回调中渲染的场景为其下的 ylc.scene.render</li>
+ * <li>ylc.lane.reply：应答生成，从命令队列带出的帧各为其下的 ylc.queue.wait（时长为排队时间，链接到入队时的span）</li>
+ * </ul>
+ * 根span记录相机序列号、车牌、帧数、字节数、是否重发，总耗时超过SLA时 ylc.lane.sla_exceeded 为 true。
+ * 解析、场景和排队的span在结束后按记录的时间补建。
+ * <p>
+ * 调用 {@link #install()} 后场景渲染和命令队列才会追踪。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public class OpenTelemetryLaneTracer implements LaneTracer, AutoCloseable {
+
+	/**
+	 * Tracer 的 instrumentation scope 名称
+	 */
+	public static final String INSTRUMENTATION_NAME = "com.cqcloud.platform.ylc-smart";
+
+	/**
+	 * 默认SLA：识别到车牌后500毫秒内下发屏显和语音
+	 */
+	public static final Duration DEFAULT_SLA = Duration.ofMillis(500);
+
+	static final AttributeKey<String> CAMERA = AttributeKey.stringKey("ylc.camera.serialno");
+
+	static final AttributeKey<String> LICENSE = AttributeKey.stringKey("ylc.plate.license");
+
+	static final AttributeKey<Long> FRAMES = AttributeKey.longKey("ylc.rs485.frames");
+
+	static final AttributeKey<Long> BYTES = AttributeKey.longKey("ylc.rs485.bytes");
+
+	static final AttributeKey<Long> ADDRESS = AttributeKey.longKey("ylc.rs485.address");
+
+	static final AttributeKey<Long> COMMAND = AttributeKey.longKey("ylc.rs485.command");
+
+	static final AttributeKey<Long> SERIAL = AttributeKey.longKey("ylc.rs485.serial");
+
+	static final AttributeKey<Boolean> RETRANSMIT = AttributeKey.booleanKey("ylc.lane.retransmit");
+
+	static final AttributeKey<Boolean> SLA_EXCEEDED = AttributeKey.booleanKey("ylc.lane.sla_exceeded");
+
+	private final Tracer tracer;
+
+	private final long slaNanos;
+
+	public OpenTelemetryLaneTracer(OpenTelemetry openTelemetry) {
+		this(openTelemetry.getTracer(INSTRUMENTATION_NAME), DEFAULT_SLA);
+	}
+
+	/**
+	 * @param tracer 创建span的 Tracer
+	 * @param sla 从收到推送到应答生成的目标耗时
+	 */
+	public OpenTelemetryLaneTracer(Tracer tracer, Duration sla) {
+		if (tracer == null) {
+			throw new IllegalArgumentException("tracer 不能为空");
+		}
+		this.tracer = tracer;
+		this.slaNanos = sla.toNanos();
+	}
+
+	/**
+	 * 设为场景渲染和命令队列使用的追踪
+	 */
+	public void install() {
+		LaneTracing.setTracer(this);
+	}
+
+	/**
+	 * 撤销 {@link #install()}
+	 */
+	@Override
+	public void close() {
+		if (LaneTracing.getTracer() == this) {
+			LaneTracing.setTracer(null);
+		}
+	}
+
+	@Override
+	public LaneTrace start(PlateEvent event, long startNanos) {
+		long parsed = System.nanoTime();
+		Span root = tracer.spanBuilder("ylc.lane")
+			.setStartTimestamp(epochNanos(startNanos), TimeUnit.NANOSECONDS)
+			.startSpan();
+		if (event != null) {
+			if (event.getSerialno() != null) {
+				root.setAttribute(CAMERA, event.getSerialno());
+			}
+			if (event.hasPlate()) {
+				root.setAttribute(LICENSE, event.getLicense());
+			}
+		}
+		Context context = Context.current().with(root);
+		tracer.spanBuilder("ylc.lane.parse")
+			.setParent(context)
+			.setStartTimestamp(epochNanos(startNanos), TimeUnit.NANOSECONDS)
+			.startSpan()
+			.end(epochNanos(parsed), TimeUnit.NANOSECONDS);
+		return new Trace(root, context, startNanos);
+	}
+
+	@Override
+	public Object capture() {
+		Context context = Context.current();
+		return Span.fromContext(context).getSpanContext().isValid() ? context : null;
+	}
+
+	@Override
+	public void dequeued(Object context, String serialno, Frame frame, long waitNanos) {
+		Span producer = context instanceof Context ? Span.fromContext((Context) context) : Span.getInvalid();
+		if (!Span.current().getSpanContext().isValid() && !producer.getSpanContext().isValid()) {
+			return;
+		}
+		long now = System.nanoTime();
+		SpanBuilder builder = tracer.spanBuilder("ylc.queue.wait")
+			.setStartTimestamp(epochNanos(now - waitNanos), TimeUnit.NANOSECONDS)
+			.setAttribute(CAMERA, serialno)
+			.setAttribute(COMMAND, (long) frame.getCommand())
+			.setAttribute(ADDRESS, (long) frame.getAddress())
+			.setAttribute(SERIAL, (long) frame.getSerial());
+		if (producer.getSpanContext().isValid()) {
+			builder.addLink(producer.getSpanContext());
+		}
+		builder.startSpan().end(epochNanos(now), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void scene(int address, int firstSerial, int frames, int bytes, long startNanos) {
+		if (!Span.current().getSpanContext().isValid()) {
+			return;
+		}
+		tracer.spanBuilder("ylc.scene.render")
+			.setStartTimestamp(epochNanos(startNanos), TimeUnit.NANOSECONDS)
+			.setAttribute(ADDRESS, (long) (address & 0xFF))
+			.setAttribute(SERIAL, (long) (firstSerial & 0xFF))
+			.setAttribute(FRAMES, (long) frames)
+			.setAttribute(BYTES, (long) bytes)
+			.startSpan()
+			.end(epochNanos(System.nanoTime()), TimeUnit.NANOSECONDS);
+	}
+
+	// 按当前纪元时间和 System.nanoTime() 的差值换算，不保存固定的对应点：从CRaC检查点恢复后墙上时间会跳变
+	private static long epochNanos(long nanoTime) {
+		Instant now = Instant.now();
+		long epochNanos = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+		return epochNanos - (System.nanoTime() - nanoTime);
+	}
+
+	private static void error(Span span, Throwable error) {
+		span.recordException(error);
+		span.setStatus(StatusCode.ERROR, String.valueOf(error.getMessage()));
+	}
+
+	private final class Trace implements LaneTrace {
+
+		private final Span root;
+
+		private final Context context;
+
+		private final long startNanos;
+
+		Trace(Span root, Context context, long startNanos) {
+			this.root = root;
+			this.context = context;
+			this.startNanos = startNanos;
+		}
+
+		// scope 只用于在决策期间设置当前上下文，try 块中不引用
+		@Override
+		@SuppressWarnings("try")
+		public <T> CompletionStage<T> decide(Supplier<? extends CompletionStage<T>> decision) {
+			Span span = tracer.spanBuilder("ylc.lane.decision").setParent(context).startSpan();
+			CompletionStage<T> stage;
+			try (Scope scope = context.with(span).makeCurrent()) {
+				stage = decision.get();
+			}
+			catch (RuntimeException e) {
+				error(span, e);
+				span.end();
+				throw e;
+			}
+			return stage.whenComplete((value, failure) -> {
+				if (failure != null) {
+					error(span, failure);
+				}
+				span.end();
+			});
+		}
+
+		@Override
+		public LaneTrace.Step reply() {
+			Span span = tracer.spanBuilder("ylc.lane.reply").setParent(context).startSpan();
+			Scope scope = context.with(span).makeCurrent();
+			return () -> {
+				scope.close();
+				span.end();
+			};
+		}
+
+		@Override
+		public void end(int frames, int bytes, boolean retransmit, Throwable error) {
+			root.setAttribute(FRAMES, (long) frames);
+			root.setAttribute(BYTES, (long) bytes);
+			root.setAttribute(RETRANSMIT, retransmit);
+			root.setAttribute(SLA_EXCEEDED, System.nanoTime() - startNanos > slaNanos);
+			if (error != null) {
+				error(root, error);
+			}
+			root.end();
+		}
+
+	}
+
+}
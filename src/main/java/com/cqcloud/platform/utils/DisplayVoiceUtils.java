@@ -1,7 +1,17 @@
 package com.cqcloud.platform.utils;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import com.cqcloud.platform.buffer.ArenaFrame;
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.buffer.FrameArena;
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.codec.TextEncoding;
+import com.cqcloud.platform.crc.CRC16Util;
+import com.cqcloud.platform.frame.BatchFrameEncoder;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.frame.SequenceAllocator;
+import com.cqcloud.platform.jfr.FrameEncodeEvent;
+import com.cqcloud.platform.metrics.EncodeMetrics;
 
 /**
  * 显示语音控制卡协议工具类（支持多种屏幕类型）
@@ -102,18 +112,28 @@ public class DisplayVoiceUtils {
 
 	public static final byte CMD_SET_COMPATIBILITY_MODE = (byte) 0xFA;
 
-	private int sequenceNumber = 0;
+	// 包头长度：帧头2 + 序列号1 + 地址1 + 保留1 + 命令1 + 数据长度2
+	private static final int PACKET_HEADER_LENGTH = 8;
+
+	// 序列号分配器，所有实例共享，每个设备地址独立计数
+	private static final SequenceAllocator SEQUENCE_NUMBERS = new SequenceAllocator(0);
 
 	private int address = DEFAULT_ADDRESS;
 
+	private SequenceAllocator sequenceNumbers = SEQUENCE_NUMBERS;
+
 	private ScreenEnum screenType;
 
+	// 文本编码策略（默认按屏幕类型选择）
+	private TextEncoding textEncoding;
+
 	public DisplayVoiceUtils() {
 		this(ScreenEnum.STANDARD_HORIZONTAL); // 默认标准横屏
 	}
 
 	public DisplayVoiceUtils(ScreenEnum screenType) {
 		this.screenType = screenType;
+		this.textEncoding = TextEncoding.forScreen(screenType);
 	}
 
 	public DisplayVoiceUtils(int screenCode) {
@@ -122,10 +142,11 @@ public class DisplayVoiceUtils {
 
 	public void setScreenType(ScreenEnum screenType) {
 		this.screenType = screenType;
+		this.textEncoding = TextEncoding.forScreen(screenType);
 	}
 
 	public void setScreenType(int screenCode) {
-		this.screenType = ScreenEnum.fromCode(screenCode);
+		setScreenType(ScreenEnum.fromCode(screenCode));
 	}
 
 	public ScreenEnum getScreenType() {
@@ -136,6 +157,28 @@ public class DisplayVoiceUtils {
 		this.address = address;
 	}
 
+	public SequenceAllocator getSequenceNumbers() {
+		return sequenceNumbers;
+	}
+
+	/**
+	 * 设置序列号分配器，默认为所有实例共享的分配器；传入独立的分配器时不占用共享的序列号（如启动预热）
+	 */
+	public void setSequenceNumbers(SequenceAllocator sequenceNumbers) {
+		if (sequenceNumbers == null) {
+			throw new IllegalArgumentException("sequenceNumbers 不能为空");
+		}
+		this.sequenceNumbers = sequenceNumbers;
+	}
+
+	public TextEncoding getTextEncoding() {
+		return textEncoding;
+	}
+
+	public void setTextEncoding(TextEncoding textEncoding) {
+		this.textEncoding = textEncoding;
+	}
+
 	/**
 	 * 判断是否为彩屏
 	 */
@@ -147,45 +190,105 @@ public class DisplayVoiceUtils {
 	 * 生成完整的数据包
 	 */
 	public byte[] buildPacket(byte command, byte[] data) {
+		ByteArrayBuilder builder = beginPacket(command);
+		try {
+			if (data != null && data.length > 0) {
+				builder.append(data);
+			}
+			return finishPacket(builder);
+		}
+		finally {
+			builder.release();
+		}
+	}
+
+	/**
+	 * 生成完整的数据包并直接写入堆外存储区，收到应答后调用 {@link ArenaFrame#release()}
+	 */
+	public ArenaFrame buildPacket(FrameArena arena, byte command, byte[] data) {
+		ByteArrayBuilder builder = beginPacket(command);
+		try {
+			if (data != null && data.length > 0) {
+				builder.append(data);
+			}
+			completePacket(builder);
+			return builder.copyToAndRelease(arena);
+		}
+		finally {
+			builder.release();
+		}
+	}
+
+	/**
+	 * 写入包头（数据长度先占位），随后数据直接追加到同一个缓冲区
+	 */
+	private ByteArrayBuilder beginPacket(byte command) {
 		ByteArrayBuilder builder = new ByteArrayBuilder();
 		builder.append(HEADER);
-		builder.append((byte) (sequenceNumber++ & 0xFF));
+		builder.append((byte) sequenceNumbers.next(address));
 		builder.append((byte) (address & 0xFF));
 		builder.append(RESERVED);
 		builder.append(command);
+		builder.append((byte) 0);
+		builder.append((byte) 0);
+		return builder;
+	}
 
-		int dataLength = data != null ? data.length : 0;
-		builder.append((byte) ((dataLength >> 8) & 0xFF));
-		builder.append((byte) (dataLength & 0xFF));
+	/**
+	 * 回填数据长度，追加CRC和包尾，返回恰好长度的数据包并归还缓冲区
+	 */
+	private byte[] finishPacket(ByteArrayBuilder builder) {
+		completePacket(builder);
+		return builder.toByteArrayAndRelease();
+	}
 
-		if (data != null && data.length > 0) {
-			builder.append(data);
-		}
+	/**
+	 * 将共享分配器中所有设备地址的序列号重置为初始值
+	 */
+	public static void resetSequenceNumbers() {
+		SEQUENCE_NUMBERS.resetAll();
+	}
 
-		byte[] packetWithoutCrc = builder.toByteArray();
-		byte[] crc = calculateCRC16(packetWithoutCrc);
-		builder.append(crc);
+	/**
+	 * 回填数据长度，追加CRC和包尾
+	 */
+	private void completePacket(ByteArrayBuilder builder) {
+		int dataLength = builder.length() - PACKET_HEADER_LENGTH;
+		builder.set(PACKET_HEADER_LENGTH - 2, (byte) ((dataLength >> 8) & 0xFF));
+		builder.set(PACKET_HEADER_LENGTH - 1, (byte) (dataLength & 0xFF));
+
+		// 直接对已写入的内容计算CRC，低字节在前
+		int crc = builder.crc16();
+		builder.append((byte) (crc & 0xFF));
+		builder.append((byte) ((crc >> 8) & 0xFF));
 		builder.append(END_MARKER);
+		// 命令码等按无符号取值，0x80 及以上的配置命令不能成为负下标
+		int command = builder.get(PACKET_HEADER_LENGTH - 3) & 0xFF;
+		EncodeMetrics.record(command, builder.length(), builder.start);
+		builder.event.commit(command, builder.get(PACKET_HEADER_LENGTH - 5) & 0xFF,
+				builder.get(PACKET_HEADER_LENGTH - 6) & 0xFF, dataLength, 1);
+	}
 
-		return builder.toByteArray();
+	/**
+	 * 批量构建数据包：同一命令发往多个地址，每包取该地址的下一个序列号
+	 * @param command 命令码
+	 * @param data 数据
+	 * @param addresses 设备地址
+	 * @return 连续存放的数据包
+	 */
+	public FrameBatch buildPackets(byte command, byte[] data, int... addresses) {
+		int[] serials = new int[addresses.length];
+		for (int i = 0; i < serials.length; i++) {
+			serials[i] = sequenceNumbers.next(addresses[i]);
+		}
+		return BatchFrameEncoder.encodePackets(serials, addresses, command, data);
 	}
 
 	/**
 	 * CRC16计算（Modbus）
 	 */
 	public static byte[] calculateCRC16(byte[] data) {
-		int crc = 0xFFFF;
-		for (byte b : data) {
-			crc ^= (b & 0xFF);
-			for (int i = 0; i < 8; i++) {
-				if ((crc & 0x0001) != 0) {
-					crc = (crc >> 1) ^ 0xA001;
-				}
-				else {
-					crc = crc >> 1;
-				}
-			}
-		}
+		int crc = CRC16Util.compute(data, 0, data.length);
 		return new byte[] { (byte) (crc & 0xFF), (byte) ((crc >> 8) & 0xFF) };
 	}
 
@@ -234,14 +337,17 @@ public class DisplayVoiceUtils {
 			color = 1; // 默认红色
 		}
 
-		byte[] contentBytes = content.getBytes(StandardCharsets.US_ASCII);
-		ByteArrayBuilder data = new ByteArrayBuilder();
-		data.append((byte) lineNumber);
-		data.append((byte) color);
-		data.append((byte) 0); // 保留
-		data.append(contentBytes);
-
-		return buildPacket(CMD_LOAD_ADS, data.toByteArray());
+		ByteArrayBuilder packet = beginPacket(CMD_LOAD_ADS);
+		try {
+			packet.append((byte) lineNumber);
+			packet.append((byte) color);
+			packet.append((byte) 0); // 保留
+			packet.append(textEncoding, content);
+			return finishPacket(packet);
+		}
+		finally {
+			packet.release();
+		}
 	}
 
 	/**
@@ -255,14 +361,17 @@ public class DisplayVoiceUtils {
 			color = 8; // 默认按行随机
 		}
 
-		byte[] contentBytes = content.getBytes(StandardCharsets.US_ASCII);
-		ByteArrayBuilder data = new ByteArrayBuilder();
-		data.append((byte) lineNumber);
-		data.append((byte) color);
-		data.append((byte) 0); // 保留
-		data.append(contentBytes);
-
-		return buildPacket(CMD_LOAD_ADS_COLOR, data.toByteArray());
+		ByteArrayBuilder packet = beginPacket(CMD_LOAD_ADS_COLOR);
+		try {
+			packet.append((byte) lineNumber);
+			packet.append((byte) color);
+			packet.append((byte) 0); // 保留
+			packet.append(textEncoding, content);
+			return finishPacket(packet);
+		}
+		finally {
+			packet.release();
+		}
 	}
 
 	/**
@@ -287,15 +396,18 @@ public class DisplayVoiceUtils {
 			color = 1; // 默认红色
 		}
 
-		byte[] contentBytes = content.getBytes(StandardCharsets.US_ASCII);
-		ByteArrayBuilder data = new ByteArrayBuilder();
-		data.append((byte) lineNumber);
-		data.append((byte) duration);
-		data.append((byte) color);
-		data.append((byte) 0); // 保留
-		data.append(contentBytes);
-
-		return buildPacket(CMD_LOAD_TEMP_DISPLAY, data.toByteArray());
+		ByteArrayBuilder packet = beginPacket(CMD_LOAD_TEMP_DISPLAY);
+		try {
+			packet.append((byte) lineNumber);
+			packet.append((byte) duration);
+			packet.append((byte) color);
+			packet.append((byte) 0); // 保留
+			packet.append(textEncoding, content);
+			return finishPacket(packet);
+		}
+		finally {
+			packet.release();
+		}
 	}
 
 	/**
@@ -308,15 +420,18 @@ public class DisplayVoiceUtils {
 			color = 8; // 默认按行随机
 		}
 
-		byte[] contentBytes = content.getBytes(StandardCharsets.US_ASCII);
-		ByteArrayBuilder data = new ByteArrayBuilder();
-		data.append((byte) lineNumber);
-		data.append((byte) duration);
-		data.append((byte) color);
-		data.append((byte) 0); // 保留
-		data.append(contentBytes);
-
-		return buildPacket(CMD_LOAD_TEMP_DISPLAY_COLOR, data.toByteArray());
+		ByteArrayBuilder packet = beginPacket(CMD_LOAD_TEMP_DISPLAY_COLOR);
+		try {
+			packet.append((byte) lineNumber);
+			packet.append((byte) duration);
+			packet.append((byte) color);
+			packet.append((byte) 0); // 保留
+			packet.append(textEncoding, content);
+			return finishPacket(packet);
+		}
+		finally {
+			packet.release();
+		}
 	}
 
 	/**
@@ -352,10 +467,20 @@ public class DisplayVoiceUtils {
 
 	private static class ByteArrayBuilder {
 
-		private byte[] buffer = new byte[256];
+		private final BufferPool pool = BufferPool.shared();
+
+		private byte[] buffer = pool.acquire(256);
 
 		private int length = 0;
 
+		private final long start = EncodeMetrics.start();
+
+		private final FrameEncodeEvent event = new FrameEncodeEvent();
+
+		ByteArrayBuilder() {
+			event.begin();
+		}
+
 		public void append(byte b) {
 			ensureCapacity(length + 1);
 			buffer[length++] = b;
@@ -367,24 +492,74 @@ public class DisplayVoiceUtils {
 			length += bytes.length;
 		}
 
+		/**
+		 * 按指定编码直接写入文本，不产生中间数组
+		 */
+		public void append(TextEncoding encoding, String text) {
+			ensureCapacity(length + GbkCodec.maxEncodedLength(text.length()));
+			length += encoding.encode(text, buffer, length, buffer.length - length);
+		}
+
+		public void set(int index, byte b) {
+			buffer[index] = b;
+		}
+
+		public byte get(int index) {
+			return buffer[index];
+		}
+
+		public int length() {
+			return length;
+		}
+
 		private void ensureCapacity(int capacity) {
 			if (capacity > buffer.length) {
-				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, capacity));
+				byte[] larger = pool.acquire(Math.max(buffer.length * 2, capacity));
+				System.arraycopy(buffer, 0, larger, 0, length);
+				pool.release(buffer);
+				buffer = larger;
+			}
+		}
+
+		public int crc16() {
+			return CRC16Util.compute(buffer, 0, length);
+		}
+
+		public byte[] toByteArrayAndRelease() {
+			byte[] result = pool.copyAndRelease(buffer, length);
+			buffer = null;
+			return result;
+		}
+
+		public ArenaFrame copyToAndRelease(FrameArena arena) {
+			try {
+				return arena.copyOf(buffer, 0, length);
+			}
+			finally {
+				release();
 			}
 		}
 
-		public byte[] toByteArray() {
-			return Arrays.copyOf(buffer, length);
+		/**
+		 * 归还缓冲区，已归还时不做任何事；构建中途出错时由调用方在 finally 中调用
+		 */
+		public void release() {
+			if (buffer != null) {
+				pool.release(buffer);
+				buffer = null;
+			}
 		}
 
 	}
 
 	public static String bytesToHex(byte[] bytes) {
-		StringBuilder sb = new StringBuilder();
-		for (byte b : bytes) {
-			sb.append(String.format("%02X ", b));
+		// 每个字节输出 "XX "
+		char[] chars = new char[bytes.length * 3];
+		for (int i = 0, j = 0; i < bytes.length; i++, j += 3) {
+			HexCodec.encodeByte(bytes[i], chars, j);
+			chars[j + 2] = ' ';
 		}
-		return sb.toString();
+		return new String(chars);
 	}
 
 	// ========== 使用示例 ==========
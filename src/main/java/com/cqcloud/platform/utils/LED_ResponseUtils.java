@@ -1,5 +1,8 @@
 package com.cqcloud.platform.utils;
 
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.codec.HexCodec;
 import com.cqcloud.platform.context.TextContext;
 import com.cqcloud.platform.crc.CRC16Util;
 
@@ -19,17 +22,16 @@ public class LED_ResponseUtils {
 	 */
 	public static byte[] LED_PlayVoice(String VoiceText) throws UnsupportedEncodingException {
 		// 分配缓冲数组
-		byte[] Buff = new byte[512];
-		// 把string 类型字符串 读取到字节数组里面.注意字符串编码必须是GB2312 WINDOWS代码页为936
-		byte[] TextBuff = VoiceText.getBytes("GBK");
-		int Pos = 0;
-		// 获取字符串数组的长度
-		int TextLen = TextBuff.length;
-
+		BufferPool pool = BufferPool.shared();
+		byte[] Buff = pool.acquire(512);
+		// 把string 类型字符串直接编码到缓冲区的文本位置.注意字符串编码必须是GB2312 WINDOWS代码页为936
 		// 数据最大不能超过255长度
-		if ((1 + TextLen) >= 255) {
+		int TextLen = GbkCodec.encode(VoiceText, Buff, 7, 253);
+		if (TextLen < 0) {
+			pool.release(Buff);
 			return null;
 		}
+		int Pos = 0;
 		/* 0.填充显示命令参数 */
 
 		// 显示屏地址
@@ -46,10 +48,8 @@ public class LED_ResponseUtils {
 		Buff[Pos++] = (byte) (1 + TextLen);
 		// 播放选项
 		Buff[Pos++] = (byte) 0x01;
-		/* 1.复制语音文本内容到缓冲区 */
-		for (int i = 0; i < TextLen; i++) {
-			Buff[Pos++] = TextBuff[i];
-		}
+		/* 1.语音文本内容已编码在缓冲区中 */
+		Pos += TextLen;
 		/* 2.计算校验码 */
 		int CRC = CRC16Util.getCRC3(Buff, Pos);
 		// 校验码低字节
@@ -57,7 +57,8 @@ public class LED_ResponseUtils {
 		// 校验码高字节
 		Buff[Pos++] = (byte) ((CRC >> 8) & 0xff);
 
-		byte[] copyByte = getCopyByte(Buff, Pos);
+		// 复制出恰好长度的结果并归还缓冲区
+		byte[] copyByte = pool.copyAndRelease(Buff, Pos);
 
 		return copyByte;
 	}
@@ -76,17 +77,16 @@ public class LED_ResponseUtils {
 	public static byte[] LED_DisText(byte Line, String Text, byte DisMode, byte EnterSpeed, byte DelayTime,
 			byte DisTimes) throws UnsupportedEncodingException {
 		// 分配缓冲数组
-		byte[] Buff = new byte[512];
-		// 把string 类型字符串 读取到字节数组里面.注意字符串编码必须是GB2312 WINDOWS代码页为936
-		byte[] TextBuff = Text.getBytes("GBK");
-		int Pos = 0;
-		// 获取字符串数组的长度
-		int TextLen = TextBuff.length;
-
+		BufferPool pool = BufferPool.shared();
+		byte[] Buff = pool.acquire(512);
+		// 把string 类型字符串直接编码到缓冲区的文本位置.注意字符串编码必须是GB2312 WINDOWS代码页为936
 		// 数据最大不能超过255长度
-		if ((20 + TextLen) >= 255) {
+		int TextLen = GbkCodec.encode(Text, Buff, 25, 234);
+		if (TextLen < 0) {
+			pool.release(Buff);
 			return null;
 		}
+		int Pos = 0;
 
 		/* 0.填充显示命令参数 */
 		// 显示屏地址
@@ -139,10 +139,8 @@ public class LED_ResponseUtils {
 		Buff[Pos++] = (byte) TextLen;
 		// 16位文本长度 高字节
 		Buff[Pos++] = 0x00;
-		/* 1.复制文本内容到缓冲区 */
-		for (int i = 0; i < TextLen; i++) {
-			Buff[Pos++] = TextBuff[i];
-		}
+		/* 1.文本内容已编码在缓冲区中 */
+		Pos += TextLen;
 		/* 2.计算校验码 */
 		int CRC = CRC16Util.getCRC3(Buff, Pos);
 		// 校验码低字节
@@ -150,7 +148,8 @@ public class LED_ResponseUtils {
 		// 校验码高字节
 		Buff[Pos++] = (byte) ((CRC >> 8) & 0xff);
 
-		byte[] copyByte = getCopyByte(Buff, Pos);
+		// 复制出恰好长度的结果并归还缓冲区
+		byte[] copyByte = pool.copyAndRelease(Buff, Pos);
 		return copyByte;
 	}
 
@@ -165,7 +164,8 @@ public class LED_ResponseUtils {
 			throws UnsupportedEncodingException {
 		int BuffPos;
 		// 分配缓冲数组
-		byte[] Buff = new byte[512];
+		BufferPool pool = BufferPool.shared();
+		byte[] Buff = pool.acquire(512);
 		int CRC;
 		byte TextContextNum = (byte) textContextList.size();
 		/* 0.填充命令参数 */
@@ -209,18 +209,17 @@ public class LED_ResponseUtils {
 			// 32位字体颜色 保留字节
 			Buff[BuffPos++] = (byte) ((textContext.getTextColor() >> 24) & 0xff);
 
-			// 把string 类型字符串 读取到字节数组里面.注意字符串编码必须是GB2312 WINDOWS代码页为936
-			byte[] TextBuff = textContext.getText().getBytes("GBK");
+			// 把string 类型字符串直接编码到长度字节之后.注意字符串编码必须是GB2312 WINDOWS代码页为936
 			// 整包长度不能大于255
-			if ((BuffPos + TextBuff.length) >= 255) {
+			int TextLen = GbkCodec.encode(textContext.getText(), Buff, BuffPos + 1, 254 - BuffPos);
+			if (TextLen < 0) {
+				pool.release(Buff);
 				return null;
 			}
 			// 文本长度
-			Buff[BuffPos++] = (byte) TextBuff.length;
-			// 复制文本到缓冲
-			for (int z = 0; z < TextBuff.length; z++) {
-				Buff[BuffPos++] = TextBuff[z];
-			}
+			Buff[BuffPos++] = (byte) TextLen;
+			// 文本已在缓冲中
+			BuffPos += TextLen;
 
 			// 添加文本分隔符
 			if (i == (TextContextNum - 1)) {
@@ -233,21 +232,19 @@ public class LED_ResponseUtils {
 		}
 
 		/* 2.填充语音参数 */
-		// 把string 类型字符串 读取到字节数组里面.注意字符串编码必须是GB2312 WINDOWS代码页为936
-		byte[] VoiceTextBuff = VoiceText.getBytes("GBK");
-		if (VoiceTextBuff.length > 0) {
+		if (VoiceText.length() > 0) {
+			// 把string 类型字符串直接编码到缓冲区，并做长度检查.注意字符串编码必须是GB2312 WINDOWS代码页为936
+			int VoiceTextLen = GbkCodec.encode(VoiceText, Buff, BuffPos + 2, 252 - BuffPos);
+			if (VoiceTextLen < 0) {
+				pool.release(Buff);
+				return null;
+			}
 			// 语音分隔符
 			Buff[BuffPos++] = 0x0A;
 			// 语音文本长度
-			Buff[BuffPos++] = (byte) VoiceTextBuff.length;
-			// 长度检查
-			if ((BuffPos + VoiceTextBuff.length) >= 255) {
-				return null;
-			}
-			// 复制文本到缓冲
-			for (int z = 0; z < VoiceTextBuff.length; z++) {
-				Buff[BuffPos++] = VoiceTextBuff[z];
-			}
+			Buff[BuffPos++] = (byte) VoiceTextLen;
+			// 文本已在缓冲中
+			BuffPos += VoiceTextLen;
 		}
 		else {
 			Buff[BuffPos++] = 0x00;
@@ -263,7 +260,8 @@ public class LED_ResponseUtils {
 		// 校验码高字节
 		Buff[BuffPos++] = (byte) ((CRC >> 8) & 0xff);
 
-		byte[] copyByte = getCopyByte(Buff, BuffPos);
+		// 复制出恰好长度的结果并归还缓冲区
+		byte[] copyByte = pool.copyAndRelease(Buff, BuffPos);
 
 		return copyByte;
 
@@ -271,24 +269,26 @@ public class LED_ResponseUtils {
 
 	static byte[] LED_DisQR_V1(int ShowTime, String QRMsg, String TextInfo, int VoieceEn, byte QRSize)
 			throws UnsupportedEncodingException {
-		byte[] Buff = new byte[1024];// 分配缓冲数组
-		byte[] TextBuff = TextInfo.getBytes("GBK"); // 把string 类型字符串
-													// 读取到字节数组里面.注意字符串编码必须是GB2312
-													// WINDOWS代码页为936
-		byte[] QRMsgBuff = QRMsg.getBytes("GBK"); // 把string 类型字符串
-													// 读取到字节数组里面.注意字符串编码必须是GB2312
-													// WINDOWS代码页为936
+		BufferPool pool = BufferPool.shared();
+		byte[] Buff = pool.acquire(1024);// 分配缓冲数组
+		// 把string 类型字符串直接编码到缓冲区.注意字符串编码必须是GB2312 WINDOWS代码页为936
+		// 二维码内容从第38字节开始，其后为结束符和文本内容；数据长度不能大于255
+		int QRMsgLen = GbkCodec.encode(QRMsg, Buff, 38, 255 - 34);
+		if (QRMsgLen < 0) {
+			pool.release(Buff);
+			return null;
+		}
+		int TextLen = GbkCodec.encode(TextInfo, Buff, 38 + QRMsgLen + 1, 255 - 34 - QRMsgLen);
+		if (TextLen < 0) {
+			pool.release(Buff);
+			return null;
+		}
 
 		int Pos = 0;
-		int TextLen = TextBuff.length; // 获取字符串数组的长度
-		int QRMsgLen = QRMsgBuff.length;
 		int CRC;
 		int PakDataLen;
 
 		PakDataLen = TextLen + QRMsgLen + 34;
-		if (PakDataLen > 255) {
-			return null;
-		}
 		/* 0.填充显示命令参数 */
 		Buff[Pos++] = 0x00; // 显示屏地址
 		Buff[Pos++] = 0x64; // 固定参数
@@ -318,16 +318,12 @@ public class LED_ResponseUtils {
 		for (int i = 0; i < 15; i++) {
 			Buff[Pos++] = 0;
 		}
-		/* 复制二维码内容到缓冲区 */
-		for (int i = 0; i < QRMsgLen; i++) {
-			Buff[Pos++] = QRMsgBuff[i];
-		}
+		/* 二维码内容已编码在缓冲区中 */
+		Pos += QRMsgLen;
 		Buff[Pos++] = 0;// 结束符
 
-		/* 复制文本内容到缓冲区 */
-		for (int i = 0; i < TextLen; i++) {
-			Buff[Pos++] = TextBuff[i];
-		}
+		/* 文本内容已编码在缓冲区中 */
+		Pos += TextLen;
 		Buff[Pos++] = 0;// 结束符
 
 		/* 1.计算校验码 */
@@ -335,7 +331,8 @@ public class LED_ResponseUtils {
 		Buff[Pos++] = (byte) (CRC & 0xff);// 校验码低字节
 		Buff[Pos++] = (byte) ((CRC >> 8) & 0xff);// 校验码高字节
 
-		byte[] copyByte = getCopyByte(Buff, Pos);
+		// 复制出恰好长度的结果并归还缓冲区
+		byte[] copyByte = pool.copyAndRelease(Buff, Pos);
 
 		return copyByte;
 	}
@@ -362,15 +359,7 @@ public class LED_ResponseUtils {
 	 * @return 转换后的Hex字符串
 	 */
 	public static String bytesToHex(byte[] bytes) {
-		StringBuffer sb = new StringBuffer();
-		for (int i = 0; i < bytes.length; i++) {
-			String hex = Integer.toHexString(bytes[i] & 0xFF);
-			if (hex.length() < 2) {
-				sb.append(0);
-			}
-			sb.append(hex);
-		}
-		return sb.toString();
+		return HexCodec.toHexString(bytes, 0, bytes.length, false);
 	}
 
 	// 红色
@@ -0,0 +1,264 @@
+package com.cqcloud.platform.warmup;
+
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.codec.HexCodec;
+import com.cqcloud.platform.codec.TextEncoding;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.frame.FrameEncoder;
+import com.cqcloud.platform.frame.SequenceAllocator;
+import com.cqcloud.platform.json.EncodeType;
+import com.cqcloud.platform.json.Rs485JsonWriter;
+import com.cqcloud.platform.metrics.EncodeMetrics;
+import com.cqcloud.platform.plate.PlateEvent;
+import com.cqcloud.platform.plate.PlateEventParser;
+import com.cqcloud.platform.rs485.Rs485CPUtils;
+import com.cqcloud.platform.rs485.Rs485DisplayUtils;
+import com.cqcloud.platform.rs485.Rs485SceneService;
+import com.cqcloud.platform.rs485.Rs485Utils;
+import com.cqcloud.platform.rs485.Rs485XSPUtils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils.ScreenEnum;
+import com.cqcloud.platform.utils.UrlEncoderUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 启动预热：重启后第一辆车不再承担类初始化和解释执行的开销
+ * <p>
+ * 预先加载GBK字符集和各 rs485
+ * 工具类（CRC表、场景模板、TTS模板），再按屏幕类型把入场、出场（含语音帧）、多行显示、二维码、TTS、车牌推送解析和应答JSON各执行
+ * {@code iterations} 次，使热点方法达到C2编译。预热生成的帧不下发，流水号取自预热自己的
+ * {@link SequenceAllocator}，不占用各地址共享的流水号； 整个预热在
+ * {@link EncodeMetrics#runUncounted(Runnable)} 中执行，不计入编码计数、耗时和JFR编码事件。
+ * <p>
+ * {@link #run()} 只执行一次，可在任意线程调用；进度通过 {@link #getState()} 等方法查询。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class SmartWarmup {
+
+	/**
+	 * 默认每种屏幕的执行轮数，超过C2编译阈值（-XX:Tier4InvocationThreshold=5000）
+	 */
+	public static final int DEFAULT_ITERATIONS = 10_000;
+
+	private static final String QRCODE_URL = "https://pay.example.com/parking?carlicense=";
+
+	private static final int PLATE_SAMPLES = 16;
+
+	// 二维码显示命令
+	private static final int CMD_QRCODE = 0x28;
+
+	/**
+	 * 预热状态
+	 */
+	public enum State {
+
+		/**
+		 * 未开始
+		 */
+		PENDING,
+
+		/**
+		 * 执行中
+		 */
+		RUNNING,
+
+		/**
+		 * 已完成
+		 */
+		READY,
+
+		/**
+		 * 执行失败，编码功能仍可使用，只是未预热
+		 */
+		FAILED
+
+	}
+
+	private final List<ScreenEnum> screenTypes;
+
+	private final int address;
+
+	private final BufferPool bufferPool;
+
+	private final int iterations;
+
+	// 预热专用，生成的帧不下发，不能占用共享分配器中实际设备的流水号
+	private final SequenceAllocator serialNumbers = new SequenceAllocator(0);
+
+	private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+
+	private volatile long durationMillis = -1;
+
+	private volatile Throwable failure;
+
+	// 防止预热结果被当作无用代码消除
+	private volatile long sink;
+
+	/**
+	 * @param screenTypes 需要预热的屏幕类型，为空时预热全部类型
+	 * @param address 设备地址
+	 * @param bufferPool 组帧时借用的缓冲池
+	 * @param iterations 每种屏幕的执行轮数
+	 */
+	public SmartWarmup(Collection<ScreenEnum> screenTypes, int address, BufferPool bufferPool, int iterations) {
+		if (iterations < 1) {
+			throw new IllegalArgumentException("预热轮数必须大于0: " + iterations);
+		}
+		this.screenTypes = screenTypes == null || screenTypes.isEmpty() ? List.of(ScreenEnum.values())
+				: List.copyOf(EnumSet.copyOf(screenTypes));
+		this.address = address & 0xFF;
+		this.bufferPool = bufferPool != null ? bufferPool : BufferPool.shared();
+		this.iterations = iterations;
+	}
+
+	/**
+	 * 执行预热，已执行过时直接返回
+	 * @return 本次是否执行了预热
+	 */
+	public boolean run() {
+		if (!state.compareAndSet(State.PENDING, State.RUNNING)) {
+			return false;
+		}
+		long start = System.nanoTime();
+		try {
+			EncodeMetrics.runUncounted(this::warmupAll);
+			durationMillis = (System.nanoTime() - start) / 1_000_000;
+			state.set(State.READY);
+		}
+		catch (RuntimeException | LinkageError e) {
+			failure = e;
+			durationMillis = (System.nanoTime() - start) / 1_000_000;
+			state.set(State.FAILED);
+		}
+		return true;
+	}
+
+	public State getState() {
+		return state.get();
+	}
+
+	public boolean isReady() {
+		return state.get() == State.READY;
+	}
+
+	/**
+	 * 预热耗时（毫秒），未结束时为 -1
+	 */
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	/**
+	 * 失败原因，未失败时为 null
+	 */
+	public Throwable getFailure() {
+		return failure;
+	}
+
+	public List<ScreenEnum> getScreenTypes() {
+		return screenTypes;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	private void warmupAll() {
+		loadClasses();
+		long checksum = 0;
+		byte[][] plateSamples = plateSamples();
+		for (ScreenEnum screenType : screenTypes) {
+			checksum += warmup(screenType, plateSamples);
+		}
+		sink = checksum;
+	}
+
+	// 触发字符集和各工具类的静态初始化（CRC表、场景模板、TTS模板），不调用会分配流水号的静态方法
+	private static void loadClasses() {
+		Charset.forName("GBK");
+		GbkCodec.encode(GbkCodec.PHRASES.get(0));
+		for (TextEncoding encoding : TextEncoding.values()) {
+			encoding.encode(GbkCodec.PHRASES.get(0));
+		}
+		Rs485Utils.buildTTSVoiceCommand(GbkCodec.PHRASES.get(0));
+		initialize(Rs485CPUtils.class);
+		initialize(Rs485XSPUtils.class);
+		initialize(Rs485DisplayUtils.class);
+	}
+
+	private static void initialize(Class<?> type) {
+		try {
+			Class.forName(type.getName(), true, type.getClassLoader());
+		}
+		catch (ClassNotFoundException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private long warmup(ScreenEnum screenType, byte[][] plateSamples) {
+		Rs485SceneService scenes = new Rs485SceneService(screenType, address,
+				Rs485SceneService.defaultColor(screenType), 0, bufferPool, serialNumbers);
+		DisplayVoiceUtils protocol = new DisplayVoiceUtils(screenType);
+		protocol.setAddress(address);
+		protocol.setSequenceNumbers(serialNumbers);
+		ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+		long checksum = 0;
+		for (int i = 0; i < iterations; i++) {
+			PlateEvent event = PlateEventParser.parse(plateSamples[i % PLATE_SAMPLES]);
+			String plate = event.getLicense();
+			int amount = i % 500;
+
+			FrameBatch entry = scenes.entryScene(plate, i % 1000);
+			FrameBatch exit = scenes.exitScene(plate, amount);
+			checksum += entry.getTotalLength() + exit.getTotalLength();
+			checksum += scenes.displayLines(GbkCodec.PHRASES.get(i % GbkCodec.PHRASES.size()), plate).getTotalLength();
+			checksum += protocol.buildLoadTempDisplayPacket(1 + i % 4, 0, 1, plate).length;
+
+			checksum += qrcode(QRCODE_URL + plate).length();
+			checksum += Rs485Utils.buildEntryWelcomeTTS(plate).length();
+			checksum += Rs485Utils.buildFormattedTTS("本次停车费%d元", amount).length();
+
+			out.reset();
+			new Rs485JsonWriter(out).encodeType(i % 2 == 0 ? EncodeType.HEX2STRING : EncodeType.BASE64)
+				.begin(Rs485JsonWriter.NO_ERROR, 0)
+				.gpio("on", "io1")
+				.frames(entry)
+				.end();
+			checksum += out.size();
+		}
+		return checksum;
+	}
+
+	// 与 Rs485Utils.buildQrcodeCommand 相同的编码（URL编码、GBK十六进制和组帧），流水号取自预热的分配器
+	private String qrcode(String content) {
+		String data = HexCodec.toHexString(Rs485Utils.QRCODE_MODE_THREE_LINE, 0, Rs485Utils.QRCODE_COLOR_GREEN)
+				+ Rs485Utils.stringToHex(UrlEncoderUtils.encodeUrlParams(content));
+		return FrameEncoder.encodeHex(serialNumbers.next(address), address, CMD_QRCODE, data);
+	}
+
+	// 不同省份和号码的车牌推送，避免只按单一输入编译
+	private static byte[][] plateSamples() {
+		byte[][] samples = new byte[PLATE_SAMPLES][];
+		for (int i = 0; i < PLATE_SAMPLES; i++) {
+			String plate = GbkCodec.PROVINCES.charAt(i * 7 % GbkCodec.PROVINCES.length()) + "A"
+					+ (10000 + i * 6173 % 90000);
+			String json = "{\"AlarmInfoPlate\":{\"channel\":0,\"deviceName\":\"IVS\",\"ipaddr\":\"192.168.1.100\","
+					+ "\"serialno\":\"warmup-" + i + "\",\"result\":{\"PlateResult\":{\"license\":\"" + plate
+					+ "\",\"colorType\":1,\"confidence\":98,\"triggerType\":8,\"type\":1,\"direction\":0,"
+					+ "\"imageFile\":\"/9j/4AAQSkZJRgABAQAAAQABAAD\",\"timeStamp\":{\"Timeval\":{\"sec\":1760000000,\"usec\":"
+					+ i + "}}}}}}";
+			samples[i] = json.getBytes(StandardCharsets.UTF_8);
+		}
+		return samples;
+	}
+
+}
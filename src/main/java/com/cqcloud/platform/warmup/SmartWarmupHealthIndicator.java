@@ -0,0 +1,44 @@
+package com.cqcloud.platform.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * 预热状态健康检查：预热完成前为 OUT_OF_SERVICE，负载均衡可据此在预热完成后再分配流量
+ * <p>
+ * 预热失败时编码功能仍可使用，报告为 UP 并在详情中附上失败原因，避免探针因此摘除或重启实例。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public class SmartWarmupHealthIndicator implements HealthIndicator {
+
+	private final SmartWarmup warmup;
+
+	public SmartWarmupHealthIndicator(SmartWarmup warmup) {
+		this.warmup = warmup;
+	}
+
+	@Override
+	public Health health() {
+		SmartWarmup.State state = warmup.getState();
+		Health.Builder builder;
+		switch (state) {
+			case READY:
+				builder = Health.up();
+				break;
+			case FAILED:
+				builder = Health.up().withException(warmup.getFailure());
+				break;
+			default:
+				builder = Health.outOfService();
+		}
+		builder.withDetail("state", state)
+			.withDetail("screenTypes", warmup.getScreenTypes())
+			.withDetail("iterations", warmup.getIterations());
+		if (warmup.getDurationMillis() >= 0) {
+			builder.withDetail("durationMillis", warmup.getDurationMillis());
+		}
+		return builder.build();
+	}
+
+}
@@ -0,0 +1,268 @@
+package com.cqcloud.platform.web;
+
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.jfr.CameraReplyEvent;
+import com.cqcloud.platform.json.EncodeType;
+import com.cqcloud.platform.json.Rs485JsonWriter;
+import com.cqcloud.platform.metrics.LaneObserver;
+import com.cqcloud.platform.plate.CameraPush;
+import com.cqcloud.platform.plate.PlateEvent;
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import com.cqcloud.platform.tracing.LaneTrace;
+import com.cqcloud.platform.tracing.LaneTracer;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.System.Logger.Level;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 相机推送的分发与应答，MVC 和 WebFlux 两种接口共用
+ * <p>
+ * 车牌识别推送交给 {@link LaneDecisionHandler} 决策，决策完成后用 {@link Rs485JsonWriter} 写出应答：GPIO
+ * 为决策的道闸动作，rs485_data 先写决策的帧，再用剩余额度带出 {@link CameraCommandQueue}
+ * 中该相机排队的命令。非车牌推送（心跳等）不调用决策回调；心跳按其序列号带出排队命令。
+ * <p>
+ * 通过 {@link #respond(CameraPush, long)} 应答时，每次应答的帧数、字节数、耗时和相机重发情况报告给
+ * {@link LaneObserver}，同时记录JFR事件 {@link CameraReplyEvent}；解析、决策和应答各步骤报告给
+ * {@link LaneTracer}。
+ * <p>
+ * 出错时应答的 error_str 只是固定的错误码（{@link #INVALID_PUSH}、{@link #DECISION_FAILED}），不带异常信息；
+ * 异常本身报告给 {@link LaneObserver#onError(Throwable)} 和 {@link LaneTracer}，记入JFR事件，并写入
+ * {@link System.Logger}（Spring Boot 中经 JUL 桥接到应用日志）。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class CameraPushDispatcher {
+
+	/**
+	 * 推送接口的默认路径
+	 */
+	public static final String DEFAULT_PATH = "/camera/push";
+
+	/**
+	 * 默认最多读取的请求体字节数（含图片），16MB
+	 */
+	public static final int DEFAULT_MAX_PUSH_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * 推送无法解析或决策失败时应答的 error_num
+	 */
+	public static final int ERROR_NUM = 1;
+
+	/**
+	 * 推送无法读取或解析时应答的 error_str
+	 */
+	public static final String INVALID_PUSH = "invalid push";
+
+	/**
+	 * 决策回调失败或应答生成失败时应答的 error_str
+	 */
+	public static final String DECISION_FAILED = "decision failed";
+
+	private static final System.Logger LOGGER = System.getLogger(CameraPushDispatcher.class.getName());
+
+	// 不带帧的应答约100字节，每帧另加几十字节
+	private static final int INITIAL_REPLY_SIZE = 256;
+
+	private final LaneDecisionHandler handler;
+
+	private final CameraCommandQueue commandQueue;
+
+	private final EncodeType encodeType;
+
+	private final LaneObserver observer;
+
+	private final LaneTracer tracer;
+
+	// 每台相机最近一次识别（车牌@识别时间），用于识别相机重发
+	private final ConcurrentMap<String, String> lastPlates = new ConcurrentHashMap<>();
+
+	public CameraPushDispatcher(LaneDecisionHandler handler) {
+		this(handler, null, EncodeType.HEX2STRING);
+	}
+
+	/**
+	 * @param handler 放行决策回调
+	 * @param commandQueue 待下发命令队列，null表示不带出排队命令
+	 * @param encodeType 帧数据编码方式
+	 */
+	public CameraPushDispatcher(LaneDecisionHandler handler, CameraCommandQueue commandQueue, EncodeType encodeType) {
+		this(handler, commandQueue, encodeType, null);
+	}
+
+	/**
+	 * @param handler 放行决策回调
+	 * @param commandQueue 待下发命令队列，null表示不带出排队命令
+	 * @param encodeType 帧数据编码方式
+	 * @param observer 应答观察者，null表示不记录
+	 */
+	public CameraPushDispatcher(LaneDecisionHandler handler, CameraCommandQueue commandQueue, EncodeType encodeType,
+			LaneObserver observer) {
+		this(handler, commandQueue, encodeType, observer, null);
+	}
+
+	/**
+	 * @param handler 放行决策回调
+	 * @param commandQueue 待下发命令队列，null表示不带出排队命令
+	 * @param encodeType 帧数据编码方式
+	 * @param observer 应答观察者，null表示不记录
+	 * @param tracer 车道链路追踪，null表示不追踪
+	 */
+	public CameraPushDispatcher(LaneDecisionHandler handler, CameraCommandQueue commandQueue, EncodeType encodeType,
+			LaneObserver observer, LaneTracer tracer) {
+		if (handler == null) {
+			throw new IllegalArgumentException("handler 不能为空");
+		}
+		this.handler = handler;
+		this.commandQueue = commandQueue;
+		this.encodeType = encodeType != null ? encodeType : EncodeType.HEX2STRING;
+		this.observer = observer != null ? observer : LaneObserver.NOOP;
+		this.tracer = tracer != null ? tracer : LaneTracer.NOOP;
+	}
+
+	/**
+	 * 决策并生成应答，决策失败时为错误应答，返回的阶段不会异常完成
+	 * @param event 识别结果，非车牌推送为 null
+	 * @param startNanos 收到推送时的 {@link System#nanoTime()}，用于计算车道耗时
+	 */
+	public CompletionStage<byte[]> respond(PlateEvent event, long startNanos) {
+		return respond(CameraPush.of(event), startNanos);
+	}
+
+	/**
+	 * 决策并生成应答，决策失败时为错误应答，返回的阶段不会异常完成；心跳应答带出该相机排队的命令
+	 * @param push 推送
+	 * @param startNanos 收到推送时的 {@link System#nanoTime()}，用于计算车道耗时
+	 */
+	public CompletionStage<byte[]> respond(CameraPush push, long startNanos) {
+		PlateEvent event = push.getEvent();
+		CameraReplyEvent replyEvent = new CameraReplyEvent();
+		replyEvent.begin();
+		LaneTrace trace = tracer.start(event, startNanos);
+		long dispatchNanos = System.nanoTime();
+		boolean retransmit = isRetransmit(event);
+		return trace.decide(() -> dispatch(event)).handle((decision, error) -> {
+			replyEvent.decided(System.nanoTime() - dispatchNanos);
+			if (error != null) {
+				return errorReply(event, DECISION_FAILED, error, replyEvent, trace, startNanos);
+			}
+			try {
+				return reply(event, push.getSerialno(), decision, observer, replyEvent, trace, startNanos, retransmit);
+			}
+			catch (RuntimeException e) {
+				return errorReply(event, DECISION_FAILED, e, replyEvent, trace, startNanos);
+			}
+		});
+	}
+
+	/**
+	 * 取得放行决策；回调同步抛出的异常转为异常完成
+	 * @param event 识别结果，非车牌推送为 null
+	 */
+	public CompletionStage<LaneDecision> dispatch(PlateEvent event) {
+		if (event == null) {
+			return CompletableFuture.completedFuture(LaneDecision.none());
+		}
+		try {
+			CompletionStage<LaneDecision> decision = handler.decide(event);
+			return decision != null ? decision : CompletableFuture.completedFuture(LaneDecision.none());
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * 决策完成后的应答JSON（UTF-8），不报告给 {@link LaneObserver}
+	 * @param event 识别结果，非车牌推送为 null
+	 * @param decision 决策，为 null 时按 {@link LaneDecision#none()}
+	 */
+	public byte[] reply(PlateEvent event, LaneDecision decision) {
+		return reply(event, serialno(event), decision, LaneObserver.NOOP, null, LaneTrace.NOOP, 0, false);
+	}
+
+	/**
+	 * 推送无法读取或解析时的应答JSON（UTF-8）：不抬杆、不下发帧，error_str 为 {@link #INVALID_PUSH}
+	 */
+	public byte[] errorReply(Throwable error) {
+		return errorReply(null, INVALID_PUSH, error, null, LaneTrace.NOOP, 0);
+	}
+
+	private byte[] errorReply(PlateEvent event, String errorStr, Throwable error, CameraReplyEvent replyEvent,
+			LaneTrace trace, long startNanos) {
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+		// 格式错误的推送由相机或请求方造成，不按服务端故障告警
+		Level level = INVALID_PUSH.equals(errorStr) ? Level.DEBUG : Level.WARNING;
+		LOGGER.log(level, "相机推送应答失败: " + errorStr, cause);
+		ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_REPLY_SIZE);
+		new Rs485JsonWriter(out).begin(errorStr, ERROR_NUM).gpio("off", LaneDecision.DEFAULT_GPIO).end();
+		observer.onError(cause);
+		trace.end(0, 0, false, cause);
+		if (replyEvent != null) {
+			replyEvent.commit(serialno(event), license(event), 0, 0, false, message, System.nanoTime() - startNanos);
+		}
+		return out.toByteArray();
+	}
+
+	// step 只用于结束时关闭追踪步骤，try 块中不引用
+	@SuppressWarnings("try")
+	private byte[] reply(PlateEvent event, String serialno, LaneDecision decision, LaneObserver observer,
+			CameraReplyEvent replyEvent, LaneTrace trace, long startNanos, boolean retransmit) {
+		if (decision == null) {
+			decision = LaneDecision.none();
+		}
+		FrameBatch decided = decision.getFrames();
+		int frames = decided.size();
+		int bytes = decided.getTotalLength();
+		byte[] body;
+		try (LaneTrace.Step step = trace.reply()) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_REPLY_SIZE);
+			Rs485JsonWriter writer = new Rs485JsonWriter(out).encodeType(encodeType)
+				.begin(Rs485JsonWriter.NO_ERROR, 0)
+				.gpio(decision.getGpioAction(), decision.getGpioNum())
+				.frames(decided);
+			if (commandQueue != null && serialno != null) {
+				int budget = commandQueue.getMaxFramesPerResponse() - frames;
+				if (budget > 0) {
+					for (Frame frame : commandQueue.drain(serialno, budget)) {
+						writer.frame(frame);
+						frames++;
+						bytes += frame.length();
+					}
+				}
+			}
+			writer.end();
+			body = out.toByteArray();
+		}
+		long latency = System.nanoTime() - startNanos;
+		observer.onReply(event, frames, bytes, latency, retransmit);
+		trace.end(frames, bytes, retransmit, null);
+		if (replyEvent != null) {
+			replyEvent.commit(serialno, license(event), frames, bytes, retransmit, null, latency);
+		}
+		return body;
+	}
+
+	private static String serialno(PlateEvent event) {
+		return event != null ? event.getSerialno() : null;
+	}
+
+	private static String license(PlateEvent event) {
+		return event != null && event.hasPlate() ? event.getLicense() : null;
+	}
+
+	private boolean isRetransmit(PlateEvent event) {
+		if (event == null || event.getSerialno() == null || !event.hasPlate()) {
+			return false;
+		}
+		String plate = event.getLicense() + '@' + event.getTimestamp();
+		return plate.equals(lastPlates.put(event.getSerialno(), plate));
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.cqcloud.platform.web;
+
+import com.cqcloud.platform.frame.FrameBatch;
+
+/**
+ * 车道放行决策：应答中的道闸GPIO动作和下发给屏幕的数据帧
+ *
+ * <pre>
+ * LaneDecision.open(Rs485XSPUtils.buildSmallScreenEntrySceneFrames(event.getLicense(), freeSpaces));
+ * LaneDecision.keepClosed(Rs485XSPUtils.buildSmallScreenExitSceneFrames(event.getLicense(), amount));
+ * </pre>
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public final class LaneDecision {
+
+	/**
+	 * 默认道闸GPIO编号
+	 */
+	public static final String DEFAULT_GPIO = "io1";
+
+	private static final FrameBatch NO_FRAMES = FrameBatch.of();
+
+	private static final LaneDecision NONE = new LaneDecision("off", DEFAULT_GPIO, NO_FRAMES);
+
+	private final String gpioAction;
+
+	private final String gpioNum;
+
+	private final FrameBatch frames;
+
+	private LaneDecision(String gpioAction, String gpioNum, FrameBatch frames) {
+		this.gpioAction = gpioAction;
+		this.gpioNum = gpioNum;
+		this.frames = frames != null ? frames : NO_FRAMES;
+	}
+
+	/**
+	 * 抬杆放行
+	 * @param frames 下发给屏幕的帧，可为 null
+	 */
+	public static LaneDecision open(FrameBatch frames) {
+		return new LaneDecision("on", DEFAULT_GPIO, frames);
+	}
+
+	/**
+	 * 不抬杆（如待缴费），只下发屏幕内容
+	 * @param frames 下发给屏幕的帧，可为 null
+	 */
+	public static LaneDecision keepClosed(FrameBatch frames) {
+		return new LaneDecision("off", DEFAULT_GPIO, frames);
+	}
+
+	/**
+	 * 自定义GPIO
+	 * @param gpioAction GPIO动作 ("on" 或 "off")
+	 * @param gpioNum GPIO编号 ("io1", "io2", 等)
+	 * @param frames 下发给屏幕的帧，可为 null
+	 */
+	public static LaneDecision of(String gpioAction, String gpioNum, FrameBatch frames) {
+		return new LaneDecision(gpioAction, gpioNum, frames);
+	}
+
+	/**
+	 * 不抬杆、不下发任何帧（如非车牌推送）
+	 */
+	public static LaneDecision none() {
+		return NONE;
+	}
+
+	public String getGpioAction() {
+		return gpioAction;
+	}
+
+	public String getGpioNum() {
+		return gpioNum;
+	}
+
+	public FrameBatch getFrames() {
+		return frames;
+	}
+
+}
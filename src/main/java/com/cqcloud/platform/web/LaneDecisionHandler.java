@@ -0,0 +1,32 @@
+package com.cqcloud.platform.web;
+
+import com.cqcloud.platform.plate.PlateEvent;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 车道放行决策回调，由接入方实现（查询车辆、计费、车位数等）
+ * <p>
+ * 在接收推送的请求线程上调用，实现中不得阻塞：查询数据库、调用计费服务等耗时操作应提交到自己的线程池或使用异步客户端，返回尚未完成的
+ * {@link CompletionStage}，完成后再写出应答。
+ *
+ * <pre>
+ * LaneDecisionHandler handler = event -&gt; CompletableFuture.supplyAsync(() -&gt; {
+ *     int freeSpaces = parkingService.freeSpaces(event.getSerialno());
+ *     return LaneDecision.open(Rs485XSPUtils.buildSmallScreenEntrySceneFrames(event.getLicense(), freeSpaces));
+ * }, laneExecutor);
+ * </pre>
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@FunctionalInterface
+public interface LaneDecisionHandler {
+
+	/**
+	 * 对一次车牌识别作出决策
+	 * @param event 识别结果
+	 * @return 放行决策，异常完成时应答中返回错误信息且不抬杆
+	 */
+	CompletionStage<LaneDecision> decide(PlateEvent event);
+
+}
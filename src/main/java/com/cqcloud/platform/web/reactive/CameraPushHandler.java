@@ -0,0 +1,78 @@
+package com.cqcloud.platform.web.reactive;
+
+import com.cqcloud.platform.plate.CameraPush;
+import com.cqcloud.platform.plate.PlateEventParser;
+import com.cqcloud.platform.web.CameraPushDispatcher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 相机推送接口（WebFlux）
+ * <p>
+ * 请求体不在内存中汇聚，在弹性线程上边接收边流式解析（不解码图片），内存占用与图片大小无关；决策回调返回的
+ * {@link java.util.concurrent.CompletionStage} 转为 {@link Mono}，事件循环线程不阻塞。通过
+ * {@link #route(String)} 注册路由。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+public class CameraPushHandler {
+
+	// 解析线程每次向请求体请求的缓冲区个数
+	private static final int DEMAND = 4;
+
+	private final CameraPushDispatcher dispatcher;
+
+	private final int maxPushSize;
+
+	public CameraPushHandler(CameraPushDispatcher dispatcher) {
+		this(dispatcher, CameraPushDispatcher.DEFAULT_MAX_PUSH_SIZE);
+	}
+
+	/**
+	 * @param dispatcher 推送分发
+	 * @param maxPushSize 最多读取的请求体字节数，推送在此之前未结束时应答错误
+	 */
+	public CameraPushHandler(CameraPushDispatcher dispatcher, int maxPushSize) {
+		this.dispatcher = dispatcher;
+		this.maxPushSize = maxPushSize;
+	}
+
+	/**
+	 * 在指定路径上接收 POST 推送
+	 */
+	public RouterFunction<ServerResponse> route(String path) {
+		return RouterFunctions.route(RequestPredicates.POST(path), this::handle);
+	}
+
+	public Mono<ServerResponse> handle(ServerRequest request) {
+		long start = System.nanoTime();
+		Flux<DataBuffer> body = request.body(BodyExtractors.toDataBuffers());
+		Mono<byte[]> reply = Mono.fromCallable(() -> parse(body))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(push -> Mono.fromCompletionStage(dispatcher.respond(push, start)))
+			.onErrorResume(error -> Mono.just(dispatcher.errorReply(error)));
+		return reply.flatMap(json -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(json));
+	}
+
+	// 阻塞读取，须在弹性线程上调用；关闭输入流时取消剩余的请求体并释放未读的缓冲区
+	private CameraPush parse(Flux<DataBuffer> body) throws IOException {
+		try (InputStream in = DataBufferUtils
+			.subscriberInputStream(DataBufferUtils.takeUntilByteCount(body, maxPushSize), DEMAND)) {
+			return PlateEventParser.parsePush(in);
+		}
+	}
+
+}
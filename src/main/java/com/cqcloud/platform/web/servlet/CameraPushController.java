@@ -0,0 +1,50 @@
+package com.cqcloud.platform.web.servlet;
+
+import com.cqcloud.platform.plate.CameraPush;
+import com.cqcloud.platform.plate.PlateEventParser;
+import com.cqcloud.platform.web.CameraPushDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 相机推送接口（Spring MVC）
+ * <p>
+ * 请求线程只流式解析推送并调用决策回调，返回 {@link CompletionStage} 后即释放；决策完成后由 Spring MVC
+ * 异步写出应答，请求线程不等待查询、计费等耗时操作。 路径默认为 /camera/push，可通过 ylc.smart.endpoint.path 修改。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+@RestController
+public class CameraPushController {
+
+	private final CameraPushDispatcher dispatcher;
+
+	public CameraPushController(CameraPushDispatcher dispatcher) {
+		this.dispatcher = dispatcher;
+	}
+
+	@PostMapping(path = "${ylc.smart.endpoint.path:/camera/push}")
+	public CompletionStage<ResponseEntity<byte[]>> push(HttpServletRequest request) {
+		long start = System.nanoTime();
+		CameraPush push;
+		try {
+			push = PlateEventParser.parsePush(request.getInputStream());
+		}
+		catch (IOException | IllegalArgumentException e) {
+			return CompletableFuture.completedFuture(json(dispatcher.errorReply(e)));
+		}
+		return dispatcher.respond(push, start).thenApply(CameraPushController::json);
+	}
+
+	private static ResponseEntity<byte[]> json(byte[] body) {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.cqcloud.platform.autoconfigure;
+
+import com.cqcloud.platform.buffer.BufferPool;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SmartAutoConfiguration} 创建的池须被静态组帧工具类共享，容器关闭后恢复默认池
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class SmartAutoConfigurationTests {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(SmartAutoConfiguration.class));
+
+	@Test
+	void configuredPoolIsShared() {
+		runner.withPropertyValues("ylc.smart.buffer-pool.slots-per-class=2").run(context -> {
+			assertThat(context).hasSingleBean(BufferPool.class);
+			assertThat(BufferPool.shared()).isSameAs(context.getBean(BufferPool.class)).isNotSameAs(BufferPool.DEFAULT);
+		});
+		assertThat(BufferPool.shared()).isSameAs(BufferPool.DEFAULT);
+	}
+
+	@Test
+	void userPoolIsNotReplacedOnClose() {
+		BufferPool pool = new BufferPool(4);
+		runner.withBean(BufferPool.class, () -> pool).run(context -> {
+			assertThat(context.getBean(BufferPool.class)).isSameAs(pool);
+			assertThat(BufferPool.shared()).isSameAs(BufferPool.DEFAULT);
+		});
+		assertThat(BufferPool.shared()).isSameAs(BufferPool.DEFAULT);
+	}
+
+}
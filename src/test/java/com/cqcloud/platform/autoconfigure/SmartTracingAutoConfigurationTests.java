@@ -0,0 +1,46 @@
+package com.cqcloud.platform.autoconfigure;
+
+import com.cqcloud.platform.tracing.LaneTracer;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * {@link SmartTracingAutoConfiguration} 不应锁定 {@link GlobalOpenTelemetry}
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class SmartTracingAutoConfigurationTests {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(SmartAutoConfiguration.class, SmartTracingAutoConfiguration.class));
+
+	@AfterEach
+	void resetGlobal() {
+		GlobalOpenTelemetry.resetForTest();
+	}
+
+	@Test
+	void globalStaysUnsetWithoutOpenTelemetryBean() {
+		runner.run(context -> {
+			assertThat(context).hasSingleBean(LaneTracer.class);
+			// 应用或 agent 在容器启动后仍可设置全局实例
+			GlobalOpenTelemetry.set(OpenTelemetry.noop());
+		});
+	}
+
+	@Test
+	void useGlobalReadsGlobalOpenTelemetry() {
+		runner.withPropertyValues("ylc.smart.tracing.use-global=true").run(context -> {
+			assertThat(context).hasSingleBean(LaneTracer.class);
+			assertThatIllegalStateException().isThrownBy(() -> GlobalOpenTelemetry.set(OpenTelemetry.noop()));
+		});
+	}
+
+}
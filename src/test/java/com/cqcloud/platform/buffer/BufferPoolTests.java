@@ -0,0 +1,111 @@
+package com.cqcloud.platform.buffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link BufferPool} 的分级、借还和租约
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class BufferPoolTests {
+
+	@Test
+	void acquireRoundsUpToSizeClass() {
+		BufferPool pool = new BufferPool(4);
+		assertThat(pool.acquire(1)).hasSize(BufferPool.MIN_CAPACITY);
+		assertThat(pool.acquire(BufferPool.MIN_CAPACITY + 1)).hasSize(BufferPool.MIN_CAPACITY * 2);
+		assertThat(pool.acquire(BufferPool.MAX_CAPACITY)).hasSize(BufferPool.MAX_CAPACITY);
+		assertThat(pool.acquire(BufferPool.MAX_CAPACITY + 1)).hasSize(BufferPool.MAX_CAPACITY + 1);
+	}
+
+	@Test
+	void releasedBufferIsReusedWithinClass() {
+		BufferPool pool = new BufferPool(1);
+		byte[] buffer = pool.acquire(300);
+		pool.release(buffer);
+		assertThat(pool.acquire(400)).isSameAs(buffer);
+		assertThat(pool.acquire(400)).isNotSameAs(buffer);
+	}
+
+	@Test
+	void fullClassAndForeignArraysAreDropped() {
+		BufferPool pool = new BufferPool(1);
+		byte[] first = pool.acquire(300);
+		byte[] second = pool.acquire(300);
+		pool.release(first);
+		pool.release(second);
+		pool.release(null);
+		pool.release(new byte[300]);
+		pool.release(new byte[BufferPool.MAX_CAPACITY * 2]);
+		assertThat(pool.acquire(300)).isSameAs(first);
+		byte[] next = pool.acquire(300);
+		assertThat(next).isNotSameAs(second).hasSize(512);
+	}
+
+	@Test
+	void copyAndReleaseReturnsExactCopy() {
+		BufferPool pool = new BufferPool(1);
+		byte[] buffer = pool.acquire(10);
+		buffer[0] = 1;
+		buffer[1] = 2;
+		assertThat(pool.copyAndRelease(buffer, 2)).containsExactly(1, 2);
+		assertThat(pool.acquire(10)).isSameAs(buffer);
+	}
+
+	@Test
+	void leaseReturnsBufferOnClose() {
+		BufferPool pool = new BufferPool(1);
+		byte[] array;
+		BufferPool.Lease lease = pool.lease(16);
+		try (lease) {
+			array = lease.array();
+			array[0] = 7;
+			lease.length(1);
+			assertThat(lease.toByteArray()).containsExactly(7);
+			assertThat(lease.slice().isReadOnly()).isTrue();
+			assertThatThrownBy(() -> lease.length(array.length + 1)).isInstanceOf(IndexOutOfBoundsException.class);
+		}
+		assertThatIllegalStateException().isThrownBy(lease::array);
+		lease.close();
+		assertThat(pool.acquire(16)).isSameAs(array);
+	}
+
+	@Test
+	void concurrentBorrowersNeverShareBuffer() throws InterruptedException {
+		BufferPool pool = new BufferPool(2);
+		AtomicBoolean shared = new AtomicBoolean();
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 1; t <= 4; t++) {
+			byte marker = (byte) t;
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < 20_000 && !shared.get(); i++) {
+					byte[] buffer = pool.acquire(64);
+					Arrays.fill(buffer, 0, 64, marker);
+					Thread.yield();
+					for (int j = 0; j < 64; j++) {
+						if (buffer[j] != marker) {
+							shared.set(true);
+						}
+					}
+					pool.release(buffer);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertThat(shared).isFalse();
+	}
+
+}
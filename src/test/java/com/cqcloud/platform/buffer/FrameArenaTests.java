@@ -0,0 +1,165 @@
+package com.cqcloud.platform.buffer;
+
+import com.cqcloud.platform.frame.FrameEncoder;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * {@link FrameArena} 的分配、释放、过期和回收
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class FrameArenaTests {
+
+	private static final byte[] PAYLOAD = { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+	private static final int FRAME_LENGTH = FrameEncoder.OVERHEAD + PAYLOAD.length;
+
+	private static final int LARGE_PAYLOAD = 16 * 1024;
+
+	@Test
+	void encodedFrameMatchesFrameEncoder() {
+		try (FrameArena arena = new FrameArena(FRAME_LENGTH * 2, 1)) {
+			ArenaFrame frame = arena.encode(7, 1, 0x62, PAYLOAD);
+			assertThat(frame.toByteArray()).isEqualTo(FrameEncoder.encode(7, 1, 0x62, PAYLOAD));
+		}
+	}
+
+	@Test
+	void retiredRegionIsRecycledWhenAllFramesReleased() {
+		try (FrameArena arena = new FrameArena(FRAME_LENGTH * 2, 2)) {
+			ArenaFrame first = arena.encode(1, 1, 0x62, PAYLOAD);
+			ArenaFrame second = arena.encode(2, 1, 0x62, PAYLOAD);
+			// 第三帧写不下，前一区块转为已写满
+			ArenaFrame third = arena.encode(3, 1, 0x62, PAYLOAD);
+			assertThat(arena.usedRegions()).isEqualTo(2);
+			first.release();
+			first.release();
+			assertThat(arena.liveFrames()).isEqualTo(2);
+			second.release();
+			assertThat(arena.usedRegions()).isEqualTo(1);
+			assertThat(first.isValid()).isFalse();
+			assertThat(third.isValid()).isTrue();
+		}
+	}
+
+	@Test
+	void staleReleaseDoesNotCountAgainstNewGeneration() throws InterruptedException {
+		try (FrameArena arena = new FrameArena(FRAME_LENGTH * 2, 1)) {
+			ArenaFrame stale = arena.encode(1, 1, 0x62, PAYLOAD);
+			TimeUnit.MILLISECONDS.sleep(2);
+			assertThat(arena.expireOlderThan(1, TimeUnit.MILLISECONDS)).isEqualTo(1);
+			// 同一区块被重新分配给新一代帧
+			ArenaFrame fresh = arena.encode(2, 1, 0x62, PAYLOAD);
+			assertThat(arena.regionCount()).isEqualTo(1);
+			stale.release();
+			assertThat(arena.liveFrames()).isEqualTo(1);
+			assertThat(fresh.isValid()).isTrue();
+			assertThat(fresh.toByteArray()).isEqualTo(FrameEncoder.encode(2, 1, 0x62, PAYLOAD));
+		}
+	}
+
+	@Test
+	void releaseAfterCloseIsIgnored() {
+		FrameArena arena = new FrameArena(FRAME_LENGTH * 2, 1);
+		ArenaFrame frame = arena.encode(1, 1, 0x62, PAYLOAD);
+		arena.close();
+		frame.release();
+		assertThat(frame.isValid()).isFalse();
+		assertThat(arena.liveFrames()).isZero();
+	}
+
+	@Test
+	void readAfterRecycleThrows() {
+		try (FrameArena arena = new FrameArena(FRAME_LENGTH, 1)) {
+			ArenaFrame stale = arena.encode(1, 1, 0x62, PAYLOAD);
+			stale.release();
+			// 区块只容一帧，下一帧回收并改写同一区块
+			arena.encode(2, 1, 0x62, PAYLOAD);
+			assertThatIllegalStateException().isThrownBy(stale::toByteArray);
+			assertThatIllegalStateException().isThrownBy(stale::asByteBuffer);
+			assertThatIllegalStateException().isThrownBy(() -> stale.writeTo(ByteBuffer.allocate(FRAME_LENGTH)));
+		}
+	}
+
+	@Test
+	void concurrentRecycleNeverYieldsAnotherFramesBytes() throws InterruptedException {
+		try (FrameArena arena = new FrameArena(FrameEncoder.frameLength(LARGE_PAYLOAD), 1)) {
+			byte[][] payloads = new byte[64][];
+			byte[][] expected = new byte[64][];
+			for (int serial = 0; serial < expected.length; serial++) {
+				payloads[serial] = payload(serial);
+				expected[serial] = FrameEncoder.encode(serial, 1, 0x62, payloads[serial]);
+			}
+			AtomicReference<Published> published = new AtomicReference<>(
+					new Published(arena.encode(0, 1, 0x62, payload(0)), 0));
+			AtomicBoolean done = new AtomicBoolean();
+			AtomicInteger mismatches = new AtomicInteger();
+			AtomicLong started = new AtomicLong();
+			Thread reader = new Thread(() -> {
+				while (!done.get()) {
+					Published current = published.get();
+					started.incrementAndGet();
+					try {
+						byte[] bytes = current.frame.toByteArray();
+						if (!Arrays.equals(bytes, expected[current.serial])) {
+							mismatches.incrementAndGet();
+						}
+					}
+					catch (IllegalStateException recycled) {
+						// 已回收
+					}
+				}
+			});
+			reader.start();
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+			for (int i = 1; System.nanoTime() < deadline; i++) {
+				// 等读线程开始读当前帧，再让区块过期并写入新帧，使回收与复制交错
+				long reads = started.get();
+				while (started.get() == reads && reader.isAlive()) {
+					Thread.yield();
+				}
+				arena.expireOlderThan(0, TimeUnit.NANOSECONDS);
+				int serial = i & 63;
+				published.set(new Published(arena.encode(serial, 1, 0x62, payloads[serial]), serial));
+			}
+			done.set(true);
+			reader.join();
+			assertThat(mismatches).hasValue(0);
+		}
+	}
+
+	// 大帧复制耗时较长，读写更容易交错
+	private static byte[] payload(int seed) {
+		byte[] payload = new byte[LARGE_PAYLOAD];
+		for (int i = 0; i < payload.length; i++) {
+			payload[i] = (byte) (seed * 31 + i);
+		}
+		return payload;
+	}
+
+	private static final class Published {
+
+		final ArenaFrame frame;
+
+		final int serial;
+
+		Published(ArenaFrame frame, int serial) {
+			this.frame = frame;
+			this.serial = serial;
+		}
+
+	}
+
+}
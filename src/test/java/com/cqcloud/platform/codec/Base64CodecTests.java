@@ -0,0 +1,130 @@
+package com.cqcloud.platform.codec;
+
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.json.EncodeType;
+import com.cqcloud.platform.rs485.Rs485CPUtils;
+import com.cqcloud.platform.rs485.Rs485XSPUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Base64 模式与改造前的转换路径一致：先得到十六进制命令，再还原为字节，最后用 {@link Base64} 编码
+ * <p>
+ * 覆盖 {@link Base64Codec}、{@link Frame#toBase64()} 和按 {@link EncodeType#BASE64} 输出的应答JSON。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class Base64CodecTests {
+
+	private static final String[] PLATES = { "渝A12345", "川AD12345", "粤Z1234港", "", "WJ渝12345" };
+
+	private final SplittableRandom random = new SplittableRandom(20261018);
+
+	@Test
+	void encodeMatchesJdk() {
+		for (int len = 0; len <= 300; len++) {
+			byte[] data = new byte[len + 7];
+			random.nextBytes(data);
+			int off = random.nextInt(8);
+			int count = Math.min(len, data.length - off);
+			String expected = Base64.getEncoder().encodeToString(slice(data, off, count));
+			assertThat(Base64Codec.encodedLength(count)).isEqualTo(expected.length());
+			assertThat(Base64Codec.toBase64String(data, off, count)).isEqualTo(expected);
+
+			char[] chars = new char[expected.length() + 3];
+			assertThat(Base64Codec.encode(data, off, count, chars, 3)).isEqualTo(expected.length());
+			assertThat(new String(chars, 3, expected.length())).isEqualTo(expected);
+
+			byte[] ascii = new byte[expected.length() + 3];
+			assertThat(Base64Codec.encode(data, off, count, ascii, 3)).isEqualTo(expected.length());
+			assertThat(new String(ascii, 3, expected.length(), StandardCharsets.US_ASCII)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void framesMatchBaseline() {
+		for (String plate : PLATES) {
+			FrameBatch batch = Rs485CPUtils.buildEntrySceneFrames(plate, random.nextInt(1000));
+			for (int i = 0; i < batch.size(); i++) {
+				assertThat(batch.get(i).toBase64()).isEqualTo(baselineBase64(batch.toHex(i)));
+			}
+		}
+	}
+
+	@Test
+	void jsonMatchesBaseline() {
+		for (String plate : PLATES) {
+			FrameBatch entry = Rs485CPUtils.buildEntrySceneFrames(plate, random.nextInt(1000));
+			assertBase64(Rs485CPUtils.buildRs485Json(entry, EncodeType.BASE64), entry.toHexArray());
+			assertBase64(Rs485XSPUtils.buildRs485Json(entry, EncodeType.BASE64), entry.toHexArray());
+
+			FrameBatch exit = Rs485XSPUtils.buildSmallScreenExitSceneFrames(plate, random.nextInt(10_000));
+			assertBase64(Rs485XSPUtils.buildRs485Json(exit, EncodeType.BASE64), exit.toHexArray());
+			// 只有十六进制命令时先还原为字节再编码
+			assertBase64(Rs485XSPUtils.buildRs485Json(exit.toHexArray(), EncodeType.BASE64), exit.toHexArray());
+		}
+	}
+
+	@Test
+	void sceneJsonCarriesSameFrames() {
+		for (String plate : PLATES) {
+			int space = random.nextInt(1000);
+			// 两次调用的流水号不同，只比较命令码和数据
+			assertSameFrames(Rs485CPUtils.buildEntrySceneJson(plate, space, EncodeType.BASE64),
+					Rs485CPUtils.buildEntrySceneJson(plate, space));
+			assertSameFrames(Rs485CPUtils.buildExitSceneJson(plate, space, EncodeType.BASE64),
+					Rs485CPUtils.buildExitSceneJson(plate, space));
+			assertSameFrames(Rs485XSPUtils.buildEntrySceneJson(plate, space, EncodeType.BASE64),
+					Rs485XSPUtils.buildEntrySceneJson(plate, space));
+			assertSameFrames(Rs485XSPUtils.buildSmallScreenExitSceneJson(plate, space, EncodeType.BASE64),
+					Rs485XSPUtils.buildSmallScreenExitSceneJson(plate, space));
+		}
+	}
+
+	private static void assertBase64(String json, String[] hex) {
+		JSONArray data = JSONUtil.parseObj(json).getJSONArray("rs485_data");
+		assertThat(data).hasSize(hex.length);
+		for (int i = 0; i < hex.length; i++) {
+			JSONObject node = data.getJSONObject(i);
+			assertThat(node.getStr("encodetype")).isEqualTo("base64");
+			assertThat(node.getStr("data")).isEqualTo(baselineBase64(hex[i]));
+		}
+	}
+
+	private static void assertSameFrames(String base64Json, String hexJson) {
+		JSONArray base64 = JSONUtil.parseObj(base64Json).getJSONArray("rs485_data");
+		JSONArray hex = JSONUtil.parseObj(hexJson).getJSONArray("rs485_data");
+		assertThat(base64).hasSameSizeAs(hex);
+		for (int i = 0; i < hex.size(); i++) {
+			assertThat(hex.getJSONObject(i).getStr("encodetype")).isEqualTo("hex2string");
+			Frame expected = Frame.fromHex(hex.getJSONObject(i).getStr("data"));
+			Frame actual = Frame.of(Base64.getDecoder().decode(base64.getJSONObject(i).getStr("data")));
+			assertThat(actual.getAddress()).isEqualTo(expected.getAddress());
+			assertThat(actual.getCommand()).isEqualTo(expected.getCommand());
+			assertThat(actual.getPayload()).isEqualTo(expected.getPayload());
+		}
+	}
+
+	// 改造前：十六进制命令 -> hexStringToByteArray -> Base64
+	private static String baselineBase64(String hex) {
+		return Base64.getEncoder().encodeToString(HexFormat.of().parseHex(hex));
+	}
+
+	private static byte[] slice(byte[] bytes, int offset, int length) {
+		byte[] copy = new byte[length];
+		System.arraycopy(bytes, offset, copy, 0, length);
+		return copy;
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.cqcloud.platform.codec;
+
+import com.cqcloud.platform.utils.DisplayVoiceUtils.ScreenEnum;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * {@link GbkCodec} 与 {@link TextEncoding} 的编码结果和屏幕策略
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class GbkCodecTests {
+
+	@Test
+	void phrasesAreUnmodifiable() {
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> GbkCodec.PHRASES.set(0, "篡改"));
+		for (String phrase : GbkCodec.PHRASES) {
+			assertThat(GbkCodec.isPhrase(phrase)).isTrue();
+			assertThat(GbkCodec.encode(phrase)).isEqualTo(phrase.getBytes(GbkCodec.GBK));
+		}
+	}
+
+	@Test
+	void encodesTextBeyondRetainedScratch() {
+		String text = "渝A12345 欢迎光临 €🚗".repeat(500);
+		byte[] expected = text.getBytes(GbkCodec.GBK);
+		for (int i = 0; i < 2; i++) {
+			assertThat(GbkCodec.encode(text)).isEqualTo(expected);
+			ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+			assertThat(GbkCodec.encode(text, direct)).isEqualTo(expected.length);
+			byte[] written = new byte[expected.length];
+			direct.flip().get(written);
+			assertThat(written).isEqualTo(expected);
+		}
+		assertThat(GbkCodec.encode("渝A12345")).isEqualTo("渝A12345".getBytes(GbkCodec.GBK));
+	}
+
+	@Test
+	void screenPolicyIsReplacedAsAWhole() {
+		assertThat(TextEncoding.forScreen(null)).isSameAs(TextEncoding.GBK);
+		try {
+			TextEncoding.setScreenPolicy(ScreenEnum.COLOR_SCREEN, TextEncoding.ASCII);
+			assertThat(TextEncoding.forScreen(ScreenEnum.COLOR_SCREEN)).isSameAs(TextEncoding.ASCII);
+			assertThat(TextEncoding.forScreen(ScreenEnum.SMALL_VERTICAL)).isSameAs(TextEncoding.GBK);
+			assertThat(TextEncoding.forScreen(ScreenEnum.COLOR_SCREEN).encode("渝A")).containsExactly('?', 'A');
+		}
+		finally {
+			TextEncoding.setScreenPolicy(ScreenEnum.COLOR_SCREEN, TextEncoding.GBK);
+		}
+	}
+
+}
@@ -0,0 +1,207 @@
+package com.cqcloud.platform.codec;
+
+import com.cqcloud.platform.rs485.Rs485CPUtils;
+import com.cqcloud.platform.rs485.Rs485DisplayUtils;
+import com.cqcloud.platform.rs485.Rs485Utils;
+import com.cqcloud.platform.rs485.Rs485XSPUtils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils;
+import com.cqcloud.platform.utils.LED_ResponseUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link HexCodec} 与改造前按 String.format("%02X") 和 Character.digit 逐字符处理的结果一致
+ * <p>
+ * 参照实现照搬改造前各工具类的 stringToHex、hexStringToByteArray 和 bytesToHex。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class HexCodecTests {
+
+	private static final String[] TEXTS = { "欢迎光临", "渝A12345", "ETC 扣费成功 15.00元", "车🚗牌", "€½", "a\u0000b",
+			"https://pay.example.com/p?plate=渝A12345&fee=15" };
+
+	private final SplittableRandom random = new SplittableRandom(20261018);
+
+	@Test
+	void encodeMatchesFormat() {
+		for (int len = 0; len <= 300; len++) {
+			byte[] data = randomBytes(len + 7);
+			int off = random.nextInt(8);
+			int count = Math.min(len, data.length - off);
+			String expected = baselineHex(data, off, count);
+			assertThat(HexCodec.toHexString(data, off, count)).isEqualTo(expected);
+			assertThat(HexCodec.toHexString(data, off, count, false)).isEqualTo(expected.toLowerCase());
+
+			char[] chars = new char[count * 2 + 3];
+			assertThat(HexCodec.encode(data, off, count, chars, 3)).isEqualTo(count * 2);
+			assertThat(new String(chars, 3, count * 2)).isEqualTo(expected);
+
+			byte[] ascii = new byte[count * 2 + 3];
+			assertThat(HexCodec.encode(data, off, count, ascii, 3)).isEqualTo(count * 2);
+			assertThat(new String(ascii, 3, count * 2, StandardCharsets.US_ASCII)).isEqualTo(expected);
+
+			for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.allocate(count * 2 + 3),
+					ByteBuffer.allocateDirect(count * 2 + 3) }) {
+				buffer.position(3);
+				assertThat(HexCodec.encode(data, off, count, buffer)).isEqualTo(count * 2);
+				assertThat(buffer.position()).isEqualTo(count * 2 + 3);
+				byte[] written = new byte[count * 2];
+				buffer.position(3);
+				buffer.get(written);
+				assertThat(new String(written, StandardCharsets.US_ASCII)).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	void singleBytesMatchFormat() {
+		int[] values = new int[256];
+		StringBuilder builder = new StringBuilder();
+		StringBuilder expected = new StringBuilder();
+		for (int b = 0; b < 256; b++) {
+			values[b] = b;
+			HexCodec.appendByte(builder, b);
+			expected.append(String.format("%02X", b));
+			assertThat(HexCodec.toHexString(b)).isEqualTo(String.format("%02X", b));
+		}
+		assertThat(builder.toString()).isEqualTo(expected.toString());
+		assertThat(HexCodec.toHexString(values)).isEqualTo(expected.toString());
+		assertThat(HexCodec.toHexString()).isEmpty();
+	}
+
+	@Test
+	void bytesToHexMatchesBaseline() {
+		for (int i = 0; i < 100; i++) {
+			byte[] data = randomBytes(random.nextInt(0, 200));
+			assertThat(DisplayVoiceUtils.bytesToHex(data)).isEqualTo(baselineSpaced(data));
+			assertThat(LED_ResponseUtils.bytesToHex(data)).isEqualTo(baselineLower(data));
+		}
+	}
+
+	@Test
+	void stringToHexMatchesBaseline() {
+		List<Function<String, String>> adapters = List.of(Rs485Utils::stringToHex, Rs485CPUtils::stringToHex,
+				Rs485XSPUtils::stringToHex, Rs485DisplayUtils::stringToHex);
+		for (Function<String, String> stringToHex : adapters) {
+			assertThat(stringToHex.apply(null)).isEmpty();
+			assertThat(stringToHex.apply("")).isEmpty();
+			for (String text : TEXTS) {
+				assertThat(stringToHex.apply(text)).isEqualTo(baselineStringToHex(text));
+			}
+		}
+	}
+
+	@Test
+	void decodeMatchesBaseline() {
+		for (int len = 0; len <= 300; len++) {
+			String hex = mixedCase(baselineHex(randomBytes(len), 0, len));
+			byte[] expected = baselineDecode(hex);
+			assertThat(HexCodec.decode(hex)).isEqualTo(expected);
+			assertThat(HexCodec.decode(new StringBuilder(hex))).isEqualTo(expected);
+			assertThat(Rs485Utils.hexStringToByteArray(hex)).isEqualTo(expected);
+			assertThat(Rs485CPUtils.hexStringToByteArray(hex)).isEqualTo(expected);
+			assertThat(Rs485XSPUtils.hexStringToByteArray(hex)).isEqualTo(expected);
+			assertThat(Rs485DisplayUtils.hexStringToByteArray(hex)).isEqualTo(expected);
+
+			byte[] dst = new byte[len + 2];
+			String padded = "zz" + hex + "zz";
+			assertThat(HexCodec.decode(padded, 2, hex.length(), dst, 2)).isEqualTo(len);
+			assertThat(slice(dst, 2, len)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void decodeRejectsWhatBaselineSilentlyCorrupted() {
+		assertThatIllegalArgumentException().isThrownBy(() -> HexCodec.decode(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> HexCodec.decode("ABC"));
+		assertThatIllegalArgumentException().isThrownBy(() -> HexCodec.decode("AB", 0, 1, new byte[1], 0));
+		// 改造前 Character.digit 返回 -1 或接受全角数字，得到错误的字节而不报错
+		for (String hex : new String[] { "0G", "G0", "  ", "0x", "AA55-1", "１２", "ª0" }) {
+			assertThatIllegalArgumentException().as(hex).isThrownBy(() -> HexCodec.decode(hex));
+			assertThatIllegalArgumentException().as(hex).isThrownBy(() -> Rs485Utils.hexStringToByteArray(hex));
+		}
+	}
+
+	// 改造前的 stringToHex
+	private static String baselineStringToHex(String str) {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : str.getBytes(GbkCodec.GBK)) {
+			sb.append(String.format("%02X", b & 0xFF));
+		}
+		return sb.toString();
+	}
+
+	private static String baselineHex(byte[] bytes, int off, int len) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = off; i < off + len; i++) {
+			sb.append(String.format("%02X", bytes[i] & 0xFF));
+		}
+		return sb.toString();
+	}
+
+	// 改造前 DisplayVoiceUtils.bytesToHex
+	private static String baselineSpaced(byte[] bytes) {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : bytes) {
+			sb.append(String.format("%02X ", b));
+		}
+		return sb.toString();
+	}
+
+	// 改造前 LED_ResponseUtils.bytesToHex
+	private static String baselineLower(byte[] bytes) {
+		StringBuffer sb = new StringBuffer();
+		for (int i = 0; i < bytes.length; i++) {
+			String hex = Integer.toHexString(bytes[i] & 0xFF);
+			if (hex.length() < 2) {
+				sb.append(0);
+			}
+			sb.append(hex);
+		}
+		return sb.toString();
+	}
+
+	// 改造前的 hexStringToByteArray
+	private static byte[] baselineDecode(String hexString) {
+		int len = hexString.length();
+		byte[] data = new byte[len / 2];
+		for (int i = 0; i < len; i += 2) {
+			data[i / 2] = (byte) ((Character.digit(hexString.charAt(i), 16) << 4)
+					+ Character.digit(hexString.charAt(i + 1), 16));
+		}
+		return data;
+	}
+
+	private String mixedCase(String hex) {
+		char[] chars = hex.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			if (random.nextBoolean()) {
+				chars[i] = Character.toLowerCase(chars[i]);
+			}
+		}
+		return new String(chars);
+	}
+
+	private byte[] randomBytes(int length) {
+		byte[] data = new byte[length];
+		random.nextBytes(data);
+		return data;
+	}
+
+	private static byte[] slice(byte[] bytes, int offset, int length) {
+		byte[] copy = new byte[length];
+		System.arraycopy(bytes, offset, copy, 0, length);
+		return copy;
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.cqcloud.platform.codec;
+
+import com.cqcloud.platform.rs485.Rs485Utils;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link TtsTemplate} 与改造前按字符串拼接的TTS命令逐字节一致
+ * <p>
+ * 参照实现照搬改造前的 Rs485Utils.buildTTSVoiceCommand：FD00 + 长度（%02X）+ 0101 + "TTS"+文本的GBK十六进制。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class TtsTemplateTests {
+
+	private static final String[] TEXTS = { "", "欢迎光临", "渝A12345欢迎光临，请入场停车", "ETC 扣费成功 15.00元", "车🚗牌", "€½",
+			"a\u0000b", "京津沪渝冀豫云辽黑湘皖鲁新苏浙赣鄂桂甘晋蒙陕吉闽贵粤青藏川宁琼" };
+
+	private final SplittableRandom random = new SplittableRandom(20261018);
+
+	@Test
+	void voiceCommandMatchesBaseline() {
+		for (String text : TEXTS) {
+			assertThat(Rs485Utils.buildTTSVoiceCommand(text)).isEqualTo(baseline(text));
+			assertThat(TtsTemplate.encodeHex(text)).isEqualTo(baseline(text));
+		}
+		assertThat(Rs485Utils.buildTTSVoiceCommand(null)).isEqualTo(baseline("null"));
+		for (int i = 0; i < 200; i++) {
+			String text = randomText(random.nextInt(0, 120));
+			assertThat(Rs485Utils.buildTTSVoiceCommand(text)).isEqualTo(baseline(text));
+		}
+	}
+
+	@Test
+	void sceneCommandsMatchBaseline() {
+		for (String plate : new String[] { "渝A12345", "川AD12345", "粤Z1234港", "", "null" }) {
+			assertThat(Rs485Utils.buildEntryWelcomeTTS(plate)).isEqualTo(baseline(plate + "欢迎光临，请入场停车"));
+			assertThat(Rs485Utils.buildExitBlessingTTS(plate)).isEqualTo(baseline(plate + "一路平安，欢迎再次光临"));
+			for (String amount : new String[] { "0", "15.50", "1280", "-3" }) {
+				assertThat(Rs485Utils.buildPaymentSceneTTS(plate, amount))
+					.isEqualTo(baseline(plate + "请支付停车费" + amount + "元"));
+				assertThat(Rs485Utils.buildConsumptionTTS(amount)).isEqualTo(baseline("本次消费" + amount + "元，欢迎再次光临"));
+				assertThat(Rs485Utils.buildPaymentReminderTTS(amount)).isEqualTo(baseline("请支付停车费" + amount + "元"));
+			}
+		}
+		for (int spaces : new int[] { 0, 7, 99, 1024, Integer.MAX_VALUE, Integer.MIN_VALUE, -1 }) {
+			assertThat(Rs485Utils.buildParkingSpaceTTS(spaces)).isEqualTo(baseline("剩余车位" + spaces + "个，请合理安排"));
+		}
+	}
+
+	@Test
+	void templatesMatchBaseline() {
+		String[][] cases = { { "{0}欢迎光临" }, { "{0}请支付{1}元", "渝A12345", "20" }, { "{1}{0}{1}", "甲", "乙" },
+				{ "缺少{2}参数{0}", "有" }, { "{01}{a}{}{", "x" },
+				{ "{10}", "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "十" } };
+		for (String[] c : cases) {
+			String[] params = new String[c.length - 1];
+			System.arraycopy(c, 1, params, 0, params.length);
+			assertThat(Rs485Utils.buildTemplateTTS(c[0], params)).isEqualTo(baseline(baselineTemplate(c[0], params)));
+		}
+	}
+
+	@Test
+	void formatsMatchBaseline() {
+		Object[][] cases = { { "剩余车位%d个", 12 }, { "%s请支付%d元", "渝A12345", 20L }, { "100%%满意%s", "!" },
+				{ "%s", (Object) null }, { "%05d号", 42 }, { "%.2f元", 15.5 }, { "%d个", (short) -7 } };
+		for (Object[] c : cases) {
+			Object[] args = new Object[c.length - 1];
+			System.arraycopy(c, 1, args, 0, args.length);
+			String expected = baseline(String.format((String) c[0], args));
+			assertThat(Rs485Utils.buildFormattedTTS((String) c[0], args)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void renderMatchesRenderHex() {
+		TtsTemplate template = TtsTemplate.compile("{0}请支付停车费{1}元");
+		byte[] bytes = template.render("渝A12345", 15);
+		assertThat(HexCodec.toHexString(bytes)).isEqualTo(template.renderHex("渝A12345", 15))
+			.isEqualTo(baseline("渝A12345请支付停车费15元"));
+		byte[] dst = new byte[template.maxLength("渝A12345", 15) + 3];
+		assertThat(template.render(dst, 3, new Object[] { "渝A12345", 15 })).isEqualTo(bytes.length);
+	}
+
+	@Test
+	void longestTextFitsLengthByte() {
+		// "TTS" + 249 字节 = 252，长度字节为 0xFF
+		String text = "渝".repeat(124) + "A";
+		assertThat(text.getBytes(GbkCodec.GBK)).hasSize(TtsTemplate.MAX_TEXT_LENGTH);
+		assertThat(TtsTemplate.encodeHex(text)).isEqualTo(baseline(text)).startsWith("FD00FF0101");
+		assertThat(TtsTemplate.compile("{0}A").render("渝".repeat(124))[2]).isEqualTo((byte) 0xFF);
+	}
+
+	@Test
+	void longerTextIsRejected() {
+		// "TTS" + 250 字节 = 253，长度超过一个字节
+		String text = "渝".repeat(125);
+		TtsTemplate template = TtsTemplate.compile("{0}");
+		assertThatIllegalArgumentException().isThrownBy(() -> TtsTemplate.encodeHex(text));
+		assertThatIllegalArgumentException().isThrownBy(() -> Rs485Utils.buildTTSVoiceCommand(text));
+		assertThatIllegalArgumentException().isThrownBy(() -> template.render(text));
+		assertThatIllegalArgumentException().isThrownBy(() -> template.renderHex(text));
+		assertThatIllegalArgumentException().isThrownBy(() -> Rs485Utils.buildEntryWelcomeTTS(text));
+	}
+
+	// 改造前的 buildTTSVoiceCommand
+	private static String baseline(String text) {
+		String hexContent = stringToHex("TTS" + text);
+		int dataLength = hexContent.length() / 2 + 3;
+		return "FD00" + String.format("%02X", dataLength) + "0101" + hexContent;
+	}
+
+	// 改造前的 buildTemplateTTS 文本替换
+	private static String baselineTemplate(String template, String... params) {
+		String result = template;
+		for (int i = 0; i < params.length; i++) {
+			result = result.replace("{" + i + "}", params[i]);
+		}
+		return result;
+	}
+
+	private static String stringToHex(String str) {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : str.getBytes(GbkCodec.GBK)) {
+			sb.append(String.format("%02X", b & 0xFF));
+		}
+		return sb.toString();
+	}
+
+	private String randomText(int length) {
+		String pool = "渝川京粤ABCDEFG0123456789 欢迎光临一路平安剩余车位个元，。:!🚗";
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			builder.appendCodePoint(pool
+				.codePointAt(pool.offsetByCodePoints(0, random.nextInt(pool.codePointCount(0, pool.length())))));
+		}
+		return builder.toString();
+	}
+
+}
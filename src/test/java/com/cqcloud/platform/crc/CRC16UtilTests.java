@@ -0,0 +1,91 @@
+package com.cqcloud.platform.crc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link CRC16Util} 各实现与逐位计算的 Modbus CRC16 一致，以及 shift 合并
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class CRC16UtilTests {
+
+	private final SplittableRandom random = new SplittableRandom(20261018);
+
+	@Test
+	void knownVector() {
+		byte[] data = "123456789".getBytes(StandardCharsets.US_ASCII);
+		assertThat(CRC16Util.compute(data, 0, data.length)).isEqualTo(0x4B37);
+		assertThat(bitwise(CRC16Util.INITIAL, data, 0, data.length)).isEqualTo(0x4B37);
+	}
+
+	@Test
+	void allVariantsMatchBitwise() {
+		for (int len = 0; len <= 300; len++) {
+			byte[] data = randomBytes(len + 7);
+			int off = random.nextInt(8);
+			int count = Math.min(len, data.length - off);
+			int crc = random.nextInt(0x10000);
+			int expected = bitwise(crc, data, off, count);
+			assertThat(CRC16Util.update(crc, data, off, count)).isEqualTo(expected);
+			assertThat(CRC16Util.updateBytewise(crc, data, off, count)).isEqualTo(expected);
+			assertThat(CRC16Util.updateSlicing4(crc, data, off, count)).isEqualTo(expected);
+			assertThat(CRC16Util.updateSlicing8(crc, data, off, count)).isEqualTo(expected);
+			assertThat(CRC16Util.update(crc, ByteBuffer.wrap(data), off, count)).isEqualTo(expected);
+			ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data);
+			assertThat(CRC16Util.update(crc, direct, off, count)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void shiftEqualsAppendingZeros() {
+		for (int n = 0; n <= 600; n += 1 + random.nextInt(7)) {
+			int crc = random.nextInt(0x10000);
+			int expected = bitwise(crc, new byte[n], 0, n);
+			assertThat(CRC16Util.shift(crc, n)).isEqualTo(expected);
+			int[] table = CRC16Util.shiftTable(n);
+			assertThat(table[crc & 0xFF] ^ table[256 + (crc >>> 8)]).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void shiftCombinesPrefixState() {
+		for (int i = 0; i < 200; i++) {
+			byte[] data = randomBytes(random.nextInt(1, 256));
+			int state = random.nextInt(0x10000);
+			int combined = CRC16Util.shift(state, data.length) ^ CRC16Util.update(0, data, 0, data.length);
+			assertThat(combined).isEqualTo(CRC16Util.update(state, data, 0, data.length));
+		}
+	}
+
+	@Test
+	void negativeShiftIsRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> CRC16Util.shift(CRC16Util.INITIAL, -1));
+	}
+
+	private byte[] randomBytes(int length) {
+		byte[] data = new byte[length];
+		random.nextBytes(data);
+		return data;
+	}
+
+	/**
+	 * 逐位计算（多项式 0xA001），作为各查表实现的参照
+	 */
+	static int bitwise(int crc, byte[] data, int off, int len) {
+		for (int i = off; i < off + len; i++) {
+			crc ^= data[i] & 0xFF;
+			for (int bit = 0; bit < 8; bit++) {
+				crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0xA001 : crc >>> 1;
+			}
+		}
+		return crc;
+	}
+
+}
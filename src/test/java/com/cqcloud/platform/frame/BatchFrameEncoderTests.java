@@ -0,0 +1,155 @@
+package com.cqcloud.platform.frame;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link FrameEncoder} 和 {@link BatchFrameEncoder} 与改造前按字符串拼接的组帧结果逐字节一致
+ * <p>
+ * 参照实现照搬改造前的 Rs485Utils.buildFrame（十六进制拼接，CRC补两个00，高字节在前）和
+ * DisplayVoiceUtils.buildPacket（CRC从帧头开始，低字节在前）， CRC逐位计算，不经过 {@code CRC16Util} 的查表。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class BatchFrameEncoderTests {
+
+	private static final int[] PAYLOAD_LENGTHS = { 0, 1, 2, 7, 15, 16, 17, 64, 255, 256, 1000 };
+
+	private final SplittableRandom random = new SplittableRandom(20261018);
+
+	@Test
+	void singleFrameMatchesBaseline() {
+		for (int length : PAYLOAD_LENGTHS) {
+			byte[] payload = randomBytes(length);
+			int serial = random.nextInt(256);
+			int address = random.nextInt(256);
+			int command = random.nextInt(256);
+			String expected = baselineFrame(serial, address, command, hex(payload));
+			assertThat(hex(FrameEncoder.encode(serial, address, command, payload))).isEqualTo(expected);
+			assertThat(FrameEncoder.encodeHex(serial, address, command, hex(payload))).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void batchFramesMatchBaseline() {
+		for (int length : PAYLOAD_LENGTHS) {
+			byte[] payload = randomBytes(length);
+			int count = random.nextInt(1, 40);
+			int[] serials = randomInts(count);
+			int[] addresses = randomInts(count);
+			int command = random.nextInt(256);
+			FrameBatch batch = BatchFrameEncoder.encode(serials, addresses, command, payload);
+			String[] hexFrames = BatchFrameEncoder.encodeHex(serials, addresses, command, hex(payload));
+			assertThat(batch.size()).isEqualTo(count);
+			assertThat(hexFrames).hasSize(count);
+			for (int i = 0; i < count; i++) {
+				String expected = baselineFrame(serials[i], addresses[i], command, hex(payload));
+				assertThat(batch.toHex(i)).isEqualTo(expected);
+				assertThat(hexFrames[i]).isEqualTo(expected);
+				assertThat(batch.getOffset(i)).isEqualTo(i * FrameEncoder.frameLength(length));
+			}
+		}
+	}
+
+	@Test
+	void batchPacketsMatchBaseline() {
+		for (int length : PAYLOAD_LENGTHS) {
+			byte[] payload = length == 0 ? null : randomBytes(length);
+			int count = random.nextInt(1, 40);
+			int[] serials = randomInts(count);
+			int[] addresses = randomInts(count);
+			int command = random.nextInt(256);
+			FrameBatch batch = BatchFrameEncoder.encodePackets(serials, addresses, command, payload);
+			for (int i = 0; i < count; i++) {
+				assertThat(batch.toByteArray(i))
+					.isEqualTo(baselinePacket(serials[i], addresses[i], (byte) command, payload));
+			}
+		}
+	}
+
+	@Test
+	void serialsAndAddressesAboveByteAreTruncated() {
+		FrameBatch batch = BatchFrameEncoder.encode(new int[] { 0x1FF, 0x100 }, new int[] { 0x264, -1 }, 0x27,
+				new byte[] { 1, 2, 3 });
+		assertThat(batch.toHex(0)).isEqualTo(baselineFrame(0xFF, 0x64, 0x27, "010203"));
+		assertThat(batch.toHex(1)).isEqualTo(baselineFrame(0x00, 0xFF, 0x27, "010203"));
+	}
+
+	@Test
+	void emptyAndMismatchedBatches() {
+		assertThat(BatchFrameEncoder.encode(new int[0], new int[0], 0x27, new byte[] { 1 }).size()).isZero();
+		assertThat(BatchFrameEncoder.encodeHex(new int[0], new int[0], 0x27, "01")).isEmpty();
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> BatchFrameEncoder.encode(new int[2], new int[1], 0x27, null));
+	}
+
+	private byte[] randomBytes(int length) {
+		byte[] data = new byte[length];
+		random.nextBytes(data);
+		return data;
+	}
+
+	private int[] randomInts(int count) {
+		int[] values = new int[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = random.nextInt(256);
+		}
+		return values;
+	}
+
+	private static String hex(byte[] data) {
+		return HexFormat.of().withUpperCase().formatHex(data);
+	}
+
+	/**
+	 * 改造前的 Rs485Utils.buildFrame
+	 */
+	private static String baselineFrame(int serial, int address, int command, String data) {
+		String frameData = String.format("%02X", serial) + String.format("%02X", address) + "00"
+				+ String.format("%02X", command) + String.format("%04X", data.length() / 2) + data;
+		byte[] dataBytes = HexFormat.of().parseHex(frameData + "0000");
+		int crc = bitwise(0xFFFF, dataBytes);
+		return "AA55" + frameData + String.format("%04X", crc) + "AF";
+	}
+
+	/**
+	 * 改造前的 DisplayVoiceUtils.buildPacket
+	 */
+	private static byte[] baselinePacket(int serial, int address, byte command, byte[] data) {
+		ByteArrayOutputStream builder = new ByteArrayOutputStream();
+		builder.write(0xAA);
+		builder.write(0x55);
+		builder.write(serial & 0xFF);
+		builder.write(address & 0xFF);
+		builder.write(0x00);
+		builder.write(command);
+		int dataLength = data != null ? data.length : 0;
+		builder.write((dataLength >> 8) & 0xFF);
+		builder.write(dataLength & 0xFF);
+		if (data != null) {
+			builder.writeBytes(data);
+		}
+		int crc = bitwise(0xFFFF, builder.toByteArray());
+		builder.write(crc & 0xFF);
+		builder.write((crc >> 8) & 0xFF);
+		builder.write(0xAF);
+		return builder.toByteArray();
+	}
+
+	private static int bitwise(int crc, byte[] data) {
+		for (byte b : data) {
+			crc ^= b & 0xFF;
+			for (int bit = 0; bit < 8; bit++) {
+				crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0xA001 : crc >>> 1;
+			}
+		}
+		return crc;
+	}
+
+}
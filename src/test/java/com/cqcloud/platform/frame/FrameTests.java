@@ -0,0 +1,202 @@
+package com.cqcloud.platform.frame;
+
+import com.cqcloud.platform.codec.GbkCodec;
+import com.cqcloud.platform.rs485.Rs485Utils;
+import com.cqcloud.platform.rs485.Rs485XSPUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link Frame} 和 {@link FrameBatch} 与改造前按字符串拼接的命令逐字节一致，各种视图与十六进制结果相同
+ * <p>
+ * 参照实现照搬改造前 Rs485Utils 的各个 build*Command 和入场、出场场景（控制字按 %02X 拼接，内容为GBK十六进制）。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class FrameTests {
+
+	private static final int ADDRESS = 0x64;
+
+	private static final String[] PLATES = { "渝A12345", "川AD12345", "粤Z1234港", "", "WJ渝12345" };
+
+	private final SplittableRandom random = new SplittableRandom(20261018);
+
+	@Test
+	void singleFramesMatchBaseline() {
+		for (String plate : PLATES) {
+			int line = random.nextInt(1, 8);
+			int color = random.nextInt(1, 4);
+			int duration = random.nextInt(256);
+			Frame loadAd = Rs485Utils.buildLoadAdFrame(line, color, plate);
+			assertThat(loadAd.toHex()).isEqualTo(baselineFrame(loadAd.getSerial(), "27",
+					String.format("%02X%02X00", line, color) + stringToHex(plate)));
+			Frame temp = Rs485Utils.buildLoadTempDisplayFrame(line, duration, color, plate);
+			assertThat(temp.toHex()).isEqualTo(baselineFrame(temp.getSerial(), "27",
+					String.format("%02X%02X%02X00", line, duration, color) + stringToHex(plate)));
+			Frame voice = Rs485Utils.buildPlayVoiceFrame(plate + "\u0001");
+			assertThat(voice.toHex()).isEqualTo(baselineFrame(voice.getSerial(), "22", stringToHex(plate + "\u0001")));
+			Frame space = Rs485Utils.buildParkingSpaceFrame(random.nextInt(1000), duration, color);
+			assertThat(space.getCommand()).isEqualTo(0x27);
+			assertViewsMatchHex(loadAd);
+			assertViewsMatchHex(temp);
+			assertViewsMatchHex(voice);
+			assertViewsMatchHex(space);
+		}
+	}
+
+	@Test
+	void scenesMatchBaseline() {
+		for (String plate : PLATES) {
+			int space = random.nextInt(1000);
+			FrameBatch entry = Rs485Utils.buildEntrySceneFrames(plate, space);
+			assertBatchMatches(entry,
+					new String[] { loadAd(1, "欢迎光临"), loadAd(2, plate), loadAd(3, "一车一杆自动识别"), loadAd(4, "减速慢行"),
+							"27" + String.format("%02X%02X%02X00", 6, 60, Rs485Utils.COLOR_GREEN)
+									+ stringToHex("剩余车位" + String.format("%03d", space)),
+							"22" + stringToHex(plate + "\u0001") });
+
+			String amount = String.valueOf(random.nextInt(10_000));
+			FrameBatch exit = Rs485Utils.buildExitSceneFrames(plate, amount);
+			assertBatchMatches(exit, new String[] { loadAd(1, "一路平安"), loadAd(2, plate),
+					loadAd(3, "请交费" + amount + "元"), loadAd(4, "谢谢光临"), "22" + stringToHex(plate + "\u0002") });
+		}
+	}
+
+	@Test
+	void batchViewsShareOneBuffer() {
+		Frame[] frames = new Frame[5];
+		for (int i = 0; i < frames.length; i++) {
+			byte[] payload = new byte[random.nextInt(0, 300)];
+			random.nextBytes(payload);
+			frames[i] = FrameEncoder.encodeFrame(random.nextInt(256), random.nextInt(256), random.nextInt(256),
+					payload);
+		}
+		FrameBatch batch = FrameBatch.of(frames);
+		ByteBuffer all = batch.asByteBuffer();
+		assertThat(all.isReadOnly()).isTrue();
+		assertThat(all.remaining()).isEqualTo(batch.getTotalLength());
+		String[] hex = batch.toHexArray();
+		for (int i = 0; i < frames.length; i++) {
+			assertThat(batch.get(i)).isEqualTo(frames[i]).hasSameHashCodeAs(frames[i]).isSameAs(batch.get(i));
+			assertThat(hex[i]).isEqualTo(frames[i].toHex());
+			assertThat(batch.getLength(i)).isEqualTo(frames[i].length());
+			assertThat(batch.toByteArray(i)).isEqualTo(frames[i].toByteArray());
+			assertThat(bytes(batch.slice(i))).isEqualTo(frames[i].toByteArray());
+			byte[] part = new byte[batch.getLength(i)];
+			all.get(part);
+			assertThat(part).isEqualTo(frames[i].toByteArray());
+			assertViewsMatchHex(batch.get(i));
+		}
+		assertThat(FrameBatch.of().size()).isZero();
+	}
+
+	@Test
+	void parsedFramesEqualEncoded() {
+		Frame frame = Rs485Utils.buildPlayVoiceFrame("渝A12345\u0001");
+		assertThat(Frame.fromHex(frame.toHex())).isEqualTo(frame);
+		assertThat(Frame.fromHex(frame.toHex().toLowerCase()).toHex()).isEqualTo(frame.toHex());
+		byte[] padded = new byte[frame.length() + 4];
+		frame.writeTo(padded, 2);
+		assertThat(Frame.of(padded, 2, frame.length())).isEqualTo(frame);
+		assertThat(Frame.of(frame.toByteArray())).isEqualTo(frame);
+		Frame small = Rs485XSPUtils.buildSmallScreenDisplayFrame(new String[] { "渝A12345", null, "车位12个", "" },
+				new int[] { 8, 8, 8, 8 });
+		assertThat(Frame.fromHex(small.toHex())).isEqualTo(small);
+	}
+
+	@Test
+	void malformedFramesAreRejected() {
+		String hex = Rs485Utils.buildPlayVoiceFrame("渝A").toHex();
+		assertThatIllegalArgumentException().isThrownBy(() -> Frame.fromHex("AA55"));
+		assertThatIllegalArgumentException().isThrownBy(() -> Frame.fromHex("AB" + hex.substring(2)));
+		assertThatIllegalArgumentException().isThrownBy(() -> Frame.fromHex(hex.substring(0, hex.length() - 2) + "AE"));
+		// 长度字段比实际数据多一个字节
+		String longer = hex.substring(0, 12) + String.format("%04X", Integer.parseInt(hex.substring(12, 16), 16) + 1)
+				+ hex.substring(16);
+		assertThatIllegalArgumentException().isThrownBy(() -> Frame.fromHex(longer));
+		assertThatIllegalArgumentException().isThrownBy(() -> Frame.of(HexFormat.of().parseHex(hex), 1, 11));
+	}
+
+	private static String loadAd(int line, String content) {
+		return "27" + String.format("%02X%02X00", line, Rs485Utils.COLOR_RED) + stringToHex(content);
+	}
+
+	// 每项为命令码 + 数据的十六进制，流水号从第一帧起依次加1
+	private static void assertBatchMatches(FrameBatch batch, String[] commands) {
+		assertThat(batch.size()).isEqualTo(commands.length);
+		int serial = batch.get(0).getSerial();
+		int offset = 0;
+		for (int i = 0; i < commands.length; i++) {
+			String expected = baselineFrame((serial + i) & 0xFF, commands[i].substring(0, 2), commands[i].substring(2));
+			assertThat(batch.toHex(i)).isEqualTo(expected);
+			assertThat(batch.getOffset(i)).isEqualTo(offset);
+			offset += expected.length() / 2;
+		}
+		assertThat(batch.getTotalLength()).isEqualTo(offset);
+	}
+
+	private static void assertViewsMatchHex(Frame frame) {
+		byte[] expected = HexFormat.of().parseHex(frame.toHex());
+		assertThat(frame.toByteArray()).isEqualTo(expected);
+		assertThat(bytes(frame.asByteBuffer())).isEqualTo(expected);
+		assertThat(frame.toBase64()).isEqualTo(Base64.getEncoder().encodeToString(expected));
+		assertThat(frame.toString()).isEqualTo(frame.toHex());
+		assertThat(frame.length()).isEqualTo(expected.length);
+		assertThat(frame.getSerial()).isEqualTo(expected[2] & 0xFF);
+		assertThat(frame.getAddress()).isEqualTo(expected[3] & 0xFF);
+		assertThat(frame.getCommand()).isEqualTo(expected[5] & 0xFF);
+		assertThat(frame.getPayloadLength()).isEqualTo(((expected[6] & 0xFF) << 8) | (expected[7] & 0xFF));
+		assertThat(frame.getPayload()).isEqualTo(slice(expected, 8, frame.getPayloadLength()));
+		assertThat(frame.getCrcOffset()).isEqualTo(expected.length - 3);
+		ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+		frame.writeTo(direct);
+		assertThat(bytes(direct.flip())).isEqualTo(expected);
+	}
+
+	/**
+	 * 改造前的 Rs485Utils.buildFrame
+	 */
+	private static String baselineFrame(int serial, String command, String data) {
+		String frameData = String.format("%02X", serial) + String.format("%02X", ADDRESS) + "00" + command
+				+ String.format("%04X", data.length() / 2) + data;
+		byte[] dataBytes = HexFormat.of().parseHex(frameData + "0000");
+		int crc = 0xFFFF;
+		for (byte b : dataBytes) {
+			crc ^= b & 0xFF;
+			for (int bit = 0; bit < 8; bit++) {
+				crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0xA001 : crc >>> 1;
+			}
+		}
+		return "AA55" + frameData + String.format("%04X", crc) + "AF";
+	}
+
+	// 改造前的 stringToHex
+	private static String stringToHex(String str) {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : str.getBytes(GbkCodec.GBK)) {
+			sb.append(String.format("%02X", b & 0xFF));
+		}
+		return sb.toString();
+	}
+
+	private static byte[] bytes(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		return bytes;
+	}
+
+	private static byte[] slice(byte[] bytes, int offset, int length) {
+		byte[] copy = new byte[length];
+		System.arraycopy(bytes, offset, copy, 0, length);
+		return copy;
+	}
+
+}
@@ -0,0 +1,180 @@
+package com.cqcloud.platform.frame;
+
+import com.cqcloud.platform.codec.GbkCodec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link SceneTemplate#render} 与改造前逐帧拼接十六进制字符串的结果逐字节一致
+ * <p>
+ * 参照实现照搬改造前的 buildFrame（含CRC）、stringToHex 和数字按 %0Nd 格式化；模板随机生成，覆盖整帧预编码、长短固定段和变量段。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class SceneTemplateTests {
+
+	private static final String[] TEXTS = { "欢迎光临", "渝A12345", "一车一杆自动识别", "", "剩余车位", "请交费15.5元", "ETC" };
+
+	private static final int TEXT_SLOTS = 3;
+
+	private static final int NUMBER_SLOTS = 2;
+
+	private final SplittableRandom random = new SplittableRandom(20261018);
+
+	@Test
+	void renderMatchesBaseline() {
+		for (int round = 0; round < 200; round++) {
+			SceneTemplate.Builder builder = SceneTemplate.builder();
+			int frameCount = random.nextInt(1, 6);
+			// 每帧的命令码和各段，渲染后再按变量值拼出十六进制
+			int[] commands = new int[frameCount];
+			Object[][] parts = new Object[frameCount][];
+			for (int f = 0; f < frameCount; f++) {
+				commands[f] = random.nextInt(256);
+				builder.frame(commands[f]);
+				parts[f] = new Object[random.nextInt(0, 6)];
+				for (int s = 0; s < parts[f].length; s++) {
+					parts[f][s] = addSegment(builder);
+				}
+			}
+			SceneTemplate template = builder.build();
+			assertThat(template.size()).isEqualTo(frameCount);
+
+			Object[] values = values();
+			int firstSerial = random.nextInt(256);
+			int address = random.nextInt(256);
+			FrameBatch batch = template.render(firstSerial, address, values);
+			assertThat(batch.size()).isEqualTo(frameCount);
+			for (int f = 0; f < frameCount; f++) {
+				StringBuilder data = new StringBuilder();
+				for (Object part : parts[f]) {
+					data.append(part instanceof Slot ? ((Slot) part).hex(values) : part);
+				}
+				String expected = baselineFrame((firstSerial + f) & 0xFF, address, String.format("%02X", commands[f]),
+						data.toString());
+				assertThat(batch.toHex(f)).as("round %d frame %d", round, f).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	void numbersMatchFormat() {
+		SceneTemplate template = SceneTemplate.builder().frame(0x27).number(0, 3).build();
+		for (Object value : new Object[] { 0, 7, -5, 999, 1000, -1000, Integer.MAX_VALUE, Integer.MIN_VALUE, 42L,
+				(long) Integer.MIN_VALUE, (short) -12, (byte) 9, 60.0, BigInteger.valueOf(123), BigDecimal.TEN }) {
+			Frame frame = template.renderFrame(0x10, 0x64, value);
+			String text = String.format("%03d", ((Number) value).longValue());
+			assertThat(frame.toHex()).as("%s", value).isEqualTo(baselineFrame(0x10, 0x64, "27", stringToHex(text)));
+		}
+	}
+
+	@Test
+	void rejectsNumbersThatWouldBeTruncated() {
+		SceneTemplate template = SceneTemplate.builder().frame(0x27).number(0, 0).build();
+		// intValue() 会把这些值截断成另一个数，渲染出错误的金额或车位数
+		for (Object value : new Object[] { 1L + Integer.MAX_VALUE, (long) Integer.MIN_VALUE - 1, Long.MAX_VALUE,
+				Long.MIN_VALUE, 1L << 32, 1.5, Double.NaN, Double.POSITIVE_INFINITY, 3e10, BigInteger.ONE.shiftLeft(64),
+				new BigDecimal("0.5") }) {
+			assertThatIllegalArgumentException().as("%s", value).isThrownBy(() -> template.renderFrame(0, 0, value));
+		}
+		assertThatIllegalArgumentException().isThrownBy(() -> template.renderFrame(0, 0, "12"));
+		assertThatIllegalArgumentException().isThrownBy(() -> template.renderFrame(0, 0));
+	}
+
+	// 返回该段在改造前拼接方式下的十六进制，变量段返回 Slot 在渲染时求值
+	private Object addSegment(SceneTemplate.Builder builder) {
+		switch (random.nextInt(4)) {
+			case 0:
+				int[] bytes = new int[random.nextInt(0, 20)];
+				StringBuilder hex = new StringBuilder();
+				for (int i = 0; i < bytes.length; i++) {
+					bytes[i] = random.nextInt(256);
+					hex.append(String.format("%02X", bytes[i]));
+				}
+				builder.bytes(bytes);
+				return hex.toString();
+			case 1:
+				String text = TEXTS[random.nextInt(TEXTS.length)];
+				builder.text(text);
+				return stringToHex(text);
+			case 2:
+				int index = random.nextInt(TEXT_SLOTS);
+				builder.slot(index);
+				return new Slot(index, -1);
+			default:
+				int number = TEXT_SLOTS + random.nextInt(NUMBER_SLOTS);
+				int minDigits = random.nextInt(0, 6);
+				builder.number(number, minDigits);
+				return new Slot(number, minDigits);
+		}
+	}
+
+	private Object[] values() {
+		Object[] values = new Object[TEXT_SLOTS + NUMBER_SLOTS];
+		for (int i = 0; i < TEXT_SLOTS; i++) {
+			int pick = random.nextInt(TEXTS.length + 2);
+			values[i] = pick < TEXTS.length ? TEXTS[pick] : pick == TEXTS.length ? null : random.nextInt(1000);
+		}
+		for (int i = TEXT_SLOTS; i < values.length; i++) {
+			int value = random.nextInt(-100_000, 100_000);
+			values[i] = random.nextBoolean() ? (Object) value : (Object) (long) value;
+		}
+		return values;
+	}
+
+	private static final class Slot {
+
+		private final int index;
+
+		private final int minDigits;
+
+		Slot(int index, int minDigits) {
+			this.index = index;
+			this.minDigits = minDigits;
+		}
+
+		String hex(Object[] values) {
+			Object value = values[index];
+			if (minDigits < 0) {
+				return value == null ? "" : stringToHex(String.valueOf(value));
+			}
+			return stringToHex(String.format(minDigits == 0 ? "%d" : "%0" + minDigits + "d", value));
+		}
+
+	}
+
+	/**
+	 * 改造前的 Rs485Utils.buildFrame，地址可变
+	 */
+	private static String baselineFrame(int serial, int address, String command, String data) {
+		String frameData = String.format("%02X", serial) + String.format("%02X", address) + "00" + command
+				+ String.format("%04X", data.length() / 2) + data;
+		byte[] dataBytes = HexFormat.of().parseHex(frameData + "0000");
+		int crc = 0xFFFF;
+		for (byte b : dataBytes) {
+			crc ^= b & 0xFF;
+			for (int bit = 0; bit < 8; bit++) {
+				crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0xA001 : crc >>> 1;
+			}
+		}
+		return "AA55" + frameData + String.format("%04X", crc) + "AF";
+	}
+
+	// 改造前的 stringToHex
+	private static String stringToHex(String str) {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : str.getBytes(GbkCodec.GBK)) {
+			sb.append(String.format("%02X", b & 0xFF));
+		}
+		return sb.toString();
+	}
+
+}
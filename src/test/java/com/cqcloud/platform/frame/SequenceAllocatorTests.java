@@ -0,0 +1,155 @@
+package com.cqcloud.platform.frame;
+
+import com.cqcloud.platform.rs485.Rs485Utils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils.ScreenEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link SequenceAllocator} 与改造前的流水号计数一致，包括 0xFF 之后回到 0x00 和计数器本身溢出
+ * <p>
+ * 参照实现照搬改造前的 Rs485Utils.getNextSerialNumber（加1后取低8位）和
+ * DisplayVoiceUtils.buildPacket（int自增，写入时取低8位）。
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class SequenceAllocatorTests {
+
+	private final SplittableRandom random = new SplittableRandom(20261018);
+
+	@Test
+	void nextMatchesBaselineAcrossWraparound() {
+		for (int initial : new int[] { 0x00, 0x6C, 0xFE, 0xFF, 0x1FF, -1 }) {
+			SequenceAllocator allocator = new SequenceAllocator(initial);
+			BaselineSerial baseline = new BaselineSerial(initial & 0xFF);
+			for (int i = 0; i < 600; i++) {
+				assertThat(String.format("%02X", allocator.next(0x64))).isEqualTo(baseline.next());
+			}
+		}
+	}
+
+	@Test
+	void reserveMatchesConsecutiveNext() {
+		SequenceAllocator allocator = new SequenceAllocator(0x6C);
+		SequenceAllocator reference = new SequenceAllocator(0x6C);
+		for (int i = 0; i < 300; i++) {
+			int count = random.nextInt(0, 20);
+			int bus = random.nextInt(3);
+			int address = random.nextInt(256);
+			int first = allocator.reserve(bus, address, count);
+			int expected = reference.peek(bus, address);
+			for (int j = 0; j < count; j++) {
+				assertThat((first + j) & 0xFF).isEqualTo(reference.next(bus, address));
+			}
+			assertThat(first).isEqualTo(expected);
+			assertThat(allocator.peek(bus, address)).isEqualTo(reference.peek(bus, address));
+		}
+	}
+
+	@Test
+	void counterOverflowKeepsSequence() {
+		// 计数器本身是int，累计超过 Integer.MAX_VALUE 后回绕为负数，低8位仍连续
+		SequenceAllocator allocator = new SequenceAllocator(0xFE);
+		long total = 0xFE;
+		for (int i = 0; i < 3; i++) {
+			int count = Integer.MAX_VALUE - random.nextInt(256);
+			assertThat(allocator.reserve(SequenceAllocator.DEFAULT_BUS, 0x64, count)).isEqualTo((int) (total & 0xFF));
+			total += count;
+		}
+		for (int i = 0; i < 600; i++) {
+			assertThat(allocator.next(0x64)).isEqualTo((int) (total++ & 0xFF));
+		}
+	}
+
+	@Test
+	void devicesAndBusesAreIndependent() {
+		SequenceAllocator allocator = new SequenceAllocator(0x10);
+		assertThat(allocator.next(0x64)).isEqualTo(0x10);
+		assertThat(allocator.next(0x64)).isEqualTo(0x11);
+		assertThat(allocator.next(0x164)).isEqualTo(0x12);
+		assertThat(allocator.next(0x65)).isEqualTo(0x10);
+		assertThat(allocator.next(SequenceAllocator.DEFAULT_BUS, 0x64)).isEqualTo(0x13);
+		assertThat(allocator.next(1, 0x64)).isEqualTo(0x10);
+		assertThat(allocator.peek(1, 0x64)).isEqualTo(0x11);
+
+		allocator.reset(SequenceAllocator.DEFAULT_BUS, 0x64);
+		assertThat(allocator.peek(SequenceAllocator.DEFAULT_BUS, 0x64)).isEqualTo(0x10);
+		assertThat(allocator.peek(SequenceAllocator.DEFAULT_BUS, 0x65)).isEqualTo(0x11);
+		allocator.resetAll();
+		assertThat(allocator.peek(SequenceAllocator.DEFAULT_BUS, 0x65)).isEqualTo(0x10);
+		assertThat(allocator.peek(1, 0x64)).isEqualTo(0x10);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> allocator.reserve(SequenceAllocator.DEFAULT_BUS, 0, -1));
+	}
+
+	@Test
+	void concurrentNextHandsOutEachSerialEvenly() throws InterruptedException {
+		SequenceAllocator allocator = new SequenceAllocator(0x6C);
+		AtomicIntegerArray counts = new AtomicIntegerArray(256);
+		int perThread = 256 * 40;
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			threads.add(new Thread(() -> {
+				for (int i = 0; i < perThread; i++) {
+					counts.incrementAndGet(allocator.next(0x64));
+				}
+			}));
+		}
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		for (int serial = 0; serial < 256; serial++) {
+			assertThat(counts.get(serial)).as("%02X", serial).isEqualTo(4 * 40);
+		}
+		assertThat(allocator.peek(SequenceAllocator.DEFAULT_BUS, 0x64)).isEqualTo(0x6C);
+	}
+
+	@Test
+	void rs485FramesAdvanceLikeBaseline() {
+		String first = Rs485Utils.buildPaymentVoice(1);
+		BaselineSerial baseline = new BaselineSerial(Integer.parseInt(first.substring(4, 6), 16));
+		assertThat(first.substring(4, 6)).isEqualTo(baseline.next());
+		for (int i = 0; i < 600; i++) {
+			assertThat(Rs485Utils.buildPaymentVoice(i).substring(4, 6)).isEqualTo(baseline.next());
+		}
+	}
+
+	@Test
+	void displayVoicePacketsAdvanceLikeBaseline() {
+		DisplayVoiceUtils protocol = new DisplayVoiceUtils(ScreenEnum.STANDARD_HORIZONTAL);
+		protocol.setAddress(0x64);
+		protocol.setSequenceNumbers(new SequenceAllocator(0));
+		int sequenceNumber = 0;
+		for (int i = 0; i < 600; i++) {
+			assertThat(protocol.buildSetVolumePacket(5)[2]).isEqualTo((byte) (sequenceNumber++ & 0xFF));
+		}
+	}
+
+	// 改造前的 Rs485Utils.getNextSerialNumber
+	private static final class BaselineSerial {
+
+		private int serialNumber;
+
+		BaselineSerial(int serialNumber) {
+			this.serialNumber = serialNumber;
+		}
+
+		String next() {
+			String serial = String.format("%02X", serialNumber);
+			serialNumber = (serialNumber + 1) & 0xFF;
+			return serial;
+		}
+
+	}
+
+}
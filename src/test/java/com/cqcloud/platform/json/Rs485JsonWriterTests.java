@@ -0,0 +1,171 @@
+package com.cqcloud.platform.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * {@link Rs485JsonWriter} 的字符串转义和帧数据跨缓冲区分段，三种输出方式结果须一致
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class Rs485JsonWriterTests {
+
+	private static final String[] STRINGS = { "", "noerror", "引号\"反斜杠\\斜杠/", "换行\n回车\r制表\t退格\b换页\f",
+			"\u0000\u0001\u001F\u007F", "渝A12345 🚗", "不成对\uD83D高位", "不成对\uDE97低位", "末尾\uD83D" };
+
+	@Test
+	void escapesStrings() {
+		for (String value : STRINGS) {
+			for (Sink sink : Sink.values()) {
+				String json = sink.write(writer -> writer.begin(value, 3).gpio(value, "io1").end());
+				JSONObject root = JSONUtil.parseObj(json);
+				String expected = sink == Sink.STREAM ? utf8(value) : value;
+				assertThat(root.getStr("error_str")).as("%s %s", sink, value).isEqualTo(expected);
+				assertThat(root.getJSONArray("gpio_data").getJSONObject(0).getStr("action")).isEqualTo(expected);
+				assertThat(root.getInt("error_num")).isEqualTo(3);
+				assertThat(root.getJSONArray("rs485_data")).isEmpty();
+			}
+		}
+	}
+
+	@Test
+	void escapesLongStringsAcrossBuffer() {
+		StringBuilder builder = new StringBuilder();
+		SplittableRandom random = new SplittableRandom(20261018);
+		while (builder.length() < 5000) {
+			builder.append(STRINGS[random.nextInt(STRINGS.length)]);
+		}
+		String value = builder.toString();
+		for (Sink sink : Sink.values()) {
+			String json = sink.write(writer -> writer.begin(value, 0).end());
+			String expected = sink == Sink.STREAM ? utf8(value) : value;
+			assertThat(JSONUtil.parseObj(json).getStr("error_str")).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void framesMatchReferenceEncoding() {
+		SplittableRandom random = new SplittableRandom(20261018);
+		for (int length : new int[] { 0, 1, 2, 3, 4, 5, 255, 256, 511, 512, 513, 767, 768, 769, 1023, 1024, 1025,
+				3000 }) {
+			byte[] frame = new byte[length + 7];
+			random.nextBytes(frame);
+			// 前缀长度不同，帧数据从缓冲区的不同位置开始
+			for (int prefix = 0; prefix < 8; prefix++) {
+				String io = "io".repeat(prefix);
+				for (EncodeType type : EncodeType.values()) {
+					for (Sink sink : Sink.values()) {
+						String json = sink.write(writer -> writer.begin("noerror", 0)
+							.gpio("on", io)
+							.encodeType(type)
+							.frame(frame, 7, length)
+							.frame(ByteBuffer.wrap(frame, 7, length))
+							.frame(direct(frame, 7, length))
+							.end());
+						JSONArray data = JSONUtil.parseObj(json).getJSONArray("rs485_data");
+						assertThat(data).hasSize(3);
+						for (int i = 0; i < data.size(); i++) {
+							JSONObject node = data.getJSONObject(i);
+							assertThat(node.getStr("encodetype")).isEqualTo(type.getValue());
+							assertThat(decode(type, node.getStr("data"))).as("%s %s %d", sink, type, length)
+								.isEqualTo(slice(frame, 7, length));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void hexCommandsConvertToBase64() {
+		byte[] frame = new byte[1500];
+		new SplittableRandom(20261018).nextBytes(frame);
+		String hex = HexFormat.of().withUpperCase().formatHex(frame);
+		for (Sink sink : Sink.values()) {
+			String json = sink
+				.write(writer -> writer.begin("noerror", 0).hex(hex).encodeType(EncodeType.BASE64).hex(hex).end());
+			JSONArray data = JSONUtil.parseObj(json).getJSONArray("rs485_data");
+			assertThat(data.getJSONObject(0).getStr("data")).isEqualTo(hex);
+			assertThat(data.getJSONObject(1).getStr("data")).isEqualTo(Base64.getEncoder().encodeToString(frame));
+		}
+	}
+
+	@Test
+	void rejectsOutOfOrderCalls() {
+		Rs485JsonWriter writer = new Rs485JsonWriter();
+		assertThatIllegalStateException().isThrownBy(() -> writer.gpio("on", "io1"));
+		writer.begin("noerror", 0).frame(new byte[] { 1 }, 0, 1);
+		assertThatIllegalStateException().isThrownBy(() -> writer.gpio("on", "io1"));
+		writer.close();
+		assertThat(writer.toString())
+			.isEqualTo("{\"error_str\":\"noerror\",\"gpio_data\":[],\"error_num\":0,\"rs485_data\":"
+					+ "[{\"encodetype\":\"hex2string\",\"data\":\"01\"}]}");
+		assertThatIllegalStateException().isThrownBy(writer::end);
+	}
+
+	// 写入字节流时不成对的代理字符替换为 '?'，与 String.getBytes(UTF_8) 一致
+	private static String utf8(String value) {
+		return new String(value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+	}
+
+	private static ByteBuffer direct(byte[] bytes, int offset, int length) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(length + 3);
+		buffer.position(3);
+		buffer.put(bytes, offset, length);
+		buffer.position(3);
+		return buffer;
+	}
+
+	private static byte[] slice(byte[] bytes, int offset, int length) {
+		byte[] copy = new byte[length];
+		System.arraycopy(bytes, offset, copy, 0, length);
+		return copy;
+	}
+
+	private static byte[] decode(EncodeType type, String data) {
+		return type == EncodeType.BASE64 ? Base64.getDecoder().decode(data) : HexFormat.of().parseHex(data);
+	}
+
+	private interface Body {
+
+		void write(Rs485JsonWriter writer);
+
+	}
+
+	private enum Sink {
+
+		MEMORY, WRITER, STREAM;
+
+		String write(Body body) {
+			switch (this) {
+				case MEMORY:
+					Rs485JsonWriter writer = new Rs485JsonWriter();
+					body.write(writer);
+					return writer.toString();
+				case WRITER:
+					StringWriter chars = new StringWriter();
+					body.write(new Rs485JsonWriter(chars));
+					return chars.toString();
+				default:
+					ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+					body.write(new Rs485JsonWriter(bytes));
+					return bytes.toString(StandardCharsets.UTF_8);
+			}
+		}
+
+	}
+
+}
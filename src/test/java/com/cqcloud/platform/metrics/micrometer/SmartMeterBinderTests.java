@@ -0,0 +1,68 @@
+package com.cqcloud.platform.metrics.micrometer;
+
+import com.cqcloud.platform.codec.TtsTemplate;
+import com.cqcloud.platform.frame.FrameEncoder;
+import com.cqcloud.platform.metrics.EncodeMetrics;
+import com.cqcloud.platform.utils.DisplayVoiceUtils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils.ScreenEnum;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SmartMeterBinder} 的编码计数和耗时
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class SmartMeterBinderTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final SmartMeterBinder binder = new SmartMeterBinder();
+
+	@BeforeEach
+	void bind() {
+		binder.bindTo(registry);
+	}
+
+	@AfterEach
+	void close() {
+		binder.close();
+	}
+
+	@Test
+	void configPacketWithHighCommandIsTimed() {
+		long before = EncodeMetrics.getFrames(0xF0);
+		byte[] packet = new DisplayVoiceUtils(ScreenEnum.STANDARD_HORIZONTAL).buildSetVolumePacket(5);
+		assertThat(packet[packet.length - 1]).isEqualTo(DisplayVoiceUtils.END_MARKER);
+		assertThat(EncodeMetrics.getFrames(0xF0)).isEqualTo(before + 1);
+		Timer timer = registry.find("ylc.smart.encode.latency").tag("command", "0xF0").timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
+	@Test
+	void signedCommandIsMasked() {
+		EncodeMetrics.latency((byte) 0xFA, EncodeMetrics.start());
+		EncodeMetrics.record((byte) 0xFA, 12, EncodeMetrics.start());
+		Timer timer = registry.find("ylc.smart.encode.latency").tag("command", "0xFA").timer();
+		assertThat(timer.count()).isEqualTo(2);
+	}
+
+	@Test
+	void ttsIsCountedApartFromCommandFD() {
+		long tts = EncodeMetrics.getFrames(EncodeMetrics.TTS);
+		long fd = EncodeMetrics.getFrames(0xFD);
+		TtsTemplate.encodeHex("欢迎光临");
+		FrameEncoder.encodeFrame(0x10, 0x64, 0xFD, new byte[] { 1, 2, 3 });
+		assertThat(EncodeMetrics.getFrames(EncodeMetrics.TTS)).isEqualTo(tts + 1);
+		assertThat(EncodeMetrics.getFrames(0xFD)).isEqualTo(fd + 1);
+		assertThat(registry.find("ylc.smart.encode.latency").tag("command", "tts").timer().count()).isEqualTo(1);
+		assertThat(registry.find("ylc.smart.encode.latency").tag("command", "other").timer().count()).isEqualTo(1);
+	}
+
+}
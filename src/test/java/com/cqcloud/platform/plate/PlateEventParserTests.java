@@ -0,0 +1,209 @@
+package com.cqcloud.platform.plate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link PlateEventParser} 的转义、代理对和流式缓冲边界
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class PlateEventParserTests {
+
+	@Test
+	void parsesPlatePush() {
+		PlateEvent event = PlateEventParser.parse(push("渝A12345", "\"imageFile\":\"AAAA\""));
+		assertThat(event.getSerialno()).isEqualTo("e5d8a1c7-0f2b4e6d");
+		assertThat(event.getDeviceName()).isEqualTo("入口1");
+		assertThat(event.getIpaddr()).isEqualTo("192.168.1.100");
+		assertThat(event.getChannel()).isEqualTo(0);
+		assertThat(event.getLicense()).isEqualTo("渝A12345");
+		assertThat(event.getColorType()).isEqualTo(1);
+		assertThat(event.getConfidence()).isEqualTo(92);
+		assertThat(event.getTriggerType()).isEqualTo(8);
+		assertThat(event.getPlateType()).isEqualTo(1);
+		assertThat(event.getDirection()).isEqualTo(4);
+		assertThat(event.getTimestamp()).isEqualTo(1760745600123L);
+		assertThat(event.hasPlate()).isTrue();
+	}
+
+	@Test
+	void decodesEscapes() {
+		PlateEvent event = PlateEventParser.parse(push("\\u6E1DA\\/1\\\"2\\\\3\\n4\\t5\\b\\f\\r", ""));
+		assertThat(event.getLicense()).isEqualTo("渝A/1\"2\\3\n4\t5\b\f\r");
+	}
+
+	@Test
+	void pairsSurrogateEscapes() {
+		assertThat(PlateEventParser.parse(push("\\uD83D\\uDE97渝A", "")).getLicense()).isEqualTo("🚗渝A");
+		assertThat(PlateEventParser.parse(push("\\ud83d\\ude97", "")).getLicense()).isEqualTo("🚗");
+		assertThat(PlateEventParser.parse(push("🚗", "")).getLicense()).isEqualTo("🚗");
+	}
+
+	@Test
+	void replacesUnpairedSurrogates() {
+		assertThat(PlateEventParser.parse(push("\\uD83DA", "")).getLicense()).isEqualTo("?A");
+		assertThat(PlateEventParser.parse(push("A\\uD83D", "")).getLicense()).isEqualTo("A?");
+		assertThat(PlateEventParser.parse(push("\\uDE97A", "")).getLicense()).isEqualTo("?A");
+		assertThat(PlateEventParser.parse(push("\\uD83D\\uD83D\\uDE97", "")).getLicense()).isEqualTo("?🚗");
+		assertThat(PlateEventParser.parse(push("\\uD83D\\n", "")).getLicense()).isEqualTo("?\n");
+	}
+
+	@Test
+	void rejectsMalformedEscapes() {
+		assertThatIllegalArgumentException().isThrownBy(() -> PlateEventParser.parse(push("\\x", "")));
+		assertThatIllegalArgumentException().isThrownBy(() -> PlateEventParser.parse(push("\\u6E1", "")));
+		assertThatIllegalArgumentException().isThrownBy(() -> PlateEventParser.parse(push("\\uZZZZ", "")));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> PlateEventParser.parse("{\"AlarmInfoPlate\":{\"serialno\":\"ab"));
+	}
+
+	@Test
+	void skipsLargeImageWithEscapedQuotes() {
+		String image = "\"imageFile\":\"" + base64(64 * 1024) + "\\\"}{\\\\\",\"imageFragmentFile\":\"\\\"\"";
+		PlateEvent event = PlateEventParser.parse(push("渝A12345", image));
+		assertThat(event.getLicense()).isEqualTo("渝A12345");
+		assertThat(event.getTimestamp()).isEqualTo(1760745600123L);
+	}
+
+	@Test
+	void streamsAcrossBufferBoundaries() throws IOException {
+		byte[] json = push("\\uD83D\\uDE97渝A12345挂", "\"imageFile\":\"" + base64(20_000) + "\"")
+			.getBytes(StandardCharsets.UTF_8);
+		int license = indexOf(json, "\"license\"".getBytes(StandardCharsets.UTF_8));
+		// 让车牌内的转义和多字节字符依次落在 8192 字节缓冲的末尾
+		for (int shift = 0; shift < 48; shift++) {
+			int pad = 8192 * 3 - license - shift;
+			byte[] padded = pad(json, pad);
+			PlateEvent event = PlateEventParser.parse(new ByteArrayInputStream(padded));
+			assertThat(event.getLicense()).isEqualTo("🚗渝A12345挂");
+			assertThat(event.getTimestamp()).isEqualTo(1760745600123L);
+		}
+	}
+
+	@Test
+	void streamsFromShortReads() throws IOException {
+		byte[] json = push("\\u6E1DA12345挂", "\"imageFile\":\"" + base64(30_000) + "\"")
+			.getBytes(StandardCharsets.UTF_8);
+		SplittableRandom random = new SplittableRandom(20261018);
+		PlateEvent event = PlateEventParser.parse(new ChunkedInputStream(json, random));
+		assertThat(event.getLicense()).isEqualTo("渝A12345挂");
+		assertThat(event.getSerialno()).isEqualTo("e5d8a1c7-0f2b4e6d");
+	}
+
+	@Test
+	void stopsAtEndOfAlarmInfoPlate() throws IOException {
+		byte[] json = (push("渝A12345", "") + "{不是JSON").getBytes(StandardCharsets.UTF_8);
+		ByteArrayInputStream in = new ByteArrayInputStream(json);
+		assertThat(PlateEventParser.parse(in).getLicense()).isEqualTo("渝A12345");
+	}
+
+	@Test
+	void parsesHeartbeatPush() throws IOException {
+		byte[] json = "{\"heartbeat\":{\"countid\":12,\"serialno\":\"e5d8a1c7-0f2b4e6d\"}}"
+			.getBytes(StandardCharsets.UTF_8);
+		CameraPush push = PlateEventParser.parsePush(new ByteArrayInputStream(json));
+		assertThat(push.isHeartbeat()).isTrue();
+		assertThat(push.getSerialno()).isEqualTo("e5d8a1c7-0f2b4e6d");
+		assertThat(push.getEvent()).isNull();
+		assertThat(PlateEventParser.parse(json)).isNull();
+	}
+
+	@Test
+	void unknownPushHasNoEvent() {
+		byte[] json = "{\"other\":{\"serialno\":\"x\",\"list\":[1,2.5e3,true,null,\"\\\"\"]}}"
+			.getBytes(StandardCharsets.UTF_8);
+		CameraPush push = PlateEventParser.parsePush(json, 0, json.length);
+		assertThat(push).isSameAs(CameraPush.unknown());
+		assertThat(PlateEventParser.parse(json)).isNull();
+	}
+
+	@Test
+	void noPlateIsNotAPlate() {
+		PlateEvent event = PlateEventParser.parse(push(PlateEvent.NO_PLATE, ""));
+		assertThat(event.getLicense()).isEqualTo(PlateEvent.NO_PLATE);
+		assertThat(event.hasPlate()).isFalse();
+	}
+
+	private static String push(String license, String extra) {
+		return "{\"AlarmInfoPlate\":{\"serialno\":\"e5d8a1c7-0f2b4e6d\",\"deviceName\":\"入口1\","
+				+ "\"ipaddr\":\"192.168.1.100\",\"channel\":0,\"result\":{\"PlateResult\":{"
+				+ (extra.isEmpty() ? "" : extra + ",") + "\"license\":\"" + license + "\",\"colorType\":1,"
+				+ "\"confidence\":92,\"triggerType\":8,\"type\":1,\"direction\":4,"
+				+ "\"timeStamp\":{\"Timeval\":{\"sec\":1760745600,\"usec\":123456}}}}}}";
+	}
+
+	private static String base64(int length) {
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			builder.append(alphabet.charAt(i & 63));
+		}
+		return builder.toString();
+	}
+
+	// 在 imageFile 内容前补 pad 个字符，推后车牌字段的位置
+	private static byte[] pad(byte[] json, int pad) {
+		byte[] marker = "\"imageFile\":\"".getBytes(StandardCharsets.UTF_8);
+		int at = indexOf(json, marker) + marker.length;
+		byte[] padded = new byte[json.length + pad];
+		System.arraycopy(json, 0, padded, 0, at);
+		Arrays.fill(padded, at, at + pad, (byte) 'A');
+		System.arraycopy(json, at, padded, at + pad, json.length - at);
+		return padded;
+	}
+
+	private static int indexOf(byte[] bytes, byte[] target) {
+		outer: for (int i = 0; i <= bytes.length - target.length; i++) {
+			for (int j = 0; j < target.length; j++) {
+				if (bytes[i + j] != target[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		throw new IllegalArgumentException("未找到");
+	}
+
+	// 每次只返回 1~7 字节
+	private static final class ChunkedInputStream extends InputStream {
+
+		private final byte[] bytes;
+
+		private final SplittableRandom random;
+
+		private int pos;
+
+		ChunkedInputStream(byte[] bytes, SplittableRandom random) {
+			this.bytes = bytes;
+			this.random = random;
+		}
+
+		@Override
+		public int read() {
+			return pos < bytes.length ? bytes[pos++] & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (pos >= bytes.length) {
+				return -1;
+			}
+			int n = Math.min(Math.min(len, random.nextInt(1, 8)), bytes.length - pos);
+			System.arraycopy(bytes, pos, b, off, n);
+			pos += n;
+			return n;
+		}
+
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.cqcloud.platform.queue;
+
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.frame.FrameEncoder;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CameraCommandQueue} 的优先级、合并、容量和移除
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class CameraCommandQueueTests {
+
+	private static final String CAMERA = "e1b2c3d4-00000001";
+
+	@Test
+	void drainsByPriorityThenOfferOrder() {
+		CameraCommandQueue queue = new CameraCommandQueue(8, 8);
+		queue.offer(CAMERA, frame(1, 0), CameraCommandQueue.PRIORITY_LOW);
+		queue.offer(CAMERA, frame(2, 0), CameraCommandQueue.PRIORITY_HIGH);
+		queue.offer(CAMERA, frame(3, 0), CameraCommandQueue.PRIORITY_LOW);
+		queue.offer(CAMERA, frame(4, 0));
+		assertThat(serials(queue.drain(CAMERA))).containsExactly(2, 4, 1, 3);
+	}
+
+	@Test
+	void coalescedCommandKeepsPosition() {
+		CameraCommandQueue queue = new CameraCommandQueue(8, 8);
+		Frame line1 = frame(1, 1);
+		queue.offer(CAMERA, line1, CameraCommandQueue.PRIORITY_LOW, CameraCommandQueue.lineKey(line1));
+		queue.offer(CAMERA, frame(2, 2), CameraCommandQueue.PRIORITY_LOW);
+		Frame update = frame(3, 1);
+		queue.offer(CAMERA, update, CameraCommandQueue.PRIORITY_LOW, CameraCommandQueue.lineKey(update));
+		assertThat(queue.getCoalescedCount()).isEqualTo(1);
+		assertThat(serials(queue.drain(CAMERA))).containsExactly(3, 2);
+	}
+
+	@Test
+	void fullQueueEvictsLowestOrRejects() {
+		CameraCommandQueue queue = new CameraCommandQueue(2, 8);
+		queue.offer(CAMERA, frame(1, 0), CameraCommandQueue.PRIORITY_LOW);
+		queue.offer(CAMERA, frame(2, 0), CameraCommandQueue.PRIORITY_NORMAL);
+		assertThat(queue.offer(CAMERA, frame(3, 0), CameraCommandQueue.PRIORITY_LOW)).isFalse();
+		assertThat(queue.offer(CAMERA, frame(4, 0), CameraCommandQueue.PRIORITY_HIGH)).isTrue();
+		assertThat(queue.getRejectedCount()).isEqualTo(1);
+		assertThat(queue.getEvictedCount()).isEqualTo(1);
+		assertThat(serials(queue.drain(CAMERA))).containsExactly(4, 2);
+	}
+
+	@Test
+	void drainIsLimitedPerResponse() {
+		CameraCommandQueue queue = new CameraCommandQueue(8, 2);
+		for (int i = 0; i < 5; i++) {
+			queue.offer(CAMERA, frame(i, 0));
+		}
+		assertThat(queue.drain(CAMERA, 10)).hasSize(2);
+		assertThat(queue.drain(CAMERA, 1)).hasSize(1);
+		assertThat(queue.size(CAMERA)).isEqualTo(2);
+	}
+
+	@Test
+	void offerAfterRemoveUsesNewQueue() {
+		CameraCommandQueue queue = new CameraCommandQueue(8, 8);
+		queue.offer(CAMERA, frame(1, 0));
+		assertThat(queue.remove(CAMERA)).isEqualTo(1);
+		assertThat(queue.drain(CAMERA)).isEmpty();
+		queue.offer(CAMERA, frame(2, 0));
+		assertThat(serials(queue.drain(CAMERA))).containsExactly(2);
+	}
+
+	@Test
+	void concurrentRemoveDoesNotLoseFrames() throws InterruptedException {
+		CameraCommandQueue queue = new CameraCommandQueue(1 << 16, 8);
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicLong dropped = new AtomicLong();
+		CountDownLatch started = new CountDownLatch(1);
+		Thread remover = new Thread(() -> {
+			started.countDown();
+			while (running.get()) {
+				dropped.addAndGet(queue.clear());
+			}
+		});
+		remover.start();
+		started.await();
+		int accepted = 0;
+		for (int i = 0; i < 20_000; i++) {
+			if (queue.offer(CAMERA, frame(i, 0))) {
+				accepted++;
+			}
+		}
+		running.set(false);
+		remover.join();
+		long delivered = 0;
+		List<Frame> frames;
+		while (!(frames = queue.drain(CAMERA)).isEmpty()) {
+			delivered += frames.size();
+		}
+		// 每个入队成功的帧要么被丢弃计数，要么仍可取出
+		assertThat(dropped.get() + delivered).isEqualTo(accepted);
+	}
+
+	private static Frame frame(int serial, int line) {
+		return FrameEncoder.encodeFrame(serial, 1, 0x62, new byte[] { (byte) line, 0x01 });
+	}
+
+	private static List<Integer> serials(List<Frame> frames) {
+		return frames.stream().map(Frame::getSerial).toList();
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.cqcloud.platform.utils;
+
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.utils.DisplayVoiceUtils.ScreenEnum;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * {@link DisplayVoiceUtils} 构建数据包时无论成功还是出错，借用的缓冲区都归还共享池
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class DisplayVoiceUtilsTests {
+
+	@Test
+	void releasesBufferWhenContentIsNull() {
+		for (ScreenEnum screen : new ScreenEnum[] { ScreenEnum.STANDARD_HORIZONTAL, ScreenEnum.COLOR_SCREEN }) {
+			DisplayVoiceUtils protocol = new DisplayVoiceUtils(screen);
+			assertReleased(
+					() -> assertThatNullPointerException().isThrownBy(() -> protocol.buildLoadAdsPacket(1, 1, null)));
+			assertReleased(() -> assertThatNullPointerException()
+				.isThrownBy(() -> protocol.buildLoadTempDisplayPacket(1, 10, 1, null)));
+		}
+	}
+
+	@Test
+	void releasesBufferAfterPacketIsBuilt() {
+		DisplayVoiceUtils protocol = new DisplayVoiceUtils(ScreenEnum.STANDARD_HORIZONTAL);
+		assertReleased(() -> assertThat(protocol.buildLoadAdsPacket(1, 1, "欢迎光临")).hasSize(8 + 3 + 8 + 3));
+		assertReleased(() -> assertThat(protocol.buildSetVolumePacket(5)).hasSize(8 + 1 + 3));
+	}
+
+	// 池中每级只留一个缓冲区：构建前放入，构建后应能再取回同一个
+	private static void assertReleased(Runnable build) {
+		BufferPool pool = new BufferPool(1).install();
+		try {
+			byte[] buffer = pool.acquire(256);
+			pool.release(buffer);
+			build.run();
+			assertThat(pool.acquire(256)).isSameAs(buffer);
+		}
+		finally {
+			pool.uninstall();
+		}
+	}
+
+}
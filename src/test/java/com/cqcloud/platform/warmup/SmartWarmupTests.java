@@ -0,0 +1,64 @@
+package com.cqcloud.platform.warmup;
+
+import com.cqcloud.platform.buffer.BufferPool;
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.metrics.EncodeMetrics;
+import com.cqcloud.platform.rs485.Rs485SceneService;
+import com.cqcloud.platform.utils.DisplayVoiceUtils;
+import com.cqcloud.platform.utils.DisplayVoiceUtils.ScreenEnum;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SmartWarmup} 不占用共享的流水号，也不计入编码计数
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class SmartWarmupTests {
+
+	private static final int ADDRESS = 0x64;
+
+	@Test
+	void warmupLeavesSharedSerialsAndCountsUntouched() {
+		Rs485SceneService scenes = new Rs485SceneService(ScreenEnum.STANDARD_HORIZONTAL, ADDRESS);
+		DisplayVoiceUtils protocol = new DisplayVoiceUtils(ScreenEnum.STANDARD_HORIZONTAL);
+		protocol.setAddress(ADDRESS);
+		Frame sceneBefore = scenes.displayLines("欢迎光临").get(0);
+		byte packetBefore = protocol.buildSetVolumePacket(5)[2];
+		long frames = EncodeMetrics.getFrames(0x27);
+		long packets = EncodeMetrics.getFrames(0xF0);
+
+		SmartWarmup warmup = new SmartWarmup(List.of(ScreenEnum.STANDARD_HORIZONTAL), ADDRESS, BufferPool.DEFAULT, 50);
+		assertThat(warmup.run()).isTrue();
+		assertThat(warmup.getState()).isEqualTo(SmartWarmup.State.READY);
+
+		assertThat(EncodeMetrics.getFrames(0x27)).isEqualTo(frames);
+		Frame sceneAfter = scenes.displayLines("欢迎光临").get(0);
+		assertThat(sceneAfter.getSerial()).isEqualTo((sceneBefore.getSerial() + 1) & 0xFF);
+		assertThat(protocol.buildSetVolumePacket(5)[2]).isEqualTo((byte) (packetBefore + 1));
+		assertThat(EncodeMetrics.getFrames(0xF0)).isEqualTo(packets + 1);
+	}
+
+	@Test
+	void uncountedOnlyAppliesToCurrentThread() {
+		long before = EncodeMetrics.getFrames(0x27);
+		EncodeMetrics.runUncounted(() -> {
+			new Rs485SceneService(ScreenEnum.STANDARD_HORIZONTAL, ADDRESS).displayLines("欢迎光临");
+			Thread other = new Thread(
+					() -> new Rs485SceneService(ScreenEnum.STANDARD_HORIZONTAL, ADDRESS).displayLines("一路顺风"));
+			other.start();
+			try {
+				other.join();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertThat(EncodeMetrics.isUncounted()).isFalse();
+		assertThat(EncodeMetrics.getFrames(0x27)).isEqualTo(before + 1);
+	}
+
+}
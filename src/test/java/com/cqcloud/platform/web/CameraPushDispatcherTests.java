@@ -0,0 +1,92 @@
+package com.cqcloud.platform.web;
+
+import com.cqcloud.platform.frame.Frame;
+import com.cqcloud.platform.json.EncodeType;
+import com.cqcloud.platform.plate.CameraPush;
+import com.cqcloud.platform.plate.PlateEventParser;
+import com.cqcloud.platform.queue.CameraCommandQueue;
+import com.cqcloud.platform.rs485.Rs485CPUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CameraPushDispatcher} 的应答内容
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class CameraPushDispatcherTests {
+
+	private static final String HEARTBEAT = "{\"heartbeat\":{\"countid\":7,\"timeout\":0,\"serialno\":\"cam-1\"}}";
+
+	private final CameraCommandQueue queue = new CameraCommandQueue(16, 2);
+
+	private final CameraPushDispatcher dispatcher = new CameraPushDispatcher(
+			event -> CompletableFuture.completedFuture(LaneDecision.none()), queue, EncodeType.HEX2STRING);
+
+	@Test
+	void heartbeatDrainsQueuedCommands() {
+		Frame first = Rs485CPUtils.buildDisplayFrame(1, 0, "车位12个");
+		Frame second = Rs485CPUtils.buildDisplayFrame(2, 0, "欢迎光临");
+		Frame third = Rs485CPUtils.buildDisplayFrame(3, 0, "一路顺风");
+		queue.offer("cam-1", first);
+		queue.offer("cam-1", second);
+		queue.offer("cam-1", third);
+		CameraPush push = PlateEventParser.parsePush(bytes(HEARTBEAT), 0, HEARTBEAT.length());
+		assertThat(push.isHeartbeat()).isTrue();
+
+		String reply = reply(push);
+		assertThat(reply).contains(first.toHex()).contains(second.toHex()).doesNotContain(third.toHex());
+		assertThat(queue.size("cam-1")).isEqualTo(1);
+		assertThat(reply(push)).contains(third.toHex());
+		assertThat(queue.size("cam-1")).isZero();
+	}
+
+	@Test
+	void heartbeatOfOtherCameraDoesNotDrain() {
+		queue.offer("cam-2", Rs485CPUtils.buildDisplayFrame(1, 0, "车位12个"));
+		assertThat(reply(PlateEventParser.parsePush(bytes(HEARTBEAT), 0, HEARTBEAT.length())))
+			.contains("\"rs485_data\":[]");
+		assertThat(queue.size("cam-2")).isEqualTo(1);
+	}
+
+	@Test
+	void unknownPushGetsEmptyReply() {
+		String json = "{\"other\":{\"serialno\":\"cam-1\"}}";
+		CameraPush push = PlateEventParser.parsePush(bytes(json), 0, json.length());
+		assertThat(push.getSerialno()).isNull();
+		assertThat(reply(push)).contains("\"rs485_data\":[]");
+	}
+
+	@Test
+	void errorsReplyWithFixedCode() {
+		CameraPushDispatcher failing = new CameraPushDispatcher(event -> {
+			throw new IllegalStateException("jdbc:mysql://10.0.0.5/park 连接失败");
+		});
+		String plate = "{\"AlarmInfoPlate\":{\"serialno\":\"cam-1\",\"result\":{\"PlateResult\":{\"license\":\"渝A12345\"}}}}";
+		CameraPush push = PlateEventParser.parsePush(bytes(plate), 0, bytes(plate).length);
+		String reply = new String(failing.respond(push, System.nanoTime()).toCompletableFuture().join(),
+				StandardCharsets.UTF_8);
+		assertThat(reply).contains("\"error_str\":\"" + CameraPushDispatcher.DECISION_FAILED + "\"")
+			.contains("\"error_num\":" + CameraPushDispatcher.ERROR_NUM)
+			.doesNotContain("jdbc");
+
+		String invalid = new String(dispatcher.errorReply(new IllegalArgumentException("第 3 字节: 需要 {")),
+				StandardCharsets.UTF_8);
+		assertThat(invalid).contains("\"error_str\":\"" + CameraPushDispatcher.INVALID_PUSH + "\"")
+			.doesNotContain("需要");
+	}
+
+	private String reply(CameraPush push) {
+		byte[] body = dispatcher.respond(push, System.nanoTime()).toCompletableFuture().join();
+		return new String(body, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] bytes(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
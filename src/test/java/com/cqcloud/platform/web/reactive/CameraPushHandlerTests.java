@@ -0,0 +1,73 @@
+package com.cqcloud.platform.web.reactive;
+
+import com.cqcloud.platform.frame.FrameBatch;
+import com.cqcloud.platform.rs485.Rs485CPUtils;
+import com.cqcloud.platform.web.CameraPushDispatcher;
+import com.cqcloud.platform.web.LaneDecision;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CameraPushHandler} 边接收边解析请求体，读取字节数受 maxPushSize 限制
+ * @author weimeilayer@gmail.com ✨
+ * @date 💓💕 2026年10月18日 🐬🐇 💓💕
+ */
+class CameraPushHandlerTests {
+
+	private static final int MAX_PUSH_SIZE = 64 * 1024;
+
+	private final CameraPushDispatcher dispatcher = new CameraPushDispatcher(event -> CompletableFuture
+		.completedFuture(LaneDecision.open(FrameBatch.of(Rs485CPUtils.buildDisplayFrame(2, 0, event.getLicense())))));
+
+	private final WebTestClient client = WebTestClient
+		.bindToRouterFunction(new CameraPushHandler(dispatcher, MAX_PUSH_SIZE).route(CameraPushDispatcher.DEFAULT_PATH))
+		.build();
+
+	@Test
+	void parsesPushWithImage() {
+		String reply = post(push("A".repeat(MAX_PUSH_SIZE / 2)));
+		assertThat(reply).contains("\"error_str\":\"noerror\"")
+			.contains(Rs485CPUtils.stringToHex("渝A12345"))
+			.doesNotContain("\"rs485_data\":[]");
+	}
+
+	@Test
+	void rejectsPushNotFinishedWithinLimit() {
+		assertThat(post(push("A".repeat(MAX_PUSH_SIZE)))).contains(CameraPushDispatcher.INVALID_PUSH)
+			.contains("\"rs485_data\":[]");
+	}
+
+	@Test
+	void rejectsEmptyAndMalformedPush() {
+		assertThat(post("")).contains(CameraPushDispatcher.INVALID_PUSH);
+		assertThat(post("{\"AlarmInfoPlate\":{\"serialno\":\"ab")).contains(CameraPushDispatcher.INVALID_PUSH);
+	}
+
+	private String post(String body) {
+		byte[] reply = client.post()
+			.uri(CameraPushDispatcher.DEFAULT_PATH)
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(body.getBytes(StandardCharsets.UTF_8))
+			.exchange()
+			.expectStatus()
+			.isOk()
+			.expectBody()
+			.returnResult()
+			.getResponseBody();
+		return new String(reply, StandardCharsets.UTF_8);
+	}
+
+	// 图片字段在车牌之前，整个推送读完才能得到车牌
+	private static String push(String image) {
+		return "{\"AlarmInfoPlate\":{\"serialno\":\"cam-1\",\"result\":{\"PlateResult\":{\"imageFile\":\"" + image
+				+ "\",\"license\":\"渝A12345\",\"colorType\":1}}}}";
+	}
+
+}